@@ -6,6 +6,7 @@
 
 from fastapi import FastAPI, HTTPException
 from fastapi.middleware.cors import CORSMiddleware
+from fastapi.responses import StreamingResponse
 from pydantic import BaseModel
 from typing import List, Dict, Any, Optional, Union
 import uvicorn
@@ -49,9 +50,15 @@ class APIResponse(BaseModel):
     data: Optional[Dict[str, Any]] = None
     error: Optional[str] = None
 
+class HistoryMessage(BaseModel):
+    role: str
+    content: str
+
 class ChatRequest(BaseModel):
     user_id: str
     message: str
+    history: Optional[List[HistoryMessage]] = None
+    summary: Optional[str] = None
 
 class ChatResponse(BaseModel):
     user_id: str
@@ -877,6 +884,20 @@ async def health_check():
 # 챗봇 API
 # =======================
 
+def save_chat_history(user_id: str, message: str, bot_response: str):
+    """사용자별 최근 10개 대화 저장"""
+    if user_id not in chat_history:
+        chat_history[user_id] = []
+    
+    chat_history[user_id].append({
+        "user": message,
+        "assistant": bot_response,
+        "timestamp": datetime.now().isoformat()
+    })
+    
+    if len(chat_history[user_id]) > 10:
+        chat_history[user_id] = chat_history[user_id][-10:]
+
 @app.post("/api/v1/chatbot/chat")
 async def chat_with_bot(request: ChatRequest):
     """챗봇과 대화하기"""
@@ -890,20 +911,7 @@ async def chat_with_bot(request: ChatRequest):
         
         bot_response = get_mock_response(request.message)
         
-        # 히스토리 저장
-        if request.user_id not in chat_history:
-            chat_history[request.user_id] = []
-        
-        chat_entry = {
-            "user": request.message,
-            "assistant": bot_response,
-            "timestamp": datetime.now().isoformat()
-        }
-        
-        chat_history[request.user_id].append(chat_entry)
-        
-        if len(chat_history[request.user_id]) > 10:
-            chat_history[request.user_id] = chat_history[request.user_id][-10:]
+        save_chat_history(request.user_id, request.message, bot_response)
         
         response_data = ChatResponse(
             user_id=request.user_id,
@@ -926,6 +934,21 @@ async def chat_with_bot(request: ChatRequest):
             error=str(e)
         )
 
+@app.post("/api/v1/chatbot/chat/stream")
+async def stream_chat_with_bot(request: ChatRequest):
+    """챗봇 응답 스트리밍 (단어 단위 text/plain 청크)"""
+    if not request.message.strip():
+        raise HTTPException(status_code=400, detail="메시지를 입력해주세요")
+    
+    bot_response = get_mock_response(request.message)
+    save_chat_history(request.user_id, request.message, bot_response)
+    
+    async def chunks():
+        for match in re.finditer(r"\S+\s*|\s+", bot_response):
+            yield match.group(0)
+    
+    return StreamingResponse(chunks(), media_type="text/plain; charset=utf-8")
+
 @app.get("/api/v1/chatbot/suggestions")
 async def get_suggested_questions():
     """추천 질문 목록 조회"""
@@ -1,7 +1,9 @@
 from fastapi import APIRouter, HTTPException
+from fastapi.responses import StreamingResponse
 from typing import List, Dict, Any, Optional
 import logging
 from datetime import datetime
+import re
 
 from models.schemas import APIResponse
 from services.chatbot_service import chatbot_service
@@ -12,10 +14,17 @@ logger = logging.getLogger(__name__)
 router = APIRouter()
 
 # 요청/응답 모델
+class HistoryMessage(BaseModel):
+    role: str
+    content: str
+
 class ChatRequest(BaseModel):
     user_id: str
     message: str
     language: Optional[str] = "ko"
+    # 백엔드가 보내는 최근 대화/이전 대화 요약 (챗봇 엔진은 자체 세션 메모리를 사용)
+    history: Optional[List[HistoryMessage]] = None
+    summary: Optional[str] = None
 
 class ChatResponse(BaseModel):
     user_id: str
@@ -92,6 +101,30 @@ async def chat_with_bot(request: ChatRequest):
             error=str(e)
         )
 
+@router.post("/chat/stream")
+async def stream_chat_with_bot(request: ChatRequest):
+    """챗봇 응답 스트리밍 (단어 단위 text/plain 청크, 실패 시 4xx/5xx)"""
+    user_id_validation = security_utils.validate_user_input(request.user_id, 100)
+    message_validation = security_utils.validate_user_input(request.message, 5000)
+    if not user_id_validation["valid"]:
+        raise HTTPException(status_code=400, detail=f"사용자 ID 오류: {user_id_validation['error']}")
+    if not message_validation["valid"]:
+        raise HTTPException(status_code=400, detail=f"메시지 오류: {message_validation['error']}")
+    
+    language = getattr(request, 'language', 'ko')
+    result = await chatbot_service.chat(user_id_validation["sanitized"], message_validation["sanitized"], language)
+    if not result["success"]:
+        logger.error(f"챗봇 스트리밍 응답 생성 실패: {result.get('error')}")
+        raise HTTPException(status_code=503, detail="챗봇 응답 생성에 실패했습니다")
+    
+    safe_response = security_utils.sanitize_html(result["response"])
+    
+    async def chunks():
+        for match in re.finditer(r"\S+\s*|\s+", safe_response):
+            yield match.group(0)
+    
+    return StreamingResponse(chunks(), media_type="text/plain; charset=utf-8")
+
 @router.get("/suggestions", response_model=APIResponse)
 async def get_suggested_questions():
     """추천 질문 목록 조회"""
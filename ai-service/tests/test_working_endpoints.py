@@ -67,6 +67,30 @@ class TestChatbotEndpoints:
         assert "<script>" not in data["data"]["message"]
         assert "<script>" not in data["data"]["response"]
     
+    def test_chat_stream(self):
+        """챗봇 응답 스트리밍 테스트"""
+        response = client.post(
+            "/api/v1/chatbot/chat/stream",
+            json={
+                "user_id": "test_user",
+                "message": "Hello",
+                "history": [{"role": "user", "content": "안녕하세요"}],
+                "summary": None
+            }
+        )
+        assert response.status_code in (200, 503)
+        if response.status_code == 200:
+            assert response.headers["content-type"].startswith("text/plain")
+            assert response.text.strip()
+    
+    def test_chat_stream_empty_message(self):
+        """빈 메시지 스트리밍 테스트"""
+        response = client.post(
+            "/api/v1/chatbot/chat/stream",
+            json={"user_id": "test_user", "message": ""}
+        )
+        assert response.status_code == 400
+    
     def test_suggestions(self):
         """추천 질문 조회 테스트"""
         response = client.get("/api/v1/chatbot/suggestions")
@@ -0,0 +1,126 @@
+package org.jbd.backend.benchmark;
+
+import org.jbd.backend.community.domain.Category;
+import org.jbd.backend.community.domain.Comment;
+import org.jbd.backend.community.domain.Post;
+import org.jbd.backend.common.entity.BaseEntity;
+import org.jbd.backend.job.domain.JobPosting;
+import org.jbd.backend.job.domain.enums.ExperienceLevel;
+import org.jbd.backend.job.domain.enums.JobType;
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.enums.UserType;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크 고정 데이터
+ *
+ * 실행마다 같은 입력을 쓰도록 고정 시드와 고정 시각으로 엔티티를 만듭니다.
+ * 영속성 컨텍스트 밖에서 만들기 때문에 ID와 생성 시각은 리플렉션으로 채웁니다.
+ */
+public final class BenchmarkFixtures {
+
+    public static final long SEED = 20250101L;
+    public static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 9, 0);
+    public static final String JWT_SECRET = "benchmark-jwt-secret-key-that-is-at-least-256-bits-long-for-hs256";
+
+    private static final String[] WORDS = {
+            "백엔드", "프론트엔드", "Spring", "Java", "면접", "이력서", "자기소개", "프로젝트 경험",
+            "팀워크", "지원동기", "데브옵스", "머신러닝", "인공지능", "취업", "코딩테스트", "포트폴리오"
+    };
+
+    private BenchmarkFixtures() {
+    }
+
+    public static Random random() {
+        return new Random(SEED);
+    }
+
+    public static String text(Random random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(i % 12 == 0 ? ".\n" : " ");
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+
+    public static User user(long id, String email, UserType userType) {
+        User user = new User(email, "$2a$10$benchmarkPasswordHashValue", userType);
+        user.setId(id);
+        stamp(user);
+        return user;
+    }
+
+    public static List<Post> posts(int count) {
+        Random random = random();
+        Category category = withId(new Category("취업 후기", "취업 준비 경험 공유"), 1L);
+        List<Post> posts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User author = user(100L + i, "author" + i + "@jbd.test", UserType.GENERAL);
+            posts.add(withId(new Post(text(random, 8), text(random, 120), author, category), 1_000L + i));
+        }
+        return posts;
+    }
+
+    /**
+     * 루트 댓글 1개와 답글 n개
+     */
+    public static List<Comment> commentThread(Post post, int replies) {
+        Random random = random();
+        Comment root = withId(new Comment(text(random, 30), user(200L, "root@jbd.test", UserType.GENERAL), post), 10_000L);
+        List<Comment> thread = new ArrayList<>(replies + 1);
+        root.assignThreadPosition();
+        thread.add(root);
+        for (int i = 0; i < replies; i++) {
+            User author = user(300L + i, "reply" + i + "@jbd.test", UserType.GENERAL);
+            Comment reply = withId(new Comment(text(random, 20), author, post, root), 10_001L + i);
+            reply.assignThreadPosition();
+            thread.add(reply);
+        }
+        return thread;
+    }
+
+    public static List<JobPosting> jobPostings(int count) {
+        Random random = random();
+        User company = user(500L, "company@jbd.test", UserType.COMPANY);
+        List<JobPosting> postings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            JobPosting posting = new JobPosting(company, "백엔드 개발자 " + i, "테스트기업", "서울",
+                    JobType.FULL_TIME, ExperienceLevel.MID_LEVEL);
+            posting.updateContent(text(random, 80), text(random, 20), "Java, Spring Boot, MySQL", text(random, 10));
+            posting.updateSalaryInfo(4_000 + i * 10, 6_000 + i * 10, true);
+            posting.publish(NOW.toLocalDate().plusDays(30));
+            setField(JobPosting.class, posting, "publishedAt", NOW);
+            postings.add(withId(posting, 2_000L + i));
+        }
+        return postings;
+    }
+
+    private static <T extends BaseEntity> T withId(T entity, Long id) {
+        setField(entity.getClass(), entity, "id", id);
+        stamp(entity);
+        return entity;
+    }
+
+    private static void stamp(BaseEntity entity) {
+        setField(BaseEntity.class, entity, "createdAt", NOW);
+        setField(BaseEntity.class, entity, "updatedAt", NOW);
+    }
+
+    static void setField(Class<?> type, Object target, String name, Object value) {
+        try {
+            Field field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
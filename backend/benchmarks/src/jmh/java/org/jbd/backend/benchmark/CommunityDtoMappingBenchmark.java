@@ -0,0 +1,52 @@
+package org.jbd.backend.benchmark;
+
+import org.jbd.backend.community.domain.Comment;
+import org.jbd.backend.community.domain.Post;
+import org.jbd.backend.community.dto.CommentDto;
+import org.jbd.backend.community.dto.PostDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 한 페이지와 댓글 스레드의 응답 DTO 변환
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommunityDtoMappingBenchmark {
+
+    @Param({"20"})
+    public int pageSize;
+
+    @Param({"50"})
+    public int replies;
+
+    private List<Post> posts;
+    private Comment rootComment;
+    private List<Comment> childComments;
+
+    @Setup
+    public void setUp() {
+        posts = BenchmarkFixtures.posts(pageSize);
+        List<Comment> thread = BenchmarkFixtures.commentThread(posts.get(0), replies);
+        rootComment = thread.get(0);
+        childComments = thread.subList(1, thread.size());
+    }
+
+    @Benchmark
+    public List<PostDto.Response> postPage() {
+        List<PostDto.Response> responses = new ArrayList<>(posts.size());
+        for (Post post : posts) {
+            responses.add(new PostDto.Response(post));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public CommentDto.Response commentThread() {
+        return new CommentDto.Response(rootComment, childComments);
+    }
+}
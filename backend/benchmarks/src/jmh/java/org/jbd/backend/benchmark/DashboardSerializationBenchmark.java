@@ -0,0 +1,148 @@
+package org.jbd.backend.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jbd.backend.config.JacksonConfig;
+import org.jbd.backend.dashboard.dto.AdminDashboardDto;
+import org.jbd.backend.dashboard.dto.CompanyUserDashboardDto;
+import org.jbd.backend.dashboard.dto.GeneralUserDashboardDto;
+import org.jbd.backend.job.dto.JobPostingResponseDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대시보드 응답 DTO 의 JSON 직렬화 (JacksonConfig 의 전역 ObjectMapper 사용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DashboardSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private GeneralUserDashboardDto generalDashboard;
+    private CompanyUserDashboardDto companyDashboard;
+    private AdminDashboardDto adminDashboard;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new JacksonConfig().objectMapper();
+        generalDashboard = generalDashboard();
+        companyDashboard = companyDashboard();
+        adminDashboard = adminDashboard();
+    }
+
+    @Benchmark
+    public byte[] generalUser() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(generalDashboard);
+    }
+
+    @Benchmark
+    public byte[] companyUser() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(companyDashboard);
+    }
+
+    @Benchmark
+    public byte[] admin() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(adminDashboard);
+    }
+
+    private static GeneralUserDashboardDto generalDashboard() {
+        List<GeneralUserDashboardDto.JobFieldEmploymentDto> fields = new ArrayList<>();
+        List<GeneralUserDashboardDto.MonthlyProgressDto> monthly = new ArrayList<>();
+        List<GeneralUserDashboardDto.CapabilityDto> capabilities = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            fields.add(GeneralUserDashboardDto.JobFieldEmploymentDto.builder()
+                    .jobField("직무 " + i).employmentRate(40.0 + i).totalApplicants(100 + i).employedCount(40 + i)
+                    .build());
+            monthly.add(GeneralUserDashboardDto.MonthlyProgressDto.builder()
+                    .month(String.format("2025-%02d", i + 1)).applications(i * 3).interviews(i).offers(i / 4)
+                    .build());
+            capabilities.add(GeneralUserDashboardDto.CapabilityDto.builder().skill("역량 " + i).level(50 + i).build());
+        }
+        return GeneralUserDashboardDto.builder()
+                .totalEmploymentRate(62.5)
+                .myJobScore(780)
+                .myApplicationStatus(GeneralUserDashboardDto.MyApplicationStatusDto.builder()
+                        .totalApplications(24).pendingApplications(8).interviewApplications(5)
+                        .rejectedApplications(9).acceptedApplications(2).build())
+                .jobFieldEmployments(fields)
+                .personalInsight(GeneralUserDashboardDto.PersonalInsightDto.builder()
+                        .recommendations(List.of("포트폴리오 보강", "모의면접 3회 이상"))
+                        .skillsToImprove(List.of("Kubernetes", "SQL 튜닝"))
+                        .suggestedActions(List.of("자격증 취득", "이력서 업데이트"))
+                        .overallFeedback("전반적으로 준비가 잘 되어 있습니다.")
+                        .build())
+                .quickActions(GeneralUserDashboardDto.QuickActionsDto.builder()
+                        .mockInterviewUrl("/ai/interview").customJobPostingsUrl("/jobs/recommended")
+                        .profileUpdateUrl("/profile").resumeGeneratorUrl("/ai/resume").build())
+                .jobPreparationAnalysis(GeneralUserDashboardDto.JobPreparationAnalysisDto.builder()
+                        .myScore(78).averageScore(65).targetScore(85).build())
+                .monthlyProgress(monthly)
+                .capabilities(capabilities)
+                .build();
+    }
+
+    private static CompanyUserDashboardDto companyDashboard() {
+        List<JobPostingResponseDto> myJobPostings = BenchmarkFixtures.jobPostings(10).stream()
+                .map(JobPostingResponseDto::from)
+                .toList();
+        List<CompanyUserDashboardDto.PopularJobPostingDto> popular = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            popular.add(CompanyUserDashboardDto.PopularJobPostingDto.builder()
+                    .jobPostingId(2_000L + i).title("백엔드 개발자 " + i).companyName("테스트기업")
+                    .applicationCount(50 - i).viewCount(1_000 - i * 10).status("PUBLISHED")
+                    .build());
+        }
+        return CompanyUserDashboardDto.builder()
+                .totalJobPostings(10)
+                .activeJobPostings(7)
+                .totalApplications(320)
+                .newApplicationsThisWeek(41)
+                .myJobPostings(myJobPostings)
+                .popularJobPostings(popular)
+                .applicationStatistics(CompanyUserDashboardDto.ApplicationStatisticsDto.builder()
+                        .pendingReview(120).documentPassed(80).interviewScheduled(30).finalPassed(12).rejected(78)
+                        .averageApplicationsPerPosting(32.0).build())
+                .quickActions(CompanyUserDashboardDto.CompanyQuickActionsDto.builder()
+                        .createJobPostingUrl("/jobs/new").manageApplicationsUrl("/applications")
+                        .companyProfileUrl("/company").statisticsUrl("/statistics").build())
+                .build();
+    }
+
+    private static AdminDashboardDto adminDashboard() {
+        List<AdminDashboardDto.CertificateRequestDto> requests = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            requests.add(AdminDashboardDto.CertificateRequestDto.builder()
+                    .requestId((long) i).userEmail("user" + i + "@jbd.test").userName("사용자 " + i)
+                    .certificateType("수료증").requestedAt(BenchmarkFixtures.NOW.minusDays(i))
+                    .status("PENDING").purpose("취업 제출용")
+                    .build());
+        }
+        return AdminDashboardDto.builder()
+                .userStatistics(AdminDashboardDto.UserStatisticsDto.builder()
+                        .totalUsers(12_000L).generalUsers(10_500L).companyUsers(1_480L).adminUsers(20L)
+                        .activeUsers(9_800L).inactiveUsers(2_200L).build())
+                .newUserStatistics(AdminDashboardDto.NewUserStatisticsDto.builder()
+                        .todayNewUsers(35L).thisWeekNewUsers(240L).thisMonthNewUsers(980L)
+                        .todayGeneralUsers(30L).todayCompanyUsers(5L).build())
+                .jobPostingStatistics(AdminDashboardDto.JobPostingStatisticsDto.builder()
+                        .totalJobPostings(3_400L).activeJobPostings(1_200L).closedJobPostings(2_200L)
+                        .thisWeekJobPostings(85L).averageApplicationsPerPosting(14.2).build())
+                .applicationStatistics(AdminDashboardDto.ApplicationStatisticsDto.builder()
+                        .totalApplications(48_000L).thisWeekApplications(1_900L).pendingApplications(6_000L)
+                        .successfulApplications(3_100L).successRate(6.5).build())
+                .certificateRequests(requests)
+                .systemStatistics(AdminDashboardDto.SystemStatisticsDto.builder()
+                        .totalApiCalls(5_400_000L).dailyActiveUsers(3_200L).systemUptime(99.95).errorCount(12)
+                        .build())
+                .aiServiceStatistics(AdminDashboardDto.AiServiceStatisticsDto.builder()
+                        .totalInterviews(15_000L).completedInterviews(13_200L).averageInterviewScore(71.4)
+                        .totalImageGenerations(4_300L).totalSentimentAnalyses(22_000L)
+                        .positivePosts(15_500L).negativePosts(2_100L).positivityRate(70.4)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,186 @@
+package org.jbd.backend.benchmark;
+
+import com.google.api.services.gmail.model.Message;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.jbd.backend.webmail.service.GmailBatchSender;
+import org.jbd.backend.webmail.service.GmailClientPool;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.client.InMemoryOAuth2AuthorizedClientService;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.InMemoryClientRegistrationRepository;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2RefreshToken;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Gmail 발송 대기열의 배치 묶음 효과
+ *
+ * 요청마다 5ms 지연되는 로컬 Gmail 스텁에 사용자 3명의 메시지 300건을 한꺼번에 제출하고 모두 끝날 때까지의 시간을 잽니다.
+ * batchSize=1 은 메시지마다 HTTP 요청을 보내는 기준선입니다.
+ * 같은 사용자의 발송이 동시에 대기열에 쌓여야 묶이므로 이 측정은 대량 발송 경로의 상한이며,
+ * GmailService 의 단건 발송은 send() 로 대기열을 거치지 않고 바로 보내므로 이 측정과 무관합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GmailBatchSenderBenchmark {
+
+    private static final int MESSAGES = 300;
+    private static final List<String> USERS = List.of("user1@jbd.test", "user2@jbd.test", "user3@jbd.test");
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    private GmailStub stub;
+    private GmailBatchSender sender;
+    private List<GmailClientPool.PooledGmail> clients;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup
+    public void setUp() throws Exception {
+        stub = new GmailStub(5);
+        ClientRegistration registration = ClientRegistration.withRegistrationId("google")
+                .clientId("client-id")
+                .clientSecret("client-secret")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("{baseUrl}/login/oauth2/code/{registrationId}")
+                .authorizationUri(stub.url() + "auth")
+                .tokenUri(stub.url() + "token")
+                .build();
+        InMemoryClientRegistrationRepository registrations = new InMemoryClientRegistrationRepository(registration);
+        InMemoryOAuth2AuthorizedClientService authorizedClients = new InMemoryOAuth2AuthorizedClientService(registrations);
+        Instant now = Instant.now();
+        for (String user : USERS) {
+            authorizedClients.saveAuthorizedClient(new OAuth2AuthorizedClient(registration, user,
+                            new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "token-" + user,
+                                    now, now.plus(Duration.ofDays(1))),
+                            new OAuth2RefreshToken("refresh-" + user, now)),
+                    new UsernamePasswordAuthenticationToken(user, null));
+        }
+        GmailClientPool pool = new GmailClientPool(registrations, authorizedClients, Clock.systemDefaultZone(),
+                stub.url(), 120, 5000, 5000, 100);
+        clients = USERS.stream().map(user -> pool.acquire(user).orElseThrow()).toList();
+        sender = new GmailBatchSender(batchSize, batchSize > 1 ? 20 : 0, 4, 10000, 3, 20, 200, 10000);
+    }
+
+    @TearDown
+    public void tearDown() {
+        sender.shutdown();
+        stub.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public int sendConcurrently() {
+        List<CompletableFuture<Message>> results = new ArrayList<>(MESSAGES);
+        for (int i = 0; i < MESSAGES; i++) {
+            results.add(sender.submit(clients.get(i % clients.size()),
+                    new Message().setRaw("msg-" + sequence.incrementAndGet())));
+        }
+        results.forEach(CompletableFuture::join);
+        return results.size();
+    }
+
+    /**
+     * 발송/배치 엔드포인트만 흉내 내는 Gmail 스텁 (모든 메시지 발송 성공)
+     */
+    private static final class GmailStub {
+
+        private static final Pattern RAW = Pattern.compile("\"raw\"\\s*:\\s*\"([^\"]*)\"");
+        private static final String RESPONSE_BOUNDARY = "batch_stub";
+
+        private final HttpServer server;
+        private final ExecutorService executor = Executors.newFixedThreadPool(8);
+        private final long latencyMs;
+
+        private GmailStub(long latencyMs) throws IOException {
+            this.latencyMs = latencyMs;
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/", this::handle);
+            server.setExecutor(executor);
+            server.start();
+        }
+
+        private String url() {
+            return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+        }
+
+        private void stop() {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            try {
+                TimeUnit.MILLISECONDS.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            String path = exchange.getRequestURI().getPath();
+            String body = new String(exchange.getRequestBody().readAllBytes(), ISO_8859_1);
+
+            if (path.equals("/batch/gmail/v1")) {
+                String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+                String boundary = contentType.substring(contentType.indexOf("boundary=") + "boundary=".length())
+                        .replace("\"", "");
+                StringBuilder response = new StringBuilder();
+                int contentId = 0;
+                for (String part : body.split(Pattern.quote("--" + boundary))) {
+                    Matcher raw = RAW.matcher(part);
+                    if (!raw.find()) {
+                        continue;
+                    }
+                    response.append("--").append(RESPONSE_BOUNDARY).append("\r\n")
+                            .append("Content-Type: application/http\r\n")
+                            .append("Content-ID: <response-").append(++contentId).append(">\r\n\r\n")
+                            .append("HTTP/1.1 200 OK\r\n")
+                            .append("Content-Type: application/json; charset=UTF-8\r\n\r\n")
+                            .append(sent(raw.group(1))).append("\r\n");
+                }
+                response.append("--").append(RESPONSE_BOUNDARY).append("--\r\n");
+                respond(exchange, 200, "multipart/mixed; boundary=" + RESPONSE_BOUNDARY, response.toString());
+            } else if (path.endsWith("/messages/send")) {
+                Matcher raw = RAW.matcher(body);
+                respond(exchange, 200, "application/json; charset=UTF-8", sent(raw.find() ? raw.group(1) : ""));
+            } else {
+                respond(exchange, 404, "application/json; charset=UTF-8", "{}");
+            }
+        }
+
+        private static String sent(String raw) {
+            return "{\"id\":\"id-" + raw + "\",\"threadId\":\"thread-" + raw + "\",\"labelIds\":[\"SENT\"]}";
+        }
+
+        private static void respond(HttpExchange exchange, int status, String contentType, String body)
+                throws IOException {
+            byte[] bytes = body.getBytes(UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", contentType);
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(bytes);
+            }
+        }
+    }
+}
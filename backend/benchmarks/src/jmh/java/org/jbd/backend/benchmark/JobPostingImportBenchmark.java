@@ -0,0 +1,221 @@
+package org.jbd.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.jbd.backend.job.dto.JobPostingImportDto;
+import org.jbd.backend.job.service.JobPostingImportService;
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채용공고 일괄 등록 (CSV 10만 건)
+ *
+ * 1회 호출이 10만 행 CSV 를 읽어 등록까지 마치는 전체 시간이며, 파일 모드 H2(MySQL 모드)에 실제로 INSERT 합니다.
+ * CSV 는 메모리에 미리 만들지 않고 읽는 시점에 행을 생성하고, 포크 JVM 힙을 256MB 로 제한하여
+ * 행 수에 비례해 힙이 늘어나면 OOM 으로 실패하도록 합니다.
+ *
+ * ./gradlew :benchmarks:jmh -PjmhIncludes=JobPostingImportBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(jvmArgsAppend = "-Xmx256m")
+public class JobPostingImportBenchmark {
+
+    @Param({"100000"})
+    public int rows;
+
+    @Param({"50", "500"})
+    public int batchSize;
+
+    private Path databaseDirectory;
+    private AnnotationConfigApplicationContext context;
+    private JobPostingImportService importService;
+    private JdbcTemplate jdbcTemplate;
+    private Long companyUserId;
+
+    @Setup
+    public void setUp() throws IOException {
+        databaseDirectory = Files.createTempDirectory("jbd-import-benchmark");
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "benchmark.jdbc-url", "jdbc:h2:file:" + databaseDirectory.resolve("import")
+                        + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+                "app.job-posting.import.batch-size", String.valueOf(batchSize),
+                "app.job-posting.import.max-reported-errors", "10")));
+        context.register(ImportContext.class);
+        context.refresh();
+
+        importService = context.getBean(JobPostingImportService.class);
+        jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+        EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        companyUserId = new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).execute(status -> {
+            User companyUser = new User("company@jbd.test", "$2a$10$benchmarkPasswordHashValue", UserType.COMPANY);
+            EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory).persist(companyUser);
+            return companyUser.getId();
+        });
+    }
+
+    @Setup(Level.Iteration)
+    public void clearPostings() {
+        jdbcTemplate.update("delete from job_postings");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(databaseDirectory);
+    }
+
+    @Benchmark
+    public JobPostingImportDto.Response importCsv() {
+        JobPostingImportDto.Response response = importService.importJobPostings(
+                companyUserId, JobPostingImportService.Format.CSV, new GeneratedCsv(rows));
+        if (response.getImportedCount() != rows) {
+            throw new IllegalStateException("Imported " + response.getImportedCount() + " of " + rows
+                    + " rows: " + response.getErrors());
+        }
+        return response;
+    }
+
+    /**
+     * 읽는 시점에 한 행씩 만들어 내는 CSV (고정 시드)
+     */
+    static final class GeneratedCsv extends InputStream {
+
+        private static final String HEADER = "title,companyName,location,jobType,experienceLevel,"
+                + "department,minSalary,maxSalary,requiredSkills,description,contactEmail\n";
+        private static final String[] JOB_TYPES = {"FULL_TIME", "CONTRACT", "PART_TIME", "INTERNSHIP"};
+        private static final String[] LEVELS = {"ENTRY_LEVEL", "JUNIOR", "MID_LEVEL", "SENIOR"};
+        private static final String[] LOCATIONS = {"서울", "판교", "부산", "대전", "원격"};
+
+        private final int rows;
+        private final Random random = BenchmarkFixtures.random();
+        private int written;
+        private byte[] current = HEADER.getBytes(StandardCharsets.UTF_8);
+        private int position;
+
+        GeneratedCsv(int rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public int read() {
+            if (!fill()) {
+                return -1;
+            }
+            return current[position++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int count = Math.min(length, current.length - position);
+            System.arraycopy(current, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+
+        private boolean fill() {
+            if (position < current.length) {
+                return true;
+            }
+            if (written == rows) {
+                return false;
+            }
+            written++;
+            int salary = 3_000 + random.nextInt(40) * 100;
+            current = (BenchmarkFixtures.text(random, 3) + " 채용 " + written + ","
+                    + "기업 " + (written % 500) + ","
+                    + LOCATIONS[random.nextInt(LOCATIONS.length)] + ","
+                    + JOB_TYPES[random.nextInt(JOB_TYPES.length)] + ","
+                    + LEVELS[random.nextInt(LEVELS.length)] + ","
+                    + "개발팀,"
+                    + salary + "," + (salary + 1_500) + ","
+                    + "\"Java, Spring, MySQL\","
+                    + "\"" + BenchmarkFixtures.text(random, 40).replace("\"", "\"\"") + "\","
+                    + "recruit" + written + "@jbd.test\n").getBytes(StandardCharsets.UTF_8);
+            position = 0;
+            return true;
+        }
+    }
+
+    /**
+     * 일괄 등록 서비스에 필요한 최소 JPA 구성 (스키마는 Hibernate 가 생성, 생성일시는 JPA Auditing 으로 채움)
+     */
+    @Configuration
+    @EnableJpaAuditing
+    @Import(JobPostingImportService.class)
+    static class ImportContext {
+
+        @Bean
+        DataSource dataSource(Environment environment) {
+            return new DriverManagerDataSource(environment.getRequiredProperty("benchmark.jdbc-url"), "sa", "");
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource,
+                                                                   ConfigurableListableBeanFactory beanFactory) {
+            LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+            factoryBean.setDataSource(dataSource);
+            factoryBean.setPackagesToScan("org.jbd.backend");
+            factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factoryBean.setJpaPropertyMap(Map.of(
+                    AvailableSettings.HBM2DDL_AUTO, "create-drop",
+                    AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect",
+                    AvailableSettings.BEAN_CONTAINER, new SpringBeanContainer(beanFactory)));
+            return factoryBean;
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        @Bean
+        LocalValidatorFactoryBean validator() {
+            return new LocalValidatorFactoryBean();
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+    }
+}
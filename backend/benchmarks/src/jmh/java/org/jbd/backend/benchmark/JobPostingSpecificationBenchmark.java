@@ -0,0 +1,94 @@
+package org.jbd.backend.benchmark;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.jbd.backend.job.domain.JobPosting;
+import org.jbd.backend.job.domain.enums.ExperienceLevel;
+import org.jbd.backend.job.domain.enums.JobType;
+import org.jbd.backend.job.dto.JobPostingSearchDto;
+import org.jbd.backend.job.specification.JobPostingSpecification;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채용공고 검색 조건의 Criteria 술어 생성
+ *
+ * 실제 Hibernate 메타모델(H2 메모리 DB, DDL 생성 없음) 위에서 쿼리/루트 생성과 술어 조립만 측정하며
+ * SQL 실행은 포함하지 않습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JobPostingSpecificationBenchmark {
+
+    @Param({"keyword", "full"})
+    public String criteria;
+
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private EntityManager entityManager;
+    private CriteriaBuilder criteriaBuilder;
+    private JobPostingSearchDto searchDto;
+
+    @Setup
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE", "sa", "");
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("org.jbd.backend");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "none",
+                "hibernate.dialect", "org.hibernate.dialect.H2Dialect"));
+        factoryBean.afterPropertiesSet();
+
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+        entityManager = entityManagerFactory.createEntityManager();
+        criteriaBuilder = entityManager.getCriteriaBuilder();
+
+        searchDto = switch (criteria) {
+            case "full" -> JobPostingSearchDto.builder()
+                    .keyword("Spring")
+                    .title("백엔드")
+                    .companyName("테스트")
+                    .location("서울")
+                    .jobType(JobType.FULL_TIME)
+                    .experienceLevel(ExperienceLevel.MID_LEVEL)
+                    .salaryMin(4_000)
+                    .salaryMax(8_000)
+                    .salaryNegotiable(true)
+                    .department("개발")
+                    .field("IT")
+                    .isRemotePossible(true)
+                    .requiredSkills("Java")
+                    .companyUserIds(List.of(1L, 2L, 3L))
+                    .build();
+            default -> JobPostingSearchDto.builder().keyword("Spring").build();
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        factoryBean.destroy();
+    }
+
+    @Benchmark
+    public Predicate withSearchCriteria() {
+        CriteriaQuery<JobPosting> query = criteriaBuilder.createQuery(JobPosting.class);
+        Root<JobPosting> root = query.from(JobPosting.class);
+        Specification<JobPosting> specification = JobPostingSpecification.withSearchCriteria(searchDto);
+        return specification.toPredicate(root, query, criteriaBuilder);
+    }
+}
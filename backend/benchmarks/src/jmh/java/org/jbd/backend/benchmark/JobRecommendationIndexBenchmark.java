@@ -0,0 +1,69 @@
+package org.jbd.backend.benchmark;
+
+import org.jbd.backend.job.service.JobRecommendationIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채용공고 추천 역색인 topK 조회
+ *
+ * 인기 기술에 편중된 분포의 공고 postings 건과 사용자 프로필 1만 개를 만들어 두고, 호출마다 다음 프로필로 조회합니다.
+ * (목표: 공고 10만 건에서 조회당 수 ms 이내)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JobRecommendationIndexBenchmark {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 10, 1, 12, 0);
+    private static final int USERS = 10_000;
+    private static final int SKILLS = 500;
+
+    @Param({"100000"})
+    private int postings;
+
+    private JobRecommendationIndex index;
+    private List<Map<Long, Double>> profiles;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Map<Long, JobRecommendationIndex.Entry> loaded = new HashMap<>();
+        for (long id = 1; id <= postings; id++) {
+            loaded.put(id, new JobRecommendationIndex.Entry(randomSkills(random, 3 + random.nextInt(6)),
+                    NOW.minusHours(random.nextInt(24 * 90)), (LocalDate) null));
+        }
+        index = new JobRecommendationIndex(14);
+        index.rebuild(() -> loaded);
+
+        profiles = new ArrayList<>(USERS);
+        for (int u = 0; u < USERS; u++) {
+            Map<Long, Double> weights = new HashMap<>();
+            for (Long skillId : randomSkills(random, 3 + random.nextInt(8))) {
+                weights.put(skillId, 1.0 + random.nextInt(4) * 0.5);
+            }
+            profiles.add(weights);
+        }
+    }
+
+    @Benchmark
+    public List<Long> topK() {
+        Map<Long, Double> profile = profiles.get(next);
+        next = (next + 1) % USERS;
+        return index.topK(profile, 20, NOW);
+    }
+
+    private static List<Long> randomSkills(Random random, int count) {
+        Set<Long> picked = new LinkedHashSet<>();
+        while (picked.size() < count) {
+            double r = random.nextDouble();
+            picked.add(1L + (long) (SKILLS * r * r));
+        }
+        return new ArrayList<>(picked);
+    }
+}
@@ -0,0 +1,74 @@
+package org.jbd.backend.benchmark;
+
+import jakarta.servlet.ServletException;
+import org.jbd.backend.auth.config.JwtAuthenticationFilter;
+import org.jbd.backend.auth.service.JwtService;
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.jbd.backend.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터의 Authorization 헤더 처리
+ *
+ * 사용자 조회는 고정 사용자를 돌려주는 저장소 스텁으로 대체하여 DB 왕복을 제외한 필터 비용만 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"valid", "missing", "malformed"})
+    public String header;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtService jwtService = JwtServiceBenchmark.jwtService();
+        User user = BenchmarkFixtures.user(1L, "user@jbd.test", UserType.GENERAL);
+        filter = new JwtAuthenticationFilter(jwtService, userRepository(user));
+        authorization = switch (header) {
+            case "valid" -> "Bearer " + jwtService.generateToken(user);
+            case "malformed" -> "Bearer not.a.jwt";
+            default -> null;
+        };
+    }
+
+    @Benchmark
+    public Object doFilter() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs");
+        request.setServletPath("/api/jobs");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static UserRepository userRepository(User user) {
+        return (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findByEmailAndIsDeletedFalse")) {
+                        return user.getEmail().equals(args[0]) ? Optional.of(user) : Optional.empty();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
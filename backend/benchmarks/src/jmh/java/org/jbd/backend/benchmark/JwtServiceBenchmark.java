@@ -0,0 +1,57 @@
+package org.jbd.backend.benchmark;
+
+import org.jbd.backend.auth.service.JwtService;
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 파싱/발급
+ *
+ * extractAllClaims 는 private 이므로 요청마다 실제로 호출되는 공개 경로(extractUsername, extractUserId)로 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = jwtService();
+        user = BenchmarkFixtures.user(1L, "user@jbd.test", UserType.GENERAL);
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public Long extractUserId() {
+        return jwtService.extractUserId(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(token, user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    static JwtService jwtService() {
+        JwtService jwtService = new JwtService();
+        BenchmarkFixtures.setField(JwtService.class, jwtService, "secretKey", BenchmarkFixtures.JWT_SECRET);
+        BenchmarkFixtures.setField(JwtService.class, jwtService, "jwtExpiration", 86_400L);
+        return jwtService;
+    }
+}
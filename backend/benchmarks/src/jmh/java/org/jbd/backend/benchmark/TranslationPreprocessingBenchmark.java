@@ -0,0 +1,58 @@
+package org.jbd.backend.benchmark;
+
+import org.jbd.backend.ai.client.AIServiceClient;
+import org.jbd.backend.ai.dto.TranslationDto;
+import org.jbd.backend.ai.service.AITranslationService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 번역 요청 전처리 (전문 용어 치환 + 입력 검증)
+ *
+ * AI 서비스 호출은 입력을 그대로 돌려주는 스텁으로 대체하여 네트워크 없이 서비스 측 비용만 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TranslationPreprocessingBenchmark {
+
+    @Param({"50", "500"})
+    public int words;
+
+    private AITranslationService translationService;
+    private String content;
+
+    @Setup
+    public void setUp() {
+        translationService = new AITranslationService(new EchoClient());
+        // 치환 후에도 5000자 제한에 걸리지 않도록 잘라서 검증 통과 경로를 측정
+        String text = BenchmarkFixtures.text(BenchmarkFixtures.random(), words);
+        content = text.length() > 3_000 ? text.substring(0, 3_000) : text;
+    }
+
+    @Benchmark
+    public TranslationDto.TranslateResponse resumeContent() {
+        return translationService.translateResumeContent(content, "en");
+    }
+
+    @Benchmark
+    public TranslationDto.TranslateResponse interviewContent() {
+        return translationService.translateInterviewContent(content, "en");
+    }
+
+    private static final class EchoClient extends AIServiceClient {
+
+        EchoClient() {
+            super(null, null, null);
+        }
+
+        @Override
+        public TranslationDto.TranslateResponse translateText(
+                String text, String targetLanguage, String sourceLanguage, String documentType) {
+            TranslationDto.Translation translation = new TranslationDto.Translation(
+                    text, text, sourceLanguage, targetLanguage, documentType, "");
+            return new TranslationDto.TranslateResponse(true, null, new TranslationDto.TranslationData(translation));
+        }
+    }
+}
@@ -3,10 +3,12 @@ package org.jbd.backend.admin.service;
 import lombok.RequiredArgsConstructor;
 import org.jbd.backend.admin.dto.*;
 import org.jbd.backend.auth.service.JwtService;
+import org.jbd.backend.common.security.UserChangedEvent;
 import org.jbd.backend.user.domain.User;
 import org.jbd.backend.user.domain.enums.UserType;
 import org.jbd.backend.user.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +27,7 @@ public class AdminService {
     private final UserRepository userRepository;
     private final JwtService jwtService;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${app.admin.secret-key:ADMIN_SECRET_2024}")
     private String adminSecretKey;
@@ -96,6 +99,7 @@ public class AdminService {
 
             log.debug("Saving user to repository...");
             userRepository.save(user);
+            eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
 
             log.info("User {} promoted to admin successfully", request.getEmail());
         } catch (Exception e) {
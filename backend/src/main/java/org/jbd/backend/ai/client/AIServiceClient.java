@@ -4,11 +4,20 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jbd.backend.ai.config.AIServiceConfig;
 import org.jbd.backend.ai.dto.*;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @Component
@@ -18,13 +27,18 @@ public class AIServiceClient {
 
     private final RestTemplate restTemplate;
     private final AIServiceConfig aiServiceConfig;
+    private final WebClient aiWebClient;
 
     // ============= Chatbot Services =============
     
     public ChatbotDto.ChatResponse chatWithBot(String userId, String message) {
+        return chatWithBot(new ChatbotDto.ChatRequest(userId, message));
+    }
+
+    public ChatbotDto.ChatResponse chatWithBot(ChatbotDto.ChatRequest request) {
+        String userId = request.getUserId();
         try {
             String url = aiServiceConfig.getAiServiceBaseUrl() + "/api/v1/chatbot/chat";
-            ChatbotDto.ChatRequest request = new ChatbotDto.ChatRequest(userId, message);
             
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
@@ -43,6 +57,26 @@ public class AIServiceClient {
         }
     }
 
+    /**
+     * 챗봇 응답 스트리밍: 업스트림의 청크 응답을 도착하는 대로 텍스트 조각으로 전달
+     * (청크 경계에서 잘린 UTF-8 멀티바이트 문자는 다음 청크와 합쳐 디코딩)
+     */
+    public Flux<String> streamChat(ChatbotDto.ChatRequest request) {
+        String url = aiServiceConfig.getAiServiceBaseUrl() + "/api/v1/chatbot/chat/stream";
+        return Flux.defer(() -> {
+            Utf8ChunkDecoder decoder = new Utf8ChunkDecoder();
+            return aiWebClient.post()
+                    .uri(url)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.TEXT_PLAIN)
+                    .bodyValue(request)
+                    .retrieve()
+                    .bodyToFlux(DataBuffer.class)
+                    .map(decoder::decode)
+                    .filter(chunk -> !chunk.isEmpty());
+        });
+    }
+
     public ChatbotDto.ChatResponse getQuickResponse(String userId, String category) {
         try {
             String url = aiServiceConfig.getAiServiceBaseUrl() + "/api/v1/chatbot/quick-response";
@@ -317,6 +351,29 @@ public class AIServiceClient {
         }
     }
 
+    private static final class Utf8ChunkDecoder {
+
+        private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private ByteBuffer pending = ByteBuffer.allocate(0);
+
+        private String decode(DataBuffer buffer) {
+            try {
+                byte[] bytes = new byte[buffer.readableByteCount()];
+                buffer.read(bytes);
+                ByteBuffer input = ByteBuffer.allocate(pending.remaining() + bytes.length);
+                input.put(pending).put(bytes).flip();
+                CharBuffer output = CharBuffer.allocate(input.remaining());
+                decoder.decode(input, output, false);
+                pending = input.slice();
+                return output.flip().toString();
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }
+    }
+
     // ============= Error Response Creators =============
     
     private ChatbotDto.ChatResponse createErrorChatResponse(String errorMessage) {
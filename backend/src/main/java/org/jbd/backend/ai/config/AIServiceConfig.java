@@ -4,6 +4,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
 
 @Configuration
 public class AIServiceConfig {
@@ -16,6 +17,14 @@ public class AIServiceConfig {
         return new RestTemplate();
     }
 
+    /**
+     * 챗봇 스트리밍 응답용 논블로킹 클라이언트 (청크 단위 수신)
+     */
+    @Bean
+    public WebClient aiWebClient() {
+        return WebClient.builder().build();
+    }
+
     public String getAiServiceBaseUrl() {
         return aiServiceBaseUrl;
     }
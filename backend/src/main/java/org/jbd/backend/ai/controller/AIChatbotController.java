@@ -4,8 +4,15 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.jbd.backend.ai.dto.ChatbotDto;
 import org.jbd.backend.ai.service.AIChatbotService;
+import org.jbd.backend.auth.service.UserPrincipal;
+import org.jbd.backend.common.exception.BusinessException;
+import org.jbd.backend.common.exception.ErrorCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * AI 챗봇 REST API 컨트롤러
@@ -36,7 +43,7 @@ public class AIChatbotController {
      *
      * @param request 채팅 요청 데이터
      *                - message: 사용자 메시지 (필수)
-     * @param userEmail 사용자 이메일 (헤더를 통해 전달)
+     * @param authentication 인증 정보 (대화 기록 키로 사용)
      * @return ResponseEntity<ChatbotDto.ChatResponse> AI 응답 데이터
      * @apiNote POST /ai/chatbot/chat
      * @see ChatRequest
@@ -45,12 +52,31 @@ public class AIChatbotController {
     @PostMapping("/chat")
     public ResponseEntity<ChatbotDto.ChatResponse> chat(
             @Valid @RequestBody ChatRequest request,
-            @RequestHeader("X-User-Email") String userEmail) {
+            Authentication authentication) {
         
-        ChatbotDto.ChatResponse response = aiChatbotService.processChat(userEmail, request.getMessage());
+        ChatbotDto.ChatResponse response = aiChatbotService.processChat(sessionKey(authentication), request.getMessage());
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * AI 응답을 SSE로 스트리밍합니다.
+     * 응답 조각이 생성되는 대로 token 이벤트로 전달하고, 완료 시 done 이벤트를 보냅니다.
+     * 오류가 발생하면 error 이벤트 후 연결을 종료합니다.
+     *
+     * @param request 채팅 요청 데이터
+     *                - message: 사용자 메시지 (필수)
+     * @param authentication 인증 정보 (대화 기록 키로 사용)
+     * @return SseEmitter token/done/error 이벤트 스트림
+     * @apiNote POST /ai/chatbot/chat/stream
+     */
+    @PostMapping(value = "/chat/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChat(
+            @Valid @RequestBody ChatRequest request,
+            Authentication authentication) {
+
+        return aiChatbotService.streamChat(sessionKey(authentication), request.getMessage());
+    }
+
     /**
      * 빠른 응답을 제공합니다.
      * 미리 정의된 카테고리에 따라 즉석에서 적절한 AI 응답을 생성합니다.
@@ -58,7 +84,7 @@ public class AIChatbotController {
      *
      * @param request 빠른 응답 요청 데이터
      *                - category: 응답 카테고리 (필수)
-     * @param userEmail 사용자 이메일 (헤더를 통해 전달)
+     * @param authentication 인증 정보 (대화 기록 키로 사용)
      * @return ResponseEntity<ChatbotDto.ChatResponse> AI 빠른 응답 데이터
      * @apiNote POST /ai/chatbot/quick-response
      * @see QuickResponseRequest
@@ -67,9 +93,9 @@ public class AIChatbotController {
     @PostMapping("/quick-response")
     public ResponseEntity<ChatbotDto.ChatResponse> getQuickResponse(
             @Valid @RequestBody QuickResponseRequest request,
-            @RequestHeader("X-User-Email") String userEmail) {
+            Authentication authentication) {
         
-        ChatbotDto.ChatResponse response = aiChatbotService.getQuickResponse(userEmail, request.getCategory());
+        ChatbotDto.ChatResponse response = aiChatbotService.getQuickResponse(sessionKey(authentication), request.getCategory());
         return ResponseEntity.ok(response);
     }
 
@@ -77,13 +103,13 @@ public class AIChatbotController {
      * 사용자의 채팅 히스토리를 삭제합니다.
      * 해당 사용자의 모든 채팅 기록과 컨텍스트가 영구적으로 삭제됩니다.
      *
-     * @param userEmail 사용자 이메일 (헤더를 통해 전달)
+     * @param authentication 인증 정보 (대화 기록 키로 사용)
      * @return ResponseEntity<String> 삭제 완료 메시지
      * @apiNote DELETE /ai/chatbot/history
      */
     @DeleteMapping("/history")
-    public ResponseEntity<String> clearChatHistory(@RequestHeader("X-User-Email") String userEmail) {
-        aiChatbotService.clearChatHistory(userEmail);
+    public ResponseEntity<String> clearChatHistory(Authentication authentication) {
+        aiChatbotService.clearChatHistory(sessionKey(authentication));
         return ResponseEntity.ok("채팅 히스토리가 삭제되었습니다.");
     }
 
@@ -103,6 +129,23 @@ public class AIChatbotController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 인증 주체로부터 대화 기록 키를 만듭니다.
+     * 클라이언트가 보낸 값은 신뢰하지 않고, JWT로 확인된 사용자 ID(관리자 토큰은 토큰 subject)만 사용합니다.
+     *
+     * @param authentication 인증 정보
+     * @return 사용자별 대화 세션 키
+     */
+    private String sessionKey(Authentication authentication) {
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return "user:" + principal.getId();
+        }
+        return "admin:" + authentication.getName();
+    }
+
     /**
      * 채팅 요청 DTO 클래스
      *
@@ -27,11 +27,24 @@ public class AIInterviewController {
 
     @PostMapping("/questions")
     public ResponseEntity<InterviewDto.GenerateQuestionsResponse> generateQuestions(
-            @Valid @RequestBody GenerateQuestionsRequest request) {
+            @Valid @RequestBody GenerateQuestionsRequest request,
+            @RequestHeader(value = "Authorization", required = false) String authorization) {
+        
+        // 로그인 사용자는 이미 받은 질문을 제외 (토큰 클레임만 사용, DB 조회 없음)
+        Long userId = null;
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            try {
+                userId = jwtService.extractUserId(authorization.substring(7));
+            } catch (RuntimeException e) {
+                userId = null;
+            }
+        }
         
         InterviewDto.GenerateQuestionsResponse response = aiInterviewService.generateInterviewQuestions(
+            userId,
             request.getPosition(),
             request.getInterviewType(),
+            request.getDifficulty(),
             request.getCount()
         );
         
@@ -136,6 +149,7 @@ public class AIInterviewController {
     public static class GenerateQuestionsRequest {
         private String position;
         private String interviewType;
+        private String difficulty;
         private int count = 5; // default value
 
         public GenerateQuestionsRequest() {}
@@ -156,6 +170,14 @@ public class AIInterviewController {
             this.interviewType = interviewType;
         }
 
+        public String getDifficulty() {
+            return difficulty;
+        }
+
+        public void setDifficulty(String difficulty) {
+            this.difficulty = difficulty;
+        }
+
         public int getCount() {
             return count;
         }
@@ -0,0 +1,58 @@
+package org.jbd.backend.ai.domain;
+
+import jakarta.persistence.*;
+import org.jbd.backend.common.entity.BaseEntity;
+
+/**
+ * 챗봇 대화 요약
+ *
+ * 메모리에 유지되는 최근 대화 윈도우 밖으로 밀려난 이전 대화를 세션별로 요약해 저장합니다.
+ */
+@Entity
+@Table(name = "chat_conversation_summaries",
+       uniqueConstraints = @UniqueConstraint(name = "uk_chat_summary_session", columnNames = "session_key"))
+public class ChatConversationSummary extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "summary_id")
+    private Long id;
+
+    @Column(name = "session_key", nullable = false)
+    private String sessionKey;
+
+    @Column(name = "summary", nullable = false, columnDefinition = "TEXT")
+    private String summary;
+
+    @Column(name = "summarized_turns", nullable = false)
+    private int summarizedTurns;
+
+    protected ChatConversationSummary() {}
+
+    public ChatConversationSummary(String sessionKey, String summary, int summarizedTurns) {
+        this.sessionKey = sessionKey;
+        this.summary = summary;
+        this.summarizedTurns = summarizedTurns;
+    }
+
+    public void update(String summary, int summarizedTurns) {
+        this.summary = summary;
+        this.summarizedTurns = summarizedTurns;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getSessionKey() {
+        return sessionKey;
+    }
+
+    public String getSummary() {
+        return summary;
+    }
+
+    public int getSummarizedTurns() {
+        return summarizedTurns;
+    }
+}
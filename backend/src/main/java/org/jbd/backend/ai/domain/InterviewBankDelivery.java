@@ -0,0 +1,53 @@
+package org.jbd.backend.ai.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자에게 제공한 질문 은행 질문 기록 (사용자별 중복 출제 방지)
+ */
+@Entity
+@Table(name = "interview_bank_deliveries",
+       uniqueConstraints = @UniqueConstraint(name = "uk_bank_delivery_user_question",
+               columnNames = {"user_id", "bank_question_id"}))
+public class InterviewBankDelivery {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "delivery_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "bank_question_id", nullable = false)
+    private Long questionId;
+
+    @Column(name = "delivered_at", nullable = false)
+    private LocalDateTime deliveredAt;
+
+    protected InterviewBankDelivery() {}
+
+    public InterviewBankDelivery(Long userId, Long questionId) {
+        this.userId = userId;
+        this.questionId = questionId;
+        this.deliveredAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getQuestionId() {
+        return questionId;
+    }
+
+    public LocalDateTime getDeliveredAt() {
+        return deliveredAt;
+    }
+}
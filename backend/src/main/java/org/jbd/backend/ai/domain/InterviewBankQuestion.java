@@ -0,0 +1,98 @@
+package org.jbd.backend.ai.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 면접 질문 은행에 저장된 생성 질문
+ *
+ * (직무, 면접 유형, 난이도) 풀 단위로 조회되며, 같은 풀 안에서 질문 본문 해시로 중복을 막습니다.
+ */
+@Entity
+@Table(name = "interview_bank_questions",
+       uniqueConstraints = @UniqueConstraint(name = "uk_bank_question_pool_hash",
+               columnNames = {"position_key", "interview_type", "question_hash"}),
+       indexes = @Index(name = "idx_bank_question_pool", columnList = "position_key, interview_type, difficulty"))
+public class InterviewBankQuestion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "bank_question_id")
+    private Long id;
+
+    @Column(name = "position_key", nullable = false, length = 100)
+    private String positionKey;
+
+    @Column(name = "interview_type", nullable = false, length = 20)
+    private String interviewType;
+
+    @Column(name = "difficulty", nullable = false, length = 20)
+    private String difficulty;
+
+    @Column(name = "question_text", nullable = false, columnDefinition = "TEXT")
+    private String questionText;
+
+    @Column(name = "question_hash", nullable = false, length = 64)
+    private String questionHash;
+
+    @Column(name = "category", length = 50)
+    private String category;
+
+    /** 줄바꿈으로 구분한 기대 키워드 */
+    @Column(name = "expected_keywords", columnDefinition = "TEXT")
+    private String expectedKeywords;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    protected InterviewBankQuestion() {}
+
+    public InterviewBankQuestion(String positionKey, String interviewType, String difficulty, String questionText,
+                                 String questionHash, String category, String expectedKeywords) {
+        this.positionKey = positionKey;
+        this.interviewType = interviewType;
+        this.difficulty = difficulty;
+        this.questionText = questionText;
+        this.questionHash = questionHash;
+        this.category = category;
+        this.expectedKeywords = expectedKeywords;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getPositionKey() {
+        return positionKey;
+    }
+
+    public String getInterviewType() {
+        return interviewType;
+    }
+
+    public String getDifficulty() {
+        return difficulty;
+    }
+
+    public String getQuestionText() {
+        return questionText;
+    }
+
+    public String getQuestionHash() {
+        return questionHash;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public String getExpectedKeywords() {
+        return expectedKeywords;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
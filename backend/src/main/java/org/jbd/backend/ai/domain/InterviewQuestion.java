@@ -59,12 +59,12 @@ public class InterviewQuestion extends BaseEntity {
     
     public void setFeedback(BigDecimal score, List<String> strengths, List<String> improvements, String suggestion) {
         this.score = score;
-        this.strengths = convertListToJson(strengths);
-        this.improvements = convertListToJson(improvements);
+        this.strengths = toJsonArray(strengths);
+        this.improvements = toJsonArray(improvements);
         this.suggestion = suggestion;
     }
     
-    private String convertListToJson(List<String> list) {
+    public static String toJsonArray(List<String> list) {
         if (list == null || list.isEmpty()) {
             return "[]";
         }
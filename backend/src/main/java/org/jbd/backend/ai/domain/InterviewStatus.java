@@ -2,6 +2,7 @@ package org.jbd.backend.ai.domain;
 
 public enum InterviewStatus {
     IN_PROGRESS("진행중"),
+    EVALUATING("평가중"),
     COMPLETED("완료"),
     CANCELLED("취소");
     
@@ -1,19 +1,53 @@
 package org.jbd.backend.ai.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 public class ChatbotDto {
 
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class ChatRequest {
         @JsonProperty("user_id")
         private String userId;
         private String message;
+        /** 최근 대화 (오래된 순) */
+        private List<HistoryMessage> history;
+        /** 윈도우 밖으로 밀려난 이전 대화 요약 */
+        private String summary;
+
+        public ChatRequest(String userId, String message) {
+            this.userId = userId;
+            this.message = message;
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class HistoryMessage {
+        /** user 또는 assistant */
+        private String role;
+        private String content;
+    }
+
+    /**
+     * 스트리밍 응답 완료 이벤트
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StreamDone {
+        @JsonProperty("response_time")
+        private double responseTime;
+        private int length;
     }
 
     @Data
@@ -0,0 +1,20 @@
+package org.jbd.backend.ai.repository;
+
+import org.jbd.backend.ai.domain.ChatConversationSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ChatConversationSummaryRepository extends JpaRepository<ChatConversationSummary, Long> {
+
+    Optional<ChatConversationSummary> findBySessionKey(String sessionKey);
+
+    @Modifying
+    @Query("DELETE FROM ChatConversationSummary s WHERE s.sessionKey = :sessionKey")
+    int deleteBySessionKey(@Param("sessionKey") String sessionKey);
+}
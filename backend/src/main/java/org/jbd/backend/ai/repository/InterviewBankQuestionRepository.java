@@ -0,0 +1,44 @@
+package org.jbd.backend.ai.repository;
+
+import org.jbd.backend.ai.domain.InterviewBankQuestion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface InterviewBankQuestionRepository extends JpaRepository<InterviewBankQuestion, Long> {
+
+    // 풀에서 사용자가 아직 받지 않은 질문 ID (난이도가 null이면 전체 난이도)
+    @Query("SELECT q.id FROM InterviewBankQuestion q " +
+           "WHERE q.positionKey = :positionKey AND q.interviewType = :interviewType " +
+           "AND (:difficulty IS NULL OR q.difficulty = :difficulty) " +
+           "AND NOT EXISTS (SELECT d.id FROM InterviewBankDelivery d WHERE d.userId = :userId AND d.questionId = q.id)")
+    List<Long> findUnseenIds(@Param("positionKey") String positionKey,
+                             @Param("interviewType") String interviewType,
+                             @Param("difficulty") String difficulty,
+                             @Param("userId") Long userId);
+
+    @Query("SELECT COUNT(q) FROM InterviewBankQuestion q " +
+           "WHERE q.positionKey = :positionKey AND q.interviewType = :interviewType")
+    long countPool(@Param("positionKey") String positionKey, @Param("interviewType") String interviewType);
+
+    // 풀의 (질문 해시, ID) 목록
+    @Query("SELECT q.questionHash, q.id FROM InterviewBankQuestion q " +
+           "WHERE q.positionKey = :positionKey AND q.interviewType = :interviewType")
+    List<Object[]> findHashIds(@Param("positionKey") String positionKey, @Param("interviewType") String interviewType);
+
+    @Query("SELECT q.id FROM InterviewBankQuestion q " +
+           "WHERE q.positionKey = :positionKey AND q.interviewType = :interviewType AND q.questionHash = :questionHash")
+    Optional<Long> findIdByHash(@Param("positionKey") String positionKey,
+                                @Param("interviewType") String interviewType,
+                                @Param("questionHash") String questionHash);
+
+    // 주어진 질문 중 사용자가 이미 받은 질문 ID
+    @Query("SELECT d.questionId FROM InterviewBankDelivery d WHERE d.userId = :userId AND d.questionId IN :questionIds")
+    List<Long> findDeliveredIds(@Param("userId") Long userId, @Param("questionIds") Collection<Long> questionIds);
+}
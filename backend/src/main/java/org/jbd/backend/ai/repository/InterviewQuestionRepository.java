@@ -0,0 +1,48 @@
+package org.jbd.backend.ai.repository;
+
+import org.jbd.backend.ai.domain.InterviewQuestion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface InterviewQuestionRepository extends JpaRepository<InterviewQuestion, Long> {
+
+    // 답변은 있지만 아직 점수가 없는 질문 (평가 대기)
+    @Query("SELECT q.id AS id, q.questionText AS questionText, q.answer AS answer, i.jobRole AS position " +
+           "FROM InterviewQuestion q JOIN q.interview i " +
+           "WHERE i.id = :interviewId AND q.answer IS NOT NULL AND q.score IS NULL AND q.isDeleted = false " +
+           "ORDER BY q.questionOrder")
+    List<PendingEvaluationView> findPendingEvaluations(@Param("interviewId") Long interviewId);
+
+    @Query("SELECT COUNT(q) FROM InterviewQuestion q " +
+           "WHERE q.interview.id = :interviewId AND q.answer IS NOT NULL AND q.score IS NULL AND q.isDeleted = false")
+    long countPendingEvaluations(@Param("interviewId") Long interviewId);
+
+    @Query("SELECT AVG(q.score) FROM InterviewQuestion q " +
+           "WHERE q.interview.id = :interviewId AND q.score IS NOT NULL AND q.isDeleted = false")
+    Double findAverageScoreByInterviewId(@Param("interviewId") Long interviewId);
+
+    // 평가 결과 기록 (이미 점수가 있으면 갱신하지 않아 재시도/중복 실행에도 안전)
+    @Modifying
+    @Query("UPDATE InterviewQuestion q SET q.score = :score, q.strengths = :strengths, " +
+           "q.improvements = :improvements, q.suggestion = :suggestion " +
+           "WHERE q.id = :questionId AND q.score IS NULL")
+    int recordEvaluation(@Param("questionId") Long questionId,
+                         @Param("score") BigDecimal score,
+                         @Param("strengths") String strengths,
+                         @Param("improvements") String improvements,
+                         @Param("suggestion") String suggestion);
+
+    interface PendingEvaluationView {
+        Long getId();
+        String getQuestionText();
+        String getAnswer();
+        String getPosition();
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -62,4 +63,25 @@ public interface InterviewRepository extends JpaRepository<Interview, Long> {
 
     @Query("SELECT AVG(i.overallScore) FROM Interview i WHERE i.status = :status AND i.isDeleted = false")
     Double findAverageScoreByStatus(@Param("status") InterviewStatus status);
-}
\ No newline at end of file
+
+    // 평가가 끝나지 않은 면접 ID (재개 대상)
+    @Query("SELECT i.id FROM Interview i WHERE i.status = :status AND i.isDeleted = false " +
+           "AND i.createdAt >= :createdAfter ORDER BY i.id")
+    List<Long> findIdsByStatusCreatedAfter(@Param("status") InterviewStatus status,
+                                           @Param("createdAfter") LocalDateTime createdAfter);
+
+    // 재개 기한이 지난 면접 ID
+    @Query("SELECT i.id FROM Interview i WHERE i.status = :status AND i.isDeleted = false " +
+           "AND i.createdAt < :createdBefore ORDER BY i.id")
+    List<Long> findIdsByStatusCreatedBefore(@Param("status") InterviewStatus status,
+                                            @Param("createdBefore") LocalDateTime createdBefore);
+
+    /**
+     * 지원자 순위 계산용: [userId, 평균 면접 점수]
+     */
+    @Query("SELECT i.user.id, AVG(i.overallScore) FROM Interview i " +
+           "WHERE i.user.id IN :userIds AND i.status = :status AND i.isDeleted = false AND i.overallScore IS NOT NULL " +
+           "GROUP BY i.user.id")
+    List<Object[]> findAverageScoresByUserIdIn(@Param("userIds") Collection<Long> userIds,
+                                               @Param("status") InterviewStatus status);
+}
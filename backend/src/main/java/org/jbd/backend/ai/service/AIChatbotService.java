@@ -4,14 +4,32 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jbd.backend.ai.client.AIServiceClient;
 import org.jbd.backend.ai.dto.ChatbotDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.time.Duration;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AIChatbotService {
 
+    private static final String STREAM_ERROR_MESSAGE = "챗봇 서비스와 통신 중 오류가 발생했습니다.";
+
     private final AIServiceClient aiServiceClient;
+    private final ChatConversationStore conversationStore;
+
+    @Value("${app.ai.chatbot.stream-timeout-ms:120000}")
+    private long streamTimeoutMs;
+
+    /** 업스트림 청크 사이 최대 대기 시간 */
+    @Value("${app.ai.chatbot.stream-idle-timeout-ms:30000}")
+    private long streamIdleTimeoutMs;
 
     /**
      * 사용자와 AI 챗봇 간의 대화 처리
@@ -20,15 +38,60 @@ public class AIChatbotService {
         log.info("Processing chat for user: {} with message: {}", userId, message.substring(0, Math.min(50, message.length())));
         
         // 메시지 유효성 검증
-        if (message == null || message.trim().isEmpty()) {
-            return createValidationErrorResponse("메시지를 입력해주세요.");
+        String validationError = validateMessage(message);
+        if (validationError != null) {
+            return createValidationErrorResponse(validationError);
         }
 
-        if (message.length() > 1000) {
-            return createValidationErrorResponse("메시지는 1000자 이하로 입력해주세요.");
+        String question = message.trim();
+        ChatbotDto.ChatResponse response = aiServiceClient.chatWithBot(createChatRequest(userId, question));
+        if (response != null && response.isSuccess() && response.getData() != null) {
+            conversationStore.append(userId, question, response.getData().getResponse());
         }
+        return response;
+    }
 
-        return aiServiceClient.chatWithBot(userId, message.trim());
+    /**
+     * 챗봇 응답을 SSE로 스트리밍
+     * 업스트림 청크를 받는 즉시 token 이벤트로 전달하고, 완료되면 done 이벤트 후 대화 기억에 저장
+     */
+    public SseEmitter streamChat(String userId, String message) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        String validationError = validateMessage(message);
+        if (validationError != null) {
+            sendQuietly(emitter, "error", validationError);
+            emitter.complete();
+            return emitter;
+        }
+
+        String question = message.trim();
+        StringBuilder answer = new StringBuilder();
+        long startedAt = System.nanoTime();
+        // 서블릿 출력 쓰기가 네트워크 이벤트 루프를 막지 않도록 별도 스케줄러에서 전송
+        Disposable subscription = aiServiceClient.streamChat(createChatRequest(userId, question))
+                .timeout(Duration.ofMillis(streamIdleTimeoutMs))
+                .publishOn(Schedulers.boundedElastic())
+                .subscribe(
+                        chunk -> {
+                            answer.append(chunk);
+                            send(emitter, "token", chunk);
+                        },
+                        error -> {
+                            log.warn("Chat stream failed for user: {} - {}", userId, error.getMessage());
+                            sendQuietly(emitter, "error", STREAM_ERROR_MESSAGE);
+                            emitter.complete();
+                        },
+                        () -> {
+                            conversationStore.append(userId, question, answer.toString());
+                            double responseTime = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+                            sendQuietly(emitter, "done", new ChatbotDto.StreamDone(responseTime, answer.length()));
+                            emitter.complete();
+                        });
+        // 클라이언트가 연결을 끊으면 업스트림 요청도 취소
+        emitter.onCompletion(subscription::dispose);
+        emitter.onTimeout(subscription::dispose);
+        emitter.onError(error -> subscription.dispose());
+        return emitter;
     }
 
     /**
@@ -49,9 +112,8 @@ public class AIChatbotService {
      * 사용자별 채팅 히스토리 초기화 (로그아웃 시 등)
      */
     public void clearChatHistory(String userId) {
+        conversationStore.clear(userId);
         log.info("Chat history cleared for user: {}", userId);
-        // 실제로는 AI 서비스의 히스토리 삭제 API를 호출해야 함
-        // 현재는 로깅만 수행
     }
 
     /**
@@ -61,6 +123,49 @@ public class AIChatbotService {
         return aiServiceClient.checkAIServiceHealth();
     }
 
+    /**
+     * 메시지 유효성 검증
+     *
+     * @return 오류 메시지 (유효하면 null)
+     */
+    private String validateMessage(String message) {
+        if (message == null || message.trim().isEmpty()) {
+            return "메시지를 입력해주세요.";
+        }
+        if (message.length() > 1000) {
+            return "메시지는 1000자 이하로 입력해주세요.";
+        }
+        return null;
+    }
+
+    /**
+     * 대화 맥락(이전 대화 요약 + 최근 턴)을 포함한 요청 생성
+     */
+    private ChatbotDto.ChatRequest createChatRequest(String userId, String question) {
+        ChatConversationStore.Context context = conversationStore.context(userId);
+        ChatbotDto.ChatRequest request = new ChatbotDto.ChatRequest(userId, question);
+        request.setHistory(context.history().isEmpty() ? null : context.history());
+        request.setSummary(context.summary());
+        return request;
+    }
+
+    private void send(SseEmitter emitter, String name, Object data) {
+        try {
+            MediaType mediaType = data instanceof String ? MediaType.TEXT_PLAIN : MediaType.APPLICATION_JSON;
+            emitter.send(SseEmitter.event().name(name).data(data, mediaType));
+        } catch (IOException e) {
+            throw new IllegalStateException("클라이언트 연결이 종료되었습니다", e);
+        }
+    }
+
+    private void sendQuietly(SseEmitter emitter, String name, Object data) {
+        try {
+            send(emitter, name, data);
+        } catch (IllegalStateException e) {
+            log.debug("Failed to send chat stream event {}: {}", name, e.getMessage());
+        }
+    }
+
     /**
      * 유효한 카테고리인지 확인
      */
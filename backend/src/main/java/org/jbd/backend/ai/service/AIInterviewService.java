@@ -8,6 +8,7 @@ import org.jbd.backend.ai.domain.InterviewQuestion;
 import org.jbd.backend.ai.domain.InterviewStatus;
 import org.jbd.backend.ai.dto.InterviewDto;
 import org.jbd.backend.ai.repository.InterviewRepository;
+import org.jbd.backend.job.service.ApplicantRankingService;
 import org.jbd.backend.user.domain.User;
 import org.jbd.backend.user.repository.UserRepository;
 import org.springframework.data.domain.Page;
@@ -17,6 +18,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 @Service
@@ -27,12 +30,26 @@ public class AIInterviewService {
     private final AIServiceClient aiServiceClient;
     private final InterviewRepository interviewRepository;
     private final UserRepository userRepository;
+    private final InterviewAnswerEvaluator answerEvaluator;
+    private final InterviewQuestionBank questionBank;
+    private final ApplicantRankingService rankingService;
 
     /**
      * 직무별 면접 질문 생성
      */
     public InterviewDto.GenerateQuestionsResponse generateInterviewQuestions(
             String position, String interviewType, int count) {
+        return generateInterviewQuestions(null, position, interviewType, null, count);
+    }
+
+    /**
+     * 직무별 면접 질문 제공 (질문 은행에서 사용자가 받지 않은 질문 우선)
+     *
+     * @param userId 사용자 ID (null이면 중복 출제 방지 없음)
+     * @param difficulty 난이도 (null이면 전체 난이도)
+     */
+    public InterviewDto.GenerateQuestionsResponse generateInterviewQuestions(
+            Long userId, String position, String interviewType, String difficulty, int count) {
         
         log.info("Generating {} interview questions for position: {}, type: {}", count, position, interviewType);
         
@@ -49,7 +66,7 @@ public class AIInterviewService {
             return createValidationErrorResponse("질문 개수는 1개에서 20개 사이로 설정해주세요.");
         }
 
-        return aiServiceClient.generateInterviewQuestions(position.trim(), interviewType, count);
+        return questionBank.getQuestions(userId, position.trim(), interviewType, difficulty, count);
     }
 
     /**
@@ -192,8 +209,11 @@ public class AIInterviewService {
 
     /**
      * 면접 완료 처리 및 데이터베이스 저장
+     *
+     * 피드백 없이 제출된 답변은 저장 후 병렬로 일괄 평가합니다.
+     * 평가는 AI 서비스 호출 동안 트랜잭션을 잡지 않도록 트랜잭션 밖에서 수행하며,
+     * 기한 안에 끝나지 않은 평가는 백그라운드에서 이어서 진행됩니다.
      */
-    @Transactional
     public InterviewDto.CompleteInterviewResponse completeInterview(
             Long userId, InterviewDto.CompleteInterviewRequest request) {
         
@@ -212,18 +232,23 @@ public class AIInterviewService {
                 "junior" // 기본값, 나중에 프론트엔드에서 전달받도록 개선 가능
             );
             
+            // 질문 ID로 답변 색인 (질문마다 답변 목록을 다시 훑지 않도록)
+            Map<String, InterviewDto.AnswerData> answersByQuestionId = new HashMap<>();
+            if (request.getAnswers() != null) {
+                for (InterviewDto.AnswerData answerData : request.getAnswers()) {
+                    answersByQuestionId.putIfAbsent(answerData.getQuestionId(), answerData);
+                }
+            }
+            
             // 질문과 답변 처리
             double totalScore = 0;
             int scoredAnswers = 0;
+            int answeredQuestions = 0;
+            boolean needsEvaluation = false;
             
             for (int i = 0; i < request.getQuestions().size(); i++) {
                 InterviewDto.QuestionData questionData = request.getQuestions().get(i);
-                
-                // 해당 질문에 대한 답변 찾기
-                InterviewDto.AnswerData answerData = request.getAnswers().stream()
-                    .filter(a -> a.getQuestionId().equals(questionData.getId()))
-                    .findFirst()
-                    .orElse(null);
+                InterviewDto.AnswerData answerData = answersByQuestionId.get(questionData.getId());
                 
                 // 면접 질문 엔티티 생성
                 InterviewQuestion question = new InterviewQuestion(
@@ -237,10 +262,11 @@ public class AIInterviewService {
                 // 답변이 있는 경우 설정
                 if (answerData != null) {
                     question.setAnswer(answerData.getAnswer());
+                    answeredQuestions++;
                     
                     // 피드백이 있는 경우 설정
-                    if (answerData.getFeedback() != null) {
-                        InterviewDto.FeedbackData feedback = answerData.getFeedback();
+                    InterviewDto.FeedbackData feedback = answerData.getFeedback();
+                    if (feedback != null) {
                         question.setFeedback(
                             feedback.getScore() != null ? BigDecimal.valueOf(feedback.getScore()) : null,
                             feedback.getStrengths(),
@@ -253,25 +279,47 @@ public class AIInterviewService {
                             scoredAnswers++;
                         }
                     }
+                    if (question.getAnswer() != null && question.getScore() == null) {
+                        needsEvaluation = true;
+                    }
                 }
                 
                 interview.addQuestion(question);
             }
             
-            // 전체 점수 계산
-            BigDecimal overallScore = scoredAnswers > 0 ? 
-                BigDecimal.valueOf(totalScore / scoredAnswers) : BigDecimal.ZERO;
-            
-            // 면접 완료 처리
-            interview.complete(overallScore, null); // 시간은 나중에 프론트엔드에서 전달받도록 개선 가능
+            if (needsEvaluation) {
+                interview.setStatus(InterviewStatus.EVALUATING);
+            } else {
+                // 전체 점수 계산
+                BigDecimal overallScore = scoredAnswers > 0 ? 
+                    BigDecimal.valueOf(totalScore / scoredAnswers) : BigDecimal.ZERO;
+                
+                // 면접 완료 처리
+                interview.complete(overallScore, null); // 시간은 나중에 프론트엔드에서 전달받도록 개선 가능
+            }
             
             // 데이터베이스 저장
             Interview savedInterview = interviewRepository.save(interview);
+            if (needsEvaluation) {
+                // 평가 완료 시 지원자 점수 재계산은 평가기가 수행
+                savedInterview = answerEvaluator.evaluatePending(savedInterview.getId());
+            } else if (savedInterview.getStatus() == InterviewStatus.COMPLETED) {
+                rankingService.rerankUser(savedInterview.getUser().getId());
+            }
+            
+            if (savedInterview.getStatus() != InterviewStatus.COMPLETED) {
+                return new InterviewDto.CompleteInterviewResponse(
+                    true,
+                    "면접이 저장되었습니다. 답변 평가가 진행 중이며 완료되면 면접 이력에서 확인할 수 있습니다.",
+                    new InterviewDto.InterviewResultData(
+                        savedInterview.getId(), null, request.getQuestions().size(), answeredQuestions, null)
+                );
+            }
             
             // 응답 생성
             InterviewDto.InterviewResultData resultData = new InterviewDto.InterviewResultData(
                 savedInterview.getId(),
-                overallScore.doubleValue(),
+                savedInterview.getOverallScore().doubleValue(),
                 savedInterview.getTotalQuestions(),
                 savedInterview.getAnsweredQuestions(),
                 savedInterview.getCompletedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
@@ -0,0 +1,297 @@
+package org.jbd.backend.ai.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.ai.domain.ChatConversationSummary;
+import org.jbd.backend.ai.dto.ChatbotDto;
+import org.jbd.backend.ai.repository.ChatConversationSummaryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 챗봇 대화 기억 저장소
+ *
+ * 세션별 최근 대화는 턴 수와 토큰 예산 안에서 메모리에 유지하고,
+ * 윈도우를 넘어선 오래된 턴은 한 줄 요약으로 접어 DB에 저장합니다.
+ * 유휴 세션이나 세션 수 한도를 넘는 세션은 남은 턴을 요약에 접은 뒤 메모리에서 제거하므로,
+ * 메모리 사용량은 (세션 수 한도 × 토큰 예산)으로 제한됩니다.
+ *
+ * 세션 맵은 접근 순서 LRU 이므로 한도 초과/유휴 세션은 가장 오래 쓰지 않은 쪽부터 바로 찾고,
+ * 저장된 요약 조회와 저장은 맵 잠금 밖에서 세션 잠금으로만 수행합니다.
+ */
+@Slf4j
+@Component
+public class ChatConversationStore {
+
+    private static final int QUESTION_SUMMARY_CHARS = 80;
+    private static final int ANSWER_SUMMARY_CHARS = 120;
+
+    private final ChatConversationSummaryRepository summaryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxTurns;
+    private final int tokenBudget;
+    private final int summaryTokenBudget;
+    private final long idleNanos;
+    private final int maxSessions;
+
+    /** 접근 순서 LRU (자기 자신을 잠금으로 사용, 잠금 안에서는 DB 작업을 하지 않음) */
+    private final Map<String, Conversation> conversations = new LinkedHashMap<>(16, 0.75f, true);
+
+    public ChatConversationStore(ChatConversationSummaryRepository summaryRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.ai.chatbot.history.max-turns:10}") int maxTurns,
+                                 @Value("${app.ai.chatbot.history.token-budget:1500}") int tokenBudget,
+                                 @Value("${app.ai.chatbot.history.summary-token-budget:400}") int summaryTokenBudget,
+                                 @Value("${app.ai.chatbot.history.idle-minutes:30}") long idleMinutes,
+                                 @Value("${app.ai.chatbot.history.max-sessions:10000}") int maxSessions) {
+        this.summaryRepository = summaryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxTurns = maxTurns;
+        this.tokenBudget = tokenBudget;
+        this.summaryTokenBudget = summaryTokenBudget;
+        this.idleNanos = idleMinutes * 60_000_000_000L;
+        this.maxSessions = maxSessions;
+    }
+
+    /**
+     * 다음 요청에 함께 보낼 대화 맥락 (요약 + 최근 턴)
+     */
+    public Context context(String sessionKey) {
+        return withConversation(sessionKey, conversation -> {
+            List<ChatbotDto.HistoryMessage> history = new ArrayList<>(conversation.turns.size() * 2);
+            for (Turn turn : conversation.turns) {
+                history.add(new ChatbotDto.HistoryMessage("user", turn.question()));
+                history.add(new ChatbotDto.HistoryMessage("assistant", turn.answer()));
+            }
+            return new Context(conversation.summary, history);
+        });
+    }
+
+    /**
+     * 완료된 대화 턴 추가 (윈도우를 넘는 오래된 턴은 요약으로 이동)
+     */
+    public void append(String sessionKey, String question, String answer) {
+        withConversation(sessionKey, conversation -> {
+            Turn turn = new Turn(question, answer, estimateTokens(question) + estimateTokens(answer));
+            conversation.turns.addLast(turn);
+            conversation.hotTokens += turn.tokens();
+
+            boolean folded = false;
+            while (conversation.turns.size() > 1
+                    && (conversation.turns.size() > maxTurns || conversation.hotTokens > tokenBudget)) {
+                fold(conversation, conversation.turns.pollFirst());
+                folded = true;
+            }
+            if (folded) {
+                persist(sessionKey, conversation);
+            }
+            return null;
+        });
+        evictOverflow();
+    }
+
+    /**
+     * 세션 대화 기억 삭제 (메모리와 저장된 요약 모두)
+     */
+    public void clear(String sessionKey) {
+        Conversation conversation = lookup(sessionKey);
+        if (conversation != null) {
+            synchronized (conversation) {
+                conversation.retired = true;
+                detach(sessionKey, conversation);
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> summaryRepository.deleteBySessionKey(sessionKey));
+    }
+
+    /**
+     * 세션을 메모리에서 내림 (남은 턴은 요약에 접어 저장)
+     *
+     * 저장이 끝난 뒤에 맵에서 제거하므로, 동시에 다시 적재되는 세션은 항상 최신 요약을 읽습니다.
+     */
+    public void evict(String sessionKey) {
+        Conversation conversation = lookup(sessionKey);
+        if (conversation == null) {
+            return;
+        }
+        synchronized (conversation) {
+            if (conversation.retired) {
+                return;
+            }
+            if (!conversation.turns.isEmpty()) {
+                while (!conversation.turns.isEmpty()) {
+                    fold(conversation, conversation.turns.pollFirst());
+                }
+                persist(sessionKey, conversation);
+            }
+            conversation.retired = true;
+            detach(sessionKey, conversation);
+        }
+    }
+
+    /**
+     * 유휴 세션 정리 (가장 오래 쓰지 않은 세션부터 보고 유휴가 아닌 세션을 만나면 멈춤)
+     */
+    @Scheduled(fixedDelayString = "${app.ai.chatbot.history.evict-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        List<String> idle = new ArrayList<>();
+        synchronized (conversations) {
+            for (Map.Entry<String, Conversation> entry : conversations.entrySet()) {
+                if (now - entry.getValue().lastAccess <= idleNanos) {
+                    break;
+                }
+                idle.add(entry.getKey());
+            }
+        }
+        idle.forEach(this::evict);
+    }
+
+    public int getHotSessionCount() {
+        synchronized (conversations) {
+            return conversations.size();
+        }
+    }
+
+    /**
+     * 토큰 수 근사치: ASCII는 4자당 1토큰, 한글 등 그 외 문자는 1자당 1토큰
+     */
+    static int estimateTokens(String text) {
+        if (text == null) {
+            return 0;
+        }
+        int ascii = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 0x80) {
+                ascii++;
+            } else {
+                other++;
+            }
+        }
+        return other + (ascii + 3) / 4;
+    }
+
+    /**
+     * 세션 잠금 안에서 작업 수행 (작업 도중 내려간 세션이면 새로 적재해 다시 시도)
+     *
+     * 새 세션은 빈 항목을 먼저 맵에 넣고 저장된 요약은 세션 잠금 안에서 읽으므로,
+     * 같은 세션의 동시 요청은 한 번만 조회하고 다른 세션은 조회를 기다리지 않습니다.
+     */
+    private <T> T withConversation(String sessionKey, Function<Conversation, T> action) {
+        while (true) {
+            Conversation conversation;
+            synchronized (conversations) {
+                conversation = conversations.computeIfAbsent(sessionKey, key -> new Conversation());
+            }
+            synchronized (conversation) {
+                if (!conversation.retired) {
+                    if (!conversation.loaded) {
+                        load(sessionKey, conversation);
+                    }
+                    conversation.lastAccess = System.nanoTime();
+                    return action.apply(conversation);
+                }
+            }
+        }
+    }
+
+    private void load(String sessionKey, Conversation conversation) {
+        summaryRepository.findBySessionKey(sessionKey).ifPresent(saved -> {
+            conversation.summary = saved.getSummary();
+            conversation.summarizedTurns = saved.getSummarizedTurns();
+        });
+        conversation.loaded = true;
+    }
+
+    private Conversation lookup(String sessionKey) {
+        synchronized (conversations) {
+            return conversations.get(sessionKey);
+        }
+    }
+
+    private void detach(String sessionKey, Conversation conversation) {
+        synchronized (conversations) {
+            conversations.remove(sessionKey, conversation);
+        }
+    }
+
+    private void fold(Conversation conversation, Turn turn) {
+        conversation.hotTokens -= turn.tokens();
+        conversation.summarizedTurns++;
+        String line = "- Q: " + abbreviate(turn.question(), QUESTION_SUMMARY_CHARS)
+                + " / A: " + abbreviate(turn.answer(), ANSWER_SUMMARY_CHARS);
+        String summary = conversation.summary == null ? line : conversation.summary + "\n" + line;
+        // 요약도 예산을 넘으면 가장 오래된 줄부터 버림
+        while (estimateTokens(summary) > summaryTokenBudget) {
+            int newline = summary.indexOf('\n');
+            if (newline < 0) {
+                break;
+            }
+            summary = summary.substring(newline + 1);
+        }
+        conversation.summary = summary;
+    }
+
+    private void persist(String sessionKey, Conversation conversation) {
+        String summary = conversation.summary;
+        int summarizedTurns = conversation.summarizedTurns;
+        try {
+            transactionTemplate.executeWithoutResult(status -> summaryRepository.findBySessionKey(sessionKey)
+                    .ifPresentOrElse(saved -> saved.update(summary, summarizedTurns),
+                            () -> summaryRepository.save(new ChatConversationSummary(sessionKey, summary, summarizedTurns))));
+        } catch (RuntimeException e) {
+            // 요약 저장 실패는 응답을 막지 않음 (메모리의 요약은 유지됨)
+            log.warn("Failed to persist chat summary for session {}: {}", sessionKey, e.getMessage());
+        }
+    }
+
+    private void evictOverflow() {
+        List<String> overflow = new ArrayList<>();
+        synchronized (conversations) {
+            int count = conversations.size() - maxSessions;
+            for (String sessionKey : conversations.keySet()) {
+                if (overflow.size() >= count) {
+                    break;
+                }
+                overflow.add(sessionKey);
+            }
+        }
+        overflow.forEach(this::evict);
+    }
+
+    private static String abbreviate(String text, int maxChars) {
+        String flattened = text == null ? "" : text.replaceAll("\\s+", " ").trim();
+        return flattened.length() <= maxChars ? flattened : flattened.substring(0, maxChars) + "…";
+    }
+
+    /**
+     * 요청에 실을 대화 맥락
+     */
+    public record Context(String summary, List<ChatbotDto.HistoryMessage> history) {
+    }
+
+    private record Turn(String question, String answer, int tokens) {
+    }
+
+    private static final class Conversation {
+
+        private final Deque<Turn> turns = new ArrayDeque<>();
+        private int hotTokens;
+        private String summary;
+        private int summarizedTurns;
+        private boolean loaded;
+        private boolean retired;
+        private volatile long lastAccess = System.nanoTime();
+    }
+}
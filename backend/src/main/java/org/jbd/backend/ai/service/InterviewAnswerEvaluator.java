@@ -0,0 +1,181 @@
+package org.jbd.backend.ai.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.ai.client.AIServiceClient;
+import org.jbd.backend.ai.domain.Interview;
+import org.jbd.backend.ai.domain.InterviewQuestion;
+import org.jbd.backend.ai.domain.InterviewStatus;
+import org.jbd.backend.ai.dto.InterviewDto;
+import org.jbd.backend.ai.repository.InterviewQuestionRepository;
+import org.jbd.backend.ai.repository.InterviewRepository;
+import org.jbd.backend.job.service.ApplicantRankingService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 면접 답변 일괄 평가기
+ *
+ * 점수가 없는 답변을 공용 스레드 풀로 병렬 평가하고(동시 실행 수 제한),
+ * 평가가 끝날 때마다 해당 질문의 점수를 바로 저장합니다.
+ * 면접별 기한 안에 끝나지 않은 답변은 평가 대기 상태로 남아, 주기적인 재개 작업이
+ * 남은 답변만 다시 평가합니다. 모든 답변이 평가되면 면접을 완료 처리합니다.
+ */
+@Slf4j
+@Component
+public class InterviewAnswerEvaluator {
+
+    private final AIServiceClient aiServiceClient;
+    private final InterviewRepository interviewRepository;
+    private final InterviewQuestionRepository questionRepository;
+    private final ApplicantRankingService rankingService;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final long deadlineMs;
+    private final long abandonAfterMinutes;
+
+    /** 평가 중인 면접 (요청 처리와 재개 작업의 중복 실행 방지) */
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    public InterviewAnswerEvaluator(AIServiceClient aiServiceClient,
+                                    InterviewRepository interviewRepository,
+                                    InterviewQuestionRepository questionRepository,
+                                    ApplicantRankingService rankingService,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${app.ai.interview.evaluation.concurrency:8}") int concurrency,
+                                    @Value("${app.ai.interview.evaluation.deadline-ms:20000}") long deadlineMs,
+                                    @Value("${app.ai.interview.evaluation.abandon-after-minutes:1440}") long abandonAfterMinutes) {
+        this.aiServiceClient = aiServiceClient;
+        this.interviewRepository = interviewRepository;
+        this.questionRepository = questionRepository;
+        this.rankingService = rankingService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.deadlineMs = deadlineMs;
+        this.abandonAfterMinutes = abandonAfterMinutes;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "interview-eval-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 평가 대기 중인 답변을 기한 안에서 병렬 평가
+     *
+     * @return 평가 후 면접 상태 (기한 내에 모두 평가되면 완료)
+     */
+    public Interview evaluatePending(Long interviewId) {
+        if (!running.add(interviewId)) {
+            return findInterview(interviewId);
+        }
+        try {
+            List<InterviewQuestionRepository.PendingEvaluationView> pending =
+                    questionRepository.findPendingEvaluations(interviewId);
+            if (!pending.isEmpty()) {
+                evaluateWithDeadline(interviewId, pending);
+            }
+            if (questionRepository.countPendingEvaluations(interviewId) == 0) {
+                return finish(interviewId);
+            }
+            return findInterview(interviewId);
+        } finally {
+            running.remove(interviewId);
+        }
+    }
+
+    /**
+     * 기한이 지난 평가 중 면접 재개 (재개 기한을 넘긴 면접은 평가된 답변만으로 완료)
+     */
+    @Scheduled(fixedDelayString = "${app.ai.interview.evaluation.resume-interval-ms:60000}")
+    public void resumePending() {
+        LocalDateTime abandonBefore = LocalDateTime.now().minusMinutes(abandonAfterMinutes);
+        for (Long interviewId : interviewRepository.findIdsByStatusCreatedBefore(InterviewStatus.EVALUATING, abandonBefore)) {
+            log.warn("Giving up pending answer evaluations for interview {}", interviewId);
+            finish(interviewId);
+        }
+        for (Long interviewId : interviewRepository.findIdsByStatusCreatedAfter(InterviewStatus.EVALUATING, abandonBefore)) {
+            try {
+                evaluatePending(interviewId);
+            } catch (RuntimeException e) {
+                log.error("Failed to resume answer evaluation for interview {}", interviewId, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void evaluateWithDeadline(Long interviewId, List<InterviewQuestionRepository.PendingEvaluationView> pending) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+        List<Future<?>> futures = new ArrayList<>(pending.size());
+        for (InterviewQuestionRepository.PendingEvaluationView question : pending) {
+            futures.add(executor.submit(() -> evaluateAndRecord(question)));
+        }
+        int unfinished = 0;
+        for (Future<?> future : futures) {
+            try {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                // 기한 초과: 아직 시작하지 않은 평가는 취소하고 다음 재개 때 이어서 평가
+                future.cancel(true);
+                unfinished++;
+            } catch (ExecutionException e) {
+                unfinished++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                return;
+            }
+        }
+        if (unfinished > 0) {
+            log.info("Interview {} has {} answer evaluations left after deadline", interviewId, unfinished);
+        }
+    }
+
+    private void evaluateAndRecord(InterviewQuestionRepository.PendingEvaluationView question) {
+        InterviewDto.EvaluateAnswerResponse response =
+                aiServiceClient.evaluateAnswer(question.getQuestionText(), question.getAnswer(), question.getPosition());
+        if (response == null || !response.isSuccess() || response.getData() == null) {
+            throw new IllegalStateException("답변 평가에 실패했습니다: " + (response != null ? response.getMessage() : null));
+        }
+        InterviewDto.EvaluationData data = response.getData();
+        transactionTemplate.executeWithoutResult(status -> questionRepository.recordEvaluation(
+                question.getId(),
+                BigDecimal.valueOf(data.getScore()),
+                InterviewQuestion.toJsonArray(data.getStrengths()),
+                InterviewQuestion.toJsonArray(data.getImprovements()),
+                data.getFeedback()));
+    }
+
+    private Interview finish(Long interviewId) {
+        return transactionTemplate.execute(status -> {
+            Interview interview = interviewRepository.findById(interviewId)
+                    .orElseThrow(() -> new IllegalArgumentException("면접을 찾을 수 없습니다."));
+            if (interview.getStatus() == InterviewStatus.EVALUATING) {
+                Double average = questionRepository.findAverageScoreByInterviewId(interviewId);
+                interview.complete(average != null ? BigDecimal.valueOf(average) : BigDecimal.ZERO, null);
+                rankingService.rerankUser(interview.getUser().getId());
+            }
+            return interview;
+        });
+    }
+
+    private Interview findInterview(Long interviewId) {
+        return interviewRepository.findById(interviewId)
+                .orElseThrow(() -> new IllegalArgumentException("면접을 찾을 수 없습니다."));
+    }
+}
@@ -0,0 +1,334 @@
+package org.jbd.backend.ai.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.ai.client.AIServiceClient;
+import org.jbd.backend.ai.domain.InterviewBankQuestion;
+import org.jbd.backend.ai.dto.InterviewDto;
+import org.jbd.backend.ai.repository.InterviewBankQuestionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 면접 질문 은행
+ *
+ * AI 서비스가 생성한 질문을 (직무, 면접 유형, 난이도) 풀로 저장해 두고,
+ * 면접 시작 시 사용자가 아직 받지 않은 질문을 무작위로 뽑아 DB 조회만으로 응답합니다.
+ * 사용자에게 남은 미출제 질문이 하한선 아래로 내려가면 백그라운드에서 풀을 보충하며
+ * (풀 단위 단일 실행, 풀 크기 상한 유지), 미출제 질문이 부족할 때만 AI 서비스를 직접 호출합니다.
+ *
+ * AI 가 생성한 질문도 은행 질문 ID(기존 또는 신규)로 바꾸어 사용자가 이미 받은 질문은 빼고,
+ * 모자라면 은행의 미출제 질문과 한 번 더 생성한 질문으로 채운 뒤 제공한 질문 모두를 출제 기록에 남깁니다.
+ * 풀이 상한에 도달해 저장하지 못한 생성 질문만 출제 기록 없이 제공됩니다.
+ */
+@Slf4j
+@Component
+public class InterviewQuestionBank {
+
+    private static final String ANY_DIFFICULTY = "any";
+    /** 미스 한 번에 AI 서비스를 호출하는 최대 횟수 */
+    private static final int MAX_GENERATE_ATTEMPTS = 2;
+    private static final String INSERT_DELIVERY =
+            "INSERT INTO interview_bank_deliveries (user_id, bank_question_id, delivered_at) VALUES (?, ?, ?)";
+
+    private final AIServiceClient aiServiceClient;
+    private final InterviewBankQuestionRepository questionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int lowWaterMark;
+    private final int refillBatchSize;
+    private final int maxPoolSize;
+    private final ExecutorService refillExecutor;
+
+    private final Set<String> refilling = ConcurrentHashMap.newKeySet();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter refills;
+
+    public InterviewQuestionBank(AIServiceClient aiServiceClient,
+                                 InterviewBankQuestionRepository questionRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.ai.interview.question-bank.low-water-mark:10}") int lowWaterMark,
+                                 @Value("${app.ai.interview.question-bank.refill-batch-size:10}") int refillBatchSize,
+                                 @Value("${app.ai.interview.question-bank.max-pool-size:200}") int maxPoolSize,
+                                 @Value("${app.ai.interview.question-bank.refill-threads:2}") int refillThreads) {
+        this.aiServiceClient = aiServiceClient;
+        this.questionRepository = questionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.lowWaterMark = lowWaterMark;
+        this.refillBatchSize = refillBatchSize;
+        this.maxPoolSize = maxPoolSize;
+        AtomicInteger sequence = new AtomicInteger();
+        this.refillExecutor = new ThreadPoolExecutor(refillThreads, refillThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(64), runnable -> {
+                    Thread thread = new Thread(runnable, "question-bank-refill-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.hits = Counter.builder("ai.interview.question_bank.lookups").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("ai.interview.question_bank.lookups").tag("result", "miss").register(meterRegistry);
+        this.refills = Counter.builder("ai.interview.question_bank.refills").register(meterRegistry);
+        Gauge.builder("ai.interview.question_bank.hit_ratio", this, InterviewQuestionBank::getHitRate)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 면접 질문 제공 (미출제 질문이 충분하면 은행에서, 아니면 AI 서비스에서 생성 후 은행에 저장)
+     *
+     * @param userId 사용자 ID (null이면 중복 출제 방지 없이 제공)
+     * @param difficulty 난이도 (null이면 전체 난이도)
+     */
+    public InterviewDto.GenerateQuestionsResponse getQuestions(Long userId, String position, String interviewType,
+                                                               String difficulty, int count) {
+        long startedAt = System.nanoTime();
+        String positionKey = normalizePosition(position);
+        String type = interviewType.toLowerCase(Locale.ROOT);
+
+        List<Long> unseen = new ArrayList<>(
+                questionRepository.findUnseenIds(positionKey, type, normalizeDifficulty(difficulty), userId));
+        if (unseen.size() >= count) {
+            hits.increment();
+            Collections.shuffle(unseen, ThreadLocalRandom.current());
+            List<Long> picked = unseen.subList(0, count);
+            Map<Long, InterviewBankQuestion> byId = questionRepository.findAllById(picked).stream()
+                    .collect(Collectors.toMap(InterviewBankQuestion::getId, Function.identity()));
+            recordDeliveries(userId, picked);
+            if (unseen.size() - count < lowWaterMark) {
+                requestRefill(position, positionKey, type);
+            }
+            List<InterviewDto.Question> questions = picked.stream().map(byId::get).filter(Objects::nonNull)
+                    .map(InterviewQuestionBank::toQuestion).toList();
+            double responseTime = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+            return new InterviewDto.GenerateQuestionsResponse(true, "면접 질문을 불러왔습니다.",
+                    new InterviewDto.QuestionsData(questions, position, type, responseTime));
+        }
+
+        misses.increment();
+        InterviewDto.GenerateQuestionsResponse generated =
+                aiServiceClient.generateInterviewQuestions(position, type, count);
+        if (!isUsable(generated)) {
+            return generated;
+        }
+        List<InterviewDto.Question> questions = new ArrayList<>(count);
+        List<Long> picked = new ArrayList<>(count);
+        addUnseen(userId, positionKey, type, generated.getData().getQuestions(), count, questions, picked);
+        if (questions.size() < count) {
+            List<Long> topUp = unseen.stream().filter(id -> !picked.contains(id))
+                    .limit(count - questions.size()).toList();
+            questionRepository.findAllById(topUp).forEach(question -> {
+                picked.add(question.getId());
+                questions.add(toQuestion(question));
+            });
+        }
+        for (int attempt = 1; attempt < MAX_GENERATE_ATTEMPTS && questions.size() < count; attempt++) {
+            InterviewDto.GenerateQuestionsResponse more =
+                    aiServiceClient.generateInterviewQuestions(position, type, count - questions.size());
+            if (isUsable(more)) {
+                addUnseen(userId, positionKey, type, more.getData().getQuestions(), count, questions, picked);
+            }
+        }
+        recordDeliveries(userId, picked);
+        requestRefill(position, positionKey, type);
+        double responseTime = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        return new InterviewDto.GenerateQuestionsResponse(true, generated.getMessage(),
+                new InterviewDto.QuestionsData(questions, position, type, responseTime));
+    }
+
+    public double getHitRate() {
+        double total = hits.count() + misses.count();
+        return total > 0 ? hits.count() / total : 0.0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refillExecutor.shutdownNow();
+        try {
+            refillExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 풀 단위로 한 번에 하나의 보충 작업만 실행
+     */
+    void requestRefill(String position, String positionKey, String type) {
+        String poolKey = positionKey + "|" + type;
+        if (!refilling.add(poolKey)) {
+            return;
+        }
+        try {
+            refillExecutor.execute(() -> {
+                try {
+                    refill(position, positionKey, type);
+                } catch (RuntimeException e) {
+                    log.warn("Question bank refill failed for {}: {}", poolKey, e.getMessage());
+                } finally {
+                    refilling.remove(poolKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refilling.remove(poolKey);
+        }
+    }
+
+    private void refill(String position, String positionKey, String type) {
+        if (questionRepository.countPool(positionKey, type) >= maxPoolSize) {
+            return;
+        }
+        InterviewDto.GenerateQuestionsResponse generated =
+                aiServiceClient.generateInterviewQuestions(position, type, refillBatchSize);
+        if (isUsable(generated)) {
+            long stored = store(positionKey, type, generated.getData().getQuestions()).stream()
+                    .filter(Objects::nonNull).count();
+            refills.increment();
+            log.debug("Refilled question bank {}|{} with {} questions", positionKey, type, stored);
+        }
+    }
+
+    /**
+     * 생성된 질문 중 사용자가 받지 않은 질문을 count 개까지 추가
+     *
+     * @param questions 제공할 질문 (추가됨)
+     * @param picked 제공할 은행 질문 ID (추가됨, 출제 기록 대상)
+     */
+    private void addUnseen(Long userId, String positionKey, String type, List<InterviewDto.Question> generated,
+                           int count, List<InterviewDto.Question> questions, List<Long> picked) {
+        List<Long> ids = store(positionKey, type, generated);
+        List<Long> storedIds = ids.stream().filter(Objects::nonNull).toList();
+        Set<Long> seen = userId == null || storedIds.isEmpty()
+                ? Set.of() : new HashSet<>(questionRepository.findDeliveredIds(userId, storedIds));
+        for (int i = 0; i < generated.size() && questions.size() < count; i++) {
+            InterviewDto.Question question = generated.get(i);
+            Long id = ids.get(i);
+            if (question.getQuestion() == null || question.getQuestion().isBlank()) {
+                continue;
+            }
+            if (id == null) {
+                // 풀 상한으로 저장하지 못한 질문 (은행에 없으므로 이후 은행에서 다시 나오지 않음)
+                questions.add(question);
+            } else if (!seen.contains(id) && !picked.contains(id)) {
+                picked.add(id);
+                questions.add(question);
+            }
+        }
+    }
+
+    /**
+     * 생성된 질문을 풀에 저장하고 질문마다 은행 질문 ID 를 반환 (이미 있는 질문은 기존 ID)
+     * 저장은 미스와 보충 때만 일어나므로 직렬화하여 상한 계산이 경합하지 않도록 함
+     *
+     * @return 입력 순서의 은행 질문 ID (빈 질문이거나 상한을 넘어 저장하지 못한 질문은 null)
+     */
+    private synchronized List<Long> store(String positionKey, String type, List<InterviewDto.Question> questions) {
+        Map<String, Long> existing = new HashMap<>();
+        for (Object[] row : questionRepository.findHashIds(positionKey, type)) {
+            existing.put((String) row[0], (Long) row[1]);
+        }
+        int capacity = maxPoolSize - existing.size();
+        int inserted = 0;
+        List<Long> ids = new ArrayList<>(questions.size());
+        for (InterviewDto.Question question : questions) {
+            if (question.getQuestion() == null || question.getQuestion().isBlank()) {
+                ids.add(null);
+                continue;
+            }
+            String hash = hash(question.getQuestion());
+            Long id = existing.get(hash);
+            if (id == null && inserted < capacity) {
+                id = insert(positionKey, type, question, hash);
+                inserted++;
+                if (id != null) {
+                    existing.put(hash, id);
+                }
+            }
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private Long insert(String positionKey, String type, InterviewDto.Question question, String hash) {
+        try {
+            return questionRepository.save(new InterviewBankQuestion(
+                    positionKey, type, normalizeDifficultyOrAny(question.getDifficulty()),
+                    question.getQuestion().trim(), hash, question.getCategory(),
+                    question.getExpectedKeywords() != null ? String.join("\n", question.getExpectedKeywords()) : null
+            )).getId();
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 같은 질문을 먼저 저장함
+            log.debug("Bank question already stored for {}|{}", positionKey, type);
+            return questionRepository.findIdByHash(positionKey, type, hash).orElse(null);
+        }
+    }
+
+    private void recordDeliveries(Long userId, List<Long> questionIds) {
+        if (userId == null || questionIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            jdbcTemplate.batchUpdate(INSERT_DELIVERY, questionIds, questionIds.size(), (ps, questionId) -> {
+                ps.setLong(1, userId);
+                ps.setLong(2, questionId);
+                ps.setTimestamp(3, now);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 같은 사용자의 동시 요청이 같은 질문을 먼저 기록한 경우
+            log.debug("Question bank delivery already recorded for user {}", userId);
+        }
+    }
+
+    private static boolean isUsable(InterviewDto.GenerateQuestionsResponse response) {
+        return response != null && response.isSuccess() && response.getData() != null
+                && response.getData().getQuestions() != null;
+    }
+
+    private static InterviewDto.Question toQuestion(InterviewBankQuestion question) {
+        List<String> keywords = question.getExpectedKeywords() == null || question.getExpectedKeywords().isEmpty()
+                ? List.of()
+                : List.of(question.getExpectedKeywords().split("\n"));
+        return new InterviewDto.Question(question.getQuestionText(), question.getCategory(),
+                question.getDifficulty(), keywords);
+    }
+
+    static String normalizePosition(String position) {
+        String normalized = position.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return normalized.length() <= 100 ? normalized : normalized.substring(0, 100);
+    }
+
+    private static String normalizeDifficulty(String difficulty) {
+        return difficulty == null || difficulty.isBlank() ? null : difficulty.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String normalizeDifficultyOrAny(String difficulty) {
+        String normalized = normalizeDifficulty(difficulty);
+        return normalized != null && normalized.length() <= 20 ? normalized : ANY_DIFFICULTY;
+    }
+
+    private static String hash(String questionText) {
+        String normalized = questionText.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(normalized.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.jbd.backend.auth.service.JwtService;
+import org.jbd.backend.auth.service.UserPrincipal;
 import org.jbd.backend.user.domain.User;
 import org.jbd.backend.user.repository.UserRepository;
 import org.springframework.lang.NonNull;
@@ -12,8 +13,6 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -25,16 +24,13 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
     private final UserRepository userRepository;
     
     public JwtAuthenticationFilter(
             JwtService jwtService,
-            UserDetailsService userDetailsService,
             UserRepository userRepository
     ) {
         this.jwtService = jwtService;
-        this.userDetailsService = userDetailsService;
         this.userRepository = userRepository;
     }
     
@@ -97,20 +93,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             } else {
                 // Handle regular user authentication
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-
+                // 요청당 한 번만 조회하여 불변 스냅샷을 주체로 보관 (권한 확인 시 재조회하지 않음)
                 User user = userRepository.findByEmailAndIsDeletedFalse(userEmail).orElse(null);
                 if (user != null && jwtService.isTokenValid(jwt, user)) {
 
-                    // 사용자 권한 설정
-                    List<SimpleGrantedAuthority> authorities = List.of(
-                            new SimpleGrantedAuthority("ROLE_" + user.getUserType().name())
-                    );
-
+                    UserPrincipal principal = UserPrincipal.from(user);
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
+                            principal,
                             null,
-                            authorities
+                            principal.getAuthorities()
                     );
 
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -100,6 +100,7 @@ public class AuthenticationService {
         }
     }
     
+    @Transactional(readOnly = true)
     public AuthenticationResponse refreshToken(String refreshToken) {
         try {
             String userEmail = jwtService.extractUsername(refreshToken);
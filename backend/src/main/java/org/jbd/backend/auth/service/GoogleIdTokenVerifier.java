@@ -0,0 +1,251 @@
+package org.jbd.backend.auth.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import org.jbd.backend.auth.dto.OAuth2UserInfo;
+import org.jbd.backend.common.exception.BusinessException;
+import org.jbd.backend.common.exception.ErrorCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Google ID 토큰 로컬 검증기
+ *
+ * Google 공개키(JWKS)를 메모리에 캐시하고 RS256 서명, 발급자, audience, 만료 시간을 직접 검증하므로
+ * 정상 상태의 로그인은 토큰 검증을 위한 네트워크 요청이 없습니다.
+ *
+ * 키 캐시 정책:
+ * - 응답의 Cache-Control max-age(Age 헤더 차감)만큼 유효, 없으면 기본값 사용
+ * - 만료 전에 주기 작업이 미리 갱신
+ * - 모르는 kid가 오면 한 번만 재조회 (동시 요청은 진행 중인 조회 결과를 공유, 최소 간격 제한)
+ * - 조회 실패 시 기존 키를 계속 사용하고 잠시 후 재시도
+ */
+@Component
+public class GoogleIdTokenVerifier {
+
+    private static final Logger log = LoggerFactory.getLogger(GoogleIdTokenVerifier.class);
+
+    private static final Set<String> ISSUERS = Set.of("accounts.google.com", "https://accounts.google.com");
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+    private static final Duration HTTP_TIMEOUT = Duration.ofSeconds(5);
+    private static final long ALLOWED_CLOCK_SKEW_SECONDS = 60;
+
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final URI jwksUri;
+    private final String clientId;
+    private final long defaultMaxAgeMillis;
+    private final long refreshAheadMillis;
+    private final long minRefetchIntervalMillis;
+    private final HttpClient httpClient;
+
+    private volatile KeySet keySet = KeySet.EMPTY;
+    /** 진행 중인 키 조회 (동시 요청은 이 결과를 기다림) */
+    private final AtomicReference<CompletableFuture<KeySet>> inFlight = new AtomicReference<>();
+
+    public GoogleIdTokenVerifier(ObjectMapper objectMapper,
+                                 Clock clock,
+                                 @Value("${app.oauth2.google.jwks-uri:https://www.googleapis.com/oauth2/v3/certs}") String jwksUri,
+                                 @Value("${spring.security.oauth2.client.registration.google.client-id}") String clientId,
+                                 @Value("${app.oauth2.google.jwks-default-max-age-seconds:3600}") long defaultMaxAgeSeconds,
+                                 @Value("${app.oauth2.google.jwks-refresh-ahead-seconds:300}") long refreshAheadSeconds,
+                                 @Value("${app.oauth2.google.jwks-min-refetch-interval-ms:30000}") long minRefetchIntervalMs) {
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.jwksUri = URI.create(jwksUri);
+        this.clientId = clientId;
+        this.defaultMaxAgeMillis = defaultMaxAgeSeconds * 1000L;
+        this.refreshAheadMillis = refreshAheadSeconds * 1000L;
+        this.minRefetchIntervalMillis = minRefetchIntervalMs;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(HTTP_TIMEOUT).build();
+    }
+
+    /**
+     * ID 토큰을 검증하고 클레임을 사용자 정보로 반환
+     *
+     * @throws BusinessException 만료(EXPIRED_OAUTH2_TOKEN) 또는 그 밖의 검증 실패(INVALID_OAUTH2_TOKEN)
+     */
+    public OAuth2UserInfo verify(String idToken) {
+        Claims claims;
+        try {
+            claims = Jwts.parserBuilder()
+                    .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                        @Override
+                        public Key resolveSigningKey(JwsHeader header, Claims body) {
+                            if (!SignatureAlgorithm.RS256.getValue().equals(header.getAlgorithm())) {
+                                throw new UnsupportedJwtException("Unsupported algorithm: " + header.getAlgorithm());
+                            }
+                            return publicKey(header.getKeyId());
+                        }
+                    })
+                    .requireAudience(clientId)
+                    .setAllowedClockSkewSeconds(ALLOWED_CLOCK_SKEW_SECONDS)
+                    .setClock(() -> Date.from(clock.instant()))
+                    .build()
+                    .parseClaimsJws(idToken)
+                    .getBody();
+        } catch (ExpiredJwtException e) {
+            throw new BusinessException(ErrorCode.EXPIRED_OAUTH2_TOKEN);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_OAUTH2_TOKEN);
+        }
+
+        if (!ISSUERS.contains(claims.getIssuer())) {
+            throw new BusinessException(ErrorCode.INVALID_OAUTH2_TOKEN);
+        }
+        return new OAuth2UserInfo(new HashMap<>(claims));
+    }
+
+    /**
+     * 키가 만료 임박이면 미리 갱신 (최초 실행 시 키 적재)
+     */
+    @Scheduled(fixedDelayString = "${app.oauth2.google.jwks-refresh-check-ms:60000}")
+    public void refreshIfStale() {
+        KeySet current = keySet;
+        if (clock.millis() >= current.expiresAt() - refreshAheadMillis) {
+            refresh(current);
+        }
+    }
+
+    private PublicKey publicKey(String kid) {
+        if (kid == null) {
+            throw new UnsupportedJwtException("Missing key id");
+        }
+        KeySet current = keySet;
+        if (clock.millis() >= current.expiresAt()) {
+            current = refresh(current);
+        }
+        PublicKey key = current.keys().get(kid);
+        if (key == null && clock.millis() - current.fetchedAt() >= minRefetchIntervalMillis) {
+            // 키 교체 직후일 수 있으므로 한 번 재조회
+            key = refresh(current).keys().get(kid);
+        }
+        if (key == null) {
+            throw new JwtException("Unknown signing key: " + kid);
+        }
+        return key;
+    }
+
+    /**
+     * 키 재조회 (single-flight)
+     *
+     * observed 이후 다른 요청이 이미 갱신했으면 조회하지 않고 그 결과를 사용합니다.
+     * 조회에 실패하면 기존 키를 유지한 채 최소 재조회 간격 뒤에 다시 시도합니다.
+     */
+    private KeySet refresh(KeySet observed) {
+        CompletableFuture<KeySet> mine = new CompletableFuture<>();
+        CompletableFuture<KeySet> running = inFlight.compareAndExchange(null, mine);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                return keySet;
+            }
+        }
+
+        try {
+            KeySet latest = keySet;
+            if (latest != observed) {
+                mine.complete(latest);
+                return latest;
+            }
+            KeySet fetched;
+            try {
+                fetched = fetch();
+            } catch (Exception e) {
+                log.warn("Google JWKS fetch failed, keeping {} cached keys: {}", latest.keys().size(), e.getMessage());
+                long now = clock.millis();
+                fetched = new KeySet(latest.keys(), now, now + minRefetchIntervalMillis);
+            }
+            keySet = fetched;
+            mine.complete(fetched);
+            return fetched;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.set(null);
+        }
+    }
+
+    private KeySet fetch() throws IOException, InterruptedException, GeneralSecurityException {
+        HttpRequest request = HttpRequest.newBuilder(jwksUri).timeout(HTTP_TIMEOUT).GET().build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("HTTP " + response.statusCode());
+        }
+
+        Map<String, PublicKey> keys = parseKeys(response.body());
+        long maxAgeMillis = response.headers().firstValue("Cache-Control")
+                .map(this::maxAgeMillis)
+                .orElse(defaultMaxAgeMillis);
+        long ageMillis = response.headers().firstValue("Age")
+                .map(age -> Long.parseLong(age.trim()) * 1000L)
+                .orElse(0L);
+        long now = clock.millis();
+        log.debug("Google JWKS loaded: {} keys, valid for {} ms", keys.size(), maxAgeMillis - ageMillis);
+        return new KeySet(keys, now, now + Math.max(0, maxAgeMillis - ageMillis));
+    }
+
+    private Map<String, PublicKey> parseKeys(String body) throws IOException, GeneralSecurityException {
+        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+        Map<String, PublicKey> keys = new HashMap<>();
+        for (JsonNode jwk : objectMapper.readTree(body).path("keys")) {
+            if (!"RSA".equals(jwk.path("kty").asText()) || !jwk.hasNonNull("kid")
+                    || (jwk.hasNonNull("use") && !"sig".equals(jwk.get("use").asText()))
+                    || (jwk.hasNonNull("alg") && !SignatureAlgorithm.RS256.getValue().equals(jwk.get("alg").asText()))) {
+                continue;
+            }
+            BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("n").asText()));
+            BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("e").asText()));
+            keys.put(jwk.get("kid").asText(), keyFactory.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+        }
+        if (keys.isEmpty()) {
+            throw new IOException("No RS256 signing keys in JWKS");
+        }
+        return Map.copyOf(keys);
+    }
+
+    private long maxAgeMillis(String cacheControl) {
+        Matcher matcher = MAX_AGE.matcher(cacheControl);
+        return matcher.find() ? Long.parseLong(matcher.group(1)) * 1000L : defaultMaxAgeMillis;
+    }
+
+    /**
+     * 캐시된 키 집합 (불변)
+     */
+    private record KeySet(Map<String, PublicKey> keys, long fetchedAt, long expiresAt) {
+        static final KeySet EMPTY = new KeySet(Map.of(), 0, 0);
+    }
+}
@@ -34,6 +34,7 @@ public class OAuth2Service {
     private final JwtService jwtService;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final GoogleIdTokenVerifier idTokenVerifier;
     
     @Value("${spring.security.oauth2.client.registration.google.client-id}")
     private String googleClientId;
@@ -41,7 +42,6 @@ public class OAuth2Service {
     @Value("${spring.security.oauth2.client.registration.google.client-secret}")
     private String googleClientSecret;
     
-    private static final String GOOGLE_TOKEN_INFO_URL = "https://www.googleapis.com/oauth2/v3/tokeninfo?id_token=";
     private static final String GOOGLE_USER_INFO_URL = "https://www.googleapis.com/oauth2/v2/userinfo";
     private static final String GOOGLE_TOKEN_URL = "https://oauth2.googleapis.com/token";
     
@@ -50,13 +50,15 @@ public class OAuth2Service {
             UserProfileRepository userProfileRepository,
             JwtService jwtService,
             RestTemplate restTemplate,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            GoogleIdTokenVerifier idTokenVerifier
     ) {
         this.userRepository = userRepository;
         this.userProfileRepository = userProfileRepository;
         this.jwtService = jwtService;
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
+        this.idTokenVerifier = idTokenVerifier;
     }
     
     public AuthenticationResponse authenticateWithGoogle(OAuth2LoginRequest request) {
@@ -84,32 +86,8 @@ public class OAuth2Service {
     
     private OAuth2UserInfo verifyGoogleIdToken(String idToken) {
         try {
-            // Google의 tokeninfo 엔드포인트를 사용하여 토큰 검증
-            String url = GOOGLE_TOKEN_INFO_URL + idToken;
-            ResponseEntity<Map> response = restTemplate.getForEntity(url, Map.class);
-            
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                throw new BusinessException(ErrorCode.INVALID_OAUTH2_TOKEN);
-            }
-            
-            Map<String, Object> tokenInfo = response.getBody();
-            
-            // 토큰의 audience(aud) 확인
-            String audience = (String) tokenInfo.get("aud");
-            if (!googleClientId.equals(audience)) {
-                throw new BusinessException(ErrorCode.INVALID_OAUTH2_TOKEN);
-            }
-            
-            // 토큰 만료 확인
-            String exp = (String) tokenInfo.get("exp");
-            if (exp != null) {
-                long expTime = Long.parseLong(exp);
-                if (System.currentTimeMillis() / 1000 > expTime) {
-                    throw new BusinessException(ErrorCode.EXPIRED_OAUTH2_TOKEN);
-                }
-            }
-            
-            return new OAuth2UserInfo(tokenInfo);
+            // 캐시된 Google 공개키로 서명/audience/만료를 로컬 검증 (네트워크 요청 없음)
+            return idTokenVerifier.verify(idToken);
             
         } catch (Exception e) {
             throw new BusinessException(ErrorCode.OAUTH2_AUTHENTICATION_FAILED);
@@ -254,8 +232,11 @@ public class OAuth2Service {
             // Step 2: Exchange authorization code for access token
             Map<String, Object> tokenResponse = exchangeCodeForToken(code, redirectUri);
             
-            // Step 3: Get user info using access token
-            OAuth2UserInfo userInfo = getUserInfoFromGoogle((String) tokenResponse.get("access_token"));
+            // Step 3: Get user info from the ID token (userinfo API only if it is missing)
+            String idToken = (String) tokenResponse.get("id_token");
+            OAuth2UserInfo userInfo = idToken != null
+                    ? idTokenVerifier.verify(idToken)
+                    : getUserInfoFromGoogle((String) tokenResponse.get("access_token"));
             
             // Step 4: Handle login vs signup
             User user;
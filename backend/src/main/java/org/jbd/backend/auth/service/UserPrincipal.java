@@ -0,0 +1,82 @@
+package org.jbd.backend.auth.service;
+
+import org.jbd.backend.common.security.UserSnapshot;
+import org.jbd.backend.user.domain.User;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JWT 인증 주체
+ *
+ * 요청마다 인증 필터에서 한 번 조회한 사용자로 만든 불변 스냅샷을 보관합니다.
+ * 기존 UserDetails 기반 코드(@AuthenticationPrincipal UserDetails)와 호환되며,
+ * 권한 확인과 컨트롤러는 current()로 사용자를 다시 조회하지 않고 스냅샷을 사용합니다.
+ */
+public class UserPrincipal implements UserDetails {
+
+    private final UserSnapshot snapshot;
+    private final List<GrantedAuthority> authorities;
+
+    public UserPrincipal(UserSnapshot snapshot) {
+        this.snapshot = snapshot;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + snapshot.userType().name()));
+    }
+
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(UserSnapshot.from(user));
+    }
+
+    /**
+     * 현재 요청의 인증 사용자 스냅샷 (인증되지 않았거나 관리자 토큰이면 빈 값)
+     */
+    public static Optional<UserSnapshot> current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return Optional.of(principal.snapshot);
+        }
+        return Optional.empty();
+    }
+
+    public UserSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public Long getId() {
+        return snapshot.id();
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    /**
+     * 토큰 인증 주체이므로 비밀번호를 보관하지 않음
+     */
+    @Override
+    public String getPassword() {
+        return "";
+    }
+
+    @Override
+    public String getUsername() {
+        return snapshot.email();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return !snapshot.deleted();
+    }
+
+    @Override
+    public String toString() {
+        return "UserPrincipal[id=" + snapshot.id() + ", userType=" + snapshot.userType() + "]";
+    }
+}
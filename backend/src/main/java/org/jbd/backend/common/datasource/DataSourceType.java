@@ -0,0 +1,9 @@
+package org.jbd.backend.common.datasource;
+
+/**
+ * 읽기/쓰기 분리 시 커넥션을 가져올 대상 풀
+ */
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,121 @@
+package org.jbd.backend.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션을 읽기 복제본으로 보내는 DataSource
+ *
+ * 커넥션을 실제로 가져오는 시점의 트랜잭션 속성으로 대상을 정하므로, 트랜잭션 시작 후 첫 SQL 까지 커넥션 획득을
+ * 미루는 LazyConnectionDataSourceProxy 로 감싸서 사용해야 합니다.
+ * 같은 HTTP 요청에서 쓰기 트랜잭션이 한 번이라도 열리면 이후 읽기도 주 DB로 보내 방금 쓴 내용을 읽을 수 있게 하고,
+ * 복제본이 지연/장애 상태이거나 커넥션 획득에 실패하면 주 DB를 사용합니다.
+ * 라우팅 결정은 Micrometer 카운터(jbd.datasource.routing, target/reason 태그)로 기록합니다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    /** 요청 범위에서 주 DB 고정 여부를 담는 속성 이름 */
+    static final String PRIMARY_PINNED_ATTRIBUTE = ReadWriteRoutingDataSource.class.getName() + ".PRIMARY_PINNED";
+
+    enum Route {
+        READ_ONLY(DataSourceType.REPLICA),
+        READ_WRITE(DataSourceType.PRIMARY),
+        NO_TRANSACTION(DataSourceType.PRIMARY),
+        PINNED(DataSourceType.PRIMARY),
+        REPLICA_UNAVAILABLE(DataSourceType.PRIMARY),
+        REPLICA_FAILOVER(DataSourceType.PRIMARY);
+
+        private final DataSourceType target;
+
+        Route(DataSourceType target) {
+            this.target = target;
+        }
+
+        DataSourceType target() {
+            return target;
+        }
+    }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaHealthMonitor replicaHealth;
+    private final Map<Route, Counter> routed = new EnumMap<>(Route.class);
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaHealthMonitor replicaHealth,
+                                      MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.replicaHealth = replicaHealth;
+        for (Route route : Route.values()) {
+            routed.put(route, Counter.builder("jbd.datasource.routing")
+                    .tag("target", route.target().name().toLowerCase(Locale.ROOT))
+                    .tag("reason", route.name().toLowerCase(Locale.ROOT).replace('_', '-'))
+                    .description("Connections acquired through the read/write routing DataSource")
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Route route = determineRoute();
+        if (route.target() == DataSourceType.REPLICA) {
+            try {
+                Connection connection = replica.getConnection();
+                routed.get(route).increment();
+                return connection;
+            } catch (SQLException e) {
+                replicaHealth.markUnavailable(e);
+                route = Route.REPLICA_FAILOVER;
+            }
+        }
+        routed.get(route).increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        routed.get(Route.NO_TRANSACTION).increment();
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * 현재 스레드의 트랜잭션/요청 상태로 라우팅 대상을 결정
+     */
+    Route determineRoute() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Route.NO_TRANSACTION;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            pinToPrimary();
+            return Route.READ_WRITE;
+        }
+        if (isPinnedToPrimary()) {
+            return Route.PINNED;
+        }
+        return replicaHealth.isAvailable() ? Route.READ_ONLY : Route.REPLICA_UNAVAILABLE;
+    }
+
+    private static void pinToPrimary() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(PRIMARY_PINNED_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private static boolean isPinnedToPrimary() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+                && Boolean.TRUE.equals(attributes.getAttribute(PRIMARY_PINNED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+    }
+}
@@ -0,0 +1,113 @@
+package org.jbd.backend.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 읽기 복제본 상태 감시
+ *
+ * 주기적으로 복제 지연을 조회하여 허용치를 넘거나 복제가 멈췄거나 접속에 실패하면 복제본을 사용 불가로 표시하고,
+ * 다음 점검에서 정상으로 확인되면 다시 사용 가능으로 되돌립니다.
+ * 지연 조회 쿼리가 비어 있으면 커넥션 유효성만 확인합니다.
+ */
+public class ReplicaHealthMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaHealthMonitor.class);
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final long maxLagSeconds;
+
+    private volatile boolean available = true;
+    /** 마지막으로 확인한 복제 지연 (초, 확인 불가 시 -1) */
+    private volatile long lagSeconds = -1;
+
+    public ReplicaHealthMonitor(DataSource replica, String lagQuery, String lagColumn, long maxLagSeconds,
+                                MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.maxLagSeconds = maxLagSeconds;
+
+        Gauge.builder("jbd.datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .baseUnit("seconds")
+                .description("Replication lag of the read replica (-1 when unknown)")
+                .register(meterRegistry);
+        Gauge.builder("jbd.datasource.replica.available", this, monitor -> monitor.available ? 1 : 0)
+                .description("Whether read-only transactions are routed to the replica")
+                .register(meterRegistry);
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.check-interval-ms:5000}")
+    public void check() {
+        try (Connection connection = replica.getConnection()) {
+            if (!StringUtils.hasText(lagQuery)) {
+                update(connection.isValid(VALIDATION_TIMEOUT_SECONDS), 0, "커넥션 유효성 확인 실패");
+                return;
+            }
+            Long lag = readLag(connection);
+            if (lag == null) {
+                update(false, -1, "복제가 중지되었습니다");
+            } else {
+                update(lag <= maxLagSeconds, lag, "복제 지연 " + lag + "초가 허용치 " + maxLagSeconds + "초를 넘었습니다");
+            }
+        } catch (SQLException e) {
+            markUnavailable(e);
+        }
+    }
+
+    /**
+     * 커넥션 획득 실패 등으로 복제본을 즉시 사용 불가로 표시 (다음 점검에서 복구 여부 확인)
+     */
+    public void markUnavailable(SQLException cause) {
+        lagSeconds = -1;
+        if (available) {
+            available = false;
+            log.warn("읽기 복제본을 사용할 수 없어 주 DB로 전환합니다: {}", cause.getMessage());
+        }
+    }
+
+    /**
+     * 지연 조회 결과가 없으면(복제 설정이 없는 인스턴스) 지연 0, 지연 값이 NULL 이면(복제 중지) null
+     */
+    private Long readLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                return 0L;
+            }
+            long lag = resultSet.getLong(lagColumn);
+            return resultSet.wasNull() ? null : lag;
+        }
+    }
+
+    private void update(boolean healthy, long lag, String reason) {
+        lagSeconds = lag;
+        if (healthy && !available) {
+            log.info("읽기 복제본이 복구되어 읽기 전용 트랜잭션을 다시 보냅니다 (지연 {}초)", lag);
+        } else if (!healthy && available) {
+            log.warn("읽기 복제본을 사용하지 않습니다: {}", reason);
+        }
+        available = healthy;
+    }
+}
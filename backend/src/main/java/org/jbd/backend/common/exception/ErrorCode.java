@@ -70,7 +70,8 @@ public enum ErrorCode {
     // 비즈니스 로직 관련 에러 (9000번대)
     INVALID_APPLICATION_STATUS("BIZ_001", "잘못된 지원 상태입니다.", 400),
     DUPLICATE_APPLICATION("BIZ_002", "이미 지원한 채용공고입니다.", 409),
-    CERTIFICATE_REQUEST_LIMIT_EXCEEDED("BIZ_003", "증명서 요청 한도를 초과했습니다.", 429);
+    CERTIFICATE_REQUEST_LIMIT_EXCEEDED("BIZ_003", "증명서 요청 한도를 초과했습니다.", 429),
+    CONCURRENT_MODIFICATION("BIZ_004", "다른 요청에 의해 이미 변경되었습니다. 다시 시도해주세요.", 409);
     
     private final String code;
     private final String message;
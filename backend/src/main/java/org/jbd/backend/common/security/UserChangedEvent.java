@@ -0,0 +1,9 @@
+package org.jbd.backend.common.security;
+
+/**
+ * 사용자 권한 관련 정보(유형, 활성/탈퇴 상태) 변경 이벤트
+ *
+ * 커밋 이후 UserSnapshotCache의 해당 사용자 항목을 무효화합니다.
+ */
+public record UserChangedEvent(Long userId) {
+}
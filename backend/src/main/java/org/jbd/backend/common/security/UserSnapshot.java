@@ -0,0 +1,32 @@
+package org.jbd.backend.common.security;
+
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.enums.UserType;
+
+/**
+ * 권한 확인용 사용자 스냅샷 (불변)
+ *
+ * 요청마다 인증 시 한 번 생성되어 SecurityContext의 주체로 보관되며,
+ * 다른 사용자 조회 결과는 UserSnapshotCache에 짧게 보관됩니다.
+ */
+public record UserSnapshot(Long id, String email, UserType userType, boolean active, boolean deleted) {
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(user.getId(), user.getEmail(), user.getUserType(), user.isActive(), user.isDeleted());
+    }
+
+    public boolean isAdmin() {
+        return userType == UserType.ADMIN;
+    }
+
+    public boolean isCompanyUser() {
+        return userType == UserType.COMPANY;
+    }
+
+    /**
+     * 탈퇴/비활성화되지 않은 계정인지 여부
+     */
+    public boolean isEnabled() {
+        return active && !deleted;
+    }
+}
@@ -0,0 +1,80 @@
+package org.jbd.backend.common.security;
+
+import org.jbd.backend.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 다른 사용자 권한 스냅샷 캐시
+ *
+ * 요청 주체가 아닌 사용자의 권한을 확인할 때 사용하며, 스냅샷(없는 사용자 포함)을 짧은 TTL 동안 보관합니다.
+ * 사용자 유형/상태 변경 시 발행되는 UserChangedEvent로 커밋 이후 무효화하고,
+ * 조회 도중 무효화가 일어난 경우에는 결과를 캐시하지 않습니다.
+ * 다른 인스턴스의 변경은 TTL 만료 후 반영됩니다.
+ */
+@Component
+public class UserSnapshotCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final UserRepository userRepository;
+    private final long ttlNanos;
+
+    private final Map<Long, Entry> byUser = new ConcurrentHashMap<>();
+    /** 무효화마다 증가 */
+    private final AtomicLong generation = new AtomicLong();
+
+    public UserSnapshotCache(UserRepository userRepository,
+                             @Value("${app.security.user-snapshot-ttl-seconds:30}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+    }
+
+    public Optional<UserSnapshot> get(Long userId) {
+        Entry entry = byUser.get(userId);
+        if (isFresh(entry)) {
+            return entry.snapshot();
+        }
+        return load(userId);
+    }
+
+    public void invalidate(Long userId) {
+        generation.incrementAndGet();
+        byUser.remove(userId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    private Optional<UserSnapshot> load(Long userId) {
+        long startGeneration = generation.get();
+        Entry loaded = new Entry(userRepository.findById(userId).map(UserSnapshot::from), System.nanoTime());
+        if (generation.get() != startGeneration) {
+            return loaded.snapshot();
+        }
+        if (byUser.size() >= MAX_ENTRIES) {
+            byUser.values().removeIf(entry -> !isFresh(entry));
+        }
+        byUser.put(userId, loaded);
+        // 저장 직전에 무효화된 경우 되돌림
+        if (generation.get() != startGeneration) {
+            byUser.remove(userId, loaded);
+        }
+        return loaded.snapshot();
+    }
+
+    private boolean isFresh(Entry entry) {
+        return entry != null && System.nanoTime() - entry.loadedAt() < ttlNanos;
+    }
+
+    private record Entry(Optional<UserSnapshot> snapshot, long loadedAt) {}
+}
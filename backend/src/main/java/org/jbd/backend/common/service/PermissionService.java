@@ -1,11 +1,12 @@
 package org.jbd.backend.common.service;
 
 import lombok.RequiredArgsConstructor;
+import org.jbd.backend.auth.service.UserPrincipal;
+import org.jbd.backend.common.security.UserSnapshot;
+import org.jbd.backend.common.security.UserSnapshotCache;
 import org.jbd.backend.community.domain.Post;
 import org.jbd.backend.job.domain.JobPosting;
-import org.jbd.backend.user.domain.User;
 import org.jbd.backend.user.domain.enums.UserType;
-import org.jbd.backend.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
 
 /**
@@ -24,6 +25,11 @@ import org.springframework.stereotype.Service;
  * - 채용공고 관리 권한 검증
  * - 관리자 전용 기능 접근 제어
  *
+ * 사용자 조회:
+ * - 요청 주체는 인증 시 만든 스냅샷(UserPrincipal)을 사용하므로 DB를 다시 조회하지 않음
+ * - 다른 사용자는 UserSnapshotCache를 통해 조회
+ * - 탈퇴/비활성화된 계정은 권한이 없음
+ *
  * @author JBD Backend Team
  * @version 1.0
  * @since 2025-09-19
@@ -35,8 +41,8 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class PermissionService {
 
-    /** 사용자 정보 조회를 위한 레포지토리 */
-    private final UserRepository userRepository;
+    /** 요청 주체가 아닌 사용자의 스냅샷 캐시 */
+    private final UserSnapshotCache userSnapshotCache;
 
     /**
      * 게시글 수정 권한을 확인합니다.
@@ -55,7 +61,7 @@ public class PermissionService {
         }
 
         // 사용자 정보 조회
-        User user = userRepository.findById(userId).orElse(null);
+        UserSnapshot user = resolve(userId);
         if (user == null) {
             return false;
         }
@@ -66,7 +72,7 @@ public class PermissionService {
         }
 
         // 관리자는 모든 게시글 수정 가능
-        return user.getUserType() == UserType.ADMIN;
+        return user.isAdmin();
     }
 
     /**
@@ -86,7 +92,7 @@ public class PermissionService {
         }
 
         // 사용자 정보 조회
-        User user = userRepository.findById(userId).orElse(null);
+        UserSnapshot user = resolve(userId);
         if (user == null) {
             return false;
         }
@@ -97,7 +103,7 @@ public class PermissionService {
         }
 
         // 관리자는 모든 게시글 삭제 가능
-        return user.getUserType() == UserType.ADMIN;
+        return user.isAdmin();
     }
 
     /**
@@ -117,7 +123,7 @@ public class PermissionService {
         }
 
         // 사용자 정보 조회
-        User user = userRepository.findById(userId).orElse(null);
+        UserSnapshot user = resolve(userId);
         if (user == null) {
             return false;
         }
@@ -128,7 +134,7 @@ public class PermissionService {
         }
 
         // 관리자는 모든 채용공고 수정 가능
-        return user.getUserType() == UserType.ADMIN;
+        return user.isAdmin();
     }
 
     /**
@@ -148,7 +154,7 @@ public class PermissionService {
         }
 
         // 사용자 정보 조회
-        User user = userRepository.findById(userId).orElse(null);
+        UserSnapshot user = resolve(userId);
         if (user == null) {
             return false;
         }
@@ -159,7 +165,7 @@ public class PermissionService {
         }
 
         // 관리자는 모든 채용공고 삭제 가능
-        return user.getUserType() == UserType.ADMIN;
+        return user.isAdmin();
     }
 
     /**
@@ -179,7 +185,7 @@ public class PermissionService {
         }
 
         // 사용자 정보 조회
-        User user = userRepository.findById(userId).orElse(null);
+        UserSnapshot user = resolve(userId);
         if (user == null) {
             return false;
         }
@@ -190,7 +196,7 @@ public class PermissionService {
         }
 
         // 관리자는 모든 채용공고 관리 가능
-        return user.getUserType() == UserType.ADMIN;
+        return user.isAdmin();
     }
 
     /**
@@ -209,8 +215,8 @@ public class PermissionService {
         }
 
         // 사용자 조회 및 권한 확인
-        User user = userRepository.findById(userId).orElse(null);
-        return user != null && user.getUserType() == UserType.ADMIN;
+        UserSnapshot user = resolve(userId);
+        return user != null && user.userType() == UserType.ADMIN;
     }
 
     /**
@@ -229,7 +235,23 @@ public class PermissionService {
         }
 
         // 사용자 조회 및 권한 확인
-        User user = userRepository.findById(userId).orElse(null);
-        return user != null && user.getUserType() == UserType.COMPANY;
+        UserSnapshot user = resolve(userId);
+        return user != null && user.userType() == UserType.COMPANY;
+    }
+
+    /**
+     * 권한 확인 대상 사용자 스냅샷을 조회합니다.
+     *
+     * 요청 주체 본인이면 인증 시 만든 스냅샷을, 아니면 캐시를 사용합니다.
+     *
+     * @param userId 조회할 사용자 ID
+     * @return 활성 사용자 스냅샷, 없거나 탈퇴/비활성화된 경우 null
+     */
+    private UserSnapshot resolve(Long userId) {
+        UserSnapshot user = UserPrincipal.current()
+                .filter(current -> current.id().equals(userId))
+                .or(() -> userSnapshotCache.get(userId))
+                .orElse(null);
+        return user != null && user.isEnabled() ? user : null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package org.jbd.backend.common.sql;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Hibernate 세션 이벤트로 JDBC 실행 시간을 현재 요청의 기록 범위에 합산
+ *
+ * hibernate.session.events.auto 로 세션마다 생성되므로 상태는 실행 시작 시각뿐입니다.
+ */
+public class SqlSessionEventListener extends BaseSessionEventListener {
+
+    private long executeStart = -1;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        finish();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        finish();
+    }
+
+    private void finish() {
+        if (executeStart >= 0) {
+            SqlStatementRecorder.recordExecution(System.nanoTime() - executeStart);
+            executeStart = -1;
+        }
+    }
+}
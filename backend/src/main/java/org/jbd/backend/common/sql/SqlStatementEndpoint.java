@@ -0,0 +1,35 @@
+package org.jbd.backend.common.sql;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.Map;
+
+/**
+ * 엔드포인트별 요청당 SQL 문 수 히스토그램과 N+1 의심 쿼리 (/actuator/sqlstatements, 관리자 전용 읽기)
+ *
+ * 집계는 재시작 시에만 초기화됩니다.
+ */
+@Endpoint(id = "sqlstatements")
+public class SqlStatementEndpoint {
+
+    private final SqlStatementStats stats;
+
+    public SqlStatementEndpoint(SqlStatementStats stats) {
+        this.stats = stats;
+    }
+
+    @ReadOperation
+    public Map<String, SqlStatementStats.EndpointSnapshot> endpoints() {
+        return stats.snapshot();
+    }
+
+    /**
+     * 특정 엔드포인트 조회 (예: /actuator/sqlstatements/GET%20%2Fapi%2Fposts)
+     */
+    @ReadOperation
+    public SqlStatementStats.EndpointSnapshot endpoint(@Selector String endpoint) {
+        return stats.snapshot().get(endpoint);
+    }
+}
@@ -0,0 +1,58 @@
+package org.jbd.backend.common.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 요청마다 SQL 기록 범위를 열고, 종료 시 엔드포인트별 집계와 N+1 의심 로그를 남김
+ *
+ * 보안 필터(사용자 조회 포함)까지 포함하도록 가장 바깥에 등록합니다.
+ * 엔드포인트는 매핑된 URI 패턴 기준이며 매핑되지 않은 요청은 UNMAPPED 로 묶습니다.
+ */
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementFilter.class);
+
+    private static final String UNMAPPED = "UNMAPPED";
+
+    private final SqlStatementStats stats;
+    private final int nPlusOneThreshold;
+
+    public SqlStatementFilter(SqlStatementStats stats, int nPlusOneThreshold) {
+        this.stats = stats;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        SqlStatementRecorder.Scope scope = SqlStatementRecorder.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            request.setAttribute(SqlStatementRecorder.SCOPE_ATTRIBUTE, scope);
+
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : UNMAPPED;
+            List<String> flagged = stats.record(request.getMethod(), uri, scope, nPlusOneThreshold);
+            for (String shape : flagged) {
+                log.warn("Possible N+1 on {} {}: {} x {}", request.getMethod(), uri,
+                        scope.shapes().get(shape), shape);
+            }
+        }
+    }
+}
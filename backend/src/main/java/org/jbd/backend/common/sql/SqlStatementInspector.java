@@ -0,0 +1,15 @@
+package org.jbd.backend.common.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 모든 SQL 을 현재 요청의 기록 범위에 추가 (SQL 은 변경하지 않음)
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementRecorder.record(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,157 @@
+package org.jbd.backend.common.sql;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 현재 스레드(요청)에서 실행된 SQL 문 기록
+ *
+ * Hibernate StatementInspector / 세션 이벤트가 기록하고, 요청 필터나 테스트가 범위(Scope)를 열고 닫습니다.
+ * SQL 은 리터럴과 IN 목록을 ? 로 바꾼 형태(shape)로 정규화하여 같은 쿼리의 반복을 셉니다.
+ * 범위는 스레드 단위이므로 비동기 작업에서 실행된 SQL 은 포함되지 않으며,
+ * Hibernate 를 거치지 않는 JdbcTemplate 문도 포함되지 않습니다.
+ */
+public final class SqlStatementRecorder {
+
+    /** 요청 종료 후 범위를 담아 두는 요청 속성 (테스트 검증용) */
+    public static final String SCOPE_ATTRIBUTE = SqlStatementRecorder.class.getName() + ".SCOPE";
+
+    /** 범위당 보관하는 최대 shape 수 (초과분은 개수만 집계) */
+    private static final int MAX_SHAPES = 200;
+    private static final int MAX_SHAPE_LENGTH = 1_000;
+    /** Hibernate 는 같은 SQL 문자열을 반복 사용하므로 정규화 결과를 캐시 */
+    private static final int MAX_CACHED_SHAPES = 2_000;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+    private static final Map<String, String> SHAPE_CACHE = new ConcurrentHashMap<>();
+
+    private SqlStatementRecorder() {
+    }
+
+    /**
+     * 기록 범위 시작 (중첩 가능, close 시 이전 범위 복원)
+     */
+    public static Scope begin() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public static Optional<Scope> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    static void record(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            String shape = SHAPE_CACHE.get(sql);
+            if (shape == null) {
+                shape = normalize(sql);
+                if (SHAPE_CACHE.size() < MAX_CACHED_SHAPES) {
+                    SHAPE_CACHE.put(sql, shape);
+                }
+            }
+            scope.add(shape);
+        }
+    }
+
+    static void recordExecution(long nanos) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.previous) {
+            scope.executionNanos += nanos;
+        }
+    }
+
+    /**
+     * SQL 을 비교 가능한 형태로 정규화 (소문자, 리터럴/IN 목록 → ?, 공백 정리)
+     */
+    public static String normalize(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMERIC_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?)");
+        return shape.length() > MAX_SHAPE_LENGTH ? shape.substring(0, MAX_SHAPE_LENGTH) : shape;
+    }
+
+    /**
+     * 기록 범위 (단일 스레드에서만 사용)
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope previous;
+        private final Map<String, Integer> shapes = new LinkedHashMap<>();
+        private int statementCount;
+        private long executionNanos;
+        private boolean closed;
+
+        private Scope(Scope previous) {
+            this.previous = previous;
+        }
+
+        private void add(String shape) {
+            statementCount++;
+            if (shapes.containsKey(shape) || shapes.size() < MAX_SHAPES) {
+                shapes.merge(shape, 1, Integer::sum);
+            }
+            if (previous != null) {
+                previous.add(shape);
+            }
+        }
+
+        public int statementCount() {
+            return statementCount;
+        }
+
+        public long executionNanos() {
+            return executionNanos;
+        }
+
+        /**
+         * shape 별 실행 횟수 (실행 순서)
+         */
+        public Map<String, Integer> shapes() {
+            return Collections.unmodifiableMap(shapes);
+        }
+
+        /**
+         * 같은 shape 이 threshold 번 이상 실행된 N+1 의심 쿼리 (많이 실행된 순)
+         */
+        public List<Map.Entry<String, Integer>> repeatedShapes(int threshold) {
+            return shapes.entrySet().stream()
+                    .filter(entry -> entry.getValue() >= threshold)
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                    .toList();
+        }
+
+        /**
+         * shape 별 횟수를 많은 순으로 나열한 요약 (실패 메시지/로그용)
+         */
+        public String describe() {
+            StringBuilder description = new StringBuilder()
+                    .append(statementCount).append(" statements");
+            shapes.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .forEach(entry -> description.append("\n  ").append(entry.getValue()).append(" x ").append(entry.getKey()));
+            return description.toString();
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package org.jbd.backend.common.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 요청당 SQL 문 수 집계
+ *
+ * 고정 구간 히스토그램과 N+1 의심 shape 을 메모리에 누적하여 actuator sqlstatements 엔드포인트로 제공하고,
+ * 같은 값을 Micrometer 분포(jbd.sql.statements, method/uri 태그)로도 기록합니다.
+ */
+@Component
+public class SqlStatementStats {
+
+    /** 히스토그램 구간 상한 (마지막 구간은 초과분) */
+    static final long[] BUCKET_BOUNDS = {0, 1, 2, 5, 10, 20, 50, 100};
+
+    private static final int MAX_ENDPOINTS = 500;
+    private static final int MAX_SUSPECTS_PER_ENDPOINT = 20;
+    private static final String OVERFLOW_ENDPOINT = "OTHER";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, EndpointStats> byEndpoint = new ConcurrentHashMap<>();
+
+    public SqlStatementStats(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 요청 하나의 기록을 반영하고 이 엔드포인트에서 처음 의심된 shape 을 반환
+     */
+    public List<String> record(String method, String uri, SqlStatementRecorder.Scope scope, int nPlusOneThreshold) {
+        EndpointStats stats = stats(method, uri);
+        stats.add(scope.statementCount(), scope.executionNanos());
+
+        List<Map.Entry<String, Integer>> repeated = scope.repeatedShapes(nPlusOneThreshold);
+        if (repeated.isEmpty()) {
+            return List.of();
+        }
+        stats.suspectRequests.increment();
+        List<String> newlyFlagged = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : repeated) {
+            if (stats.flag(entry.getKey())) {
+                newlyFlagged.add(entry.getKey());
+            }
+        }
+        return newlyFlagged;
+    }
+
+    public Map<String, EndpointSnapshot> snapshot() {
+        Map<String, EndpointSnapshot> snapshot = new TreeMap<>();
+        byEndpoint.forEach((endpoint, stats) -> snapshot.put(endpoint, stats.snapshot()));
+        return snapshot;
+    }
+
+    private EndpointStats stats(String method, String uri) {
+        String endpoint = method + " " + uri;
+        EndpointStats stats = byEndpoint.get(endpoint);
+        if (stats != null) {
+            return stats;
+        }
+        if (byEndpoint.size() >= MAX_ENDPOINTS) {
+            return byEndpoint.computeIfAbsent(OVERFLOW_ENDPOINT, key -> new EndpointStats(summary("OTHER", OVERFLOW_ENDPOINT)));
+        }
+        return byEndpoint.computeIfAbsent(endpoint, key -> new EndpointStats(summary(method, uri)));
+    }
+
+    private DistributionSummary summary(String method, String uri) {
+        return DistributionSummary.builder("jbd.sql.statements")
+                .description("SQL statements executed per HTTP request")
+                .baseUnit("statements")
+                .tag("method", method)
+                .tag("uri", uri)
+                .serviceLevelObjectives(Arrays.stream(BUCKET_BOUNDS).skip(1).asDoubleStream().toArray())
+                .register(meterRegistry);
+    }
+
+    private static final class EndpointStats {
+
+        private final DistributionSummary summary;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder executionNanos = new LongAdder();
+        private final LongAdder suspectRequests = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_BOUNDS.length + 1);
+        private final Map<String, LongAdder> suspects = new ConcurrentHashMap<>();
+
+        private EndpointStats(DistributionSummary summary) {
+            this.summary = summary;
+        }
+
+        private void add(int statementCount, long nanos) {
+            requests.increment();
+            statements.add(statementCount);
+            executionNanos.add(nanos);
+            max.accumulateAndGet(statementCount, Math::max);
+            buckets.incrementAndGet(bucketIndex(statementCount));
+            summary.record(statementCount);
+        }
+
+        /**
+         * @return 이 shape 이 처음 의심된 경우 true
+         */
+        private boolean flag(String shape) {
+            LongAdder count = suspects.get(shape);
+            if (count == null) {
+                if (suspects.size() >= MAX_SUSPECTS_PER_ENDPOINT) {
+                    return false;
+                }
+                LongAdder created = new LongAdder();
+                count = suspects.putIfAbsent(shape, created);
+                if (count == null) {
+                    created.increment();
+                    return true;
+                }
+            }
+            count.increment();
+            return false;
+        }
+
+        private EndpointSnapshot snapshot() {
+            Map<String, Long> histogram = new LinkedHashMap<>();
+            for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+                histogram.put("<=" + BUCKET_BOUNDS[i], buckets.get(i));
+            }
+            histogram.put(">" + BUCKET_BOUNDS[BUCKET_BOUNDS.length - 1], buckets.get(BUCKET_BOUNDS.length));
+
+            Map<String, Long> suspectShapes = new LinkedHashMap<>();
+            suspects.entrySet().stream()
+                    .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> entry) -> entry.getValue().sum()).reversed())
+                    .forEach(entry -> suspectShapes.put(entry.getKey(), entry.getValue().sum()));
+
+            long requestCount = requests.sum();
+            long statementCount = statements.sum();
+            return new EndpointSnapshot(requestCount, statementCount,
+                    requestCount == 0 ? 0 : (double) statementCount / requestCount,
+                    max.get(), histogram, executionNanos.sum() / 1_000_000,
+                    suspectRequests.sum(), suspectShapes);
+        }
+
+        private static int bucketIndex(int statementCount) {
+            for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+                if (statementCount <= BUCKET_BOUNDS[i]) {
+                    return i;
+                }
+            }
+            return BUCKET_BOUNDS.length;
+        }
+    }
+
+    /**
+     * 엔드포인트 집계 (suspectShapes: N+1 의심 shape → 의심된 요청 수)
+     */
+    public record EndpointSnapshot(long requests,
+                                   long statements,
+                                   double averageStatements,
+                                   long maxStatements,
+                                   Map<String, Long> histogram,
+                                   long sqlTimeMillis,
+                                   long suspectRequests,
+                                   Map<String, Long> suspectShapes) {
+    }
+}
@@ -48,6 +48,15 @@ public class CommentController {
         return ResponseEntity.ok(ApiResponse.success("게시글별 댓글 조회 성공", comments));
     }
 
+    @GetMapping("/post/{postId}/thread")
+    public ResponseEntity<ApiResponse<CommentDto.ThreadPage>> getCommentThread(
+            @PathVariable Long postId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CommentDto.ThreadPage page = commentService.getCommentThread(postId, cursor, Math.min(Math.max(size, 1), 100));
+        return ResponseEntity.ok(ApiResponse.success("댓글 스레드 조회 성공", page));
+    }
+
     @GetMapping("/author")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<List<CommentDto.Response>>> getCommentsByAuthor(
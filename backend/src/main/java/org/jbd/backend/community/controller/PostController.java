@@ -7,6 +7,8 @@ import org.jbd.backend.common.dto.ApiResponse;
 import org.jbd.backend.common.service.PermissionService;
 import org.jbd.backend.community.domain.Post;
 import org.jbd.backend.community.dto.PostDto;
+import org.jbd.backend.community.dto.PostLikeDto;
+import org.jbd.backend.community.service.PostLikeService;
 import org.jbd.backend.community.service.PostService;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -37,6 +39,9 @@ public class PostController {
     /** 게시글 비즈니스 로직을 처리하는 서비스 */
     private final PostService postService;
 
+    /** 게시글 좋아요 서비스 */
+    private final PostLikeService postLikeService;
+
     /** JWT 토큰 관리 서비스 */
     private final JwtService jwtService;
 
@@ -222,6 +227,31 @@ public class PostController {
         return ResponseEntity.ok(ApiResponse.success("조회수가 증가되었습니다.", response));
     }
 
+    /**
+     * 게시글 좋아요를 토글합니다.
+     * 좋아요하지 않은 게시글이면 좋아요를, 이미 좋아요한 게시글이면 취소합니다.
+     * 좋아요 수는 주기적으로 일괄 반영되며, 응답에는 반영 대기 중인 증감치를 포함한 값이 담깁니다.
+     *
+     * @param authHeader Authorization 헤더 ("Bearer {token}" 형식)
+     * @param id 게시글 ID
+     * @return ResponseEntity<ApiResponse<PostLikeDto.ToggleResponse>> 토글 후 좋아요 여부와 좋아요 수
+     * @apiNote POST /posts/{id}/like
+     * @see PostLikeDto.ToggleResponse
+     */
+    @PostMapping("/{id}/like")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<PostLikeDto.ToggleResponse>> toggleLike(
+            @RequestHeader("Authorization") String authHeader,
+            @PathVariable Long id) {
+
+        String token = authHeader.substring(7);
+        Long userId = jwtService.extractUserId(token);
+
+        PostLikeDto.ToggleResponse response = postLikeService.toggleLike(id, userId);
+        return ResponseEntity.ok(ApiResponse.success(
+                response.isLiked() ? "좋아요를 눌렀습니다." : "좋아요를 취소했습니다.", response));
+    }
+
     /**
      * 감정 라벨별로 게시글을 조회합니다.
      * AI 감정 분석 결과에 기반하여 긍정적, 부정적, 중립적 게시글들을 필터링합니다.
@@ -5,7 +5,10 @@ import org.jbd.backend.common.entity.BaseEntity;
 import org.jbd.backend.user.domain.User;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_post_parent", columnList = "post_id, parent_comment_id, comment_id"),
+        @Index(name = "idx_comments_root_path", columnList = "root_comment_id, path")
+})
 public class Comment extends BaseEntity {
     
     @Id
@@ -31,6 +34,19 @@ public class Comment extends BaseEntity {
     @Column(name = "like_count", nullable = false)
     private Long likeCount = 0L;
     
+    /**
+     * 스레드 최상위 댓글 ID (최상위 댓글은 자기 자신)
+     */
+    @Column(name = "root_comment_id")
+    private Long rootCommentId;
+    
+    /**
+     * 최상위 댓글부터 자신까지의 ID 경로 (고정 폭 36진수, '/' 구분)
+     * (root_comment_id, path) 순 정렬 시 부모가 항상 자식보다 앞에 옵니다.
+     */
+    @Column(name = "path", length = 500)
+    private String path;
+    
     protected Comment() {}
     
     public Comment(String content, User author, Post post) {
@@ -46,6 +62,33 @@ public class Comment extends BaseEntity {
         this.parentComment = parentComment;
     }
     
+    /**
+     * 저장 후(ID 발급 후) 스레드 위치를 지정
+     */
+    public void assignThreadPosition() {
+        if (this.id == null) {
+            throw new IllegalStateException("저장되지 않은 댓글에는 스레드 위치를 지정할 수 없습니다");
+        }
+        if (parentComment == null) {
+            this.rootCommentId = this.id;
+            this.path = pathSegment(this.id);
+        } else {
+            Long parentRoot = parentComment.getRootCommentId();
+            String parentPath = parentComment.getPath();
+            this.rootCommentId = parentRoot != null ? parentRoot : parentComment.getId();
+            this.path = (parentPath != null ? parentPath : pathSegment(parentComment.getId()))
+                    + "/" + pathSegment(this.id);
+        }
+    }
+    
+    /**
+     * Long 최대값이 13자리이므로 13자리 0 채움 36진수로 문자열 정렬 = 숫자 정렬이 되도록 함
+     */
+    public static String pathSegment(Long id) {
+        String encoded = Long.toString(id, 36);
+        return "0".repeat(13 - encoded.length()) + encoded;
+    }
+    
     public void updateContent(String content) {
         this.content = content;
     }
@@ -88,4 +131,12 @@ public class Comment extends BaseEntity {
     public Long getLikeCount() {
         return likeCount;
     }
+    
+    public Long getRootCommentId() {
+        return rootCommentId;
+    }
+    
+    public String getPath() {
+        return path;
+    }
 }
\ No newline at end of file
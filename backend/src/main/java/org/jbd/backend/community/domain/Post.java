@@ -15,7 +15,7 @@ import org.jbd.backend.user.domain.User;
  * - User (N:1): 게시글 작성자
  * - Category (N:1): 게시글이 속한 카테고리
  * - Comment (1:N): 게시글에 달린 댓글들
- * - PostLike (1:N): 게시글 좋아요 (미구현)
+ * - PostLike (1:N): 게시글 좋아요 (post_likes, PostLikeService에서 관리)
  *
  * 주요 기능:
  * - 조회수 자동 증가: 게시글 조회 시 카운터 증가
@@ -39,7 +39,10 @@ import org.jbd.backend.user.domain.User;
  * @see BaseEntity
  */
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_deleted_created", columnList = "is_deleted, created_at, post_id"),
+        @Index(name = "idx_posts_category_deleted_created", columnList = "category_id, is_deleted, created_at, post_id")
+})
 public class Post extends BaseEntity {
     
     @Id
@@ -64,7 +67,11 @@ public class Post extends BaseEntity {
     @Column(name = "view_count", nullable = false)
     private Long viewCount = 0L;
     
-    @Column(name = "like_count", nullable = false)
+    /**
+     * 좋아요 수는 PostLikeCounter의 델타 플러시(like_count = like_count + ?)로만 갱신합니다.
+     * 엔티티 저장 시 오래된 값으로 덮어쓰지 않도록 UPDATE 대상에서 제외합니다.
+     */
+    @Column(name = "like_count", nullable = false, updatable = false)
     private Long likeCount = 0L;
     
     @Column(name = "is_notice", nullable = false)
@@ -0,0 +1,59 @@
+package org.jbd.backend.community.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 좋아요 엔티티
+ *
+ * 사용자당 게시글마다 한 행만 존재하도록 (post_id, user_id) 유니크 키를 둡니다.
+ * 행의 삽입/삭제는 PostLikeService가 JDBC로 직접 수행하며,
+ * posts.like_count 는 PostLikeCounter가 모아 둔 증감치를 주기적으로 반영합니다.
+ *
+ * @see Post
+ */
+@Entity
+@Table(name = "post_likes",
+       uniqueConstraints = @UniqueConstraint(name = "uk_post_likes_post_user", columnNames = {"post_id", "user_id"}),
+       indexes = @Index(name = "idx_post_likes_user", columnList = "user_id, post_id"))
+public class PostLike {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "post_like_id")
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    protected PostLike() {}
+
+    public PostLike(Long postId, Long userId) {
+        this.postId = postId;
+        this.userId = userId;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
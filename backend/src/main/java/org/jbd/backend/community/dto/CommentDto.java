@@ -88,6 +88,20 @@ public class CommentDto {
             this.updatedAt = comment.getUpdatedAt();
         }
 
+        /**
+         * 프로젝션에서 변환 (작성자 이름은 일괄 조회 결과를 전달받음)
+         */
+        public Response(CommentRow row, String authorName) {
+            this.id = row.getId();
+            this.content = row.getContent();
+            this.authorName = authorName;
+            this.postId = row.getPostId();
+            this.parentCommentId = row.getParentCommentId();
+            this.likeCount = row.getLikeCount();
+            this.createdAt = row.getCreatedAt();
+            this.updatedAt = row.getUpdatedAt();
+        }
+
         public Response(Comment comment, List<Comment> childComments) {
             this(comment);
             this.childComments = childComments.stream()
@@ -167,4 +181,45 @@ public class CommentDto {
             this.updatedAt = updatedAt;
         }
     }
+
+    /**
+     * 최상위 댓글 커서 페이지 (각 최상위 댓글은 childComments에 답글 트리를 포함)
+     */
+    public static class ThreadPage {
+        private List<Response> comments;
+        private boolean hasNext;
+        private Long nextCursor;
+
+        public ThreadPage() {}
+
+        public ThreadPage(List<Response> comments, boolean hasNext, Long nextCursor) {
+            this.comments = comments;
+            this.hasNext = hasNext;
+            this.nextCursor = nextCursor;
+        }
+
+        public List<Response> getComments() {
+            return comments;
+        }
+
+        public void setComments(List<Response> comments) {
+            this.comments = comments;
+        }
+
+        public boolean isHasNext() {
+            return hasNext;
+        }
+
+        public void setHasNext(boolean hasNext) {
+            this.hasNext = hasNext;
+        }
+
+        public Long getNextCursor() {
+            return nextCursor;
+        }
+
+        public void setNextCursor(Long nextCursor) {
+            this.nextCursor = nextCursor;
+        }
+    }
 }
\ No newline at end of file
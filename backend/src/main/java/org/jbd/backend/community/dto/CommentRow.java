@@ -0,0 +1,71 @@
+package org.jbd.backend.community.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 조회용 프로젝션
+ *
+ * CommentRepository의 생성자 표현식으로 생성되며 연관 엔티티 대신 FK 값만 가집니다.
+ * 작성자 이름은 서비스에서 작성자 ID를 모아 한 번의 IN 쿼리로 채웁니다.
+ */
+public class CommentRow {
+
+    private final Long id;
+    private final String content;
+    private final Long authorId;
+    private final Long postId;
+    private final Long parentCommentId;
+    private final Long rootCommentId;
+    private final Long likeCount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public CommentRow(Long id, String content, Long authorId, Long postId, Long parentCommentId,
+                      Long rootCommentId, Long likeCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.content = content;
+        this.authorId = authorId;
+        this.postId = postId;
+        this.parentCommentId = parentCommentId;
+        this.rootCommentId = rootCommentId;
+        this.likeCount = likeCount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public Long getAuthorId() {
+        return authorId;
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public Long getParentCommentId() {
+        return parentCommentId;
+    }
+
+    public Long getRootCommentId() {
+        return rootCommentId;
+    }
+
+    public Long getLikeCount() {
+        return likeCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
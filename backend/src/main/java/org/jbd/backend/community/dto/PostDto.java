@@ -168,6 +168,28 @@ public class PostDto {
             this.updatedAt = post.getUpdatedAt();
         }
 
+        /**
+         * 목록 프로젝션에서 변환 (content에는 본문 발췌가 들어감)
+         */
+        public Response(PostSummary summary) {
+            this.id = summary.getId();
+            this.title = summary.getTitle();
+            this.content = summary.getExcerpt();
+            this.categoryName = summary.getCategoryName();
+            this.categoryId = summary.getCategoryId();
+            this.authorName = summary.getAuthorName();
+            this.authorId = summary.getAuthorId();
+            this.viewCount = summary.getViewCount();
+            this.likeCount = summary.getLikeCount();
+            this.noticePost = summary.getNoticePost();
+            this.pinned = summary.getPinned();
+            this.imageUrl = summary.getImageUrl();
+            this.sentimentScore = summary.getSentimentScore();
+            this.sentimentLabel = summary.getSentimentLabel();
+            this.createdAt = summary.getCreatedAt();
+            this.updatedAt = summary.getUpdatedAt();
+        }
+
         public Long getId() {
             return id;
         }
@@ -320,6 +342,23 @@ public class PostDto {
             this.last = page.isLast();
         }
 
+        /**
+         * 목록 프로젝션 페이지에서 변환
+         */
+        public static PageResponse of(Page<PostSummary> page) {
+            PageResponse response = new PageResponse();
+            response.posts = page.getContent().stream()
+                    .map(Response::new)
+                    .collect(Collectors.toList());
+            response.pageNumber = page.getNumber();
+            response.pageSize = page.getSize();
+            response.totalElements = page.getTotalElements();
+            response.totalPages = page.getTotalPages();
+            response.first = page.isFirst();
+            response.last = page.isLast();
+            return response;
+        }
+
         public List<Response> getPosts() {
             return posts;
         }
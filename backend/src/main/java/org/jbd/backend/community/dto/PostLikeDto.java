@@ -0,0 +1,42 @@
+package org.jbd.backend.community.dto;
+
+public class PostLikeDto {
+
+    public static class ToggleResponse {
+        private Long postId;
+        private boolean liked;
+        private Long likeCount;
+
+        public ToggleResponse() {}
+
+        public ToggleResponse(Long postId, boolean liked, Long likeCount) {
+            this.postId = postId;
+            this.liked = liked;
+            this.likeCount = likeCount;
+        }
+
+        public Long getPostId() {
+            return postId;
+        }
+
+        public void setPostId(Long postId) {
+            this.postId = postId;
+        }
+
+        public boolean isLiked() {
+            return liked;
+        }
+
+        public void setLiked(boolean liked) {
+            this.liked = liked;
+        }
+
+        public Long getLikeCount() {
+            return likeCount;
+        }
+
+        public void setLikeCount(Long likeCount) {
+            this.likeCount = likeCount;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package org.jbd.backend.community.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 조회용 프로젝션
+ *
+ * PostRepository의 생성자 표현식(SELECT new ...)으로 생성되며,
+ * 카테고리명/작성자 이메일/본문 발췌를 한 번의 조인 쿼리로 가져옵니다.
+ * TEXT 본문 전체와 연관 엔티티를 로딩하지 않으므로 목록 변환 시 추가 쿼리가 발생하지 않습니다.
+ */
+public class PostSummary {
+
+    /**
+     * 목록에 노출하는 본문 발췌 길이 (SQL에서는 잘림 여부 판단을 위해 한 글자 더 조회)
+     */
+    public static final int EXCERPT_LENGTH = 200;
+
+    private final Long id;
+    private final String title;
+    private final String excerpt;
+    private final Long categoryId;
+    private final String categoryName;
+    private final Long authorId;
+    private final String authorEmail;
+    private final Long viewCount;
+    private final Long likeCount;
+    private final Boolean noticePost;
+    private final Boolean pinned;
+    private final String imageUrl;
+    private final Double sentimentScore;
+    private final String sentimentLabel;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public PostSummary(Long id, String title, String excerpt, Long categoryId, String categoryName,
+                       Long authorId, String authorEmail, Long viewCount, Long likeCount,
+                       Boolean noticePost, Boolean pinned, String imageUrl,
+                       Double sentimentScore, String sentimentLabel,
+                       LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.excerpt = truncate(excerpt);
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.authorId = authorId;
+        this.authorEmail = authorEmail;
+        this.viewCount = viewCount;
+        this.likeCount = likeCount;
+        this.noticePost = noticePost;
+        this.pinned = pinned;
+        this.imageUrl = imageUrl;
+        this.sentimentScore = sentimentScore;
+        this.sentimentLabel = sentimentLabel;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    private static String truncate(String excerpt) {
+        if (excerpt == null || excerpt.length() <= EXCERPT_LENGTH) {
+            return excerpt;
+        }
+        return excerpt.substring(0, EXCERPT_LENGTH) + "...";
+    }
+
+    /**
+     * 작성자 표시 이름 (User.getName()과 동일하게 이메일 로컬 부분 사용)
+     */
+    public String getAuthorName() {
+        if (authorEmail != null && authorEmail.contains("@")) {
+            return authorEmail.split("@")[0];
+        }
+        return "Unknown User";
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getExcerpt() {
+        return excerpt;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public Long getAuthorId() {
+        return authorId;
+    }
+
+    public String getAuthorEmail() {
+        return authorEmail;
+    }
+
+    public Long getViewCount() {
+        return viewCount;
+    }
+
+    public Long getLikeCount() {
+        return likeCount;
+    }
+
+    public Boolean getNoticePost() {
+        return noticePost;
+    }
+
+    public Boolean getPinned() {
+        return pinned;
+    }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public Double getSentimentScore() {
+        return sentimentScore;
+    }
+
+    public String getSentimentLabel() {
+        return sentimentLabel;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
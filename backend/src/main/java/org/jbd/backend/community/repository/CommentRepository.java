@@ -2,13 +2,25 @@ package org.jbd.backend.community.repository;
 
 import org.jbd.backend.community.domain.Comment;
 import org.jbd.backend.community.domain.Post;
+import org.jbd.backend.community.dto.CommentRow;
 import org.jbd.backend.user.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    /**
+     * 댓글 프로젝션 공통 SELECT 절 (연관 엔티티는 FK 값만 조회)
+     */
+    String ROW_SELECT = "SELECT new org.jbd.backend.community.dto.CommentRow(" +
+            "c.id, c.content, c.author.id, c.post.id, c.parentComment.id, c.rootCommentId, c.likeCount, " +
+            "c.createdAt, c.updatedAt) FROM Comment c ";
+
     List<Comment> findByPostOrderByCreatedAtAsc(Post post);
 
     List<Comment> findByAuthorOrderByCreatedAtDesc(User author);
@@ -20,4 +32,35 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     long countByPost(Post post);
 
     long countByParentComment(Comment parentComment);
-}
\ No newline at end of file
+
+    @Query("SELECT COUNT(c) FROM Comment c WHERE c.post.id = :postId")
+    long countByPostId(@Param("postId") Long postId);
+
+    @Query(ROW_SELECT + "WHERE c.post.id = :postId ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentRow> findRowsByPostId(@Param("postId") Long postId);
+
+    @Query(ROW_SELECT + "WHERE c.parentComment.id = :parentCommentId ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentRow> findRowsByParentCommentId(@Param("parentCommentId") Long parentCommentId);
+
+    @Query(ROW_SELECT + "WHERE c.author.email = :email ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentRow> findRowsByAuthorEmail(@Param("email") String email);
+
+    /**
+     * 게시글의 최상위 댓글 ID를 커서(afterId) 이후로 조회
+     */
+    @Query("SELECT c.id FROM Comment c " +
+           "WHERE c.post.id = :postId AND c.parentComment IS NULL AND c.id > :afterId ORDER BY c.id ASC")
+    List<Long> findRootIdsByPostId(@Param("postId") Long postId, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 최상위 댓글들의 스레드 전체를 (root, path) 순으로 조회 - 부모가 항상 자식보다 먼저 나옴
+     */
+    @Query(ROW_SELECT + "WHERE c.rootCommentId IN :rootIds ORDER BY c.rootCommentId ASC, c.path ASC")
+    List<CommentRow> findThreadRowsByRootIds(@Param("rootIds") Collection<Long> rootIds);
+
+    /**
+     * 스레드 위치가 지정되지 않은 기존 댓글 (ID 순이므로 부모가 먼저 처리됨)
+     */
+    @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.parentComment WHERE c.path IS NULL ORDER BY c.id ASC")
+    List<Comment> findWithoutThreadPosition(Pageable pageable);
+}
@@ -0,0 +1,11 @@
+package org.jbd.backend.community.repository;
+
+import org.jbd.backend.community.domain.PostLike;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
+
+    boolean existsByPostIdAndUserId(Long postId, Long userId);
+
+    long countByPostId(Long postId);
+}
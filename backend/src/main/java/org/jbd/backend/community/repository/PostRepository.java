@@ -2,6 +2,7 @@ package org.jbd.backend.community.repository;
 
 import org.jbd.backend.community.domain.Category;
 import org.jbd.backend.community.domain.Post;
+import org.jbd.backend.community.dto.PostSummary;
 import org.jbd.backend.user.domain.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -14,6 +15,60 @@ import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    /**
+     * 목록 프로젝션 공통 SELECT 절
+     * 본문은 발췌 길이 + 1자만 잘라 가져와 TEXT 전체를 전송하지 않음
+     */
+    String SUMMARY_SELECT = "SELECT new org.jbd.backend.community.dto.PostSummary(" +
+            "p.id, p.title, SUBSTRING(p.content, 1, " + (PostSummary.EXCERPT_LENGTH + 1) + "), " +
+            "c.id, c.name, a.id, a.email, p.viewCount, p.likeCount, p.noticePost, p.pinned, p.imageUrl, " +
+            "p.sentimentScore, p.sentimentLabel, p.createdAt, p.updatedAt) " +
+            "FROM Post p JOIN p.category c JOIN p.author a ";
+
+    String LATEST_FIRST = " ORDER BY p.createdAt DESC, p.id DESC";
+
+    @Query(value = SUMMARY_SELECT + "WHERE p.isDeleted = false" + LATEST_FIRST,
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.isDeleted = false")
+    Page<PostSummary> findSummaries(Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE c.id = :categoryId AND p.isDeleted = false" + LATEST_FIRST,
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.category.id = :categoryId AND p.isDeleted = false")
+    Page<PostSummary> findSummariesByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) AND p.isDeleted = false" + LATEST_FIRST,
+           countQuery = "SELECT COUNT(p) FROM Post p " +
+                        "WHERE LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) AND p.isDeleted = false")
+    Page<PostSummary> searchSummariesByTitle(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE a.email = :email AND p.isDeleted = false" + LATEST_FIRST,
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.author.email = :email AND p.isDeleted = false")
+    Page<PostSummary> findSummariesByAuthorEmail(@Param("email") String email, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE c.id = :categoryId AND p.isDeleted = false ORDER BY p.viewCount DESC, p.id DESC")
+    List<PostSummary> findPopularSummariesByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE p.sentimentLabel = :label AND p.isDeleted = false" + LATEST_FIRST,
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.sentimentLabel = :label AND p.isDeleted = false")
+    Page<PostSummary> findSummariesBySentimentLabel(@Param("label") String sentimentLabel, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE c.id = :categoryId AND p.sentimentLabel = :label AND p.isDeleted = false" + LATEST_FIRST,
+           countQuery = "SELECT COUNT(p) FROM Post p " +
+                        "WHERE p.category.id = :categoryId AND p.sentimentLabel = :label AND p.isDeleted = false")
+    Page<PostSummary> findSummariesByCategoryIdAndSentimentLabel(@Param("categoryId") Long categoryId,
+                                                                 @Param("label") String sentimentLabel,
+                                                                 Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE p.sentimentScore BETWEEN :minScore AND :maxScore AND p.isDeleted = false" + LATEST_FIRST,
+           countQuery = "SELECT COUNT(p) FROM Post p " +
+                        "WHERE p.sentimentScore BETWEEN :minScore AND :maxScore AND p.isDeleted = false")
+    Page<PostSummary> findSummariesBySentimentScoreBetween(@Param("minScore") Double minScore,
+                                                           @Param("maxScore") Double maxScore,
+                                                           Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE p.imageUrl IS NOT NULL AND p.isDeleted = false" + LATEST_FIRST,
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.imageUrl IS NOT NULL AND p.isDeleted = false")
+    Page<PostSummary> findSummariesWithImages(Pageable pageable);
+
     Page<Post> findByIsDeletedFalseOrderByCreatedAtDesc(Pageable pageable);
 
     List<Post> findByCategoryAndIsDeletedFalseOrderByCreatedAtDesc(Category category, Pageable pageable);
@@ -58,4 +113,10 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     @Query("SELECT COUNT(p) FROM Post p WHERE p.isDeleted = false AND p.imageUrl IS NOT NULL")
     Long countPostsWithImages();
-}
\ No newline at end of file
+
+    /**
+     * 좋아요 토글용 현재 좋아요 수 조회 (삭제되지 않은 게시글만, 존재 확인 겸용)
+     */
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :id AND p.isDeleted = false")
+    Optional<Long> findLikeCountById(@Param("id") Long id);
+}
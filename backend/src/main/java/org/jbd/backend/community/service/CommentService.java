@@ -12,6 +12,8 @@ public interface CommentService {
     
     List<CommentDto.Response> getCommentsByPost(Long postId);
     
+    CommentDto.ThreadPage getCommentThread(Long postId, Long cursor, int size);
+    
     List<CommentDto.Response> getCommentsByAuthor(String authorEmail);
     
     CommentDto.Response updateComment(Long id, CommentDto.UpdateRequest request, String authorEmail);
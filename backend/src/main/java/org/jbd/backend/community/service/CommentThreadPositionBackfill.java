@@ -0,0 +1,59 @@
+package org.jbd.backend.community.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.community.domain.Comment;
+import org.jbd.backend.community.repository.CommentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 댓글 스레드 위치(root_comment_id, path) 백필
+ *
+ * 스레드 컬럼 도입 이전에 작성된 댓글은 path가 비어 있어 스레드 조회에 포함되지 않습니다.
+ * 기동 시 ID 순으로 배치 순회하며 위치를 채웁니다. ID 순서이므로 부모가 항상 자식보다 먼저 처리됩니다.
+ */
+@Slf4j
+@Component
+public class CommentThreadPositionBackfill {
+
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.community.thread-backfill.batch-size:500}")
+    private int batchSize;
+
+    public CommentThreadPositionBackfill(CommentRepository commentRepository,
+                                         PlatformTransactionManager transactionManager) {
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int total = 0;
+        try {
+            int processed;
+            do {
+                processed = transactionTemplate.execute(status -> {
+                    List<Comment> comments = commentRepository.findWithoutThreadPosition(PageRequest.of(0, batchSize));
+                    comments.forEach(Comment::assignThreadPosition);
+                    return comments.size();
+                });
+                total += processed;
+            } while (processed == batchSize);
+
+            if (total > 0) {
+                log.info("Comment thread positions backfilled: {} comments", total);
+            }
+        } catch (Exception e) {
+            log.error("Comment thread position backfill failed after {} comments", total, e);
+        }
+    }
+}
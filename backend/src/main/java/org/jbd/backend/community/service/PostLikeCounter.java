@@ -0,0 +1,184 @@
+package org.jbd.backend.community.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 좋아요 수 버퍼
+ *
+ * 좋아요/취소마다 posts 행을 갱신하면 인기 게시글 한 행에 락 대기가 몰리므로,
+ * 게시글별 LongAdder에 증감치를 모아 두었다가 주기적으로 게시글당 한 번의
+ * 델타 업데이트(like_count = like_count + ?)를 JDBC batch로 반영합니다.
+ *
+ * 반영 전 증감치는 getPendingDelta로 조회하여 응답의 좋아요 수에 더할 수 있습니다.
+ * 반영에 실패한 증감치는 버퍼로 되돌려 다음 주기에 재시도합니다.
+ *
+ * 버퍼는 메모리에만 있으므로 비정상 종료 시 반영 전 증감치가 사라질 수 있습니다.
+ * 스케줄러 스레드에서 주기적으로 post_likes 건수 기준으로 like_count 를 보정하며(reconcile),
+ * 이 인스턴스의 미반영 증감치는 빼고 비교합니다. 보정은 기동 준비 완료를 늦추지 않도록 기동 직후에는 실행하지 않습니다. 다른 인스턴스의 미반영 증감치는 알 수 없으므로
+ * 그로 인한 차이는 다음 보정에서 다시 맞춰집니다.
+ */
+@Slf4j
+@Component
+public class PostLikeCounter {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int RECONCILE_BATCH_SIZE = 1000;
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public PostLikeCounter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void add(Long postId, long delta) {
+        while (true) {
+            LongAdder adder = pending.computeIfAbsent(postId, id -> new LongAdder());
+            adder.add(delta);
+            if (pending.get(postId) == adder) {
+                return;
+            }
+            // 플러시가 유휴 항목을 제거한 직후 더한 경우: 되돌리고 새 항목에 다시 반영
+            adder.add(-delta);
+        }
+    }
+
+    public long getPendingDelta(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    @Scheduled(initialDelayString = "${app.community.like-flush.interval-ms:1000}",
+               fixedDelayString = "${app.community.like-flush.interval-ms:1000}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Post like count flush failed", e);
+        }
+    }
+
+    /**
+     * 모인 증감치를 posts.like_count 에 반영
+     *
+     * @return 갱신한 게시글 수
+     */
+    public synchronized int flush() {
+        List<long[]> deltas = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta != 0) {
+                deltas.add(new long[]{entry.getKey(), delta});
+            } else {
+                // 이번 주기에 변화가 없는 게시글은 버퍼에서 제거하여 메모리를 제한
+                pending.computeIfPresent(entry.getKey(), (id, adder) -> adder.sum() == 0 ? null : adder);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            // 일부만 반영된 뒤 실패하여 재시도 시 중복 반영되지 않도록 한 트랜잭션으로 적용
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    "UPDATE posts SET like_count = GREATEST(like_count + ?, 0) WHERE post_id = ?",
+                    deltas, BATCH_SIZE, (ps, delta) -> {
+                        ps.setLong(1, delta[1]);
+                        ps.setLong(2, delta[0]);
+                    }));
+        } catch (RuntimeException e) {
+            deltas.forEach(delta -> add(delta[0], delta[1]));
+            throw e;
+        }
+        log.debug("Flushed like count deltas for {} posts", deltas.size());
+        return deltas.size();
+    }
+
+    @Scheduled(initialDelayString = "${app.community.like-reconcile.initial-delay-ms:60000}",
+               fixedDelayString = "${app.community.like-reconcile.interval-ms:3600000}")
+    public void scheduledReconcile() {
+        try {
+            int corrected = reconcile();
+            if (corrected > 0) {
+                log.warn("Post like counts reconciled from post_likes: {} posts corrected", corrected);
+            }
+        } catch (Exception e) {
+            log.error("Post like count reconciliation failed", e);
+        }
+    }
+
+    /**
+     * posts.like_count 를 post_likes 건수로 보정 (게시글 ID 키셋 순서로 배치 순회)
+     *
+     * @return 보정한 게시글 수
+     */
+    public int reconcile() {
+        int corrected = 0;
+        long afterId = 0L;
+        while (true) {
+            long[] result = reconcileBatch(afterId);
+            corrected += (int) result[1];
+            if (result[2] < RECONCILE_BATCH_SIZE) {
+                return corrected;
+            }
+            afterId = result[0];
+        }
+    }
+
+    /**
+     * 배치 하나 보정 (flush 와 같은 모니터에서 실행하여 버퍼 반영과 겹치지 않음)
+     *
+     * @return {마지막 게시글 ID, 보정한 게시글 수, 조회한 게시글 수}
+     */
+    private synchronized long[] reconcileBatch(long afterId) {
+        List<long[]> rows = jdbcTemplate.query(
+                "SELECT p.post_id, p.like_count, " +
+                "(SELECT COUNT(*) FROM post_likes l WHERE l.post_id = p.post_id) " +
+                "FROM posts p WHERE p.post_id > ? ORDER BY p.post_id LIMIT ?",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2), rs.getLong(3)},
+                afterId, RECONCILE_BATCH_SIZE);
+        if (rows.isEmpty()) {
+            return new long[]{afterId, 0, 0};
+        }
+
+        // 이 인스턴스에서 아직 반영하지 않은 증감치는 다음 플러시에 더해지므로 빼고 비교
+        List<long[]> drifted = new ArrayList<>();
+        for (long[] row : rows) {
+            long expected = Math.max(0L, row[2] - getPendingDelta(row[0]));
+            if (row[1] != expected) {
+                drifted.add(new long[]{row[0], row[1], expected});
+            }
+        }
+        if (!drifted.isEmpty()) {
+            // 조회 이후 다른 인스턴스가 반영한 게시글은 건너뜀 (like_count 가 조회 시점 값일 때만 보정)
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    "UPDATE posts SET like_count = ? WHERE post_id = ? AND like_count = ?",
+                    drifted, BATCH_SIZE, (ps, row) -> {
+                        ps.setLong(1, row[2]);
+                        ps.setLong(2, row[0]);
+                        ps.setLong(3, row[1]);
+                    }));
+            log.debug("Post like count drift corrected: {}", drifted.stream().map(row -> row[0]).toList());
+        }
+        return new long[]{rows.get(rows.size() - 1)[0], drifted.size(), rows.size()};
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        scheduledFlush();
+    }
+}
@@ -0,0 +1,49 @@
+package org.jbd.backend.community.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 사용자별 최근 좋아요 상태 캐시
+ *
+ * 토글 시 현재 좋아요 여부를 post_likes 조회 없이 판단하기 위한 LRU 캐시입니다.
+ * 사용자 수와 사용자당 게시글 수를 모두 제한하여 메모리 사용량이 고정됩니다.
+ * 캐시는 힌트일 뿐이며 실제 중복 여부는 post_likes 유니크 키가 최종 판정하므로,
+ * 다른 인스턴스에서 변경되어 캐시가 오래된 경우에도 결과가 틀어지지 않습니다.
+ */
+@Component
+public class PostLikeRecentCache {
+
+    private final int maxPostsPerUser;
+    private final Map<Long, Map<Long, Boolean>> users;
+
+    public PostLikeRecentCache(@Value("${app.community.like-cache.max-users:10000}") int maxUsers,
+                               @Value("${app.community.like-cache.max-posts-per-user:200}") int maxPostsPerUser) {
+        this.maxPostsPerUser = maxPostsPerUser;
+        this.users = lruMap(maxUsers);
+    }
+
+    /**
+     * @return 최근 기록된 좋아요 여부 (기록이 없으면 null)
+     */
+    public synchronized Boolean lookup(Long userId, Long postId) {
+        Map<Long, Boolean> posts = users.get(userId);
+        return posts != null ? posts.get(postId) : null;
+    }
+
+    public synchronized void record(Long userId, Long postId, boolean liked) {
+        users.computeIfAbsent(userId, id -> lruMap(maxPostsPerUser)).put(postId, liked);
+    }
+
+    private static <K, V> Map<K, V> lruMap(int maxEntries) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+}
@@ -0,0 +1,8 @@
+package org.jbd.backend.community.service;
+
+import org.jbd.backend.community.dto.PostLikeDto;
+
+public interface PostLikeService {
+
+    PostLikeDto.ToggleResponse toggleLike(Long postId, Long userId);
+}
@@ -3,16 +3,18 @@ package org.jbd.backend.community.service.impl;
 import org.jbd.backend.community.domain.Comment;
 import org.jbd.backend.community.domain.Post;
 import org.jbd.backend.community.dto.CommentDto;
+import org.jbd.backend.community.dto.CommentRow;
 import org.jbd.backend.community.repository.CommentRepository;
 import org.jbd.backend.community.repository.PostRepository;
 import org.jbd.backend.community.service.CommentService;
 import org.jbd.backend.common.exception.ResourceNotFoundException;
 import org.jbd.backend.user.domain.User;
 import org.jbd.backend.user.repository.UserRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
@@ -48,6 +50,7 @@ public class CommentServiceImpl implements CommentService {
         }
 
         Comment savedComment = commentRepository.save(comment);
+        savedComment.assignThreadPosition();
         return new CommentDto.Response(savedComment);
     }
 
@@ -62,25 +65,68 @@ public class CommentServiceImpl implements CommentService {
     @Override
     @Transactional(readOnly = true)
     public List<CommentDto.Response> getCommentsByPost(Long postId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new ResourceNotFoundException("Post", "id", postId));
+        List<CommentRow> rows = commentRepository.findRowsByPostId(postId);
+        if (rows.isEmpty() && !postRepository.existsById(postId)) {
+            throw new ResourceNotFoundException("Post", "id", postId);
+        }
+        return toResponses(rows);
+    }
 
-        return commentRepository.findByPostOrderByCreatedAtAsc(post)
-                .stream()
-                .map(CommentDto.Response::new)
-                .collect(Collectors.toList());
+    /**
+     * 최상위 댓글 size개와 그 답글 트리 전체를 조회
+     *
+     * 스레드 크기와 무관하게 최상위 ID 조회, 스레드 프로젝션 조회, 작성자 일괄 조회의 3개 쿼리로 처리합니다.
+     * 스레드 행은 (root, path) 순으로 정렬되어 부모가 항상 먼저 나오므로 한 번의 순회로 트리를 구성합니다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CommentDto.ThreadPage getCommentThread(Long postId, Long cursor, int size) {
+        List<Long> rootIds = commentRepository.findRootIdsByPostId(
+                postId, cursor != null ? cursor : 0L, PageRequest.of(0, size + 1));
+        if (rootIds.isEmpty()) {
+            if (!postRepository.existsById(postId)) {
+                throw new ResourceNotFoundException("Post", "id", postId);
+            }
+            return new CommentDto.ThreadPage(new ArrayList<>(), false, null);
+        }
+
+        boolean hasNext = rootIds.size() > size;
+        if (hasNext) {
+            rootIds = rootIds.subList(0, size);
+        }
+
+        List<CommentRow> rows = commentRepository.findThreadRowsByRootIds(rootIds);
+        Map<Long, String> authorNames = findAuthorNames(rows);
+
+        Map<Long, CommentDto.Response> byId = new HashMap<>(rows.size() * 2);
+        for (CommentRow row : rows) {
+            CommentDto.Response response = new CommentDto.Response(row, authorNames.get(row.getAuthorId()));
+            response.setChildComments(new ArrayList<>());
+            byId.put(row.getId(), response);
+            CommentDto.Response parent = row.getParentCommentId() != null ? byId.get(row.getParentCommentId()) : null;
+            if (parent != null) {
+                parent.getChildComments().add(response);
+            }
+        }
+
+        List<CommentDto.Response> roots = new ArrayList<>(rootIds.size());
+        for (Long rootId : rootIds) {
+            CommentDto.Response root = byId.get(rootId);
+            if (root != null) {
+                roots.add(root);
+            }
+        }
+        return new CommentDto.ThreadPage(roots, hasNext, hasNext ? rootIds.get(rootIds.size() - 1) : null);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<CommentDto.Response> getCommentsByAuthor(String authorEmail) {
-        User author = userRepository.findByEmail(authorEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "email", authorEmail));
-
-        return commentRepository.findByAuthorOrderByCreatedAtDesc(author)
-                .stream()
-                .map(CommentDto.Response::new)
-                .collect(Collectors.toList());
+        List<CommentRow> rows = commentRepository.findRowsByAuthorEmail(authorEmail);
+        if (rows.isEmpty() && userRepository.findByEmail(authorEmail).isEmpty()) {
+            throw new ResourceNotFoundException("User", "email", authorEmail);
+        }
+        return toResponses(rows);
     }
 
     @Override
@@ -122,13 +168,11 @@ public class CommentServiceImpl implements CommentService {
     @Override
     @Transactional(readOnly = true)
     public List<CommentDto.Response> getRepliesByParentComment(Long parentCommentId) {
-        Comment parentComment = commentRepository.findById(parentCommentId)
-                .orElseThrow(() -> new ResourceNotFoundException("Comment", "id", parentCommentId));
-
-        return commentRepository.findByParentCommentOrderByCreatedAtAsc(parentComment)
-                .stream()
-                .map(CommentDto.Response::new)
-                .collect(Collectors.toList());
+        List<CommentRow> rows = commentRepository.findRowsByParentCommentId(parentCommentId);
+        if (rows.isEmpty() && !commentRepository.existsById(parentCommentId)) {
+            throw new ResourceNotFoundException("Comment", "id", parentCommentId);
+        }
+        return toResponses(rows);
     }
 
     @Override
@@ -139,4 +183,32 @@ public class CommentServiceImpl implements CommentService {
 
         return commentRepository.countByPost(post);
     }
-}
\ No newline at end of file
+
+    private List<CommentDto.Response> toResponses(List<CommentRow> rows) {
+        Map<Long, String> authorNames = findAuthorNames(rows);
+        return rows.stream()
+                .map(row -> new CommentDto.Response(row, authorNames.get(row.getAuthorId())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 작성자 ID를 모아 한 번의 IN 쿼리로 이름을 조회 (User.getName()과 동일하게 이메일 로컬 파트 사용)
+     */
+    private Map<Long, String> findAuthorNames(List<CommentRow> rows) {
+        Set<Long> authorIds = new HashSet<>();
+        for (CommentRow row : rows) {
+            if (row.getAuthorId() != null) {
+                authorIds.add(row.getAuthorId());
+            }
+        }
+        Map<Long, String> names = new HashMap<>();
+        if (authorIds.isEmpty()) {
+            return names;
+        }
+        for (Object[] row : userRepository.findEmailsByIdIn(authorIds)) {
+            String email = (String) row[1];
+            names.put((Long) row[0], email != null && email.contains("@") ? email.split("@")[0] : "Unknown User");
+        }
+        return names;
+    }
+}
@@ -0,0 +1,109 @@
+package org.jbd.backend.community.service.impl;
+
+import org.jbd.backend.community.dto.PostLikeDto;
+import org.jbd.backend.community.repository.PostLikeRepository;
+import org.jbd.backend.community.repository.PostRepository;
+import org.jbd.backend.community.service.PostLikeCounter;
+import org.jbd.backend.community.service.PostLikeRecentCache;
+import org.jbd.backend.community.service.PostLikeService;
+import org.jbd.backend.common.exception.ResourceNotFoundException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 좋아요 토글 서비스
+ *
+ * posts 행은 읽기만 하고 잠그지 않습니다. 좋아요 여부는 post_likes 유니크 키로 확정하고,
+ * 좋아요 수 증감은 커밋 이후 PostLikeCounter 버퍼에 반영하여 주기적으로 일괄 적용합니다.
+ * 현재 상태는 PostLikeRecentCache에서 먼저 확인하고, 캐시에 없을 때만 post_likes를 조회합니다.
+ */
+@Service
+@Transactional
+public class PostLikeServiceImpl implements PostLikeService {
+
+    private final PostRepository postRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final PostLikeCounter likeCounter;
+    private final PostLikeRecentCache recentCache;
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostLikeServiceImpl(PostRepository postRepository, PostLikeRepository postLikeRepository,
+                               PostLikeCounter likeCounter, PostLikeRecentCache recentCache,
+                               JdbcTemplate jdbcTemplate) {
+        this.postRepository = postRepository;
+        this.postLikeRepository = postLikeRepository;
+        this.likeCounter = likeCounter;
+        this.recentCache = recentCache;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public PostLikeDto.ToggleResponse toggleLike(Long postId, Long userId) {
+        Long storedCount = postRepository.findLikeCountById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException("Post", "id", postId));
+
+        Boolean cached = recentCache.lookup(userId, postId);
+        boolean currentlyLiked = cached != null ? cached : postLikeRepository.existsByPostIdAndUserId(postId, userId);
+
+        // 캐시가 오래된 경우 DELETE/INSERT 결과가 실제 상태를 알려주므로 그에 맞춰 반대 동작을 수행
+        boolean liked;
+        long delta;
+        if (currentlyLiked && deleteLike(postId, userId)) {
+            liked = false;
+            delta = -1;
+        } else if (insertLike(postId, userId)) {
+            liked = true;
+            delta = 1;
+        } else if (deleteLike(postId, userId)) {
+            liked = false;
+            delta = -1;
+        } else {
+            liked = false;
+            delta = 0;
+        }
+
+        afterCommit(() -> {
+            if (delta != 0) {
+                likeCounter.add(postId, delta);
+            }
+            recentCache.record(userId, postId, liked);
+        });
+
+        long likeCount = Math.max(0L, storedCount + likeCounter.getPendingDelta(postId) + delta);
+        return new PostLikeDto.ToggleResponse(postId, liked, likeCount);
+    }
+
+    private boolean insertLike(Long postId, Long userId) {
+        try {
+            jdbcTemplate.update("INSERT INTO post_likes (post_id, user_id, created_at) VALUES (?, ?, ?)",
+                    postId, userId, Timestamp.valueOf(LocalDateTime.now()));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private boolean deleteLike(Long postId, Long userId) {
+        return jdbcTemplate.update("DELETE FROM post_likes WHERE post_id = ? AND user_id = ?", postId, userId) > 0;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
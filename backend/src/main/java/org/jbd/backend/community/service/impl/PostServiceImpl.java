@@ -6,6 +6,7 @@ import org.jbd.backend.ai.dto.SentimentAnalysisDto;
 import org.jbd.backend.community.domain.Category;
 import org.jbd.backend.community.domain.Post;
 import org.jbd.backend.community.dto.PostDto;
+import org.jbd.backend.community.dto.PostSummary;
 import org.jbd.backend.community.repository.CategoryRepository;
 import org.jbd.backend.community.repository.PostRepository;
 import org.jbd.backend.community.service.PostService;
@@ -13,6 +14,7 @@ import org.jbd.backend.common.exception.ResourceNotFoundException;
 import org.jbd.backend.user.domain.User;
 import org.jbd.backend.user.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -40,9 +42,9 @@ public class PostServiceImpl implements PostService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public PostDto.PageResponse getAllPosts(Pageable pageable) {
-        var posts = postRepository.findByIsDeletedFalseOrderByCreatedAtDesc(pageable);
-        return new PostDto.PageResponse(posts);
+        return PostDto.PageResponse.of(postRepository.findSummaries(pageable));
     }
 
     @Override
@@ -103,29 +105,26 @@ public class PostServiceImpl implements PostService {
     @Override
     @Transactional(readOnly = true)
     public PostDto.PageResponse getPostsByCategory(Long categoryId, Pageable pageable) {
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new ResourceNotFoundException("Category", "id", categoryId));
+        Page<PostSummary> posts = postRepository.findSummariesByCategoryId(categoryId, pageable);
+        requireCategoryIfEmpty(posts, categoryId);
 
-        List<Post> posts = postRepository.findByCategoryAndIsDeletedFalseOrderByCreatedAtDesc(category, pageable);
-        
-        return convertToPageResponse(posts, pageable);
+        return PostDto.PageResponse.of(posts);
     }
 
     @Override
     @Transactional(readOnly = true)
     public PostDto.PageResponse searchPostsByTitle(String keyword, Pageable pageable) {
-        List<Post> posts = postRepository.findByTitleContainingIgnoreCaseAndIsDeletedFalseOrderByCreatedAtDesc(keyword, pageable);
-        return convertToPageResponse(posts, pageable);
+        return PostDto.PageResponse.of(postRepository.searchSummariesByTitle(keyword, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public PostDto.PageResponse getPostsByAuthor(String authorEmail, Pageable pageable) {
-        User author = userRepository.findByEmail(authorEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "email", authorEmail));
-
-        List<Post> posts = postRepository.findByAuthorAndIsDeletedFalseOrderByCreatedAtDesc(author, pageable);
-        return convertToPageResponse(posts, pageable);
+        Page<PostSummary> posts = postRepository.findSummariesByAuthorEmail(authorEmail, pageable);
+        if (posts.isEmpty() && !userRepository.existsByEmail(authorEmail)) {
+            throw new ResourceNotFoundException("User", "email", authorEmail);
+        }
+        return PostDto.PageResponse.of(posts);
     }
 
     @Override
@@ -176,11 +175,10 @@ public class PostServiceImpl implements PostService {
     @Override
     @Transactional(readOnly = true)
     public List<PostDto.Response> getPopularPosts(Long categoryId, int limit) {
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new ResourceNotFoundException("Category", "id", categoryId));
-
-        Pageable pageable = PageRequest.of(0, limit);
-        List<Post> posts = postRepository.findByCategoryAndIsDeletedFalseOrderByViewCountDesc(category, pageable);
+        List<PostSummary> posts = postRepository.findPopularSummariesByCategoryId(categoryId, PageRequest.of(0, limit));
+        if (posts.isEmpty() && !categoryRepository.existsById(categoryId)) {
+            throw new ResourceNotFoundException("Category", "id", categoryId);
+        }
         
         return posts.stream()
                 .map(PostDto.Response::new)
@@ -190,34 +188,29 @@ public class PostServiceImpl implements PostService {
     @Override
     @Transactional(readOnly = true)
     public PostDto.PageResponse getPostsBySentiment(String sentimentLabel, Pageable pageable) {
-        List<Post> posts = postRepository.findBySentimentLabelAndIsDeletedFalseOrderByCreatedAtDesc(sentimentLabel, pageable);
-        return convertToPageResponse(posts, pageable);
+        return PostDto.PageResponse.of(postRepository.findSummariesBySentimentLabel(sentimentLabel, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)  
     public PostDto.PageResponse getPostsByCategoryAndSentiment(Long categoryId, String sentimentLabel, Pageable pageable) {
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new ResourceNotFoundException("Category", "id", categoryId));
-
-        List<Post> posts = postRepository.findByCategoryAndSentimentLabelAndIsDeletedFalseOrderByCreatedAtDesc(
-                category, sentimentLabel, pageable);
-        return convertToPageResponse(posts, pageable);
+        Page<PostSummary> posts = postRepository.findSummariesByCategoryIdAndSentimentLabel(
+                categoryId, sentimentLabel, pageable);
+        requireCategoryIfEmpty(posts, categoryId);
+        return PostDto.PageResponse.of(posts);
     }
 
     @Override
     @Transactional(readOnly = true)
     public PostDto.PageResponse getPostsBySentimentScore(Double minScore, Double maxScore, Pageable pageable) {
-        List<Post> posts = postRepository.findBySentimentScoreBetweenAndIsDeletedFalseOrderByCreatedAtDesc(
-                minScore, maxScore, pageable);
-        return convertToPageResponse(posts, pageable);
+        return PostDto.PageResponse.of(
+                postRepository.findSummariesBySentimentScoreBetween(minScore, maxScore, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public PostDto.PageResponse getPostsWithImages(Pageable pageable) {
-        List<Post> posts = postRepository.findPostsWithImagesOrderByCreatedAtDesc(pageable);
-        return convertToPageResponse(posts, pageable);
+        return PostDto.PageResponse.of(postRepository.findSummariesWithImages(pageable));
     }
 
     /**
@@ -375,19 +368,13 @@ public class PostServiceImpl implements PostService {
         }
     }
 
-    private PostDto.PageResponse convertToPageResponse(List<Post> posts, Pageable pageable) {
-        PostDto.PageResponse pageResponse = new PostDto.PageResponse();
-        pageResponse.setPosts(posts.stream()
-                .map(PostDto.Response::new)
-                .collect(Collectors.toList()));
-        pageResponse.setPageNumber(pageable.getPageNumber());
-        pageResponse.setPageSize(pageable.getPageSize());
-        pageResponse.setTotalElements(posts.size());
-        pageResponse.setTotalPages(1);
-        pageResponse.setFirst(pageable.getPageNumber() == 0);
-        pageResponse.setLast(true);
-        
-        return pageResponse;
+    /**
+     * 결과가 비어 있을 때만 카테고리 존재 여부를 확인 (목록 조회를 2쿼리 이내로 유지)
+     */
+    private void requireCategoryIfEmpty(Page<PostSummary> posts, Long categoryId) {
+        if (posts.isEmpty() && !categoryRepository.existsById(categoryId)) {
+            throw new ResourceNotFoundException("Category", "id", categoryId);
+        }
     }
 
     @Override
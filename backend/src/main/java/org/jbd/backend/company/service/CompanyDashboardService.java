@@ -10,6 +10,7 @@ import org.jbd.backend.job.domain.JobApplication;
 import org.jbd.backend.job.domain.JobPosting;
 import org.jbd.backend.job.repository.JobApplicationRepository;
 import org.jbd.backend.job.repository.JobPostingRepository;
+import org.jbd.backend.job.service.JobApplicationCounterService;
 import org.jbd.backend.user.domain.User;
 import org.jbd.backend.user.repository.UserRepository;
 import org.springframework.data.domain.PageRequest;
@@ -22,6 +23,7 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -44,6 +46,7 @@ public class CompanyDashboardService {
     private final JobPostingRepository jobPostingRepository;
     private final JobApplicationRepository jobApplicationRepository;
     private final UserRepository userRepository;
+    private final JobApplicationCounterService counterService;
 
     /**
      * 기업 대시보드 종합 정보 조회
@@ -106,33 +109,25 @@ public class CompanyDashboardService {
         Integer totalJobPostings = (int) jobPostingRepository.countByCompanyUser(companyUser);
         Integer activeJobPostings = totalJobPostings; // 활성 공고 = 삭제되지 않은 공고
 
-        // 지원자 통계 - 회사별 지원서 조회
-        List<JobApplication> allApplications = new ArrayList<>();
+        // 지원자 통계 - 지원서 행을 불러오지 않고 공고별 카운터와 집계 쿼리로 계산
         List<JobPosting> companyJobPostings = jobPostingRepository.findByCompanyUser(companyUser);
-        for (JobPosting jobPosting : companyJobPostings) {
-            allApplications.addAll(jobApplicationRepository.findByJobPosting(jobPosting));
-        }
+        Map<ApplicationStatus, Long> statusCounts = counterService.getTotalStatusCounts(
+                companyJobPostings.stream().map(JobPosting::getId).collect(Collectors.toList()));
 
-        Integer totalApplicants = allApplications.size();
-        Integer newApplicantsToday = (int) allApplications.stream()
-                .filter(app -> app.getAppliedAt().isAfter(todayStart))
-                .count();
-        Integer newApplicantsThisWeek = (int) allApplications.stream()
-                .filter(app -> app.getAppliedAt().isAfter(weekStart))
-                .count();
+        Integer totalApplicants = (int) companyJobPostings.stream()
+                .mapToLong(JobPosting::getApplicationCount)
+                .sum();
+        Integer newApplicantsToday = (int) jobApplicationRepository
+                .countApplicationsByCompanyUserAndDateAfter(companyUser, todayStart);
+        Integer newApplicantsThisWeek = (int) jobApplicationRepository
+                .countApplicationsByCompanyUserAndDateAfter(companyUser, weekStart);
 
         // 상태별 통계
-        Integer pendingReviewCount = (int) allApplications.stream()
-                .filter(app -> app.getStatus() == ApplicationStatus.SUBMITTED ||
-                             app.getStatus() == ApplicationStatus.REVIEWED)
-                .count();
-        Integer interviewScheduledCount = (int) allApplications.stream()
-                .filter(app -> app.getStatus() == ApplicationStatus.INTERVIEW_SCHEDULED)
-                .count();
-        Integer hiredThisMonth = (int) allApplications.stream()
-                .filter(app -> app.getStatus() == ApplicationStatus.HIRED &&
-                             app.getUpdatedAt().isAfter(monthStart))
-                .count();
+        Integer pendingReviewCount = (int) (statusCounts.getOrDefault(ApplicationStatus.SUBMITTED, 0L)
+                + statusCounts.getOrDefault(ApplicationStatus.REVIEWED, 0L));
+        Integer interviewScheduledCount = statusCounts.getOrDefault(ApplicationStatus.INTERVIEW_SCHEDULED, 0L).intValue();
+        Integer hiredThisMonth = (int) jobApplicationRepository
+                .countByCompanyUserAndStatusAndUpdatedAtAfter(companyUser, ApplicationStatus.HIRED, monthStart);
 
         // 평균 지원율 계산 (조회수 대비 지원 비율)
         Double averageApplicationRate = companyJobPostings.stream()
@@ -247,15 +242,10 @@ public class CompanyDashboardService {
 
         User companyUser = company.getUser();
         List<JobPosting> companyJobPostings = jobPostingRepository.findByCompanyUser(companyUser);
-        List<JobApplication> allApplications = new ArrayList<>();
-        for (JobPosting jobPosting : companyJobPostings) {
-            allApplications.addAll(jobApplicationRepository.findByJobPosting(jobPosting));
-        }
 
         // 신규 지원자 알림 (오늘 지원한 사람들)
-        Integer newApplicationCount = (int) allApplications.stream()
-                .filter(app -> app.getAppliedAt().isAfter(todayStart))
-                .count();
+        Integer newApplicationCount = (int) jobApplicationRepository
+                .countApplicationsByCompanyUserAndDateAfter(companyUser, todayStart);
 
         // 마감 임박 공고 (7일 이내 마감)
         LocalDateTime weekLater = LocalDateTime.now().plusDays(7);
@@ -266,9 +256,9 @@ public class CompanyDashboardService {
                 .count();
 
         // 미처리 업무 (서류 검토 대기)
-        Integer pendingTaskCount = (int) allApplications.stream()
-                .filter(app -> app.getStatus() == ApplicationStatus.SUBMITTED)
-                .count();
+        Integer pendingTaskCount = counterService.getTotalStatusCounts(
+                        companyJobPostings.stream().map(JobPosting::getId).collect(Collectors.toList()))
+                .getOrDefault(ApplicationStatus.SUBMITTED, 0L).intValue();
 
         return CompanyDashboardDto.NotificationSummary.builder()
                 .newApplicationCount(newApplicationCount)
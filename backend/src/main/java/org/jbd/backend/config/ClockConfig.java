@@ -0,0 +1,20 @@
+package org.jbd.backend.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * 시계 설정
+ *
+ * 만료 처리 등 시각에 의존하는 로직이 주입받아 사용하며, 테스트에서는 고정/이동 가능한 시계로 교체합니다.
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
@@ -1,5 +1,6 @@
 package org.jbd.backend.config;
 
+import jakarta.servlet.DispatcherType;
 import org.jbd.backend.auth.config.JwtAuthenticationEntryPoint;
 import org.jbd.backend.auth.config.JwtAuthenticationFilter;
 import org.jbd.backend.auth.config.OAuth2AuthenticationFailureHandler;
@@ -113,6 +114,9 @@ public class SecurityConfig {
                         // OPTIONS 요청은 모두 허용 (CORS preflight 요청)
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
+                        // 비동기 디스패치 허용 (SSE 응답 완료 처리, 최초 요청에서 이미 인증됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // 인증 관련 엔드포인트는 모두 허용
                         // - /auth/** : 회원가입, 로그인, 토큰 갱신 등
                         // - /admin/** : 관리자 전체 기능 (인증 없이 접근 허용)
@@ -133,6 +137,9 @@ public class SecurityConfig {
                                 "/users/verify-company-email/**"
                         ).permitAll()
 
+                        // 쿼리 shape 이 드러나는 SQL 문 수 집계는 관리자만 조회
+                        .requestMatchers("/actuator/sqlstatements", "/actuator/sqlstatements/**").hasRole("ADMIN")
+
                         // 모니터링 및 개발 도구 엔드포인트
                         // - Spring Actuator: 애플리케이션 모니터링
                         // - H2 Console: 개발환경 데이터베이스 접근
@@ -0,0 +1,47 @@
+package org.jbd.backend.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.jbd.backend.common.sql.SqlSessionEventListener;
+import org.jbd.backend.common.sql.SqlStatementEndpoint;
+import org.jbd.backend.common.sql.SqlStatementFilter;
+import org.jbd.backend.common.sql.SqlStatementInspector;
+import org.jbd.backend.common.sql.SqlStatementStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 요청당 SQL 문 수 계측 설정
+ *
+ * Hibernate StatementInspector 와 세션 이벤트 리스너를 등록하고, 요청마다 기록 범위를 여는 필터를
+ * 보안 필터보다 바깥에 둡니다. 같은 SQL shape 이 임계값 이상 반복되면 N+1 의심으로 기록합니다.
+ */
+@Configuration
+public class SqlStatementConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlSessionEventListener.class.getName());
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementFilter> sqlStatementFilter(
+            SqlStatementStats stats,
+            @Value("${app.sql.n-plus-one-threshold:5}") int nPlusOneThreshold) {
+        FilterRegistrationBean<SqlStatementFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatementFilter(stats, nPlusOneThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public SqlStatementEndpoint sqlStatementEndpoint(SqlStatementStats stats) {
+        return new SqlStatementEndpoint(stats);
+    }
+}
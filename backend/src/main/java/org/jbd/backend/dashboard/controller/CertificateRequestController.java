@@ -5,18 +5,26 @@ import lombok.RequiredArgsConstructor;
 import org.jbd.backend.auth.service.JwtService;
 import org.jbd.backend.common.dto.ApiResponse;
 import org.jbd.backend.common.dto.PageResponse;
+import org.jbd.backend.dashboard.domain.enums.RequestStatus;
+import org.jbd.backend.dashboard.dto.CertificateIssuanceDto;
 import org.jbd.backend.dashboard.dto.CertificateRequestDto;
+import org.jbd.backend.dashboard.service.CertificateIssuanceService;
 import org.jbd.backend.dashboard.service.CertificateRequestService;
 import org.jbd.backend.user.domain.enums.UserType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/certificates")
@@ -24,6 +32,7 @@ import java.util.List;
 public class CertificateRequestController {
 
     private final CertificateRequestService certificateRequestService;
+    private final CertificateIssuanceService certificateIssuanceService;
     private final JwtService jwtService;
 
     @PostMapping("/request")
@@ -48,7 +57,10 @@ public class CertificateRequestController {
 
     @GetMapping("/my-requests")
     public ResponseEntity<ApiResponse<List<CertificateRequestDto.ResponseDto>>> getMyRequests(
-            @RequestHeader(value = "Authorization", required = false) String token) {
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size) {
         try {
             if (token == null || !token.startsWith("Bearer ")) {
                 return ResponseEntity.status(401)
@@ -56,8 +68,12 @@ public class CertificateRequestController {
             }
 
             Long userId = jwtService.extractUserId(token.substring(7));
-            List<CertificateRequestDto.ResponseDto> requests = certificateRequestService.getUserRequests(userId);
+            List<CertificateRequestDto.ResponseDto> requests = certificateRequestService.getUserRequests(
+                    userId, cursorCreatedAt, cursorId, size);
             return ResponseEntity.ok(ApiResponse.success("내 증명서 요청 목록 조회 성공", requests));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(401)
                     .body(ApiResponse.error("인증에 실패했습니다: " + e.getMessage()));
@@ -86,6 +102,82 @@ public class CertificateRequestController {
         }
     }
 
+    @GetMapping("/admin/queue")
+    public ResponseEntity<ApiResponse<CertificateRequestDto.CursorPageDto>> getRequestQueue(
+            @RequestHeader("Authorization") String token,
+            @RequestParam(required = false) RequestStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            String jwt = token.replace("Bearer ", "");
+            String userTypeStr = jwtService.extractUserType(jwt);
+
+            if (!"ADMIN".equals(userTypeStr)) {
+                return ResponseEntity.status(403)
+                        .body(ApiResponse.error("관리자만 접근할 수 있습니다"));
+            }
+
+            CertificateRequestDto.CursorPageDto page = certificateRequestService.getRequestQueue(
+                    status, cursorCreatedAt, cursorId, size);
+            return ResponseEntity.ok(ApiResponse.success("증명서 요청 대기열 조회 성공", page));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(401)
+                    .body(ApiResponse.error("인증에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/admin/status-counts")
+    public ResponseEntity<ApiResponse<Map<RequestStatus, Long>>> getStatusCounts(
+            @RequestHeader("Authorization") String token) {
+        try {
+            String jwt = token.replace("Bearer ", "");
+            String userTypeStr = jwtService.extractUserType(jwt);
+
+            if (!"ADMIN".equals(userTypeStr)) {
+                return ResponseEntity.status(403)
+                        .body(ApiResponse.error("관리자만 접근할 수 있습니다"));
+            }
+
+            return ResponseEntity.ok(ApiResponse.success("상태별 증명서 요청 수 조회 성공",
+                    certificateRequestService.getStatusCounts()));
+        } catch (Exception e) {
+            return ResponseEntity.status(401)
+                    .body(ApiResponse.error("인증에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 처리 대기 요청을 최대 count건 할당받음 (여러 관리자가 동시에 호출해도 중복 할당되지 않음)
+     */
+    @PostMapping("/admin/claim")
+    public ResponseEntity<ApiResponse<List<CertificateRequestDto.ResponseDto>>> claimNextPending(
+            @RequestHeader("Authorization") String token,
+            @RequestParam(defaultValue = "10") int count) {
+        try {
+            String jwt = token.replace("Bearer ", "");
+            String userTypeStr = jwtService.extractUserType(jwt);
+
+            if (!"ADMIN".equals(userTypeStr)) {
+                return ResponseEntity.status(403)
+                        .body(ApiResponse.error("관리자만 접근할 수 있습니다"));
+            }
+
+            Long adminId = jwtService.extractUserId(jwt);
+            List<CertificateRequestDto.ResponseDto> claimed = certificateRequestService.claimNextPending(adminId, count);
+            return ResponseEntity.ok(ApiResponse.success(claimed.size() + "건의 증명서 요청이 할당되었습니다", claimed));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(401)
+                    .body(ApiResponse.error("인증에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
     @PutMapping("/admin/{requestId}/process")
     public ResponseEntity<ApiResponse<CertificateRequestDto.ResponseDto>> processRequest(
             @RequestHeader("Authorization") String token,
@@ -131,4 +223,77 @@ public class CertificateRequestController {
                     .body(ApiResponse.error("인증에 실패했습니다: " + e.getMessage()));
         }
     }
+
+    /**
+     * 승인된 증명서 요청 일괄 발급 작업 등록 (비동기, 진행률은 작업 ID로 조회)
+     */
+    @PostMapping("/admin/issuance-jobs")
+    public ResponseEntity<ApiResponse<CertificateIssuanceDto.JobResponseDto>> startIssuanceJob(
+            @RequestHeader("Authorization") String token,
+            @Valid @RequestBody(required = false) CertificateIssuanceDto.CreateJobDto dto) {
+        try {
+            String jwt = token.replace("Bearer ", "");
+            String userTypeStr = jwtService.extractUserType(jwt);
+
+            if (!"ADMIN".equals(userTypeStr)) {
+                return ResponseEntity.status(403)
+                        .body(ApiResponse.error("관리자만 접근할 수 있습니다"));
+            }
+
+            Long adminId = jwtService.extractUserId(jwt);
+            CertificateIssuanceDto.JobResponseDto job = certificateIssuanceService.startJob(
+                    adminId, dto != null ? dto.getRequestIds() : null);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success("증명서 발급 작업이 등록되었습니다", job));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(401)
+                    .body(ApiResponse.error("인증에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/admin/issuance-jobs/{jobId}")
+    public ResponseEntity<ApiResponse<CertificateIssuanceDto.JobResponseDto>> getIssuanceJob(
+            @RequestHeader("Authorization") String token,
+            @PathVariable Long jobId) {
+        try {
+            String jwt = token.replace("Bearer ", "");
+            if (!"ADMIN".equals(jwtService.extractUserType(jwt))) {
+                return ResponseEntity.status(403)
+                        .body(ApiResponse.error("관리자만 접근할 수 있습니다"));
+            }
+        } catch (Exception e) {
+            return ResponseEntity.status(401)
+                    .body(ApiResponse.error("인증에 실패했습니다: " + e.getMessage()));
+        }
+
+        // 작업이 없으면 BusinessException(NOT_FOUND) 그대로 전달
+        return ResponseEntity.ok(ApiResponse.success("증명서 발급 작업 조회 성공",
+                certificateIssuanceService.getJob(jobId)));
+    }
+
+    /**
+     * 발급된 증명서 문서 (HTML) 조회 - 본인 요청 또는 관리자
+     */
+    @GetMapping("/{requestId}/document")
+    public ResponseEntity<byte[]> getDocument(
+            @RequestHeader("Authorization") String token,
+            @PathVariable Long requestId) {
+        Long userId;
+        boolean admin;
+        try {
+            String jwt = token.replace("Bearer ", "");
+            userId = jwtService.extractUserId(jwt);
+            admin = "ADMIN".equals(jwtService.extractUserType(jwt));
+        } catch (Exception e) {
+            return ResponseEntity.status(401).build();
+        }
+
+        byte[] document = certificateIssuanceService.getDocument(requestId, userId, admin);
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+                .body(document);
+    }
 }
\ No newline at end of file
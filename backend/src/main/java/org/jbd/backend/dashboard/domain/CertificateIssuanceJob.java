@@ -0,0 +1,64 @@
+package org.jbd.backend.dashboard.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.jbd.backend.dashboard.domain.enums.IssuanceJobStatus;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 증명서 일괄 발급 작업
+ *
+ * 승인된 증명서 요청을 묶어 비동기로 발급하는 작업 단위이며, 진행률 조회에 사용됩니다.
+ * 진행 건수(completedCount/failedCount)는 배치 단위로 CertificateIssuanceJobRepository의
+ * 증분 쿼리로만 갱신합니다.
+ */
+@Entity
+@Table(name = "certificate_issuance_jobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class CertificateIssuanceJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "requested_by", nullable = false)
+    private Long requestedBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IssuanceJobStatus status;
+
+    @Column(name = "total_count", nullable = false)
+    private Integer totalCount;
+
+    @Column(name = "completed_count", nullable = false)
+    private Integer completedCount = 0;
+
+    @Column(name = "failed_count", nullable = false)
+    private Integer failedCount = 0;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    public CertificateIssuanceJob(Long requestedBy, int totalCount) {
+        this.requestedBy = requestedBy;
+        this.totalCount = totalCount;
+        this.status = IssuanceJobStatus.QUEUED;
+    }
+
+    public boolean isFinished() {
+        return status == IssuanceJobStatus.COMPLETED || status == IssuanceJobStatus.FAILED;
+    }
+}
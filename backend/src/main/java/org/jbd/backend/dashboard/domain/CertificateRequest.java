@@ -12,7 +12,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "certificate_requests")
+@Table(name = "certificate_requests", indexes = {
+        @Index(name = "idx_certificate_requests_status_created", columnList = "status, created_at, id"),
+        @Index(name = "idx_certificate_requests_user_created", columnList = "user_id, created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -48,6 +51,21 @@ public class CertificateRequest {
 
     private LocalDateTime processedAt;
 
+    /**
+     * 처리 중인 관리자 ID (대기열 claim 시 설정, 임대 시간이 지나면 다른 관리자가 다시 가져갈 수 있음)
+     */
+    @Column(name = "claimed_by")
+    private Long claimedBy;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    /**
+     * 발급된 증명서 문서의 콘텐츠 주소 (SHA-256, CertificateDocumentStore 키)
+     */
+    @Column(name = "document_key", length = 64)
+    private String documentKey;
+
     public CertificateRequest(User user, CertificateType certificateType, String purpose) {
         this.user = user;
         this.certificateType = certificateType;
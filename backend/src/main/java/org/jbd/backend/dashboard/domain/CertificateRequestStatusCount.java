@@ -0,0 +1,28 @@
+package org.jbd.backend.dashboard.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.jbd.backend.dashboard.domain.enums.RequestStatus;
+
+/**
+ * 증명서 요청 상태별 카운터
+ *
+ * 상태마다 한 행을 유지하며 요청 생성/처리 시 델타 upsert로만 갱신됩니다.
+ * 관리자 대기열의 상태별 건수를 certificate_requests COUNT 없이 조회하기 위한 용도입니다.
+ */
+@Entity
+@Table(name = "certificate_request_status_counts")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CertificateRequestStatusCount {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 30)
+    private RequestStatus status;
+
+    @Column(name = "request_count", nullable = false)
+    private Long count = 0L;
+}
@@ -0,0 +1,15 @@
+package org.jbd.backend.dashboard.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum IssuanceJobStatus {
+    QUEUED("대기중"),
+    RUNNING("발급중"),
+    COMPLETED("완료됨"),
+    FAILED("실패");
+
+    private final String description;
+}
@@ -0,0 +1,62 @@
+package org.jbd.backend.dashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.jbd.backend.dashboard.domain.CertificateIssuanceJob;
+import org.jbd.backend.dashboard.domain.enums.IssuanceJobStatus;
+
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class CertificateIssuanceDto {
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CreateJobDto {
+        /**
+         * 발급할 요청 ID 목록 (비어 있으면 승인된 요청 전체)
+         */
+        @Size(max = 5000, message = "한 번에 최대 5000건까지 발급할 수 있습니다")
+        private List<Long> requestIds;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JobResponseDto {
+        private Long jobId;
+        private IssuanceJobStatus status;
+        private String statusDescription;
+        private int totalCount;
+        private int completedCount;
+        private int failedCount;
+        private double progressPercent;
+        private LocalDateTime createdAt;
+        private LocalDateTime startedAt;
+        private LocalDateTime finishedAt;
+
+        public static JobResponseDto from(CertificateIssuanceJob job) {
+            int processed = job.getCompletedCount() + job.getFailedCount();
+            double progress = job.getTotalCount() == 0 ? 100.0
+                    : Math.round(processed * 1000.0 / job.getTotalCount()) / 10.0;
+            return JobResponseDto.builder()
+                    .jobId(job.getId())
+                    .status(job.getStatus())
+                    .statusDescription(job.getStatus().getDescription())
+                    .totalCount(job.getTotalCount())
+                    .completedCount(job.getCompletedCount())
+                    .failedCount(job.getFailedCount())
+                    .progressPercent(progress)
+                    .createdAt(job.getCreatedAt())
+                    .startedAt(job.getStartedAt())
+                    .finishedAt(job.getFinishedAt())
+                    .build();
+        }
+    }
+}
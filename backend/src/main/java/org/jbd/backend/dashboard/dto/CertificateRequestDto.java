@@ -4,13 +4,14 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.jbd.backend.dashboard.domain.CertificateRequest;
 import org.jbd.backend.dashboard.domain.CertificateType;
 import org.jbd.backend.dashboard.domain.enums.RequestStatus;
+import org.jbd.backend.dashboard.repository.CertificateRequestView;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class CertificateRequestDto {
 
@@ -43,22 +44,37 @@ public class CertificateRequestDto {
         private LocalDateTime createdAt;
         private LocalDateTime processedAt;
 
-        public static ResponseDto from(CertificateRequest request) {
+        /**
+         * 프로젝션에서 변환 (User 엔티티를 로딩하지 않음)
+         *
+         * 목록/단건 응답 모두 이 변환을 거치므로 userName 은 어느 엔드포인트에서나 같은 규칙으로 정해집니다.
+         */
+        public static ResponseDto from(CertificateRequestView view) {
             return ResponseDto.builder()
-                    .id(request.getId())
-                    .userEmail(request.getUser().getEmail())
-                    .userName(extractUserName(request.getUser().getEmail()))
-                    .certificateType(request.getCertificateType())
-                    .certificateTypeDescription(request.getCertificateType().getDescription())
-                    .status(request.getStatus())
-                    .statusDescription(request.getStatus().getDescription())
-                    .purpose(request.getPurpose())
-                    .adminNotes(request.getAdminNotes())
-                    .createdAt(request.getCreatedAt())
-                    .processedAt(request.getProcessedAt())
+                    .id(view.getId())
+                    .userEmail(view.getUserEmail())
+                    .userName(resolveUserName(view))
+                    .certificateType(view.getCertificateType())
+                    .certificateTypeDescription(view.getCertificateType().getDescription())
+                    .status(view.getStatus())
+                    .statusDescription(view.getStatus().getDescription())
+                    .purpose(view.getPurpose())
+                    .adminNotes(view.getAdminNotes())
+                    .createdAt(view.getCreatedAt())
+                    .processedAt(view.getProcessedAt())
                     .build();
         }
 
+        /**
+         * 프로필 이름(성+이름)이 있으면 사용하고, 없으면 이메일 로컬 부분을 사용
+         */
+        public static String resolveUserName(CertificateRequestView view) {
+            String lastName = view.getUserLastName() != null ? view.getUserLastName().trim() : "";
+            String firstName = view.getUserFirstName() != null ? view.getUserFirstName().trim() : "";
+            String fullName = lastName + firstName;
+            return fullName.isEmpty() ? extractUserName(view.getUserEmail()) : fullName;
+        }
+
         /**
          * 이메일에서 사용자 이름을 안전하게 추출하는 헬퍼 메서드
          * @param email 사용자 이메일
@@ -82,4 +98,21 @@ public class CertificateRequestDto {
 
         private String adminNotes;
     }
+
+    /**
+     * (createdAt, id) 키셋 페이징 응답
+     *
+     * 다음 페이지는 nextCursorCreatedAt/nextCursorId를 그대로 전달하여 조회합니다.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CursorPageDto {
+        private List<ResponseDto> content;
+        private long totalCount;
+        private boolean hasNext;
+        private LocalDateTime nextCursorCreatedAt;
+        private Long nextCursorId;
+    }
 }
\ No newline at end of file
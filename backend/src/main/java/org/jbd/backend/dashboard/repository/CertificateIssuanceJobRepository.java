@@ -0,0 +1,45 @@
+package org.jbd.backend.dashboard.repository;
+
+import org.jbd.backend.dashboard.domain.CertificateIssuanceJob;
+import org.jbd.backend.dashboard.domain.enums.IssuanceJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface CertificateIssuanceJobRepository extends JpaRepository<CertificateIssuanceJob, Long> {
+
+    @Modifying
+    @Query("UPDATE CertificateIssuanceJob j SET j.status = org.jbd.backend.dashboard.domain.enums.IssuanceJobStatus.RUNNING, " +
+           "j.startedAt = :startedAt WHERE j.id = :jobId")
+    int markRunning(@Param("jobId") Long jobId, @Param("startedAt") LocalDateTime startedAt);
+
+    /**
+     * 배치 처리 결과를 진행 건수에 누적
+     */
+    @Modifying
+    @Query("UPDATE CertificateIssuanceJob j SET j.completedCount = j.completedCount + :completed, " +
+           "j.failedCount = j.failedCount + :failed WHERE j.id = :jobId")
+    int addProgress(@Param("jobId") Long jobId, @Param("completed") int completed, @Param("failed") int failed);
+
+    @Modifying
+    @Query("UPDATE CertificateIssuanceJob j SET j.status = :status, j.finishedAt = :finishedAt WHERE j.id = :jobId")
+    int finish(@Param("jobId") Long jobId,
+               @Param("status") IssuanceJobStatus status,
+               @Param("finishedAt") LocalDateTime finishedAt);
+
+    /**
+     * 시작 시각 이전에 등록되어 끝나지 않은(QUEUED/RUNNING) 작업을 실패 처리
+     */
+    @Modifying
+    @Query("UPDATE CertificateIssuanceJob j SET j.status = org.jbd.backend.dashboard.domain.enums.IssuanceJobStatus.FAILED, " +
+           "j.finishedAt = :finishedAt " +
+           "WHERE j.status IN (org.jbd.backend.dashboard.domain.enums.IssuanceJobStatus.QUEUED, " +
+           "org.jbd.backend.dashboard.domain.enums.IssuanceJobStatus.RUNNING) AND j.createdAt < :createdBefore")
+    int failUnfinishedCreatedBefore(@Param("createdBefore") LocalDateTime createdBefore,
+                                    @Param("finishedAt") LocalDateTime finishedAt);
+}
@@ -5,15 +5,118 @@ import org.jbd.backend.dashboard.domain.enums.RequestStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CertificateRequestRepository extends JpaRepository<CertificateRequest, Long> {
+
+    /**
+     * 목록 프로젝션 공통 SELECT 절 (요청자 이메일/이름을 조인으로 함께 조회)
+     */
+    String VIEW_SELECT = "SELECT cr.id AS id, u.email AS userEmail, " +
+                         "up.firstName AS userFirstName, up.lastName AS userLastName, " +
+                         "cr.certificateType AS certificateType, cr.status AS status, cr.purpose AS purpose, " +
+                         "cr.adminNotes AS adminNotes, cr.createdAt AS createdAt, cr.processedAt AS processedAt " +
+                         "FROM CertificateRequest cr JOIN cr.user u LEFT JOIN UserProfile up ON up.user = u ";
+
+    String KEYSET_AFTER = "(cr.createdAt < :cursorCreatedAt OR (cr.createdAt = :cursorCreatedAt AND cr.id < :cursorId)) ";
+
+    String NEWEST_FIRST = "ORDER BY cr.createdAt DESC, cr.id DESC";
+
+    /**
+     * 전체 요청 목록 프로젝션 (최신순, 오프셋 페이징)
+     */
+    @Query(VIEW_SELECT + NEWEST_FIRST)
+    List<CertificateRequestView> findViews(Pageable pageable);
+
+    /**
+     * 전체 요청 목록 프로젝션 - 커서 이후 (createdAt, id) 키셋 페이징
+     */
+    @Query(VIEW_SELECT + "WHERE " + KEYSET_AFTER + NEWEST_FIRST)
+    List<CertificateRequestView> findViewsAfter(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                @Param("cursorId") Long cursorId,
+                                                Pageable pageable);
+
+    @Query(VIEW_SELECT + "WHERE cr.status = :status " + NEWEST_FIRST)
+    List<CertificateRequestView> findViewsByStatus(@Param("status") RequestStatus status, Pageable pageable);
+
+    @Query(VIEW_SELECT + "WHERE cr.status = :status AND " + KEYSET_AFTER + NEWEST_FIRST)
+    List<CertificateRequestView> findViewsByStatusAfter(@Param("status") RequestStatus status,
+                                                        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                        @Param("cursorId") Long cursorId,
+                                                        Pageable pageable);
+
+    @Query(VIEW_SELECT + "WHERE u.id = :userId " + NEWEST_FIRST)
+    List<CertificateRequestView> findViewsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(VIEW_SELECT + "WHERE u.id = :userId AND " + KEYSET_AFTER + NEWEST_FIRST)
+    List<CertificateRequestView> findViewsByUserIdAfter(@Param("userId") Long userId,
+                                                        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                        @Param("cursorId") Long cursorId,
+                                                        Pageable pageable);
+
+    /**
+     * 처리 대기중인 요청 프로젝션 (오래된 순)
+     */
+    @Query(VIEW_SELECT + "WHERE cr.status = org.jbd.backend.dashboard.domain.enums.RequestStatus.PENDING " +
+           "ORDER BY cr.createdAt ASC, cr.id ASC")
+    List<CertificateRequestView> findOldestPendingViews(Pageable pageable);
+
+    @Query(VIEW_SELECT + "WHERE cr.id IN :ids ORDER BY cr.createdAt ASC, cr.id ASC")
+    List<CertificateRequestView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 관리자 대기열: 아무도 처리하지 않는(또는 임대가 만료된) 대기 요청을 오래된 순으로 잠금
+     *
+     * SKIP LOCKED로 다른 관리자가 잠근 행은 건너뛰므로 동시에 호출해도 서로 다른 요청을 가져갑니다.
+     * 반드시 claimRequests와 같은 트랜잭션에서 호출해야 합니다.
+     */
+    @Query(value = "SELECT cr.id FROM certificate_requests cr " +
+                   "WHERE cr.status = 'PENDING' AND (cr.claimed_by IS NULL OR cr.claimed_at < :leaseExpiredBefore) " +
+                   "ORDER BY cr.created_at ASC, cr.id ASC " +
+                   "LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Long> lockNextPendingIds(@Param("leaseExpiredBefore") LocalDateTime leaseExpiredBefore,
+                                  @Param("limit") int limit);
+
+    /**
+     * 상태별 요청 수 (카운터 보정용): [status, count]
+     */
+    @Query("SELECT cr.status, COUNT(cr) FROM CertificateRequest cr GROUP BY cr.status")
+    List<Object[]> countGroupByStatus();
+
+    /**
+     * 발급 대상(승인됨) 요청 ID를 ID 순으로 조회
+     */
+    @Query("SELECT cr.id FROM CertificateRequest cr " +
+           "WHERE cr.status = org.jbd.backend.dashboard.domain.enums.RequestStatus.APPROVED AND cr.id > :afterId " +
+           "ORDER BY cr.id ASC")
+    List<Long> findApprovedIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT cr.id FROM CertificateRequest cr " +
+           "WHERE cr.status = org.jbd.backend.dashboard.domain.enums.RequestStatus.APPROVED AND cr.id IN :ids " +
+           "ORDER BY cr.id ASC")
+    List<Long> findApprovedIdsIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT cr.documentKey FROM CertificateRequest cr WHERE cr.id = :id AND cr.user.id = :userId")
+    Optional<String> findDocumentKeyByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query("SELECT cr.documentKey FROM CertificateRequest cr WHERE cr.id = :id")
+    Optional<String> findDocumentKeyById(@Param("id") Long id);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CertificateRequest cr SET cr.claimedBy = :adminId, cr.claimedAt = :claimedAt WHERE cr.id IN :ids")
+    int claimRequests(@Param("ids") Collection<Long> ids,
+                      @Param("adminId") Long adminId,
+                      @Param("claimedAt") LocalDateTime claimedAt);
     
     /**
      * 특정 사용자의 자격증 요청 목록 조회
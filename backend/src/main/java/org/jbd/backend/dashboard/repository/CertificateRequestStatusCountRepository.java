@@ -0,0 +1,23 @@
+package org.jbd.backend.dashboard.repository;
+
+import org.jbd.backend.dashboard.domain.CertificateRequestStatusCount;
+import org.jbd.backend.dashboard.domain.enums.RequestStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CertificateRequestStatusCountRepository extends JpaRepository<CertificateRequestStatusCount, RequestStatus> {
+
+    /**
+     * 상태 카운터에 델타를 원자적으로 반영 (행이 없으면 생성)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO certificate_request_status_counts (status, request_count) " +
+                   "VALUES (:status, :delta) " +
+                   "ON DUPLICATE KEY UPDATE request_count = request_count + :delta",
+           nativeQuery = true)
+    int adjustCount(@Param("status") String status, @Param("delta") long delta);
+}
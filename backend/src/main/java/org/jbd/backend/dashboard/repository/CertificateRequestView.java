@@ -0,0 +1,34 @@
+package org.jbd.backend.dashboard.repository;
+
+import org.jbd.backend.dashboard.domain.CertificateType;
+import org.jbd.backend.dashboard.domain.enums.RequestStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 증명서 요청 목록용 프로젝션
+ *
+ * 요청자 이메일/이름을 SQL 조인으로 함께 조회하여 목록 변환 시 User 지연 로딩이 발생하지 않도록 합니다.
+ */
+public interface CertificateRequestView {
+
+    Long getId();
+
+    String getUserEmail();
+
+    String getUserFirstName();
+
+    String getUserLastName();
+
+    CertificateType getCertificateType();
+
+    RequestStatus getStatus();
+
+    String getPurpose();
+
+    String getAdminNotes();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getProcessedAt();
+}
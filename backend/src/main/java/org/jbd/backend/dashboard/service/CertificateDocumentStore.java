@@ -0,0 +1,79 @@
+package org.jbd.backend.dashboard.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 콘텐츠 주소 기반 증명서 문서 저장소
+ *
+ * 문서 바이트의 SHA-256 해시를 키로 {root}/{앞 2자리}/{해시}.html 에 저장합니다.
+ * 같은 내용은 한 번만 기록되고, 임시 파일 작성 후 원자적으로 이동하므로
+ * 여러 워커가 동시에 같은 문서를 저장해도 안전합니다.
+ */
+@Component
+public class CertificateDocumentStore {
+
+    private final Path root;
+
+    public CertificateDocumentStore(@Value("${app.certificate.storage-dir:./storage/certificates}") String storageDir) {
+        this.root = Paths.get(storageDir).toAbsolutePath().normalize();
+    }
+
+    /**
+     * 문서를 저장하고 콘텐츠 키(SHA-256 hex)를 반환
+     */
+    public String store(byte[] content) {
+        String key = sha256(content);
+        Path target = pathOf(key);
+        if (Files.exists(target)) {
+            return key;
+        }
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), key, ".tmp");
+            try {
+                Files.write(temp, content);
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // 다른 워커가 같은 내용을 먼저 저장함
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            return key;
+        } catch (IOException e) {
+            throw new UncheckedIOException("증명서 문서를 저장할 수 없습니다: " + key, e);
+        }
+    }
+
+    public Optional<byte[]> load(String key) {
+        if (key == null || !key.matches("[0-9a-f]{64}")) {
+            return Optional.empty();
+        }
+        Path path = pathOf(key);
+        try {
+            return Files.exists(path) ? Optional.of(Files.readAllBytes(path)) : Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("증명서 문서를 읽을 수 없습니다: " + key, e);
+        }
+    }
+
+    private Path pathOf(String key) {
+        return root.resolve(key.substring(0, 2)).resolve(key + ".html");
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package org.jbd.backend.dashboard.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.common.exception.BusinessException;
+import org.jbd.backend.common.exception.ErrorCode;
+import org.jbd.backend.dashboard.domain.CertificateIssuanceJob;
+import org.jbd.backend.dashboard.domain.enums.IssuanceJobStatus;
+import org.jbd.backend.dashboard.domain.enums.RequestStatus;
+import org.jbd.backend.dashboard.dto.CertificateIssuanceDto;
+import org.jbd.backend.dashboard.dto.CertificateRequestDto;
+import org.jbd.backend.dashboard.repository.CertificateIssuanceJobRepository;
+import org.jbd.backend.dashboard.repository.CertificateRequestRepository;
+import org.jbd.backend.dashboard.repository.CertificateRequestView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 증명서 일괄 발급 파이프라인
+ *
+ * 승인된 증명서 요청을 배치 단위로 나누어 다음 순서로 처리합니다.
+ * 1. 조회: 배치의 요청자 정보를 프로젝션 한 번으로 조회
+ * 2. 렌더링: 제한된 크기의 워커 풀에서 미리 컴파일된 템플릿으로 문서 생성
+ * 3. 저장: CertificateDocumentStore에 콘텐츠 주소(SHA-256)로 저장
+ * 4. 완료: 배치 전체를 JDBC batch UPDATE로 COMPLETED 처리하고 작업 진행률/상태 카운터를 함께 갱신
+ *
+ * 작업은 단일 코디네이터 스레드에서 순서대로 실행되며, 완료 UPDATE는 APPROVED 상태인 행만 변경하므로
+ * 같은 요청이 두 작업에 포함되어도 한 번만 완료 처리됩니다.
+ *
+ * 대기 중인 작업은 메모리에만 있으므로, 재시작 전에 끝나지 않은 작업은 시작 시 실패 처리합니다.
+ * 이미 완료된 요청은 COMPLETED 로 남고 나머지는 APPROVED 상태이므로 새 작업으로 다시 발급하면 됩니다.
+ */
+@Slf4j
+@Service
+public class CertificateIssuanceService {
+
+    private static final DateTimeFormatter ISSUED_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy년 M월 d일");
+
+    private final CertificateRequestRepository certificateRequestRepository;
+    private final CertificateIssuanceJobRepository issuanceJobRepository;
+    private final CertificateRequestCounterService counterService;
+    private final CertificateTemplateRegistry templateRegistry;
+    private final CertificateDocumentStore documentStore;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+    private final int maxRequestsPerJob;
+    private final ExecutorService coordinator;
+    private final ThreadPoolExecutor renderPool;
+    private final LocalDateTime bootedAt = LocalDateTime.now();
+
+    public CertificateIssuanceService(CertificateRequestRepository certificateRequestRepository,
+                                      CertificateIssuanceJobRepository issuanceJobRepository,
+                                      CertificateRequestCounterService counterService,
+                                      CertificateTemplateRegistry templateRegistry,
+                                      CertificateDocumentStore documentStore,
+                                      JdbcTemplate jdbcTemplate,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${app.certificate.issuance.workers:4}") int workers,
+                                      @Value("${app.certificate.issuance.batch-size:100}") int batchSize,
+                                      @Value("${app.certificate.issuance.max-requests-per-job:5000}") int maxRequestsPerJob) {
+        this.certificateRequestRepository = certificateRequestRepository;
+        this.issuanceJobRepository = issuanceJobRepository;
+        this.counterService = counterService;
+        this.templateRegistry = templateRegistry;
+        this.documentStore = documentStore;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxRequestsPerJob = maxRequestsPerJob;
+        this.coordinator = Executors.newSingleThreadExecutor(namedThreads("certificate-issuance-"));
+        // 큐가 가득 차면 코디네이터가 직접 렌더링하여 자연스럽게 제출 속도를 늦춤
+        this.renderPool = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(batchSize), namedThreads("certificate-render-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 발급 작업 등록 (requestIds가 비어 있으면 승인된 요청 전체, 최대 max-requests-per-job건)
+     */
+    public CertificateIssuanceDto.JobResponseDto startJob(Long adminId, List<Long> requestIds) {
+        List<Long> targetIds = resolveTargets(requestIds);
+        if (targetIds.isEmpty()) {
+            throw new IllegalArgumentException("발급할 승인된 증명서 요청이 없습니다");
+        }
+
+        CertificateIssuanceJob job = transactionTemplate.execute(status ->
+                issuanceJobRepository.save(new CertificateIssuanceJob(adminId, targetIds.size())));
+
+        coordinator.submit(() -> runJob(job.getId(), targetIds));
+        log.info("Certificate issuance job {} queued by admin {}: {} requests", job.getId(), adminId, targetIds.size());
+        return CertificateIssuanceDto.JobResponseDto.from(job);
+    }
+
+    @Transactional(readOnly = true)
+    public CertificateIssuanceDto.JobResponseDto getJob(Long jobId) {
+        CertificateIssuanceJob job = issuanceJobRepository.findById(jobId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "발급 작업을 찾을 수 없습니다"));
+        return CertificateIssuanceDto.JobResponseDto.from(job);
+    }
+
+    /**
+     * 발급된 증명서 문서 조회 (관리자가 아니면 본인 요청만)
+     */
+    @Transactional(readOnly = true)
+    public byte[] getDocument(Long requestId, Long userId, boolean admin) {
+        Optional<String> documentKey = admin
+                ? certificateRequestRepository.findDocumentKeyById(requestId)
+                : certificateRequestRepository.findDocumentKeyByIdAndUserId(requestId, userId);
+        return documentKey.flatMap(documentStore::load)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "발급된 증명서를 찾을 수 없습니다"));
+    }
+
+    /**
+     * 이전 실행에서 끝나지 않은 작업 정리 (이 인스턴스 시작 전에 등록된 QUEUED/RUNNING 작업은 대기열에 없음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failOrphanedJobs() {
+        try {
+            Integer failed = transactionTemplate.execute(status ->
+                    issuanceJobRepository.failUnfinishedCreatedBefore(bootedAt, LocalDateTime.now()));
+            if (failed != null && failed > 0) {
+                log.warn("Marked {} certificate issuance jobs interrupted by restart as FAILED", failed);
+            }
+        } catch (Exception e) {
+            log.error("Failed to clean up interrupted certificate issuance jobs", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        renderPool.shutdownNow();
+    }
+
+    private List<Long> resolveTargets(List<Long> requestIds) {
+        if (requestIds != null && !requestIds.isEmpty()) {
+            if (requestIds.size() > maxRequestsPerJob) {
+                throw new IllegalArgumentException("한 번에 최대 " + maxRequestsPerJob + "건까지 발급할 수 있습니다");
+            }
+            return certificateRequestRepository.findApprovedIdsIn(new LinkedHashSet<>(requestIds));
+        }
+
+        List<Long> ids = new ArrayList<>();
+        Long afterId = 0L;
+        while (ids.size() < maxRequestsPerJob) {
+            int limit = Math.min(1000, maxRequestsPerJob - ids.size());
+            List<Long> page = certificateRequestRepository.findApprovedIdsAfter(afterId, PageRequest.of(0, limit));
+            if (page.isEmpty()) {
+                break;
+            }
+            ids.addAll(page);
+            afterId = page.get(page.size() - 1);
+        }
+        return ids;
+    }
+
+    void runJob(Long jobId, List<Long> requestIds) {
+        long started = System.currentTimeMillis();
+        String issuedDate = LocalDate.now().format(ISSUED_DATE_FORMAT);
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    issuanceJobRepository.markRunning(jobId, LocalDateTime.now()));
+
+            for (int from = 0; from < requestIds.size(); from += batchSize) {
+                List<Long> chunk = requestIds.subList(from, Math.min(from + batchSize, requestIds.size()));
+                processBatch(jobId, chunk, issuedDate);
+            }
+
+            finish(jobId, IssuanceJobStatus.COMPLETED);
+            log.info("Certificate issuance job {} finished: {} requests in {} ms",
+                    jobId, requestIds.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("Certificate issuance job {} failed", jobId, e);
+            finish(jobId, IssuanceJobStatus.FAILED);
+        }
+    }
+
+    private void processBatch(Long jobId, List<Long> chunk, String issuedDate) throws InterruptedException {
+        List<CertificateRequestView> views = certificateRequestRepository.findViewsByIdIn(chunk);
+
+        List<Future<IssuedDocument>> futures = new ArrayList<>(views.size());
+        for (CertificateRequestView view : views) {
+            futures.add(renderPool.submit(() -> issue(view, issuedDate)));
+        }
+
+        List<IssuedDocument> issued = new ArrayList<>(futures.size());
+        int failed = chunk.size() - views.size();
+        for (Future<IssuedDocument> future : futures) {
+            try {
+                issued.add(future.get());
+            } catch (ExecutionException e) {
+                failed++;
+                log.warn("Certificate rendering failed in job {}: {}", jobId, e.getCause().getMessage());
+            }
+        }
+
+        int renderFailed = failed;
+        transactionTemplate.executeWithoutResult(status -> {
+            int completed = completeBatch(issued);
+            counterService.onStatusChanged(RequestStatus.APPROVED, RequestStatus.COMPLETED, completed);
+            // 그 사이 다른 작업이 먼저 완료했거나 상태가 바뀐 건은 실패로 집계
+            issuanceJobRepository.addProgress(jobId, completed, renderFailed + issued.size() - completed);
+        });
+    }
+
+    private IssuedDocument issue(CertificateRequestView view, String issuedDate) {
+        Map<String, String> values = new HashMap<>();
+        values.put("certificateNumber", String.format("%d-%06d", view.getCreatedAt().getYear(), view.getId()));
+        values.put("name", CertificateRequestDto.ResponseDto.resolveUserName(view));
+        values.put("email", view.getUserEmail());
+        values.put("purpose", view.getPurpose());
+        values.put("issuedDate", issuedDate);
+
+        String html = templateRegistry.get(view.getCertificateType()).render(values);
+        String documentKey = documentStore.store(html.getBytes(StandardCharsets.UTF_8));
+        return new IssuedDocument(view.getId(), documentKey);
+    }
+
+    private int completeBatch(List<IssuedDocument> issued) {
+        if (issued.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[] counts = jdbcTemplate.batchUpdate(
+                "UPDATE certificate_requests SET status = 'COMPLETED', document_key = ?, processed_at = ?, updated_at = ? " +
+                "WHERE id = ? AND status = 'APPROVED'",
+                issued.stream().map(doc -> new Object[]{doc.documentKey(), now, now, doc.requestId()}).toList());
+
+        int completed = 0;
+        for (int count : counts) {
+            if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                completed++;
+            }
+        }
+        return completed;
+    }
+
+    private void finish(Long jobId, IssuanceJobStatus status) {
+        try {
+            transactionTemplate.executeWithoutResult(tx ->
+                    issuanceJobRepository.finish(jobId, status, LocalDateTime.now()));
+        } catch (Exception e) {
+            log.error("Failed to record final status {} for certificate issuance job {}", status, jobId, e);
+        }
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record IssuedDocument(Long requestId, String documentKey) {
+    }
+}
@@ -0,0 +1,119 @@
+package org.jbd.backend.dashboard.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.dashboard.domain.CertificateRequestStatusCount;
+import org.jbd.backend.dashboard.domain.enums.RequestStatus;
+import org.jbd.backend.dashboard.repository.CertificateRequestRepository;
+import org.jbd.backend.dashboard.repository.CertificateRequestStatusCountRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 증명서 요청 상태별 카운터 서비스
+ *
+ * certificate_request_status_counts 를 델타 upsert로만 갱신하며 호출자의 트랜잭션에 참여합니다.
+ * 드리프트 보정은 상태별 실제 요청 수를 집계해 카운터와 다른 상태에만 차이만큼 델타를 반영하므로,
+ * 보정 중에 커밋되는 다른 트랜잭션의 델타를 지우거나 두 번 세지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CertificateRequestCounterService {
+
+    private final CertificateRequestStatusCountRepository statusCountRepository;
+    private final CertificateRequestRepository certificateRequestRepository;
+
+    @Transactional
+    public void onCreated(RequestStatus status) {
+        statusCountRepository.adjustCount(status.name(), 1);
+    }
+
+    /**
+     * 상태 변경 반영 (상태가 실제로 바뀐 경우에만 갱신)
+     */
+    @Transactional
+    public void onStatusChanged(RequestStatus from, RequestStatus to) {
+        if (from == to) {
+            return;
+        }
+        statusCountRepository.adjustCount(from.name(), -1);
+        statusCountRepository.adjustCount(to.name(), 1);
+    }
+
+    /**
+     * 일괄 처리 반영: count건이 from에서 to로 이동
+     */
+    @Transactional
+    public void onStatusChanged(RequestStatus from, RequestStatus to, long count) {
+        if (from == to || count == 0) {
+            return;
+        }
+        statusCountRepository.adjustCount(from.name(), -count);
+        statusCountRepository.adjustCount(to.name(), count);
+    }
+
+    /**
+     * 상태별 요청 수 조회 (요청이 없는 상태는 0)
+     */
+    public Map<RequestStatus, Long> getStatusCounts() {
+        Map<RequestStatus, Long> counts = new EnumMap<>(RequestStatus.class);
+        for (RequestStatus status : RequestStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (CertificateRequestStatusCount row : statusCountRepository.findAll()) {
+            counts.put(row.getStatus(), Math.max(row.getCount(), 0L));
+        }
+        return counts;
+    }
+
+    /**
+     * 상태별 요청 수 (status가 null이면 전체 합계)
+     */
+    public long getCount(RequestStatus status) {
+        Map<RequestStatus, Long> counts = getStatusCounts();
+        if (status == null) {
+            return counts.values().stream().mapToLong(Long::longValue).sum();
+        }
+        return counts.get(status);
+    }
+
+    /**
+     * 카운터를 certificate_requests 집계와 비교하여 다른 상태만 보정
+     *
+     * REPEATABLE READ 트랜잭션으로 집계와 카운터를 같은 스냅샷에서 읽으므로 둘의 차이는 실제 드리프트이며,
+     * (READ COMMITTED 에서는 두 조회 사이의 커밋이 드리프트로 보일 수 있음)
+     * 절대값 대신 차이를 원자적 델타로 반영하여 스냅샷 이후 커밋된 요청의 증감을 보존합니다.
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    @Scheduled(initialDelayString = "${app.certificate.counter-reconcile.initial-delay-ms:60000}",
+               fixedDelayString = "${app.certificate.counter-reconcile.interval-ms:3600000}")
+    public void reconcile() {
+        Map<RequestStatus, Long> actual = new EnumMap<>(RequestStatus.class);
+        for (Object[] row : certificateRequestRepository.countGroupByStatus()) {
+            actual.put((RequestStatus) row[0], ((Number) row[1]).longValue());
+        }
+        Map<RequestStatus, Long> stored = new EnumMap<>(RequestStatus.class);
+        for (CertificateRequestStatusCount row : statusCountRepository.findAll()) {
+            stored.put(row.getStatus(), row.getCount());
+        }
+
+        int corrected = 0;
+        for (RequestStatus status : RequestStatus.values()) {
+            long delta = actual.getOrDefault(status, 0L) - stored.getOrDefault(status, 0L);
+            if (delta != 0) {
+                statusCountRepository.adjustCount(status.name(), delta);
+                corrected++;
+            }
+        }
+        if (corrected > 0) {
+            log.warn("Certificate request counter drift corrected for {} statuses", corrected);
+        }
+    }
+}
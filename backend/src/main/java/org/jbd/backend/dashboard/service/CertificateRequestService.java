@@ -4,16 +4,23 @@ import lombok.RequiredArgsConstructor;
 import org.jbd.backend.common.exception.BusinessException;
 import org.jbd.backend.common.exception.ErrorCode;
 import org.jbd.backend.dashboard.domain.CertificateRequest;
+import org.jbd.backend.dashboard.domain.enums.RequestStatus;
 import org.jbd.backend.dashboard.dto.CertificateRequestDto;
 import org.jbd.backend.dashboard.repository.CertificateRequestRepository;
+import org.jbd.backend.dashboard.repository.CertificateRequestView;
 import org.jbd.backend.user.domain.User;
 import org.jbd.backend.user.service.UserService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,32 +28,106 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class CertificateRequestService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_CLAIM_COUNT = 50;
+
     private final CertificateRequestRepository certificateRequestRepository;
+    private final CertificateRequestCounterService counterService;
     private final UserService userService;
 
+    @Value("${app.certificate.claim-lease-minutes:30}")
+    private long claimLeaseMinutes;
+
     @Transactional
     public CertificateRequestDto.ResponseDto requestCertificate(Long userId, CertificateRequestDto.CreateDto dto) {
         User user = userService.findUserById(userId);
         
         CertificateRequest request = new CertificateRequest(user, dto.getCertificateType(), dto.getPurpose());
         CertificateRequest saved = certificateRequestRepository.save(request);
+        counterService.onCreated(saved.getStatus());
         
-        return CertificateRequestDto.ResponseDto.from(saved);
+        return toResponseDto(saved);
     }
 
-    public List<CertificateRequestDto.ResponseDto> getUserRequests(Long userId) {
-        User user = userService.findUserById(userId);
-        List<CertificateRequest> requests = certificateRequestRepository.findByUserOrderByCreatedAtDesc(user);
-        
-        return requests.stream()
-                .map(CertificateRequestDto.ResponseDto::from)
-                .collect(Collectors.toList());
+    /**
+     * 내 요청 목록 (최신순, 커서 이후 size건)
+     */
+    public List<CertificateRequestDto.ResponseDto> getUserRequests(Long userId, LocalDateTime cursorCreatedAt,
+                                                                   Long cursorId, int size) {
+        Pageable limit = PageRequest.of(0, clampSize(size));
+        List<CertificateRequestView> views = hasCursor(cursorCreatedAt, cursorId)
+                ? certificateRequestRepository.findViewsByUserIdAfter(userId, cursorCreatedAt, cursorId, limit)
+                : certificateRequestRepository.findViewsByUserId(userId, limit);
+
+        return toResponseDtos(views);
     }
 
     public Page<CertificateRequestDto.ResponseDto> getAllRequests(Pageable pageable) {
-        Page<CertificateRequest> requests = certificateRequestRepository.findAllByOrderByCreatedAtDesc(pageable);
-        
-        return requests.map(CertificateRequestDto.ResponseDto::from);
+        // 정렬은 (createdAt, id) 내림차순으로 고정, 전체 건수는 상태 카운터 합계 사용
+        Pageable page = PageRequest.of(pageable.getPageNumber(), clampSize(pageable.getPageSize()));
+        List<CertificateRequestView> views = certificateRequestRepository.findViews(page);
+
+        return new PageImpl<>(toResponseDtos(views), page, counterService.getCount(null));
+    }
+
+    /**
+     * 관리자 대기열 키셋 페이징 (status가 null이면 전체)
+     */
+    public CertificateRequestDto.CursorPageDto getRequestQueue(RequestStatus status, LocalDateTime cursorCreatedAt,
+                                                               Long cursorId, int size) {
+        int pageSize = clampSize(size);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        boolean hasCursor = hasCursor(cursorCreatedAt, cursorId);
+
+        List<CertificateRequestView> views;
+        if (status == null) {
+            views = hasCursor
+                    ? certificateRequestRepository.findViewsAfter(cursorCreatedAt, cursorId, limit)
+                    : certificateRequestRepository.findViews(limit);
+        } else {
+            views = hasCursor
+                    ? certificateRequestRepository.findViewsByStatusAfter(status, cursorCreatedAt, cursorId, limit)
+                    : certificateRequestRepository.findViewsByStatus(status, limit);
+        }
+
+        boolean hasNext = views.size() > pageSize;
+        List<CertificateRequestView> pageViews = hasNext ? views.subList(0, pageSize) : views;
+        CertificateRequestView last = pageViews.isEmpty() ? null : pageViews.get(pageViews.size() - 1);
+
+        return CertificateRequestDto.CursorPageDto.builder()
+                .content(toResponseDtos(pageViews))
+                .totalCount(counterService.getCount(status))
+                .hasNext(hasNext)
+                .nextCursorCreatedAt(hasNext ? last.getCreatedAt() : null)
+                .nextCursorId(hasNext ? last.getId() : null)
+                .build();
+    }
+
+    /**
+     * 대기 요청 최대 count건을 관리자에게 할당
+     *
+     * 다른 관리자가 할당받아 처리 중인(임대 미만료) 요청과 동시에 잠긴 요청은 건너뛰므로
+     * 여러 관리자가 동시에 호출해도 같은 요청을 받지 않습니다.
+     */
+    @Transactional
+    public List<CertificateRequestDto.ResponseDto> claimNextPending(Long adminId, int count) {
+        if (count < 1 || count > MAX_CLAIM_COUNT) {
+            throw new IllegalArgumentException("한 번에 가져올 수 있는 요청 수는 1~" + MAX_CLAIM_COUNT + "건입니다");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = certificateRequestRepository.lockNextPendingIds(now.minusMinutes(claimLeaseMinutes), count);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        certificateRequestRepository.claimRequests(ids, adminId, now);
+        return toResponseDtos(certificateRequestRepository.findViewsByIdIn(ids));
+    }
+
+    public Map<RequestStatus, Long> getStatusCounts() {
+        return counterService.getStatusCounts();
     }
 
     @Transactional
@@ -54,6 +135,7 @@ public class CertificateRequestService {
         CertificateRequest request = certificateRequestRepository.findById(requestId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "증명서 요청을 찾을 수 없습니다"));
         
+        RequestStatus previousStatus = request.getStatus();
         if (dto.getApproved()) {
             request.approve(dto.getAdminNotes());
         } else {
@@ -61,7 +143,8 @@ public class CertificateRequestService {
         }
         
         CertificateRequest saved = certificateRequestRepository.save(request);
-        return CertificateRequestDto.ResponseDto.from(saved);
+        counterService.onStatusChanged(previousStatus, saved.getStatus());
+        return toResponseDto(saved);
     }
 
     @Transactional
@@ -69,9 +152,35 @@ public class CertificateRequestService {
         CertificateRequest request = certificateRequestRepository.findById(requestId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "증명서 요청을 찾을 수 없습니다"));
         
+        RequestStatus previousStatus = request.getStatus();
         request.complete();
         CertificateRequest saved = certificateRequestRepository.save(request);
+        counterService.onStatusChanged(previousStatus, saved.getStatus());
         
-        return CertificateRequestDto.ResponseDto.from(saved);
+        return toResponseDto(saved);
+    }
+
+    /**
+     * 저장한 요청을 목록과 같은 프로젝션으로 다시 읽어 변환 (프로필 이름 규칙을 한 곳에서 적용)
+     */
+    private CertificateRequestDto.ResponseDto toResponseDto(CertificateRequest saved) {
+        return toResponseDtos(certificateRequestRepository.findViewsByIdIn(List.of(saved.getId()))).get(0);
+    }
+
+    private List<CertificateRequestDto.ResponseDto> toResponseDtos(List<CertificateRequestView> views) {
+        return views.stream()
+                .map(CertificateRequestDto.ResponseDto::from)
+                .collect(Collectors.toList());
+    }
+
+    private boolean hasCursor(LocalDateTime cursorCreatedAt, Long cursorId) {
+        if ((cursorCreatedAt == null) != (cursorId == null)) {
+            throw new IllegalArgumentException("커서는 cursorCreatedAt과 cursorId를 함께 지정해야 합니다");
+        }
+        return cursorCreatedAt != null;
+    }
+
+    private int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,83 @@
+package org.jbd.backend.dashboard.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 컴파일된 증명서 템플릿
+ *
+ * {{key}} 자리표시자를 한 번만 파싱하여 고정 문자열 조각과 키 목록으로 보관합니다.
+ * 렌더링은 조각을 순서대로 이어 붙이기만 하므로 요청마다 템플릿을 다시 해석하지 않으며,
+ * 불변 객체라 여러 워커 스레드에서 동시에 사용할 수 있습니다.
+ */
+public final class CertificateTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String[] literals;
+    private final String[] keys;
+    private final int literalLength;
+
+    private CertificateTemplate(String[] literals, String[] keys) {
+        this.literals = literals;
+        this.keys = keys;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static CertificateTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, position);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("닫히지 않은 템플릿 자리표시자가 있습니다: " + open);
+            }
+            literals.add(source.substring(position, open));
+            keys.add(source.substring(open + OPEN.length(), close).trim());
+            position = close + CLOSE.length();
+        }
+        literals.add(source.substring(position));
+        return new CertificateTemplate(literals.toArray(new String[0]), keys.toArray(new String[0]));
+    }
+
+    /**
+     * 값은 HTML 이스케이프하여 삽입하며, 값이 없는 키는 빈 문자열로 렌더링합니다.
+     */
+    public String render(Map<String, String> values) {
+        StringBuilder sb = new StringBuilder(literalLength + keys.length * 16);
+        for (int i = 0; i < keys.length; i++) {
+            sb.append(literals[i]);
+            appendEscaped(sb, values.get(keys[i]));
+        }
+        sb.append(literals[keys.length]);
+        return sb.toString();
+    }
+
+    private static void appendEscaped(StringBuilder sb, String value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<' -> sb.append("&lt;");
+                case '>' -> sb.append("&gt;");
+                case '&' -> sb.append("&amp;");
+                case '"' -> sb.append("&quot;");
+                case '\'' -> sb.append("&#39;");
+                default -> sb.append(c);
+            }
+        }
+    }
+}
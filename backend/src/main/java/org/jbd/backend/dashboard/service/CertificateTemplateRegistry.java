@@ -0,0 +1,58 @@
+package org.jbd.backend.dashboard.service;
+
+import org.jbd.backend.dashboard.domain.CertificateType;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 증명서 종류별 템플릿 저장소
+ *
+ * 애플리케이션 시작 시 공통 레이아웃에 종류별 제목/본문을 채워 한 번만 컴파일하고 재사용합니다.
+ */
+@Component
+public class CertificateTemplateRegistry {
+
+    private static final String LAYOUT_PATH = "templates/certificates/certificate.html";
+
+    private final Map<CertificateType, CertificateTemplate> templates = new EnumMap<>(CertificateType.class);
+
+    public CertificateTemplateRegistry() {
+        String layout = loadLayout();
+        for (CertificateType type : CertificateType.values()) {
+            String source = layout
+                    .replace("{{title}}", type.getDescription())
+                    .replace("{{body}}", bodyOf(type));
+            templates.put(type, CertificateTemplate.compile(source));
+        }
+    }
+
+    public CertificateTemplate get(CertificateType type) {
+        return templates.get(type);
+    }
+
+    private String bodyOf(CertificateType type) {
+        return switch (type) {
+            case COMPLETION_CERTIFICATE -> "위 사람은 본 교육센터의 교육과정을 성실히 수료하였기에 이 증서를 수여합니다.";
+            case ENROLLMENT_CERTIFICATE -> "위 사람은 본 교육센터의 교육과정에 재학 중임을 증명합니다.";
+            case COURSE_COMPLETION_CERTIFICATE -> "위 사람은 본 교육센터에서 소정의 교육과정을 이수하였음을 증명합니다.";
+            case TRANSCRIPT -> "위 사람의 교육과정 성적이 본 교육센터의 기록과 같음을 증명합니다.";
+            case ATTENDANCE_CERTIFICATE -> "위 사람의 교육과정 출석 사항이 본 교육센터의 기록과 같음을 증명합니다.";
+            case VACATION_REQUEST -> "위 사람의 휴가 신청이 승인되었음을 확인합니다.";
+        };
+    }
+
+    private String loadLayout() {
+        try (InputStream in = new ClassPathResource(LAYOUT_PATH).getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("증명서 템플릿을 불러올 수 없습니다: " + LAYOUT_PATH, e);
+        }
+    }
+}
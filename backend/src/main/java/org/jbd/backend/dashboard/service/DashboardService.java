@@ -3,12 +3,13 @@ package org.jbd.backend.dashboard.service;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.jbd.backend.dashboard.domain.CertificateRequest;
 import org.jbd.backend.dashboard.domain.enums.RequestStatus;
 import org.jbd.backend.dashboard.dto.AdminDashboardDto;
+import org.jbd.backend.dashboard.dto.CertificateRequestDto;
 import org.jbd.backend.dashboard.dto.CompanyUserDashboardDto;
 import org.jbd.backend.dashboard.dto.GeneralUserDashboardDto;
 import org.jbd.backend.dashboard.repository.CertificateRequestRepository;
+import org.jbd.backend.dashboard.repository.CertificateRequestView;
 import org.jbd.backend.dashboard.repository.SystemMetricsRepository;
 import org.jbd.backend.job.domain.enums.ApplicationStatus;
 import org.jbd.backend.job.domain.enums.JobStatus;
@@ -526,46 +527,28 @@ public class DashboardService {
     }
 
     private List<JobPostingResponseDto> getMyJobPostings(User companyUser) {
-        // N+1 문제 해결: 채용공고와 지원자 수를 한 번에 조회하여 성능 최적화
-        List<JobPostingResponseDto> result = jobPostingRepository
-                .findByCompanyUserWithApplicationCountOrderByCreatedAtDesc(
-                        companyUser, PageRequest.of(0, 5))
+        // 지원자 수는 채용공고의 카운터 컬럼을 그대로 사용 (지원서 조인/집계 없음)
+        return jobPostingRepository
+                .findByCompanyUserOrderByCreatedAtDesc(companyUser, PageRequest.of(0, 5))
                 .stream()
-                .map(row -> {
-                    JobPosting jobPosting = (JobPosting) row[0];
-                    Long applicationCount = (Long) row[1];
-                    
-                    JobPostingResponseDto dto = JobPostingResponseDto.from(jobPosting);
-                    // 추가적으로 지원자 수 정보도 설정 가능
-                    return dto;
-                })
+                .map(JobPostingResponseDto::from)
                 .collect(Collectors.toList());
-        
-        return result;
     }
 
     private List<CompanyUserDashboardDto.PopularJobPostingDto> getPopularJobPostings(User companyUser) {
-        // N+1 문제 해결: 채용공고와 지원자 수를 한 번에 조회
-        List<CompanyUserDashboardDto.PopularJobPostingDto> result = jobPostingRepository
-                .findByCompanyUserWithApplicationCountOrderByViewCountDesc(
-                        companyUser, PageRequest.of(0, 5))
+        // 지원자 수는 채용공고의 카운터 컬럼을 그대로 사용 (지원서 조인/집계 없음)
+        return jobPostingRepository
+                .findByCompanyUserOrderByViewCountDesc(companyUser, PageRequest.of(0, 5))
                 .stream()
-                .map(row -> {
-                    JobPosting jobPosting = (JobPosting) row[0];
-                    Long applicationCount = (Long) row[1];
-                    
-                    return CompanyUserDashboardDto.PopularJobPostingDto.builder()
-                            .jobPostingId(jobPosting.getId())
-                            .title(jobPosting.getTitle())
-                            .companyName(jobPosting.getCompanyName())
-                            .applicationCount(Math.toIntExact(applicationCount))
-                            .viewCount(Math.toIntExact(jobPosting.getViewCount()))
-                            .status(jobPosting.getStatus().name())
-                            .build();
-                })
+                .map(jobPosting -> CompanyUserDashboardDto.PopularJobPostingDto.builder()
+                        .jobPostingId(jobPosting.getId())
+                        .title(jobPosting.getTitle())
+                        .companyName(jobPosting.getCompanyName())
+                        .applicationCount(Math.toIntExact(jobPosting.getApplicationCount()))
+                        .viewCount(Math.toIntExact(jobPosting.getViewCount()))
+                        .status(jobPosting.getStatus().name())
+                        .build())
                 .collect(Collectors.toList());
-        
-        return result;
     }
 
     private CompanyUserDashboardDto.ApplicationStatisticsDto getCompanyApplicationStatistics(User companyUser) {
@@ -693,14 +676,14 @@ public class DashboardService {
     }
 
     private List<AdminDashboardDto.CertificateRequestDto> getRecentCertificateRequests() {
-        List<CertificateRequest> requests = certificateRequestRepository
-                .findRecentPendingRequests(PageRequest.of(0, 10));
+        List<CertificateRequestView> requests = certificateRequestRepository
+                .findOldestPendingViews(PageRequest.of(0, 10));
         
         return requests.stream()
                 .map(request -> AdminDashboardDto.CertificateRequestDto.builder()
                         .requestId(request.getId())
-                        .userEmail(request.getUser().getEmail())
-                        .userName(request.getUser().getName())
+                        .userEmail(request.getUserEmail())
+                        .userName(CertificateRequestDto.ResponseDto.resolveUserName(request))
                         .certificateType(request.getCertificateType().getDescription())
                         .requestedAt(request.getCreatedAt())
                         .status(request.getStatus().getDescription())
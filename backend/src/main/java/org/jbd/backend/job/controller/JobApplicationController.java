@@ -9,6 +9,7 @@ import org.jbd.backend.job.domain.JobApplication;
 import org.jbd.backend.job.domain.JobPosting;
 import org.jbd.backend.job.dto.*;
 import org.jbd.backend.job.repository.JobPostingRepository;
+import org.jbd.backend.job.service.JobApplicationBulkService;
 import org.jbd.backend.job.service.JobApplicationService;
 import org.jbd.backend.user.domain.User;
 import org.jbd.backend.user.service.UserService;
@@ -26,6 +27,7 @@ import java.util.List;
 public class JobApplicationController {
 
     private final JobApplicationService jobApplicationService;
+    private final JobApplicationBulkService jobApplicationBulkService;
     private final JobPostingRepository jobPostingRepository;
     private final UserService userService;
     private final JwtService jwtService;
@@ -105,6 +107,31 @@ public class JobApplicationController {
         return ResponseEntity.ok(ApiResponse.success("채용공고별 지원자 목록을 조회했습니다", new PageResponse<>(responseDtos)));
     }
 
+    /**
+     * 채용공고별 상위 지원자를 적합도 점수 순으로 조회합니다. (채용공고 작성자만 가능)
+     * 점수는 지원/프로필 변경 시 미리 계산되며 아직 계산되지 않은 지원서는 제외됩니다.
+     */
+    @GetMapping("/job/{jobPostingId}/top")
+    public ResponseEntity<ApiResponse<List<JobApplicationResponseDto>>> getTopApplicantsByJobPosting(
+            @RequestHeader("Authorization") String token,
+            @PathVariable Long jobPostingId,
+            @RequestParam(defaultValue = "20") int size) {
+        Long userId = jwtService.extractUserId(token.replace("Bearer ", ""));
+        JobPosting jobPosting = jobPostingRepository.findById(jobPostingId)
+                .orElseThrow(() -> new IllegalArgumentException("채용공고를 찾을 수 없습니다"));
+
+        if (!jobPosting.getCompanyUser().getId().equals(userId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(ApiResponse.error("조회 권한이 없습니다"));
+        }
+
+        List<JobApplicationResponseDto> responseDtos = jobApplicationService.getTopRankedApplications(jobPostingId, size)
+                .stream()
+                .map(JobApplicationResponseDto::from)
+                .toList();
+        return ResponseEntity.ok(ApiResponse.success("채용공고별 상위 지원자 목록을 조회했습니다", responseDtos));
+    }
+
     @PutMapping("/{applicationId}/pass-document")
     public ResponseEntity<ApiResponse<JobApplicationResponseDto>> passDocumentReview(
             @RequestHeader("Authorization") String token,
@@ -170,4 +197,18 @@ public class JobApplicationController {
         JobApplication updated = jobApplicationService.rejectJobApplication(applicationId, reason);
         return ResponseEntity.ok(ApiResponse.success("지원을 거절했습니다", JobApplicationResponseDto.from(updated)));
     }
-}
\ No newline at end of file
+
+    /**
+     * 지원자 일괄 상태 변경 (건별 처리 결과 반환)
+     */
+    @PutMapping("/bulk-status")
+    public ResponseEntity<ApiResponse<JobApplicationBulkStatusDto.Response>> bulkUpdateStatus(
+            @RequestHeader("Authorization") String token,
+            @Valid @RequestBody JobApplicationBulkStatusDto.Request request) {
+        Long userId = jwtService.extractUserId(token.replace("Bearer ", ""));
+        JobApplicationBulkStatusDto.Response response = jobApplicationBulkService.transitionStatus(
+                userId, request.getApplicationIds(), request.getTargetStatus(), request.getRejectionReason());
+        return ResponseEntity.ok(ApiResponse.success(
+                response.getUpdatedCount() + "건의 지원 상태가 변경되었습니다", response));
+    }
+}
@@ -5,27 +5,35 @@ import lombok.RequiredArgsConstructor;
 import org.jbd.backend.auth.service.JwtService;
 import org.jbd.backend.common.dto.ApiResponse;
 import org.jbd.backend.common.dto.PageResponse;
+import org.jbd.backend.common.exception.BusinessException;
+import org.jbd.backend.common.exception.ErrorCode;
 import org.jbd.backend.common.service.PermissionService;
 import org.jbd.backend.job.domain.JobPosting;
 import org.springframework.transaction.annotation.Transactional;
 import org.jbd.backend.job.domain.enums.ExperienceLevel;
 import org.jbd.backend.job.domain.enums.JobType;
 import org.jbd.backend.job.dto.JobPostingCreateDto;
+import org.jbd.backend.job.dto.JobPostingImportDto;
 import org.jbd.backend.job.dto.JobPostingResponseDto;
 import org.jbd.backend.job.dto.JobPostingSearchDto;
 import org.jbd.backend.job.dto.JobPostingStatsDto;
 import org.jbd.backend.job.dto.JobPostingUpdateDto;
+import org.jbd.backend.job.service.JobPostingImportService;
 import org.jbd.backend.job.service.JobPostingService;
+import org.jbd.backend.job.service.JobRecommendationService;
 import org.jbd.backend.user.domain.User;
 import org.jbd.backend.user.service.UserService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -52,6 +60,12 @@ public class JobPostingController {
     /** 채용공고 비즈니스 로직을 처리하는 서비스 */
     private final JobPostingService jobPostingService;
 
+    /** 채용공고 일괄 등록 서비스 */
+    private final JobPostingImportService jobPostingImportService;
+
+    /** 기술 기반 채용공고 추천 서비스 */
+    private final JobRecommendationService recommendationService;
+
     /** 사용자 관리 서비스 */
     private final UserService userService;
 
@@ -97,6 +111,49 @@ public class JobPostingController {
                 .body(ApiResponse.success("채용공고가 등록되었습니다.", JobPostingResponseDto.from(saved)));
     }
 
+    /**
+     * 채용공고를 CSV 또는 JSON 으로 일괄 등록합니다.
+     * 기업 사용자는 본인 소유로, 관리자는 companyUserId 로 지정한 기업 사용자 소유로 등록합니다.
+     * 요청 본문은 스트림으로 한 행씩 처리되며, 검증/저장에 실패한 행은 건너뛰고 결과에 행 번호와 함께 보고합니다.
+     *
+     * @param token Authorization 헤더 ("Bearer {token}" 형식)
+     * @param contentType text/csv (첫 줄은 JobPostingCreateDto 필드명 헤더) 또는 application/json (객체 배열)
+     * @param companyUserId 등록 대상 기업 사용자 ID (관리자만 사용)
+     * @param body 요청 본문 스트림
+     * @return ResponseEntity<ApiResponse<JobPostingImportDto.Response>> 행별 처리 결과
+     * @apiNote POST /job-postings/import
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ApiResponse<JobPostingImportDto.Response>> importJobPostings(
+            @RequestHeader("Authorization") String token,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            @RequestParam(required = false) Long companyUserId,
+            InputStream body) {
+
+        Long userId = jwtService.extractUserId(token.replace("Bearer ", ""));
+        Long ownerId;
+        if (permissionService.isAdmin(userId)) {
+            if (companyUserId == null) {
+                throw new BusinessException(ErrorCode.INVALID_REQUEST, "등록 대상 기업 사용자(companyUserId)를 지정해야 합니다.");
+            }
+            ownerId = companyUserId;
+        } else if (permissionService.isCompanyUser(userId)) {
+            if (companyUserId != null && !companyUserId.equals(userId)) {
+                throw new BusinessException(ErrorCode.JOB_POSTING_ACCESS_DENIED);
+            }
+            ownerId = userId;
+        } else {
+            throw new BusinessException(ErrorCode.COMPANY_ACCESS_DENIED);
+        }
+
+        JobPostingImportService.Format format = MediaType.APPLICATION_JSON.isCompatibleWith(contentType)
+                ? JobPostingImportService.Format.JSON : JobPostingImportService.Format.CSV;
+        JobPostingImportDto.Response response = jobPostingImportService.importJobPostings(ownerId, format, body);
+
+        return ResponseEntity.ok(ApiResponse.success(
+                response.getImportedCount() + "건의 채용공고가 등록되었습니다.", response));
+    }
+
     /**
      * 특정 채용공고의 상세 정보를 조회합니다.
      * 조회 시 조회수가 자동으로 증가합니다.
@@ -337,6 +394,30 @@ public class JobPostingController {
         return ResponseEntity.ok(ApiResponse.success("내 채용공고 목록 조회 성공", responseDtos));
     }
 
+    /**
+     * 보유 기술 기반으로 맞춤 채용공고를 추천합니다.
+     * 숙련도와 경력이 높은 기술, 희소한 기술이 겹칠수록, 최근에 발행된 공고일수록 상위에 노출됩니다.
+     *
+     * @param token Authorization 헤더 ("Bearer {token}" 형식)
+     * @param size 추천 개수 (기본 20, 최대 50)
+     * @return ResponseEntity<ApiResponse<List<JobPostingResponseDto>>> 추천 점수 순 채용공고 목록
+     * @apiNote GET /job-postings/recommended
+     * @see JobPostingResponseDto
+     */
+    @GetMapping("/recommended")
+    public ResponseEntity<ApiResponse<List<JobPostingResponseDto>>> getRecommendedJobPostings(
+            @RequestHeader("Authorization") String token,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Long userId = jwtService.extractUserId(token.replace("Bearer ", ""));
+
+        List<JobPostingResponseDto> responseDtos = recommendationService.recommend(userId, size).stream()
+                .map(JobPostingResponseDto::from)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(ApiResponse.success("추천 채용공고 조회 성공", responseDtos));
+    }
+
     /**
      * 채용공고를 삭제합니다.
      * 작성자 또는 관리자만 삭제할 수 있습니다. 삭제된 채용공고는 복구할 수 없습니다.
@@ -9,7 +9,13 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "job_applications",
-       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "job_id"}))
+       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "job_id"}),
+       indexes = {
+               @Index(name = "idx_job_applications_job_score", columnList = "job_id, ranking_score, application_id"),
+               @Index(name = "idx_job_applications_job_status", columnList = "job_id, status"),
+               @Index(name = "idx_job_applications_status_created", columnList = "status, created_at"),
+               @Index(name = "idx_job_applications_user_created", columnList = "user_id, created_at")
+       })
 public class JobApplication extends BaseEntity {
     
     @Id
@@ -55,6 +61,15 @@ public class JobApplication extends BaseEntity {
     
     @Column(name = "final_decision_at")
     private LocalDateTime finalDecisionAt;
+
+    // 지원자 순위 점수(0~1000)는 ApplicantRankingService의 UPDATE로만 갱신 (엔티티 flush로 덮어쓰지 않음)
+    @Column(name = "ranking_score", insertable = false, updatable = false)
+    private Integer rankingScore;
+
+    // 단건 상태 변경과 일괄 상태 변경(JDBC batch) 간 동시 수정 감지용
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version = 0L;
     
     protected JobApplication() {}
     
@@ -199,4 +214,19 @@ public class JobApplication extends BaseEntity {
     public LocalDateTime getFinalDecisionAt() {
         return finalDecisionAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public Integer getRankingScore() {
+        return rankingScore;
+    }
+
+    /**
+     * DB에 반영된 순위 점수를 현재 영속성 컨텍스트의 엔티티에도 맞춤 (영속화되지 않음)
+     */
+    public void applyRankingScore(Integer rankingScore) {
+        this.rankingScore = rankingScore;
+    }
 }
\ No newline at end of file
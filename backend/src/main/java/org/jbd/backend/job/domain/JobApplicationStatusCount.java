@@ -0,0 +1,81 @@
+package org.jbd.backend.job.domain;
+
+import jakarta.persistence.*;
+import org.jbd.backend.job.domain.enums.ApplicationStatus;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * 채용공고별 지원 상태 카운터 엔티티
+ *
+ * 채용공고(job_id)와 지원 상태(status) 조합마다 한 행을 유지하며,
+ * 지원/상태 변경/삭제 시 델타(+1/-1) 업데이트로만 갱신됩니다.
+ * 상태별 지원자 수 통계를 job_applications 스캔 없이 O(1)로 조회하기 위한 용도입니다.
+ *
+ * 갱신은 JobApplicationStatusCountRepository의 upsert 쿼리로만 수행하며,
+ * 실제 지원서와의 불일치는 JobApplicationCounterReconciler가 주기적으로 보정합니다.
+ *
+ * @see JobPosting
+ * @see ApplicationStatus
+ */
+@Entity
+@Table(name = "job_application_status_counts")
+@IdClass(JobApplicationStatusCount.Key.class)
+public class JobApplicationStatusCount {
+
+    @Id
+    @Column(name = "job_id")
+    private Long jobPostingId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 30)
+    private ApplicationStatus status;
+
+    @Column(name = "status_count", nullable = false)
+    private Long count = 0L;
+
+    protected JobApplicationStatusCount() {}
+
+    // Getters
+    public Long getJobPostingId() {
+        return jobPostingId;
+    }
+
+    public ApplicationStatus getStatus() {
+        return status;
+    }
+
+    public Long getCount() {
+        return count;
+    }
+
+    /**
+     * 복합 키 (job_id, status)
+     */
+    public static class Key implements Serializable {
+
+        private Long jobPostingId;
+        private ApplicationStatus status;
+
+        public Key() {}
+
+        public Key(Long jobPostingId, ApplicationStatus status) {
+            this.jobPostingId = jobPostingId;
+            this.status = status;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(jobPostingId, key.jobPostingId) && status == key.status;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(jobPostingId, status);
+        }
+    }
+}
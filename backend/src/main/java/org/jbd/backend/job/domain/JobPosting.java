@@ -43,11 +43,20 @@ import java.time.LocalDateTime;
  * @see JobStatus
  */
 @Entity
-@Table(name = "job_postings")
+@Table(name = "job_postings", indexes = {
+        @Index(name = "idx_job_postings_status_created", columnList = "status, created_at, job_id"),
+        @Index(name = "idx_job_postings_status_deadline", columnList = "status, deadline_date"),
+        @Index(name = "idx_job_postings_company_created", columnList = "company_user_id, created_at"),
+        @Index(name = "idx_job_postings_created", columnList = "created_at")
+})
 public class    JobPosting extends BaseEntity {
     
+    /** 일괄 등록 시 JDBC 배치가 동작하도록 IDENTITY 대신 pooled 테이블 생성기 사용 (할당 크기는 V4 마이그레이션의 초기값 계산과 일치해야 함) */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "job_posting_id")
+    @TableGenerator(name = "job_posting_id", table = "id_generators",
+            pkColumnName = "sequence_name", valueColumnName = "next_val", pkColumnValue = "job_postings",
+            allocationSize = 100)
     @Column(name = "job_id")
     private Long id;
     
@@ -106,7 +115,8 @@ public class    JobPosting extends BaseEntity {
     @Column(name = "view_count", nullable = false)
     private Long viewCount = 0L;
     
-    @Column(name = "application_count", nullable = false)
+    // 지원자 수는 JobApplicationCounterService의 델타 업데이트로만 갱신 (엔티티 flush로 덮어쓰지 않음)
+    @Column(name = "application_count", nullable = false, updatable = false)
     private Long applicationCount = 0L;
     
     @Column(name = "benefits", length = 1000)
@@ -194,16 +204,6 @@ public class    JobPosting extends BaseEntity {
         this.viewCount++;
     }
     
-    public void incrementApplicationCount() {
-        this.applicationCount++;
-    }
-    
-    public void decrementApplicationCount() {
-        if (this.applicationCount > 0) {
-            this.applicationCount--;
-        }
-    }
-    
     public boolean isPublished() {
         return this.status == JobStatus.PUBLISHED;
     }
@@ -0,0 +1,76 @@
+package org.jbd.backend.job.domain;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * 채용공고 필요 기술 매핑 엔티티
+ *
+ * 자유 텍스트인 JobPosting.requiredSkills 를 작성/수정 시점에 SkillMaster ID로 정규화하여
+ * (job_id, skill_id) 한 쌍당 한 행으로 저장합니다.
+ * 추천 역색인(JobRecommendationIndex)은 기동 시 이 테이블에서 재구성됩니다.
+ *
+ * @see JobPosting
+ * @see org.jbd.backend.user.domain.SkillMaster
+ */
+@Entity
+@Table(name = "job_posting_skills", indexes = {
+        @Index(name = "idx_job_posting_skills_skill", columnList = "skill_id")
+})
+@IdClass(JobPostingSkill.Key.class)
+public class JobPostingSkill {
+
+    @Id
+    @Column(name = "job_id")
+    private Long jobPostingId;
+
+    @Id
+    @Column(name = "skill_id")
+    private Long skillId;
+
+    protected JobPostingSkill() {}
+
+    public JobPostingSkill(Long jobPostingId, Long skillId) {
+        this.jobPostingId = jobPostingId;
+        this.skillId = skillId;
+    }
+
+    // Getters
+    public Long getJobPostingId() {
+        return jobPostingId;
+    }
+
+    public Long getSkillId() {
+        return skillId;
+    }
+
+    /**
+     * 복합 키 (job_id, skill_id)
+     */
+    public static class Key implements Serializable {
+
+        private Long jobPostingId;
+        private Long skillId;
+
+        public Key() {}
+
+        public Key(Long jobPostingId, Long skillId) {
+            this.jobPostingId = jobPostingId;
+            this.skillId = skillId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(jobPostingId, key.jobPostingId) && Objects.equals(skillId, key.skillId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(jobPostingId, skillId);
+        }
+    }
+}
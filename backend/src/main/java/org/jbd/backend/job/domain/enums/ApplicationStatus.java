@@ -19,4 +19,20 @@ public enum ApplicationStatus {
     public String getDescription() {
         return description;
     }
+
+    /**
+     * 이 상태에서 target 상태로 전이할 수 있는지 여부 (JobApplication 상태 전이 메서드와 동일한 규칙)
+     */
+    public boolean canTransitionTo(ApplicationStatus target) {
+        return switch (target) {
+            case REVIEWED -> this == SUBMITTED;
+            case DOCUMENT_PASSED -> this == SUBMITTED || this == REVIEWED;
+            case INTERVIEW_SCHEDULED -> this == DOCUMENT_PASSED;
+            case INTERVIEW_PASSED -> this == DOCUMENT_PASSED || this == INTERVIEW_SCHEDULED;
+            case HIRED -> this == INTERVIEW_PASSED;
+            case REJECTED -> this != HIRED && this != REJECTED;
+            case WITHDRAWN -> this != HIRED && this != REJECTED && this != WITHDRAWN;
+            case SUBMITTED -> false;
+        };
+    }
 }
\ No newline at end of file
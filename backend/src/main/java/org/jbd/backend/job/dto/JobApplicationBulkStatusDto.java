@@ -0,0 +1,68 @@
+package org.jbd.backend.job.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.jbd.backend.job.domain.enums.ApplicationStatus;
+
+import java.util.List;
+
+/**
+ * 지원자 일괄 상태 변경 요청/응답 DTO
+ */
+public class JobApplicationBulkStatusDto {
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request {
+
+        @NotEmpty(message = "지원서 ID 목록은 필수입니다")
+        @Size(max = 1000, message = "한 번에 최대 1000건까지 처리할 수 있습니다")
+        private List<Long> applicationIds;
+
+        @NotNull(message = "변경할 상태는 필수입니다")
+        private ApplicationStatus targetStatus;
+
+        @Size(max = 500, message = "불합격 사유는 500자 이하여야 합니다")
+        private String rejectionReason;
+    }
+
+    /**
+     * 건별 처리 결과
+     */
+    public enum Outcome {
+        UPDATED,
+        NOT_FOUND,
+        FORBIDDEN,
+        INVALID_TRANSITION,
+        CONFLICT
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class ItemResult {
+        private Long applicationId;
+        private Outcome outcome;
+        private ApplicationStatus previousStatus;
+        private ApplicationStatus currentStatus;
+        private String message;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class Response {
+        private ApplicationStatus targetStatus;
+        private int requestedCount;
+        private int updatedCount;
+        private int failedCount;
+        private List<ItemResult> results;
+    }
+}
@@ -32,6 +32,7 @@ public class JobApplicationResponseDto {
     private String rejectionReason;
     private LocalDateTime interviewScheduledAt;
     private LocalDateTime finalDecisionAt;
+    private Integer rankingScore;
     
     public static JobApplicationResponseDto from(JobApplication application) {
         return JobApplicationResponseDto.builder()
@@ -52,6 +53,7 @@ public class JobApplicationResponseDto {
                 .rejectionReason(application.getRejectionReason())
                 .interviewScheduledAt(application.getInterviewScheduledAt())
                 .finalDecisionAt(application.getFinalDecisionAt())
+                .rankingScore(application.getRankingScore())
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package org.jbd.backend.job.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 채용공고 일괄 등록 결과 DTO
+ */
+public class JobPostingImportDto {
+
+    /**
+     * 등록하지 못한 행 (row 는 헤더를 제외한 1부터 시작하는 데이터 행 번호)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private int row;
+        private String message;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class Response {
+        private int totalRows;
+        private int importedCount;
+        private int failedCount;
+        /** 입력 끝까지 처리했는지 여부 (형식 오류로 중단되면 false, 중단 전까지의 행은 반영된 상태) */
+        private boolean completed;
+        private String abortReason;
+        private List<RowError> errors;
+        /** 보고 한도를 넘어 생략된 오류가 있는지 여부 */
+        private boolean errorsTruncated;
+        private long elapsedMillis;
+    }
+}
@@ -4,10 +4,12 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.jbd.backend.job.domain.enums.ApplicationStatus;
 import org.jbd.backend.job.domain.enums.JobStatus;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Data
 @NoArgsConstructor
@@ -20,6 +22,7 @@ public class JobPostingStatsDto {
     private String companyName;
     private Long viewCount;
     private Long applicationCount;
+    private Map<ApplicationStatus, Long> applicationStatusCounts;
     private JobStatus status;
     private LocalDateTime publishedAt;
     private LocalDate deadlineDate;
@@ -11,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -154,4 +155,51 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
            "LEFT JOIN FETCH jp.companyUser " +
            "WHERE ja.id = :id")
     Optional<JobApplication> findByIdWithDetails(@Param("id") Long id);
-}
\ No newline at end of file
+
+    /**
+     * 채용공고별/상태별 지원서 수 집계: [jobId, status, count]
+     */
+    @Query("SELECT ja.jobPosting.id, ja.status, COUNT(ja) FROM JobApplication ja " +
+           "WHERE ja.jobPosting.id IN :jobPostingIds " +
+           "GROUP BY ja.jobPosting.id, ja.status")
+    List<Object[]> countByJobPostingIdsGroupByStatus(@Param("jobPostingIds") Collection<Long> jobPostingIds);
+
+    @Query("SELECT COUNT(ja) FROM JobApplication ja WHERE ja.jobPosting.companyUser = :companyUser " +
+           "AND ja.status = :status AND ja.updatedAt >= :fromDate")
+    long countByCompanyUserAndStatusAndUpdatedAtAfter(@Param("companyUser") User companyUser,
+                                                      @Param("status") ApplicationStatus status,
+                                                      @Param("fromDate") LocalDateTime fromDate);
+
+    /**
+     * 일괄 상태 변경 검증용 스냅샷 조회 (엔티티 로딩 없이 한 번의 쿼리)
+     * 결과: [applicationId, status, version, jobPostingId, companyUserId]
+     */
+    @Query("SELECT ja.id, ja.status, ja.version, jp.id, jp.companyUser.id " +
+           "FROM JobApplication ja JOIN ja.jobPosting jp " +
+           "WHERE ja.id IN :ids")
+    List<Object[]> findTransitionSnapshotsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 채용공고별 상위 지원자 조회: (job_id, ranking_score, application_id) 인덱스 역순 범위 스캔
+     * 순위 점수가 아직 계산되지 않은 지원서는 제외
+     */
+    @Query("SELECT ja FROM JobApplication ja " +
+           "JOIN FETCH ja.user " +
+           "JOIN FETCH ja.jobPosting jp " +
+           "WHERE jp.id = :jobPostingId AND ja.rankingScore IS NOT NULL " +
+           "ORDER BY ja.rankingScore DESC, ja.id DESC")
+    List<JobApplication> findTopRankedByJobPostingId(@Param("jobPostingId") Long jobPostingId, Pageable pageable);
+
+    /**
+     * 순위 점수 재계산 대상: [applicationId, userId, jobPostingId]
+     */
+    @Query("SELECT ja.id, ja.user.id, ja.jobPosting.id FROM JobApplication ja WHERE ja.user.id = :userId")
+    List<Object[]> findRankingTargetsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT ja.id, ja.user.id, ja.jobPosting.id FROM JobApplication ja WHERE ja.jobPosting.id = :jobPostingId")
+    List<Object[]> findRankingTargetsByJobPostingId(@Param("jobPostingId") Long jobPostingId);
+
+    @Query("SELECT ja.id, ja.user.id, ja.jobPosting.id FROM JobApplication ja " +
+           "WHERE ja.rankingScore IS NULL AND ja.id > :afterId ORDER BY ja.id ASC")
+    List<Object[]> findUnrankedTargetsAfter(@Param("afterId") Long afterId, Pageable pageable);
+}
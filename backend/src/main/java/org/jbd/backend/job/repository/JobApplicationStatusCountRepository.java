@@ -0,0 +1,45 @@
+package org.jbd.backend.job.repository;
+
+import org.jbd.backend.job.domain.JobApplicationStatusCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface JobApplicationStatusCountRepository
+        extends JpaRepository<JobApplicationStatusCount, JobApplicationStatusCount.Key> {
+
+    List<JobApplicationStatusCount> findByJobPostingId(Long jobPostingId);
+
+    List<JobApplicationStatusCount> findByJobPostingIdIn(Collection<Long> jobPostingIds);
+
+    /**
+     * 상태 카운터에 델타를 원자적으로 반영 (행이 없으면 생성)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO job_application_status_counts (job_id, status, status_count) " +
+                   "VALUES (:jobId, :status, :delta) " +
+                   "ON DUPLICATE KEY UPDATE status_count = status_count + :delta",
+           nativeQuery = true)
+    int adjustCount(@Param("jobId") Long jobPostingId,
+                    @Param("status") String status,
+                    @Param("delta") long delta);
+
+    @Modifying
+    @Query("DELETE FROM JobApplicationStatusCount c WHERE c.jobPostingId IN :jobPostingIds")
+    int deleteByJobPostingIds(@Param("jobPostingIds") Collection<Long> jobPostingIds);
+
+    /**
+     * job_applications 기준으로 상태 카운터를 재생성 (보정용, deleteByJobPostingIds 이후 호출)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO job_application_status_counts (job_id, status, status_count) " +
+                   "SELECT ja.job_id, ja.status, COUNT(*) FROM job_applications ja " +
+                   "WHERE ja.job_id IN (:jobPostingIds) " +
+                   "GROUP BY ja.job_id, ja.status",
+           nativeQuery = true)
+    int rebuildFromApplications(@Param("jobPostingIds") Collection<Long> jobPostingIds);
+}
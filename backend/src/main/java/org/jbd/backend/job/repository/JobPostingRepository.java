@@ -10,11 +10,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -165,4 +167,33 @@ public interface JobPostingRepository extends JpaRepository<JobPosting, Long>, J
     List<JobPosting> findDeadlineApproachingJobPostingsByCompany(@Param("companyUser") User companyUser,
                                                                @Param("now") LocalDate now,
                                                                @Param("deadline") LocalDate deadline);
-}
\ No newline at end of file
+
+    /**
+     * 지원자 수 카운터에 델타를 원자적으로 반영 (read-modify-write 없이 DB에서 증감)
+     */
+    @Modifying
+    @Query(value = "UPDATE job_postings SET application_count = GREATEST(application_count + :delta, 0) " +
+                   "WHERE job_id = :jobId",
+           nativeQuery = true)
+    int adjustApplicationCount(@Param("jobId") Long jobPostingId, @Param("delta") long delta);
+
+    /**
+     * job_applications 기준으로 지원자 수 카운터를 재계산 (보정용)
+     */
+    @Modifying
+    @Query(value = "UPDATE job_postings SET application_count = " +
+                   "(SELECT COUNT(*) FROM job_applications ja WHERE ja.job_id = job_postings.job_id) " +
+                   "WHERE job_id IN (:jobPostingIds)",
+           nativeQuery = true)
+    int recalculateApplicationCounts(@Param("jobPostingIds") Collection<Long> jobPostingIds);
+
+    /**
+     * 카운터 보정용 키셋 페이지 조회: [jobId, applicationCount]
+     */
+    @Query("SELECT j.id, j.applicationCount FROM JobPosting j WHERE j.id > :afterId ORDER BY j.id ASC")
+    List<Object[]> findApplicationCountsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"companyUser"})
+    @Query("SELECT j FROM JobPosting j WHERE j.id IN :ids")
+    List<JobPosting> findAllWithCompanyUserByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,57 @@
+package org.jbd.backend.job.repository;
+
+import org.jbd.backend.job.domain.JobPosting;
+import org.jbd.backend.job.domain.JobPostingSkill;
+import org.jbd.backend.job.domain.enums.JobStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface JobPostingSkillRepository extends JpaRepository<JobPostingSkill, JobPostingSkill.Key> {
+
+    @Query("SELECT s.skillId FROM JobPostingSkill s WHERE s.jobPostingId = :jobPostingId")
+    List<Long> findSkillIdsByJobPostingId(@Param("jobPostingId") Long jobPostingId);
+
+    @Modifying
+    @Query("DELETE FROM JobPostingSkill s WHERE s.jobPostingId = :jobPostingId")
+    int deleteByJobPostingId(@Param("jobPostingId") Long jobPostingId);
+
+    /**
+     * 역색인 재구성용: 지정 상태 채용공고의 (공고, 기술) 쌍을 공고 ID 순으로 조회
+     */
+    @Query("SELECT s.jobPostingId AS jobPostingId, s.skillId AS skillId, " +
+           "j.publishedAt AS publishedAt, j.deadlineDate AS deadlineDate " +
+           "FROM JobPostingSkill s JOIN JobPosting j ON j.id = s.jobPostingId " +
+           "WHERE j.status = :status ORDER BY s.jobPostingId")
+    List<IndexRow> findIndexRows(@Param("status") JobStatus status);
+
+    /**
+     * 기술 매핑이 없는 채용공고 (정규화 도입 이전 데이터 백필용, ID 키셋 페이징)
+     */
+    @Query("SELECT j FROM JobPosting j WHERE j.id > :afterId AND j.requiredSkills IS NOT NULL " +
+           "AND NOT EXISTS (SELECT 1 FROM JobPostingSkill s WHERE s.jobPostingId = j.id) ORDER BY j.id")
+    List<JobPosting> findWithoutSkills(@Param("afterId") Long afterId, Pageable pageable);
+
+    interface IndexRow {
+        Long getJobPostingId();
+
+        Long getSkillId();
+
+        LocalDateTime getPublishedAt();
+
+        LocalDate getDeadlineDate();
+    }
+
+    /**
+     * 결과: [jobPostingId, skillId]
+     */
+    @Query("SELECT s.jobPostingId, s.skillId FROM JobPostingSkill s WHERE s.jobPostingId IN :jobPostingIds")
+    List<Object[]> findPairsByJobPostingIdIn(@Param("jobPostingIds") Collection<Long> jobPostingIds);
+}
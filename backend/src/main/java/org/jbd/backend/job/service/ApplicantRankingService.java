@@ -0,0 +1,258 @@
+package org.jbd.backend.job.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.ai.domain.InterviewStatus;
+import org.jbd.backend.ai.repository.InterviewRepository;
+import org.jbd.backend.job.domain.JobApplication;
+import org.jbd.backend.job.repository.JobApplicationRepository;
+import org.jbd.backend.job.repository.JobPostingSkillRepository;
+import org.jbd.backend.user.domain.enums.EducationLevel;
+import org.jbd.backend.user.domain.enums.SkillLevel;
+import org.jbd.backend.user.repository.CertificationRepository;
+import org.jbd.backend.user.repository.EducationRepository;
+import org.jbd.backend.user.repository.UserSkillRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * 지원자 순위 점수 서비스
+ *
+ * 지원서마다 채용공고 대비 적합도 점수(0~1000)를 미리 계산하여 job_applications.ranking_score 에 저장합니다.
+ * 상위 N명 조회는 (job_id, ranking_score, application_id) 인덱스 범위 스캔 한 번으로 끝나며
+ * 조회 시점에는 점수를 계산하지 않습니다.
+ *
+ * 점수 구성 (가중 합):
+ * - 기술 일치 50%: 공고 필요 기술(job_posting_skills) 중 보유 기술 비율, 숙련도로 가중
+ * - 면접 20%: 완료된 AI 모의면접 평균 점수
+ * - 학력 15%: 최종 학력 수준
+ * - 자격증 15%: 유효 자격증 수 (5개 이상 만점)
+ *
+ * 재계산 시점:
+ * - 지원 시 해당 지원서
+ * - 학력/기술/자격증 변경, 면접 완료 시 해당 사용자의 모든 지원서
+ * - 공고 필요 기술 변경 시 해당 공고의 모든 지원서
+ * 호출자의 트랜잭션에 참여하므로 프로필 변경과 점수 갱신은 함께 커밋/롤백됩니다.
+ * 점수가 비어 있는 지원서(도입 이전 데이터 등)는 주기적으로 채웁니다.
+ */
+@Slf4j
+@Service
+@Transactional
+public class ApplicantRankingService {
+
+    public static final int MAX_SCORE = 1000;
+
+    private static final double SKILL_WEIGHT = 0.50;
+    private static final double INTERVIEW_WEIGHT = 0.20;
+    private static final double EDUCATION_WEIGHT = 0.15;
+    private static final double CERTIFICATION_WEIGHT = 0.15;
+    /** 필요 기술이 정규화되지 않은 공고는 기술 점수를 중립값으로 처리 */
+    private static final double NEUTRAL_SKILL_MATCH = 0.5;
+    private static final int CERTIFICATION_CAP = 5;
+    private static final int CHUNK_SIZE = 500;
+
+    private final JobApplicationRepository jobApplicationRepository;
+    private final JobPostingSkillRepository jobPostingSkillRepository;
+    private final UserSkillRepository userSkillRepository;
+    private final EducationRepository educationRepository;
+    private final CertificationRepository certificationRepository;
+    private final InterviewRepository interviewRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int sweepBatchSize;
+
+    public ApplicantRankingService(JobApplicationRepository jobApplicationRepository,
+                                   JobPostingSkillRepository jobPostingSkillRepository,
+                                   UserSkillRepository userSkillRepository,
+                                   EducationRepository educationRepository,
+                                   CertificationRepository certificationRepository,
+                                   InterviewRepository interviewRepository,
+                                   JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${app.job.ranking.sweep-batch-size:500}") int sweepBatchSize) {
+        this.jobApplicationRepository = jobApplicationRepository;
+        this.jobPostingSkillRepository = jobPostingSkillRepository;
+        this.userSkillRepository = userSkillRepository;
+        this.educationRepository = educationRepository;
+        this.certificationRepository = certificationRepository;
+        this.interviewRepository = interviewRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sweepBatchSize = sweepBatchSize;
+    }
+
+    /**
+     * 신규 지원서 점수 계산 (저장 직후 호출)
+     */
+    public void rankApplication(JobApplication application) {
+        Target target = new Target(application.getId(), application.getUser().getId(),
+                application.getJobPosting().getId());
+        application.applyRankingScore(rank(List.of(target)).get(target.applicationId()));
+    }
+
+    /**
+     * 사용자의 프로필/면접 결과 변경 시 해당 사용자의 모든 지원서 재계산
+     */
+    public int rerankUser(Long userId) {
+        return rank(toTargets(jobApplicationRepository.findRankingTargetsByUserId(userId))).size();
+    }
+
+    /**
+     * 공고 필요 기술 변경 시 해당 공고의 모든 지원서 재계산
+     */
+    public int rerankJobPosting(Long jobPostingId) {
+        return rank(toTargets(jobApplicationRepository.findRankingTargetsByJobPostingId(jobPostingId))).size();
+    }
+
+    /**
+     * 점수가 비어 있는 지원서를 ID 순 배치로 채움
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Scheduled(fixedDelayString = "${app.job.ranking.sweep-interval-ms:300000}",
+               initialDelayString = "${app.job.ranking.sweep-initial-delay-ms:60000}")
+    public int rankUnscored() {
+        int total = 0;
+        try {
+            long afterId = 0;
+            List<Target> batch;
+            do {
+                long cursor = afterId;
+                batch = toTargets(jobApplicationRepository.findUnrankedTargetsAfter(
+                        cursor, PageRequest.of(0, sweepBatchSize)));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                List<Target> targets = batch;
+                transactionTemplate.executeWithoutResult(status -> rank(targets));
+                afterId = batch.get(batch.size() - 1).applicationId();
+                total += batch.size();
+            } while (batch.size() == sweepBatchSize);
+
+            if (total > 0) {
+                log.info("Applicant ranking scores filled: {} applications", total);
+            }
+        } catch (Exception e) {
+            log.error("Applicant ranking sweep failed after {} applications", total, e);
+        }
+        return total;
+    }
+
+    /**
+     * 대상 지원서 점수를 계산하여 일괄 저장
+     */
+    Map<Long, Integer> rank(List<Target> targets) {
+        Map<Long, Integer> scores = new LinkedHashMap<>();
+        for (int from = 0; from < targets.size(); from += CHUNK_SIZE) {
+            List<Target> chunk = targets.subList(from, Math.min(from + CHUNK_SIZE, targets.size()));
+            Map<Long, Signals> signals = loadSignals(chunk.stream().map(Target::userId).toList());
+            Map<Long, Set<Long>> requiredSkills = loadRequiredSkills(chunk.stream().map(Target::jobPostingId).toList());
+
+            List<Object[]> updates = new ArrayList<>(chunk.size());
+            for (Target target : chunk) {
+                int score = score(signals.getOrDefault(target.userId(), Signals.EMPTY),
+                        requiredSkills.getOrDefault(target.jobPostingId(), Set.of()));
+                scores.put(target.applicationId(), score);
+                updates.add(new Object[]{score, target.applicationId()});
+            }
+            jdbcTemplate.batchUpdate("UPDATE job_applications SET ranking_score = ? WHERE application_id = ?", updates);
+        }
+        return scores;
+    }
+
+    static int score(Signals signals, Set<Long> requiredSkills) {
+        double skillMatch = NEUTRAL_SKILL_MATCH;
+        if (!requiredSkills.isEmpty()) {
+            double matched = 0;
+            for (Long skillId : requiredSkills) {
+                if (signals.skills().containsKey(skillId)) {
+                    matched += JobRecommendationService.proficiencyWeight(signals.skills().get(skillId))
+                            / JobRecommendationService.proficiencyWeight(SkillLevel.EXPERT);
+                }
+            }
+            skillMatch = matched / requiredSkills.size();
+        }
+        double total = SKILL_WEIGHT * skillMatch
+                + INTERVIEW_WEIGHT * signals.interview()
+                + EDUCATION_WEIGHT * signals.education()
+                + CERTIFICATION_WEIGHT * signals.certification();
+        return (int) Math.round(Math.min(1.0, Math.max(0.0, total)) * MAX_SCORE);
+    }
+
+    static double educationScore(EducationLevel level) {
+        if (level == null) {
+            return 0.0;
+        }
+        return switch (level) {
+            case DOCTORATE -> 1.0;
+            case MASTER -> 0.85;
+            case BACHELOR -> 0.7;
+            case ASSOCIATE -> 0.5;
+            case BOOTCAMP -> 0.45;
+            case VOCATIONAL -> 0.4;
+            case HIGH_SCHOOL, OTHER -> 0.3;
+        };
+    }
+
+    private Map<Long, Signals> loadSignals(Collection<Long> userIds) {
+        Set<Long> distinct = new HashSet<>(userIds);
+        Map<Long, Map<Long, SkillLevel>> skills = new HashMap<>();
+        for (Object[] row : userSkillRepository.findSkillSignalsByUserIdIn(distinct)) {
+            skills.computeIfAbsent((Long) row[0], id -> new HashMap<>()).put((Long) row[1], (SkillLevel) row[2]);
+        }
+        Map<Long, Double> education = new HashMap<>();
+        for (Object[] row : educationRepository.findLevelsByUserIdIn(distinct)) {
+            education.merge((Long) row[0], educationScore((EducationLevel) row[1]), Math::max);
+        }
+        Map<Long, Double> certification = new HashMap<>();
+        for (Object[] row : certificationRepository.countActiveByUserIdIn(distinct)) {
+            certification.put((Long) row[0], Math.min(((Number) row[1]).intValue(), CERTIFICATION_CAP) / (double) CERTIFICATION_CAP);
+        }
+        Map<Long, Double> interview = new HashMap<>();
+        for (Object[] row : interviewRepository.findAverageScoresByUserIdIn(distinct, InterviewStatus.COMPLETED)) {
+            if (row[1] != null) {
+                interview.put((Long) row[0], Math.min(1.0, ((Number) row[1]).doubleValue() / 100.0));
+            }
+        }
+
+        Map<Long, Signals> signals = new HashMap<>();
+        for (Long userId : distinct) {
+            signals.put(userId, new Signals(
+                    skills.getOrDefault(userId, Map.of()),
+                    education.getOrDefault(userId, 0.0),
+                    certification.getOrDefault(userId, 0.0),
+                    interview.getOrDefault(userId, 0.0)));
+        }
+        return signals;
+    }
+
+    private Map<Long, Set<Long>> loadRequiredSkills(Collection<Long> jobPostingIds) {
+        Map<Long, Set<Long>> requiredSkills = new HashMap<>();
+        for (Object[] row : jobPostingSkillRepository.findPairsByJobPostingIdIn(new HashSet<>(jobPostingIds))) {
+            requiredSkills.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((Long) row[1]);
+        }
+        return requiredSkills;
+    }
+
+    private static List<Target> toTargets(List<Object[]> rows) {
+        return rows.stream()
+                .map(row -> new Target((Long) row[0], (Long) row[1], (Long) row[2]))
+                .toList();
+    }
+
+    record Target(Long applicationId, Long userId, Long jobPostingId) {}
+
+    /**
+     * 사용자 단위 점수 신호 (각 0~1, 기술은 기술 ID → 숙련도)
+     */
+    record Signals(Map<Long, SkillLevel> skills, double education, double certification, double interview) {
+        static final Signals EMPTY = new Signals(Map.of(), 0.0, 0.0, 0.0);
+    }
+}
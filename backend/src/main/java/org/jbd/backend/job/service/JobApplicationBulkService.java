@@ -0,0 +1,175 @@
+package org.jbd.backend.job.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.job.domain.enums.ApplicationStatus;
+import org.jbd.backend.job.dto.JobApplicationBulkStatusDto;
+import org.jbd.backend.job.dto.JobApplicationBulkStatusDto.ItemResult;
+import org.jbd.backend.job.dto.JobApplicationBulkStatusDto.Outcome;
+import org.jbd.backend.job.repository.JobApplicationRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 지원자 일괄 상태 변경 서비스
+ *
+ * 다수의 지원서를 한 번에 같은 상태로 전이합니다.
+ * 1. 검증: 한 번의 프로젝션 쿼리로 소유권/상태/버전을 조회 (엔티티 fetch join 없음)
+ * 2. 반영: JDBC batch UPDATE, WHERE 절의 version 비교로 단건 변경과의 동시 수정을 감지
+ * 3. 집계: 채용공고별 상태 카운터를 상태당 한 번의 델타 업데이트로 갱신
+ *
+ * 동시 수정으로 버전이 달라진 건은 CONFLICT로 보고하고 나머지는 정상 반영합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobApplicationBulkService {
+
+    /** 일괄 변경을 지원하는 대상 상태 (면접 예정은 일정 정보가 필요하므로 제외) */
+    private static final Set<ApplicationStatus> SUPPORTED_TARGETS = EnumSet.of(
+            ApplicationStatus.REVIEWED,
+            ApplicationStatus.DOCUMENT_PASSED,
+            ApplicationStatus.INTERVIEW_PASSED,
+            ApplicationStatus.HIRED,
+            ApplicationStatus.REJECTED);
+
+    private static final int BATCH_SIZE = 200;
+
+    private final JobApplicationRepository jobApplicationRepository;
+    private final JobApplicationCounterService counterService;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public JobApplicationBulkStatusDto.Response transitionStatus(Long companyUserId, List<Long> applicationIds,
+                                                                 ApplicationStatus targetStatus, String rejectionReason) {
+        if (!SUPPORTED_TARGETS.contains(targetStatus)) {
+            throw new IllegalArgumentException("일괄 변경을 지원하지 않는 상태입니다: " + targetStatus);
+        }
+
+        // 중복 ID 제거 (요청 순서 유지)
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(applicationIds));
+
+        Map<Long, Snapshot> snapshots = new HashMap<>();
+        for (Object[] row : jobApplicationRepository.findTransitionSnapshotsByIdIn(ids)) {
+            Snapshot snapshot = new Snapshot((Long) row[0], (ApplicationStatus) row[1],
+                    (Long) row[2], (Long) row[3], (Long) row[4]);
+            snapshots.put(snapshot.applicationId(), snapshot);
+        }
+
+        Map<Long, ItemResult> results = new LinkedHashMap<>();
+        List<Snapshot> candidates = new ArrayList<>();
+        for (Long id : ids) {
+            Snapshot snapshot = snapshots.get(id);
+            if (snapshot == null) {
+                results.put(id, failure(id, Outcome.NOT_FOUND, null, "지원서를 찾을 수 없습니다"));
+            } else if (!snapshot.companyUserId().equals(companyUserId)) {
+                results.put(id, failure(id, Outcome.FORBIDDEN, null, "처리 권한이 없습니다"));
+            } else if (!snapshot.status().canTransitionTo(targetStatus)) {
+                results.put(id, failure(id, Outcome.INVALID_TRANSITION, snapshot.status(),
+                        snapshot.status().getDescription() + " 상태에서는 " + targetStatus.getDescription() + "(으)로 변경할 수 없습니다"));
+            } else {
+                results.put(id, null);
+                candidates.add(snapshot);
+            }
+        }
+
+        int[] updateCounts = batchUpdate(candidates, targetStatus, rejectionReason);
+
+        Map<Long, Map<ApplicationStatus, Long>> counterDeltas = new HashMap<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            Snapshot snapshot = candidates.get(i);
+            // 드라이버 설정에 따라 SUCCESS_NO_INFO가 반환될 수 있으며 이 경우 성공으로 간주
+            boolean updated = updateCounts[i] > 0 || updateCounts[i] == Statement.SUCCESS_NO_INFO;
+            if (updated) {
+                results.put(snapshot.applicationId(), ItemResult.builder()
+                        .applicationId(snapshot.applicationId())
+                        .outcome(Outcome.UPDATED)
+                        .previousStatus(snapshot.status())
+                        .currentStatus(targetStatus)
+                        .build());
+                Map<ApplicationStatus, Long> deltas = counterDeltas.computeIfAbsent(
+                        snapshot.jobPostingId(), jobId -> new EnumMap<>(ApplicationStatus.class));
+                deltas.merge(snapshot.status(), -1L, Long::sum);
+                deltas.merge(targetStatus, 1L, Long::sum);
+            } else {
+                results.put(snapshot.applicationId(), failure(snapshot.applicationId(), Outcome.CONFLICT,
+                        snapshot.status(), "다른 요청에 의해 이미 변경되었습니다"));
+            }
+        }
+        counterDeltas.forEach(counterService::applyStatusDeltas);
+
+        List<ItemResult> itemResults = new ArrayList<>(results.values());
+        int updatedCount = (int) itemResults.stream().filter(r -> r.getOutcome() == Outcome.UPDATED).count();
+
+        log.info("Bulk status transition by company user {}: target={}, requested={}, updated={}",
+                companyUserId, targetStatus, ids.size(), updatedCount);
+
+        return JobApplicationBulkStatusDto.Response.builder()
+                .targetStatus(targetStatus)
+                .requestedCount(ids.size())
+                .updatedCount(updatedCount)
+                .failedCount(ids.size() - updatedCount)
+                .results(itemResults)
+                .build();
+    }
+
+    private int[] batchUpdate(List<Snapshot> candidates, ApplicationStatus targetStatus, String rejectionReason) {
+        if (candidates.isEmpty()) {
+            return new int[0];
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String sql = "UPDATE job_applications SET status = ?, version = version + 1, updated_at = ?"
+                + transitionColumns(targetStatus)
+                + " WHERE application_id = ? AND version = ?";
+
+        int[][] batches = jdbcTemplate.batchUpdate(sql, candidates, BATCH_SIZE, (ps, snapshot) -> {
+            int index = 1;
+            ps.setString(index++, targetStatus.name());
+            ps.setTimestamp(index++, now);
+            switch (targetStatus) {
+                case REVIEWED, DOCUMENT_PASSED, HIRED -> ps.setTimestamp(index++, now);
+                case REJECTED -> {
+                    ps.setString(index++, rejectionReason);
+                    ps.setTimestamp(index++, now);
+                }
+                default -> { }
+            }
+            ps.setLong(index++, snapshot.applicationId());
+            ps.setLong(index, snapshot.version());
+        });
+        return Arrays.stream(batches).flatMapToInt(Arrays::stream).toArray();
+    }
+
+    /**
+     * 대상 상태별 추가 갱신 컬럼 (JobApplication 상태 전이 메서드와 동일한 필드 변경)
+     */
+    private String transitionColumns(ApplicationStatus targetStatus) {
+        return switch (targetStatus) {
+            case REVIEWED -> ", reviewed_at = ?";
+            case DOCUMENT_PASSED -> ", reviewed_at = COALESCE(reviewed_at, ?)";
+            case HIRED -> ", final_decision_at = ?";
+            case REJECTED -> ", rejection_reason = ?, final_decision_at = ?";
+            default -> "";
+        };
+    }
+
+    private ItemResult failure(Long applicationId, Outcome outcome, ApplicationStatus status, String message) {
+        return ItemResult.builder()
+                .applicationId(applicationId)
+                .outcome(outcome)
+                .previousStatus(status)
+                .currentStatus(status)
+                .message(message)
+                .build();
+    }
+
+    private record Snapshot(Long applicationId, ApplicationStatus status, Long version,
+                            Long jobPostingId, Long companyUserId) {
+    }
+}
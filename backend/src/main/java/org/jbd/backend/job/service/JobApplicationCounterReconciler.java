@@ -0,0 +1,43 @@
+package org.jbd.backend.job.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지원자 카운터 보정 스케줄러
+ *
+ * 델타 업데이트는 트랜잭션 단위로 원자적이지만, 수동 데이터 수정이나 과거 데이터처럼
+ * 카운터를 거치지 않은 변경은 드리프트를 만들 수 있습니다.
+ * 채용공고를 ID 키셋 순서로 배치 순회하며 job_applications 집계와 다른 공고만 재계산합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobApplicationCounterReconciler {
+
+    private final JobApplicationCounterService counterService;
+
+    @Value("${app.job.counter-reconcile.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(initialDelayString = "${app.job.counter-reconcile.initial-delay-ms:60000}",
+               fixedDelayString = "${app.job.counter-reconcile.interval-ms:3600000}")
+    public void reconcile() {
+        long started = System.currentTimeMillis();
+        Long afterId = 0L;
+        int batches = 0;
+        try {
+            while (afterId != null) {
+                afterId = counterService.reconcileBatch(afterId, batchSize);
+                batches++;
+            }
+            log.info("Application counter reconciliation finished: {} batches in {} ms",
+                    batches, System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("Application counter reconciliation failed after {} batches", batches, e);
+        }
+    }
+}
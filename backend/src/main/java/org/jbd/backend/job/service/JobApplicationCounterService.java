@@ -0,0 +1,175 @@
+package org.jbd.backend.job.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.job.domain.JobApplicationStatusCount;
+import org.jbd.backend.job.domain.enums.ApplicationStatus;
+import org.jbd.backend.job.repository.JobApplicationRepository;
+import org.jbd.backend.job.repository.JobApplicationStatusCountRepository;
+import org.jbd.backend.job.repository.JobPostingRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * 채용공고 지원자 카운터 서비스
+ *
+ * job_postings.application_count 와 job_application_status_counts 를
+ * 델타 업데이트(UPDATE ... SET x = x + ?)로만 갱신하여 동시 지원 시에도 유실 없이 집계합니다.
+ * 호출자의 트랜잭션에 참여하므로 지원서 저장이 롤백되면 카운터 변경도 함께 롤백됩니다.
+ *
+ * 주요 기능:
+ * - 지원/상태 변경 시 카운터 델타 반영 (지원서 단건 삭제 경로는 없고, 공고 삭제 시 함께 정리)
+ * - 채용공고별 상태 카운트 O(1) 조회
+ * - job_applications 기준 드리프트 보정 (JobApplicationCounterReconciler에서 호출)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class JobApplicationCounterService {
+
+    private final JobPostingRepository jobPostingRepository;
+    private final JobApplicationRepository jobApplicationRepository;
+    private final JobApplicationStatusCountRepository statusCountRepository;
+
+    /**
+     * 신규 지원 반영
+     */
+    @Transactional
+    public void onApplied(Long jobPostingId, ApplicationStatus status) {
+        jobPostingRepository.adjustApplicationCount(jobPostingId, 1);
+        statusCountRepository.adjustCount(jobPostingId, status.name(), 1);
+    }
+
+    /**
+     * 지원 상태 변경 반영 (상태가 실제로 바뀐 경우에만 호출)
+     */
+    @Transactional
+    public void onStatusChanged(Long jobPostingId, ApplicationStatus from, ApplicationStatus to) {
+        if (from == to) {
+            return;
+        }
+        statusCountRepository.adjustCount(jobPostingId, from.name(), -1);
+        statusCountRepository.adjustCount(jobPostingId, to.name(), 1);
+    }
+
+    /**
+     * 일괄 상태 변경 반영: 상태별 증감치를 상태당 한 번의 upsert로 적용
+     */
+    @Transactional
+    public void applyStatusDeltas(Long jobPostingId, Map<ApplicationStatus, Long> deltas) {
+        deltas.forEach((status, delta) -> {
+            if (delta != 0) {
+                statusCountRepository.adjustCount(jobPostingId, status.name(), delta);
+            }
+        });
+    }
+
+    /**
+     * 채용공고 삭제 시 상태 카운터 정리
+     */
+    @Transactional
+    public void onJobPostingDeleted(Long jobPostingId) {
+        statusCountRepository.deleteByJobPostingIds(List.of(jobPostingId));
+    }
+
+    /**
+     * 채용공고의 상태별 지원자 수 조회
+     */
+    public Map<ApplicationStatus, Long> getStatusCounts(Long jobPostingId) {
+        return toStatusMap(statusCountRepository.findByJobPostingId(jobPostingId));
+    }
+
+    /**
+     * 여러 채용공고의 상태별 지원자 수를 한 번에 조회
+     */
+    public Map<Long, Map<ApplicationStatus, Long>> getStatusCounts(Collection<Long> jobPostingIds) {
+        Map<Long, Map<ApplicationStatus, Long>> result = new HashMap<>();
+        if (jobPostingIds.isEmpty()) {
+            return result;
+        }
+        for (JobApplicationStatusCount row : statusCountRepository.findByJobPostingIdIn(jobPostingIds)) {
+            result.computeIfAbsent(row.getJobPostingId(), id -> new EnumMap<>(ApplicationStatus.class))
+                    .put(row.getStatus(), row.getCount());
+        }
+        return result;
+    }
+
+    /**
+     * 여러 채용공고의 상태별 지원자 수 합계 조회
+     */
+    public Map<ApplicationStatus, Long> getTotalStatusCounts(Collection<Long> jobPostingIds) {
+        if (jobPostingIds.isEmpty()) {
+            return new EnumMap<>(ApplicationStatus.class);
+        }
+        return toStatusMap(statusCountRepository.findByJobPostingIdIn(jobPostingIds));
+    }
+
+    /**
+     * afterId 이후 채용공고 batchSize건의 카운터를 job_applications와 비교하여 보정
+     *
+     * @return 이번 배치에서 처리한 마지막 채용공고 ID (더 이상 없으면 null)
+     */
+    @Transactional
+    public Long reconcileBatch(Long afterId, int batchSize) {
+        List<Object[]> postings = jobPostingRepository.findApplicationCountsAfter(afterId, PageRequest.of(0, batchSize));
+        if (postings.isEmpty()) {
+            return null;
+        }
+
+        List<Long> ids = new ArrayList<>(postings.size());
+        Map<Long, Long> storedTotals = new HashMap<>();
+        for (Object[] row : postings) {
+            Long id = (Long) row[0];
+            ids.add(id);
+            storedTotals.put(id, ((Number) row[1]).longValue());
+        }
+
+        Map<Long, Map<ApplicationStatus, Long>> actual = new HashMap<>();
+        for (Object[] row : jobApplicationRepository.countByJobPostingIdsGroupByStatus(ids)) {
+            actual.computeIfAbsent((Long) row[0], id -> new EnumMap<>(ApplicationStatus.class))
+                    .put((ApplicationStatus) row[1], ((Number) row[2]).longValue());
+        }
+        Map<Long, Map<ApplicationStatus, Long>> stored = getStatusCounts(ids);
+
+        List<Long> drifted = new ArrayList<>();
+        for (Long id : ids) {
+            Map<ApplicationStatus, Long> actualCounts = actual.getOrDefault(id, Map.of());
+            long actualTotal = actualCounts.values().stream().mapToLong(Long::longValue).sum();
+            if (actualTotal != storedTotals.get(id)
+                    || !withoutZeros(actualCounts).equals(withoutZeros(stored.getOrDefault(id, Map.of())))) {
+                drifted.add(id);
+            }
+        }
+
+        if (!drifted.isEmpty()) {
+            log.warn("Application counter drift detected for {} job postings: {}", drifted.size(), drifted);
+            jobPostingRepository.recalculateApplicationCounts(drifted);
+            statusCountRepository.deleteByJobPostingIds(drifted);
+            statusCountRepository.rebuildFromApplications(drifted);
+        }
+
+        return ids.get(ids.size() - 1);
+    }
+
+    private Map<ApplicationStatus, Long> toStatusMap(List<JobApplicationStatusCount> rows) {
+        Map<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+        for (JobApplicationStatusCount row : rows) {
+            counts.merge(row.getStatus(), row.getCount(), Long::sum);
+        }
+        return counts;
+    }
+
+    private Map<ApplicationStatus, Long> withoutZeros(Map<ApplicationStatus, Long> counts) {
+        Map<ApplicationStatus, Long> result = new EnumMap<>(ApplicationStatus.class);
+        counts.forEach((status, count) -> {
+            if (count != null && count != 0) {
+                result.put(status, count);
+            }
+        });
+        return result;
+    }
+}
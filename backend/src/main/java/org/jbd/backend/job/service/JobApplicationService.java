@@ -9,6 +9,7 @@
     import org.jbd.backend.user.domain.User;
     import org.jbd.backend.user.repository.UserRepository;
     import org.springframework.data.domain.Page;
+    import org.springframework.data.domain.PageRequest;
     import org.springframework.data.domain.Pageable;
     import org.springframework.stereotype.Service;
     import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +24,8 @@
         private final JobApplicationRepository jobApplicationRepository;
         private final JobPostingRepository jobPostingRepository;
         private final UserRepository userRepository;
+        private final JobApplicationCounterService counterService;
+        private final ApplicantRankingService rankingService;
     
         @Transactional
         public JobApplication applyToJobPosting(Long userId, Long jobPostingId, String coverLetter) {
@@ -41,7 +44,10 @@
             }
     
             JobApplication jobApplication = new JobApplication(user, jobPosting, coverLetter);
-            return jobApplicationRepository.save(jobApplication);
+            JobApplication saved = jobApplicationRepository.save(jobApplication);
+            counterService.onApplied(jobPosting.getId(), saved.getStatus());
+            rankingService.rankApplication(saved);
+            return saved;
         }
     
         public JobApplication getJobApplication(Long jobApplicationId) {
@@ -56,19 +62,29 @@
         public Page<JobApplication> getJobApplicationsByJobPosting(JobPosting jobPosting, Pageable pageable) {
             return jobApplicationRepository.findByJobPostingWithDetails(jobPosting, pageable);
         }
+
+        /**
+         * 순위 점수 상위 지원자 조회 (미리 계산된 ranking_score 인덱스 범위 스캔)
+         */
+        public List<JobApplication> getTopRankedApplications(Long jobPostingId, int size) {
+            return jobApplicationRepository.findTopRankedByJobPostingId(
+                    jobPostingId, PageRequest.of(0, Math.max(1, Math.min(size, 100))));
+        }
     
         @Transactional
         public JobApplication reviewJobApplication(Long jobApplicationId) {
             JobApplication jobApplication = getJobApplication(jobApplicationId);
+            ApplicationStatus previousStatus = jobApplication.getStatus();
             jobApplication.review();
-            return jobApplicationRepository.save(jobApplication);
+            return saveTransition(jobApplication, previousStatus);
         }
     
         @Transactional
         public JobApplication passDocumentReview(Long jobApplicationId) {
             JobApplication jobApplication = getJobApplication(jobApplicationId);
+            ApplicationStatus previousStatus = jobApplication.getStatus();
             jobApplication.passDocumentReview();
-            return jobApplicationRepository.save(jobApplication);
+            return saveTransition(jobApplication, previousStatus);
         }
     
         @Transactional
@@ -80,29 +96,33 @@
                 throw new IllegalArgumentException("처리 권한이 없습니다");
             }
     
+            ApplicationStatus previousStatus = jobApplication.getStatus();
             jobApplication.passDocumentReview();
-            return jobApplicationRepository.save(jobApplication);
+            return saveTransition(jobApplication, previousStatus);
         }
     
         @Transactional
         public JobApplication passInterview(Long jobApplicationId) {
             JobApplication jobApplication = getJobApplication(jobApplicationId);
+            ApplicationStatus previousStatus = jobApplication.getStatus();
             jobApplication.passInterview();
-            return jobApplicationRepository.save(jobApplication);
+            return saveTransition(jobApplication, previousStatus);
         }
     
         @Transactional
         public JobApplication hireApplicant(Long jobApplicationId) {
             JobApplication jobApplication = getJobApplication(jobApplicationId);
+            ApplicationStatus previousStatus = jobApplication.getStatus();
             jobApplication.hire();
-            return jobApplicationRepository.save(jobApplication);
+            return saveTransition(jobApplication, previousStatus);
         }
     
         @Transactional
         public JobApplication rejectJobApplication(Long jobApplicationId, String rejectionReason) {
             JobApplication jobApplication = getJobApplication(jobApplicationId);
+            ApplicationStatus previousStatus = jobApplication.getStatus();
             jobApplication.reject(rejectionReason);
-            return jobApplicationRepository.save(jobApplication);
+            return saveTransition(jobApplication, previousStatus);
         }
     
         public List<JobApplication> getJobApplicationsByStatus(ApplicationStatus status) {
@@ -124,4 +144,15 @@
         public Page<JobApplication> getJobApplicationsByJobPostingAndStatus(JobPosting jobPosting, ApplicationStatus status, Pageable pageable) {
             return jobApplicationRepository.findByJobPostingAndStatus(jobPosting, status, pageable);
         }
+
+        /**
+         * 상태 전이 저장 후 실제로 상태가 바뀐 경우에만 상태별 카운터에 델타 반영
+         */
+        private JobApplication saveTransition(JobApplication jobApplication, ApplicationStatus previousStatus) {
+            JobApplication saved = jobApplicationRepository.save(jobApplication);
+            if (previousStatus != saved.getStatus()) {
+                counterService.onStatusChanged(saved.getJobPosting().getId(), previousStatus, saved.getStatus());
+            }
+            return saved;
+        }
     }
\ No newline at end of file
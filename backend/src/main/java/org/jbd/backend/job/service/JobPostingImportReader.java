@@ -0,0 +1,241 @@
+package org.jbd.backend.job.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jbd.backend.job.dto.JobPostingCreateDto;
+
+import java.io.*;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 채용공고 일괄 등록 입력을 한 행씩 읽는 리더
+ *
+ * 입력 전체를 메모리에 올리지 않고 스트림에서 행 단위로 JobPostingCreateDto 를 만듭니다.
+ * 값 변환에 실패한 행은 오류 메시지를 담아 반환하고 다음 행을 계속 읽으며,
+ * 이후 행을 구분할 수 없는 형식 오류(닫히지 않은 따옴표, 잘못된 JSON 등)는 IOException 으로 중단합니다.
+ */
+abstract class JobPostingImportReader implements Closeable {
+
+    /** CSV 헤더로 사용할 수 있는 컬럼 (JobPostingCreateDto 필드명) */
+    static final Set<String> COLUMNS = Arrays.stream(JobPostingCreateDto.class.getDeclaredFields())
+            .filter(field -> !Modifier.isStatic(field.getModifiers()))
+            .map(Field::getName)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+
+    /**
+     * 읽은 데이터 행 (number 는 1부터 시작, 변환에 실패하면 dto 대신 error)
+     */
+    record Row(int number, JobPostingCreateDto dto, String error) {
+    }
+
+    protected final ObjectMapper objectMapper;
+    private int rowNumber;
+
+    protected JobPostingImportReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    static JobPostingImportReader open(JobPostingImportService.Format format, InputStream input,
+                                       ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case CSV -> new Csv(input, objectMapper);
+            case JSON -> new Json(input, objectMapper);
+        };
+    }
+
+    /**
+     * 다음 데이터 행, 입력이 끝나면 null
+     */
+    abstract Row next() throws IOException;
+
+    protected Row convert(Object source) {
+        int number = ++rowNumber;
+        try {
+            return new Row(number, objectMapper.convertValue(source, JobPostingCreateDto.class), null);
+        } catch (IllegalArgumentException e) {
+            return failed(number, describe(e));
+        }
+    }
+
+    protected Row failed(String error) {
+        return failed(++rowNumber, error);
+    }
+
+    int rowsRead() {
+        return rowNumber;
+    }
+
+    private static Row failed(int number, String error) {
+        return new Row(number, null, error);
+    }
+
+    private static String describe(IllegalArgumentException e) {
+        if (e.getCause() instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()) {
+            String field = mapping.getPath().stream()
+                    .map(reference -> reference.getFieldName() != null
+                            ? reference.getFieldName() : String.valueOf(reference.getIndex()))
+                    .collect(Collectors.joining("."));
+            return field + ": 값을 해석할 수 없습니다";
+        }
+        return "값을 해석할 수 없습니다";
+    }
+
+    /**
+     * RFC 4180 CSV (첫 줄은 헤더, 따옴표 안의 쉼표/줄바꿈 허용, UTF-8 BOM 무시)
+     */
+    static final class Csv extends JobPostingImportReader {
+
+        private final Reader reader;
+        private final List<String> header;
+        private final StringBuilder field = new StringBuilder();
+
+        Csv(InputStream input, ObjectMapper objectMapper) throws IOException {
+            super(objectMapper);
+            this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            reader.mark(1);
+            if (reader.read() != '\uFEFF') {
+                reader.reset();
+            }
+
+            List<String> columns = readRecord();
+            if (columns == null) {
+                this.header = List.of();
+                return;
+            }
+            this.header = columns.stream().map(String::trim).toList();
+            List<String> unknown = header.stream().filter(column -> !COLUMNS.contains(column)).toList();
+            if (!unknown.isEmpty()) {
+                throw new IOException("알 수 없는 컬럼입니다: " + String.join(", ", unknown));
+            }
+        }
+
+        @Override
+        Row next() throws IOException {
+            List<String> values;
+            do {
+                values = readRecord();
+                if (values == null) {
+                    return null;
+                }
+            } while (values.size() == 1 && values.get(0).isBlank());
+
+            if (values.size() != header.size()) {
+                return failed("컬럼 수(" + values.size() + ")가 헤더(" + header.size() + ")와 다릅니다");
+            }
+            Map<String, String> source = new HashMap<>();
+            for (int i = 0; i < values.size(); i++) {
+                String value = values.get(i).trim();
+                if (!value.isEmpty()) {
+                    source.put(header.get(i), value);
+                }
+            }
+            return convert(source);
+        }
+
+        /**
+         * 레코드 하나를 읽어 필드 목록으로 반환, 입력이 끝나면 null
+         */
+        private List<String> readRecord() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            List<String> values = new ArrayList<>();
+            boolean quoted = false;
+            field.setLength(0);
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IOException("닫히지 않은 따옴표가 있습니다 (" + (rowsRead() + 1) + "번째 행)");
+                    }
+                    if (c == '"') {
+                        reader.mark(1);
+                        int following = reader.read();
+                        if (following == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            if (following != -1) {
+                                reader.reset();
+                            }
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == -1 || c == '\n') {
+                    values.add(field.toString());
+                    return values;
+                } else if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                    values.add(field.toString());
+                    return values;
+                } else if (c == ',') {
+                    values.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * 최상위가 배열인 JSON (배열 원소마다 한 행)
+     */
+    static final class Json extends JobPostingImportReader {
+
+        private final JsonParser parser;
+        private boolean finished;
+
+        Json(InputStream input, ObjectMapper objectMapper) throws IOException {
+            super(objectMapper);
+            this.parser = objectMapper.getFactory().createParser(input);
+            JsonToken first = parser.nextToken();
+            if (first == null) {
+                finished = true;
+            } else if (first != JsonToken.START_ARRAY) {
+                throw new IOException("JSON 입력은 채용공고 객체의 배열이어야 합니다");
+            }
+        }
+
+        @Override
+        Row next() throws IOException {
+            if (finished) {
+                return null;
+            }
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.END_ARRAY || token == null) {
+                finished = true;
+                return null;
+            }
+            JsonNode node = objectMapper.readTree(parser);
+            if (!node.isObject()) {
+                return failed("채용공고 객체가 아닙니다");
+            }
+            return convert(node);
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+}
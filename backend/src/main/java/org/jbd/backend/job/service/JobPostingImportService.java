@@ -0,0 +1,233 @@
+package org.jbd.backend.job.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.jbd.backend.common.exception.BusinessException;
+import org.jbd.backend.common.exception.ErrorCode;
+import org.jbd.backend.job.domain.JobPosting;
+import org.jbd.backend.job.dto.JobPostingCreateDto;
+import org.jbd.backend.job.dto.JobPostingImportDto;
+import org.jbd.backend.user.domain.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 채용공고 일괄 등록 서비스
+ *
+ * CSV/JSON 입력을 스트림에서 한 행씩 읽어 검증하고, 청크 단위 트랜잭션으로 나누어 저장합니다.
+ * 1. 검증: JobPostingCreateDto 의 Bean Validation 제약을 행마다 적용, 실패한 행은 건너뛰고 보고
+ * 2. 저장: 청크마다 JDBC 배치 INSERT, 배치 크기마다 flush/clear 하여 영속성 컨텍스트 크기를 일정하게 유지
+ * 3. 복구: 청크 저장이 DB 오류로 실패하면 해당 청크만 행 단위로 다시 저장하여 실패한 행만 보고
+ *
+ * 채용공고 ID 는 pooled 테이블 생성기로 미리 할당되므로 INSERT 가 배치로 묶입니다.
+ * 등록된 공고는 DRAFT 상태이며 발행 시 기술 색인에 반영됩니다.
+ */
+@Slf4j
+@Service
+public class JobPostingImportService {
+
+    public enum Format {
+        CSV,
+        JSON
+    }
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 200;
+
+    /** 트랜잭션에 바인딩되는 공유 EntityManager */
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public JobPostingImportService(EntityManagerFactory entityManagerFactory,
+                                   PlatformTransactionManager transactionManager,
+                                   Validator validator,
+                                   ObjectMapper objectMapper,
+                                   @Value("${app.job-posting.import.batch-size:500}") int batchSize,
+                                   @Value("${app.job-posting.import.chunk-size:5000}") int chunkSize,
+                                   @Value("${app.job-posting.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * 입력의 채용공고를 지정한 기업 사용자 소유로 등록
+     *
+     * @throws BusinessException 사용자가 없으면 USER_NOT_FOUND, 기업 사용자가 아니면 COMPANY_ACCESS_DENIED,
+     *                           헤더/최상위 구조부터 읽을 수 없으면 INVALID_REQUEST
+     */
+    public JobPostingImportDto.Response importJobPostings(Long companyUserId, Format format, InputStream input) {
+        long startedAt = System.nanoTime();
+        verifyCompanyUser(companyUserId);
+
+        Report report = new Report(maxReportedErrors);
+        List<JobPostingImportReader.Row> chunk = new ArrayList<>(chunkSize);
+        JobPostingImportReader reader;
+        try {
+            reader = JobPostingImportReader.open(format, input, objectMapper);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "일괄 등록 입력을 읽을 수 없습니다: " + e.getMessage());
+        }
+
+        try (reader) {
+            JobPostingImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                report.totalRows++;
+                String error = row.error() != null ? row.error() : validate(row.dto());
+                if (error != null) {
+                    report.fail(row.number(), error);
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() >= chunkSize) {
+                    persistChunk(companyUserId, chunk, report);
+                    chunk.clear();
+                }
+            }
+            persistChunk(companyUserId, chunk, report);
+        } catch (IOException e) {
+            // 이후 행을 구분할 수 없으므로 중단 (앞서 커밋된 청크는 유지)
+            persistChunk(companyUserId, chunk, report);
+            report.abortReason = (reader.rowsRead() + 1) + "번째 행에서 입력 형식 오류로 중단되었습니다: " + e.getMessage();
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("Job posting import by company user {}: format={}, rows={}, imported={}, failed={}, aborted={}, {}ms",
+                companyUserId, format, report.totalRows, report.imported, report.failed, report.abortReason != null, elapsedMillis);
+
+        return JobPostingImportDto.Response.builder()
+                .totalRows(report.totalRows)
+                .importedCount(report.imported)
+                .failedCount(report.failed)
+                .completed(report.abortReason == null)
+                .abortReason(report.abortReason)
+                .errors(report.errors)
+                .errorsTruncated(report.failed > report.errors.size())
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    private void verifyCompanyUser(Long companyUserId) {
+        User user = transactionTemplate.execute(status -> entityManager.find(User.class, companyUserId));
+        if (user == null || user.isDeleted()) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+        if (!user.isCompanyUser()) {
+            throw new BusinessException(ErrorCode.COMPANY_ACCESS_DENIED);
+        }
+    }
+
+    private String validate(JobPostingCreateDto dto) {
+        Set<ConstraintViolation<JobPostingCreateDto>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.joining(", "));
+    }
+
+    private void persistChunk(Long companyUserId, List<JobPostingImportReader.Row> chunk, Report report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+                User companyUser = entityManager.getReference(User.class, companyUserId);
+                for (int i = 0; i < chunk.size(); i++) {
+                    entityManager.persist(toEntity(companyUser, chunk.get(i).dto()));
+                    if ((i + 1) % batchSize == 0) {
+                        entityManager.flush();
+                        entityManager.clear();
+                        companyUser = entityManager.getReference(User.class, companyUserId);
+                    }
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+            report.imported += chunk.size();
+        } catch (RuntimeException e) {
+            log.warn("Job posting import chunk of {} rows failed, retrying row by row: {}",
+                    chunk.size(), message(e));
+            for (JobPostingImportReader.Row row : chunk) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> entityManager.persist(
+                            toEntity(entityManager.getReference(User.class, companyUserId), row.dto())));
+                    report.imported++;
+                } catch (RuntimeException rowFailure) {
+                    report.fail(row.number(), message(rowFailure));
+                }
+            }
+        }
+    }
+
+    private static JobPosting toEntity(User companyUser, JobPostingCreateDto dto) {
+        JobPosting jobPosting = new JobPosting(companyUser, dto.getTitle(), dto.getCompanyName(), dto.getLocation(),
+                dto.getJobType(), dto.getExperienceLevel());
+        jobPosting.updateBasicInfo(dto.getTitle(), dto.getCompanyName(), dto.getLocation(), dto.getJobType(),
+                dto.getDepartment(), dto.getField(), dto.getExperienceLevel());
+        jobPosting.updateContent(dto.getDescription(), dto.getQualifications(), dto.getRequiredSkills(), dto.getBenefits());
+        jobPosting.updateSalaryInfo(dto.getMinSalary(), dto.getMaxSalary(), Boolean.TRUE.equals(dto.getSalaryNegotiable()));
+        jobPosting.updateWorkingConditions(dto.getWorkingHours(), Boolean.TRUE.equals(dto.getIsRemotePossible()));
+        jobPosting.updateContactInfo(dto.getContactEmail(), dto.getContactPhone());
+        return jobPosting;
+    }
+
+    private static String message(RuntimeException e) {
+        String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        if (message == null) {
+            return "저장에 실패했습니다";
+        }
+        return message.length() > MAX_ERROR_MESSAGE_LENGTH ? message.substring(0, MAX_ERROR_MESSAGE_LENGTH) : message;
+    }
+
+    /**
+     * 처리 결과 집계 (보고하는 오류 행 수는 한도까지만 보관)
+     */
+    private static final class Report {
+        private final int maxErrors;
+        private final List<JobPostingImportDto.RowError> errors = new ArrayList<>();
+        private int totalRows;
+        private int imported;
+        private int failed;
+        private String abortReason;
+
+        private Report(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void fail(int row, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new JobPostingImportDto.RowError(row, message));
+            }
+        }
+    }
+}
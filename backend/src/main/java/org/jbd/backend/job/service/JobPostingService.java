@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.hibernate.Hibernate;
 import org.jbd.backend.job.domain.JobApplication;
 import org.jbd.backend.job.domain.JobPosting;
+import org.jbd.backend.job.domain.enums.ApplicationStatus;
 import org.jbd.backend.job.domain.enums.ExperienceLevel;
 import org.jbd.backend.job.domain.enums.JobStatus;
 import org.jbd.backend.job.domain.enums.JobType;
@@ -38,6 +39,8 @@ public class JobPostingService {
     private final JobPostingRepository jobPostingRepository;
     private final JobApplicationRepository jobApplicationRepository;
     private final UserRepository userRepository;
+    private final JobApplicationCounterService counterService;
+    private final JobRecommendationService recommendationService;
 
     @Transactional
     public JobPosting createJobPosting(Long userId, String title, String companyName, String location,
@@ -57,7 +60,9 @@ public class JobPostingService {
     public JobPosting publishJobPosting(Long jobPostingId, LocalDate deadlineDate) {
         JobPosting jobPosting = getJobPosting(jobPostingId);
         jobPosting.publish(deadlineDate);
-        return jobPostingRepository.save(jobPosting);
+        JobPosting saved = jobPostingRepository.save(jobPosting);
+        recommendationService.syncJobPosting(saved);
+        return saved;
     }
 
     public JobPosting getJobPosting(Long jobPostingId) {
@@ -105,7 +110,9 @@ public class JobPostingService {
                                    jobPosting.getExperienceLevel());
         jobPosting.updateContent(description, jobPosting.getQualifications(), jobPosting.getRequiredSkills(), jobPosting.getBenefits());
         jobPosting.updateSalaryInfo(minSalary, maxSalary, jobPosting.getSalaryNegotiable());
-        return jobPostingRepository.save(jobPosting);
+        JobPosting saved = jobPostingRepository.save(jobPosting);
+        recommendationService.syncJobPosting(saved);
+        return saved;
     }
 
     @Transactional
@@ -163,14 +170,19 @@ public class JobPostingService {
             );
         }
 
-        return jobPostingRepository.save(jobPosting);
+        // 기술 목록 외에 상태/마감일 등 색인 항목이 바뀌어도 반영되도록 수정마다 동기화 (기술 매핑은 달라졌을 때만 다시 씀)
+        JobPosting saved = jobPostingRepository.save(jobPosting);
+        recommendationService.syncJobPosting(saved);
+        return saved;
     }
 
     @Transactional
     public JobPosting closeJobPosting(Long jobPostingId) {
         JobPosting jobPosting = getJobPosting(jobPostingId);
         jobPosting.close();
-        return jobPostingRepository.save(jobPosting);
+        JobPosting saved = jobPostingRepository.save(jobPosting);
+        recommendationService.syncJobPosting(saved);
+        return saved;
     }
 
     public List<JobPosting> getExpiredJobPostings() {
@@ -222,6 +234,8 @@ public class JobPostingService {
         }
 
         // 그 다음 채용공고 삭제
+        counterService.onJobPostingDeleted(jobPosting.getId());
+        recommendationService.onJobPostingDeleted(jobPosting.getId());
         jobPostingRepository.delete(jobPosting);
     }
 
@@ -334,7 +348,7 @@ public class JobPostingService {
 
         JobPosting jobPosting = getJobPosting(jobPostingId);
 
-        return convertToStatsDto(jobPosting);
+        return convertToStatsDto(jobPosting, counterService.getStatusCounts(jobPostingId));
     }
 
     /**
@@ -345,8 +359,13 @@ public class JobPostingService {
 
         List<JobPosting> jobPostings = jobPostingRepository.findByCompanyUser(companyUser);
 
+        // 상태별 지원자 수는 카운터 테이블에서 한 번에 조회
+        Map<Long, Map<ApplicationStatus, Long>> statusCounts = counterService.getStatusCounts(
+                jobPostings.stream().map(JobPosting::getId).collect(Collectors.toList()));
+
         return jobPostings.stream()
-                .map(this::convertToStatsDto)
+                .map(jobPosting -> convertToStatsDto(jobPosting,
+                        statusCounts.getOrDefault(jobPosting.getId(), Map.of())))
                 .collect(Collectors.toList());
     }
 
@@ -381,9 +400,9 @@ public class JobPostingService {
     }
 
     /**
-     * JobPosting을 JobPostingStatsDto로 변환
+     * JobPosting을 JobPostingStatsDto로 변환 (지원자 수는 카운터 값을 그대로 사용)
      */
-    private JobPostingStatsDto convertToStatsDto(JobPosting jobPosting) {
+    private JobPostingStatsDto convertToStatsDto(JobPosting jobPosting, Map<ApplicationStatus, Long> statusCounts) {
         Long daysUntilDeadline = null;
         Boolean isDeadlineApproaching = false;
         Boolean isExpired = false;
@@ -406,6 +425,7 @@ public class JobPostingService {
                 .companyName(jobPosting.getCompanyName())
                 .viewCount(jobPosting.getViewCount())
                 .applicationCount(jobPosting.getApplicationCount())
+                .applicationStatusCounts(statusCounts)
                 .status(jobPosting.getStatus())
                 .publishedAt(jobPosting.getPublishedAt())
                 .deadlineDate(jobPosting.getDeadlineDate())
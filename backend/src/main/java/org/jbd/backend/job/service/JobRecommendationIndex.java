@@ -0,0 +1,303 @@
+package org.jbd.backend.job.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 채용공고 추천 역색인 (인메모리)
+ *
+ * 기술 ID → 공개(PUBLISHED) 채용공고 슬롯 목록을 보관하고, 사용자 기술 가중치로 후보를 점수화합니다.
+ * 공고마다 정수 슬롯을 배정하여 조회 시 점수를 double 배열에 누적하므로 후보 수가 많아도 박싱이 없습니다.
+ *
+ * 점수 = Σ(사용자 기술 가중치 × IDF) / √(공고 필요 기술 수) × 최신성 감쇠(반감기)
+ * - IDF: 흔한 기술일수록 낮은 가중치 (ln(1 + 전체 공고 수 / 해당 기술 공고 수))
+ * - 필요 기술이 많은 공고가 겹침 수만으로 상위를 독점하지 않도록 공고 기술 수로 정규화
+ * - 상위 K개는 크기 K의 최소 힙으로 선별
+ *
+ * 쓰기(발행/수정/마감/삭제)는 커밋 이후 증분 반영되며 쓰기끼리만 직렬화됩니다.
+ * 기술별 슬롯 배열은 불변이고 변경 시 복사 후 교체하므로 조회는 잠금 없이 수행됩니다.
+ * 전체 재구성 중 증분 반영된 공고는 재구성 결과보다 우선합니다.
+ */
+@Component
+public class JobRecommendationIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    /**
+     * 색인 항목 (발행 시각이 없으면 감쇠 없이 취급)
+     */
+    public record Entry(Collection<Long> skillIds, LocalDateTime publishedAt, LocalDate deadlineDate) {}
+
+    private final double decayPerMilli;
+
+    private volatile State state = new State(INITIAL_CAPACITY);
+
+    /** 재구성 중 증분 반영된 공고 ID (재구성 중이 아니면 null) */
+    private Set<Long> touchedDuringRebuild;
+
+    public JobRecommendationIndex(
+            @Value("${app.job.recommendation.recency-half-life-days:14}") double recencyHalfLifeDays) {
+        this.decayPerMilli = Math.log(2) / (recencyHalfLifeDays * MILLIS_PER_DAY);
+    }
+
+    /**
+     * 공고 추가/갱신 (필요 기술이 없으면 색인에서 제외)
+     */
+    public synchronized void put(Long jobPostingId, Entry entry) {
+        State current = state;
+        current.remove(jobPostingId);
+        if (!entry.skillIds().isEmpty()) {
+            current.add(jobPostingId, toSlot(jobPostingId, entry));
+        }
+        markTouched(jobPostingId);
+    }
+
+    public synchronized void remove(Long jobPostingId) {
+        state.remove(jobPostingId);
+        markTouched(jobPostingId);
+    }
+
+    public boolean contains(Long jobPostingId) {
+        return state.slotByPosting.containsKey(jobPostingId);
+    }
+
+    public int size() {
+        return state.slotByPosting.size();
+    }
+
+    /**
+     * 전체 재구성: 로딩은 잠금 밖에서 수행하고, 그동안 증분 반영된 공고는 현재 상태를 유지
+     */
+    public void rebuild(Supplier<Map<Long, Entry>> loader) {
+        synchronized (this) {
+            touchedDuringRebuild = new HashSet<>();
+        }
+        try {
+            Map<Long, Entry> loaded = loader.get();
+            synchronized (this) {
+                State current = state;
+                Map<Long, Entry> merged = new HashMap<>(loaded);
+                for (Long jobPostingId : touchedDuringRebuild) {
+                    Integer slot = current.slotByPosting.get(jobPostingId);
+                    if (slot != null) {
+                        merged.put(jobPostingId, current.slots[slot].entry());
+                    } else {
+                        merged.remove(jobPostingId);
+                    }
+                }
+                state = State.build(merged);
+            }
+        } finally {
+            synchronized (this) {
+                touchedDuringRebuild = null;
+            }
+        }
+    }
+
+    /**
+     * 사용자 기술 가중치(기술 ID → 가중치)로 상위 K개 공고 ID를 점수 내림차순으로 반환
+     */
+    public List<Long> topK(Map<Long, Double> skillWeights, int k, LocalDateTime now) {
+        if (k <= 0 || skillWeights.isEmpty()) {
+            return List.of();
+        }
+        State current = state;
+        Slot[] slots = current.slots;
+        double postingCount = Math.max(1, current.slotByPosting.size());
+
+        double[] scores = new double[slots.length];
+        int[] candidates = new int[256];
+        int candidateCount = 0;
+        for (Map.Entry<Long, Double> skill : skillWeights.entrySet()) {
+            int[] postings = current.slotsBySkill.get(skill.getKey());
+            if (postings == null || skill.getValue() <= 0) {
+                continue;
+            }
+            double weight = skill.getValue() * Math.log(1.0 + postingCount / postings.length);
+            for (int slot : postings) {
+                if (slot >= scores.length) {
+                    continue; // 조회 도중 확장된 슬롯
+                }
+                if (scores[slot] == 0) {
+                    if (candidateCount == candidates.length) {
+                        candidates = Arrays.copyOf(candidates, candidateCount * 2);
+                    }
+                    candidates[candidateCount++] = slot;
+                }
+                scores[slot] += weight;
+            }
+        }
+
+        long nowMillis = toEpochMillis(now);
+        long today = now.toLocalDate().toEpochDay();
+        PriorityQueue<Scored> heap = new PriorityQueue<>(k + 1);
+        for (int i = 0; i < candidateCount; i++) {
+            Slot slot = slots[candidates[i]];
+            if (slot == null || slot.deadlineEpochDay() < today) {
+                continue;
+            }
+            double score = scores[candidates[i]] / Math.sqrt(slot.skillIds().length)
+                    * decay(nowMillis - slot.publishedAtMillis());
+            if (heap.size() < k) {
+                heap.offer(new Scored(slot.jobPostingId(), score));
+            } else if (score > heap.peek().score()) {
+                heap.poll();
+                heap.offer(new Scored(slot.jobPostingId(), score));
+            }
+        }
+
+        Long[] ranked = new Long[heap.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = heap.poll().jobPostingId();
+        }
+        return Arrays.asList(ranked);
+    }
+
+    private double decay(long ageMillis) {
+        return ageMillis <= 0 ? 1.0 : Math.exp(-decayPerMilli * ageMillis);
+    }
+
+    private void markTouched(Long jobPostingId) {
+        if (touchedDuringRebuild != null) {
+            touchedDuringRebuild.add(jobPostingId);
+        }
+    }
+
+    private static Slot toSlot(Long jobPostingId, Entry entry) {
+        long[] skillIds = entry.skillIds().stream().mapToLong(Long::longValue).distinct().toArray();
+        long publishedAtMillis = entry.publishedAt() != null ? toEpochMillis(entry.publishedAt()) : Long.MAX_VALUE;
+        long deadline = entry.deadlineDate() != null ? entry.deadlineDate().toEpochDay() : NO_DEADLINE;
+        return new Slot(jobPostingId, skillIds, publishedAtMillis, deadline, entry);
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record Slot(Long jobPostingId, long[] skillIds, long publishedAtMillis, long deadlineEpochDay, Entry entry) {}
+
+    /**
+     * 최소 힙 정렬 기준: 점수 오름차순, 동점이면 최근(큰 ID) 공고를 우선 유지
+     */
+    private record Scored(Long jobPostingId, double score) implements Comparable<Scored> {
+        @Override
+        public int compareTo(Scored other) {
+            int byScore = Double.compare(score, other.score);
+            return byScore != 0 ? byScore : Long.compare(jobPostingId, other.jobPostingId);
+        }
+    }
+
+    /**
+     * 색인 상태 (쓰기는 JobRecommendationIndex 잠금 안에서만 수행)
+     */
+    private static final class State {
+
+        private volatile Slot[] slots;
+        private final Map<Long, Integer> slotByPosting = new ConcurrentHashMap<>();
+        /** 기술 ID → 오름차순 슬롯 배열 (불변) */
+        private final Map<Long, int[]> slotsBySkill = new ConcurrentHashMap<>();
+        private final Deque<Integer> freeSlots = new ArrayDeque<>();
+        private int nextSlot;
+
+        private State(int capacity) {
+            this.slots = new Slot[capacity];
+        }
+
+        /**
+         * 슬롯을 순서대로 배정하고 기술별 슬롯 배열을 한 번에 생성 (정렬 상태 유지)
+         */
+        private static State build(Map<Long, Entry> entries) {
+            State built = new State(Math.max(INITIAL_CAPACITY, entries.size() + entries.size() / 4));
+            Map<Long, int[]> buffers = new HashMap<>();
+            Map<Long, Integer> lengths = new HashMap<>();
+            entries.forEach((jobPostingId, entry) -> {
+                if (entry.skillIds().isEmpty()) {
+                    return;
+                }
+                int index = built.nextSlot++;
+                Slot slot = toSlot(jobPostingId, entry);
+                built.slots[index] = slot;
+                built.slotByPosting.put(jobPostingId, index);
+                for (long skillId : slot.skillIds()) {
+                    int length = lengths.getOrDefault(skillId, 0);
+                    int[] buffer = buffers.computeIfAbsent(skillId, key -> new int[16]);
+                    if (length == buffer.length) {
+                        buffer = Arrays.copyOf(buffer, length * 2);
+                        buffers.put(skillId, buffer);
+                    }
+                    buffer[length] = index;
+                    lengths.put(skillId, length + 1);
+                }
+            });
+            buffers.forEach((skillId, buffer) -> built.slotsBySkill.put(skillId, Arrays.copyOf(buffer, lengths.get(skillId))));
+            return built;
+        }
+
+        private void add(Long jobPostingId, Slot slot) {
+            int index = freeSlots.isEmpty() ? nextSlot++ : freeSlots.pop();
+            if (index >= slots.length) {
+                Slot[] grown = Arrays.copyOf(slots, slots.length * 2);
+                grown[index] = slot;
+                slots = grown;
+            } else {
+                slots[index] = slot;
+            }
+            // 슬롯 기록 이후 맵에 게시하므로 기술 목록에서 슬롯을 읽은 조회는 항목도 볼 수 있음
+            slotByPosting.put(jobPostingId, index);
+            for (long skillId : slot.skillIds()) {
+                slotsBySkill.compute(skillId, (key, postings) -> insert(postings, index));
+            }
+        }
+
+        private void remove(Long jobPostingId) {
+            Integer index = slotByPosting.remove(jobPostingId);
+            if (index == null) {
+                return;
+            }
+            for (long skillId : slots[index].skillIds()) {
+                slotsBySkill.computeIfPresent(skillId, (key, postings) -> delete(postings, index));
+            }
+            slots[index] = null;
+            freeSlots.push(index);
+        }
+
+        private static int[] insert(int[] postings, int slot) {
+            if (postings == null) {
+                return new int[]{slot};
+            }
+            int position = Arrays.binarySearch(postings, slot);
+            if (position >= 0) {
+                return postings;
+            }
+            position = -(position + 1);
+            int[] copy = new int[postings.length + 1];
+            System.arraycopy(postings, 0, copy, 0, position);
+            copy[position] = slot;
+            System.arraycopy(postings, position, copy, position + 1, postings.length - position);
+            return copy;
+        }
+
+        private static int[] delete(int[] postings, int slot) {
+            int position = Arrays.binarySearch(postings, slot);
+            if (position < 0) {
+                return postings;
+            }
+            if (postings.length == 1) {
+                return null;
+            }
+            int[] copy = new int[postings.length - 1];
+            System.arraycopy(postings, 0, copy, 0, position);
+            System.arraycopy(postings, position + 1, copy, position, postings.length - position - 1);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package org.jbd.backend.job.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.job.domain.JobPosting;
+import org.jbd.backend.job.domain.JobPostingSkill;
+import org.jbd.backend.job.domain.enums.JobStatus;
+import org.jbd.backend.job.repository.JobPostingRepository;
+import org.jbd.backend.job.repository.JobPostingSkillRepository;
+import org.jbd.backend.user.domain.SkillMaster;
+import org.jbd.backend.user.domain.UserSkill;
+import org.jbd.backend.user.domain.enums.SkillLevel;
+import org.jbd.backend.user.repository.SkillMasterRepository;
+import org.jbd.backend.user.repository.UserSkillRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 기술 기반 채용공고 추천 서비스
+ *
+ * 자유 텍스트인 requiredSkills 를 작성/수정 시점에 SkillMaster ID로 정규화하여 job_posting_skills 에 저장하고,
+ * 커밋 이후 JobRecommendationIndex 에 증분 반영합니다. 필요 기술이 바뀌면 지원자 순위 점수도 재계산합니다.
+ * 추천은 사용자 보유 기술(숙련도/경력 가중치)로 역색인을 조회하여 DB 스캔 없이 상위 후보를 선별한 뒤
+ * 선별된 공고만 한 번의 쿼리로 로딩합니다.
+ *
+ * 기동 시 매핑이 없는 기존 공고를 백필하고 색인을 구성하며,
+ * 다른 인스턴스에서 발생한 변경은 주기적 재구성으로 반영됩니다.
+ */
+@Slf4j
+@Service
+public class JobRecommendationService {
+
+    /** requiredSkills 구분자 ("/"는 "CI/CD" 같은 기술명에 쓰이므로 일치하지 않는 단어에서만 분리) */
+    private static final Pattern SKILL_DELIMITERS = Pattern.compile("[,;|·•()\\[\\]\\n\\r\\t]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_NGRAM = 3;
+    private static final int MAX_EXPERIENCE_YEARS = 10;
+
+    private final JobPostingRepository jobPostingRepository;
+    private final JobPostingSkillRepository jobPostingSkillRepository;
+    private final SkillMasterRepository skillMasterRepository;
+    private final UserSkillRepository userSkillRepository;
+    private final JobRecommendationIndex index;
+    private final ApplicantRankingService rankingService;
+    private final TransactionTemplate transactionTemplate;
+    private final long dictionaryTtlMs;
+    private final int maxSize;
+    private final int backfillBatchSize;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile SkillDictionary dictionary;
+
+    public JobRecommendationService(JobPostingRepository jobPostingRepository,
+                                    JobPostingSkillRepository jobPostingSkillRepository,
+                                    SkillMasterRepository skillMasterRepository,
+                                    UserSkillRepository userSkillRepository,
+                                    JobRecommendationIndex index,
+                                    ApplicantRankingService rankingService,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${app.job.recommendation.skill-dictionary-ttl-ms:300000}") long dictionaryTtlMs,
+                                    @Value("${app.job.recommendation.max-size:50}") int maxSize,
+                                    @Value("${app.job.recommendation.backfill-batch-size:500}") int backfillBatchSize) {
+        this.jobPostingRepository = jobPostingRepository;
+        this.jobPostingSkillRepository = jobPostingSkillRepository;
+        this.skillMasterRepository = skillMasterRepository;
+        this.userSkillRepository = userSkillRepository;
+        this.index = index;
+        this.rankingService = rankingService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dictionaryTtlMs = dictionaryTtlMs;
+        this.maxSize = maxSize;
+        this.backfillBatchSize = backfillBatchSize;
+    }
+
+    /**
+     * 사용자 맞춤 채용공고 추천 (점수 내림차순)
+     */
+    @Transactional(readOnly = true)
+    public List<JobPosting> recommend(Long userId, int size) {
+        int limit = Math.max(1, Math.min(size, maxSize));
+        List<UserSkill> userSkills = userSkillRepository.findByUserId(userId);
+        if (userSkills.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Double> weights = new HashMap<>();
+        for (UserSkill userSkill : userSkills) {
+            weights.merge(userSkill.getSkill().getId(), skillWeight(userSkill), Math::max);
+        }
+
+        List<Long> ranked = index.topK(weights, limit, LocalDateTime.now());
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, JobPosting> postings = jobPostingRepository.findAllWithCompanyUserByIdIn(ranked).stream()
+                .collect(Collectors.toMap(JobPosting::getId, Function.identity()));
+        // 다른 인스턴스에서 마감된 공고는 재구성 전까지 색인에 남아 있을 수 있음
+        return ranked.stream()
+                .map(postings::get)
+                .filter(posting -> posting != null && posting.getStatus() == JobStatus.PUBLISHED)
+                .toList();
+    }
+
+    /**
+     * 채용공고 저장 후 호출: 필요 기술 매핑을 갱신하고 커밋 이후 색인에 반영
+     */
+    @Transactional
+    public void syncJobPosting(JobPosting jobPosting) {
+        Long jobPostingId = jobPosting.getId();
+        if (jobPostingId == null) {
+            return;
+        }
+        Set<Long> skillIds = normalizeSkills(jobPosting.getRequiredSkills());
+        Set<Long> stored = new HashSet<>(jobPostingSkillRepository.findSkillIdsByJobPostingId(jobPostingId));
+        if (!stored.equals(skillIds)) {
+            jobPostingSkillRepository.deleteByJobPostingId(jobPostingId);
+            jobPostingSkillRepository.saveAll(skillIds.stream()
+                    .map(skillId -> new JobPostingSkill(jobPostingId, skillId))
+                    .toList());
+            rankingService.rerankJobPosting(jobPostingId);
+        }
+
+        if (jobPosting.getStatus() == JobStatus.PUBLISHED) {
+            JobRecommendationIndex.Entry entry = new JobRecommendationIndex.Entry(
+                    skillIds, jobPosting.getPublishedAt(), jobPosting.getDeadlineDate());
+            afterCommit(() -> index.put(jobPostingId, entry));
+        } else {
+            afterCommit(() -> index.remove(jobPostingId));
+        }
+    }
+
+    /**
+     * 채용공고 삭제 시 호출
+     */
+    @Transactional
+    public void onJobPostingDeleted(Long jobPostingId) {
+        jobPostingSkillRepository.deleteByJobPostingId(jobPostingId);
+        afterCommit(() -> index.remove(jobPostingId));
+    }
+
+    /**
+     * requiredSkills 자유 텍스트를 SkillMaster ID 집합으로 정규화
+     *
+     * 구분자로 나눈 토큰을 대소문자/공백 무시하고 기술명과 비교하며,
+     * 일치하지 않으면 "Java Spring Boot 경험자"처럼 나열된 단어에서 최장 일치(최대 3단어)로 찾습니다.
+     */
+    public Set<Long> normalizeSkills(String requiredSkills) {
+        if (requiredSkills == null || requiredSkills.isBlank()) {
+            return Set.of();
+        }
+        Map<String, Long> idsByName = dictionary().idsByName();
+        Set<Long> skillIds = new LinkedHashSet<>();
+        for (String token : SKILL_DELIMITERS.split(requiredSkills)) {
+            String name = normalizeName(token);
+            if (name.isEmpty()) {
+                continue;
+            }
+            Long skillId = idsByName.get(name);
+            if (skillId != null) {
+                skillIds.add(skillId);
+                continue;
+            }
+            String[] words = name.split(" ");
+            int position = 0;
+            while (position < words.length) {
+                int matched = 0;
+                for (int n = Math.min(MAX_NGRAM, words.length - position); n > 0 && matched == 0; n--) {
+                    Long candidate = idsByName.get(String.join(" ", Arrays.copyOfRange(words, position, position + n)));
+                    if (candidate != null) {
+                        skillIds.add(candidate);
+                        matched = n;
+                    }
+                }
+                if (matched == 0) {
+                    // "Java/Kotlin" 처럼 슬래시로 묶인 단어는 나눠서 확인
+                    for (String part : words[position].split("/")) {
+                        Long candidate = idsByName.get(part);
+                        if (candidate != null) {
+                            skillIds.add(candidate);
+                        }
+                    }
+                }
+                position += Math.max(matched, 1);
+            }
+        }
+        return skillIds;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        backfillSkills();
+        rebuildIndex();
+    }
+
+    /**
+     * job_posting_skills 기준 전체 재구성 (다른 인스턴스의 변경 반영)
+     */
+    @Scheduled(fixedDelayString = "${app.job.recommendation.rebuild-interval-ms:600000}",
+               initialDelayString = "${app.job.recommendation.rebuild-interval-ms:600000}")
+    public void rebuildIndex() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            index.rebuild(this::loadIndexEntries);
+            log.info("Job recommendation index rebuilt: {} postings in {}ms",
+                    index.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("Job recommendation index rebuild failed", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 정규화 도입 이전에 저장된 공고의 기술 매핑 백필 (ID 순 배치)
+     */
+    void backfillSkills() {
+        long afterId = 0;
+        int total = 0;
+        try {
+            List<JobPosting> batch;
+            do {
+                long cursor = afterId;
+                batch = transactionTemplate.execute(status -> {
+                    List<JobPosting> postings = jobPostingSkillRepository.findWithoutSkills(
+                            cursor, PageRequest.of(0, backfillBatchSize));
+                    for (JobPosting posting : postings) {
+                        jobPostingSkillRepository.saveAll(normalizeSkills(posting.getRequiredSkills()).stream()
+                                .map(skillId -> new JobPostingSkill(posting.getId(), skillId))
+                                .toList());
+                    }
+                    return postings;
+                });
+                if (!batch.isEmpty()) {
+                    afterId = batch.get(batch.size() - 1).getId();
+                    total += batch.size();
+                }
+            } while (batch.size() == backfillBatchSize);
+
+            if (total > 0) {
+                log.info("Job posting skills backfilled: {} postings", total);
+            }
+        } catch (Exception e) {
+            log.error("Job posting skill backfill failed after {} postings", total, e);
+        }
+    }
+
+    private Map<Long, JobRecommendationIndex.Entry> loadIndexEntries() {
+        Map<Long, JobRecommendationIndex.Entry> entries = new HashMap<>();
+        for (JobPostingSkillRepository.IndexRow row : jobPostingSkillRepository.findIndexRows(JobStatus.PUBLISHED)) {
+            entries.computeIfAbsent(row.getJobPostingId(), id -> new JobRecommendationIndex.Entry(
+                    new ArrayList<>(), row.getPublishedAt(), row.getDeadlineDate()))
+                    .skillIds().add(row.getSkillId());
+        }
+        return entries;
+    }
+
+    /**
+     * 숙련도 가중치에 경력 연수 보너스(연 5%, 최대 10년)를 곱한 값
+     */
+    static double skillWeight(UserSkill userSkill) {
+        int years = userSkill.getYearsOfExperience() != null
+                ? Math.min(Math.max(userSkill.getYearsOfExperience(), 0), MAX_EXPERIENCE_YEARS)
+                : 0;
+        return proficiencyWeight(userSkill.getProficiencyLevel()) * (1.0 + 0.05 * years);
+    }
+
+    static double proficiencyWeight(SkillLevel level) {
+        if (level == null) {
+            return 1.0;
+        }
+        return switch (level) {
+            case BEGINNER -> 1.0;
+            case INTERMEDIATE -> 1.5;
+            case ADVANCED -> 2.0;
+            case EXPERT -> 2.5;
+        };
+    }
+
+    private SkillDictionary dictionary() {
+        SkillDictionary current = dictionary;
+        if (current == null || System.currentTimeMillis() - current.loadedAt() > dictionaryTtlMs) {
+            Map<String, Long> idsByName = new HashMap<>();
+            for (SkillMaster skill : skillMasterRepository.findAll()) {
+                idsByName.put(normalizeName(skill.getSkillName()), skill.getId());
+            }
+            current = new SkillDictionary(idsByName, System.currentTimeMillis());
+            dictionary = current;
+        }
+        return current;
+    }
+
+    private static String normalizeName(String name) {
+        return WHITESPACE.matcher(name.trim().toLowerCase(Locale.ROOT)).replaceAll(" ");
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record SkillDictionary(Map<String, Long> idsByName, long loadedAt) {}
+}
@@ -1,12 +1,21 @@
 package org.jbd.backend.payment.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jbd.backend.payment.domain.Subscription;
+import org.jbd.backend.auth.service.UserPrincipal;
+import org.jbd.backend.common.dto.ApiResponse;
+import org.jbd.backend.common.exception.BusinessException;
+import org.jbd.backend.common.exception.ErrorCode;
+import org.jbd.backend.common.service.PermissionService;
+import org.jbd.backend.payment.dto.CohortProvisioningDto;
 import org.jbd.backend.payment.dto.KakaoPayReadyResponseDto;
 import org.jbd.backend.payment.dto.PaymentRequestDto;
+import org.jbd.backend.payment.service.CohortProvisioningService;
 import org.jbd.backend.payment.service.PaymentService;
+import org.jbd.backend.payment.service.SubscriptionEntitlement;
 import org.jbd.backend.user.repository.UserRepository;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -23,6 +32,8 @@ import java.util.Optional;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final CohortProvisioningService cohortProvisioningService;
+    private final PermissionService permissionService;
     private final UserRepository userRepository;
 
     /**
@@ -82,19 +93,19 @@ public class PaymentController {
         // UserDetails에서 userId 추출 (실제 구현에 맞게 수정)
         Long userId = getUserIdFromUserDetails(userDetails);
 
-        Optional<Subscription> subscription = paymentService.getCurrentSubscription(userId);
+        Optional<SubscriptionEntitlement> subscription = paymentService.getCurrentSubscription(userId);
 
         if (subscription.isPresent()) {
-            Subscription sub = subscription.get();
+            SubscriptionEntitlement sub = subscription.get();
             Map<String, Object> response = new HashMap<>();
-            response.put("id", sub.getId());
-            response.put("planType", sub.getPlanType());
-            response.put("status", sub.getStatus());
-            response.put("startDate", sub.getStartDate());
-            response.put("endDate", sub.getEndDate());
-            response.put("amount", sub.getAmount());
-            response.put("academyName", sub.getAcademyName());
-            response.put("academyVerified", sub.getAcademyVerified());
+            response.put("id", sub.subscriptionId());
+            response.put("planType", sub.planType());
+            response.put("status", sub.status());
+            response.put("startDate", sub.startDate());
+            response.put("endDate", sub.endDate());
+            response.put("amount", sub.amount());
+            response.put("academyName", sub.academyName());
+            response.put("academyVerified", sub.academyVerified());
 
             return ResponseEntity.ok(response);
         } else {
@@ -130,6 +141,19 @@ public class PaymentController {
         }
     }
 
+    /**
+     * 구독 환불 (관리자, 카카오페이 결제 취소 후 환불 상태로 전환)
+     */
+    @PostMapping("/subscription/{subscriptionId}/refund")
+    public ResponseEntity<ApiResponse<Void>> refundSubscription(
+            @PathVariable Long subscriptionId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        requireAdmin(userDetails);
+        paymentService.refundSubscription(subscriptionId);
+        return ResponseEntity.ok(ApiResponse.success("구독이 환불되었습니다"));
+    }
+
     /**
      * 학원 소속 확인 (쿠폰 코드)
      */
@@ -170,10 +194,54 @@ public class PaymentController {
         }
     }
 
+    /**
+     * 학원 수강생 계정 일괄 생성 작업 등록 (관리자, 비동기 - 진행률은 작업 ID로 조회)
+     */
+    @PostMapping("/academy/cohorts")
+    public ResponseEntity<ApiResponse<CohortProvisioningDto.StartJobResponseDto>> startCohortProvisioning(
+            @Valid @RequestBody CohortProvisioningDto.CreateJobDto dto,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        Long adminId = requireAdmin(userDetails);
+        CohortProvisioningDto.StartJobResponseDto response = cohortProvisioningService.startJob(
+                adminId, dto.getCouponCode(), dto.getMembers());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("수강생 계정 생성 작업이 등록되었습니다", response));
+    }
+
+    /**
+     * 학원 수강생 계정 일괄 생성 작업 진행률 조회 (관리자)
+     */
+    @GetMapping("/academy/cohorts/{jobId}")
+    public ResponseEntity<ApiResponse<CohortProvisioningDto.JobResponseDto>> getCohortProvisioning(
+            @PathVariable Long jobId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        requireAdmin(userDetails);
+        return ResponseEntity.ok(ApiResponse.success("수강생 계정 생성 작업 조회 성공",
+                cohortProvisioningService.getJob(jobId)));
+    }
+
+    private Long requireAdmin(UserDetails userDetails) {
+        if (userDetails == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        Long userId = getUserIdFromUserDetails(userDetails);
+        if (!permissionService.isAdmin(userId)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+        return userId;
+    }
+
     /**
      * UserDetails에서 userId 추출
      */
     private Long getUserIdFromUserDetails(UserDetails userDetails) {
+        // JWT 인증 주체는 요청 시작 시 만든 스냅샷을 보관하므로 재조회하지 않음
+        if (userDetails instanceof UserPrincipal principal) {
+            return principal.getId();
+        }
+
         // UserDetails.getUsername()은 이메일을 반환함
         String email = userDetails.getUsername();
 
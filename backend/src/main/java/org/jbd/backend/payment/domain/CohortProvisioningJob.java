@@ -0,0 +1,72 @@
+package org.jbd.backend.payment.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.jbd.backend.payment.domain.enums.ProvisioningJobStatus;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 학원 수강생 계정 일괄 생성 작업
+ *
+ * 명단의 수강생 계정(User/UserProfile)과 무료 학원 구독을 비동기로 생성하는 작업 단위이며, 진행률 조회에 사용됩니다.
+ * 진행 건수(createdCount/skippedCount/failedCount)는 청크 단위로 CohortProvisioningJobRepository의
+ * 증분 쿼리로만 갱신합니다.
+ */
+@Entity
+@Table(name = "cohort_provisioning_jobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class CohortProvisioningJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "requested_by", nullable = false)
+    private Long requestedBy;
+
+    @Column(name = "academy_name", nullable = false)
+    private String academyName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ProvisioningJobStatus status;
+
+    @Column(name = "total_count", nullable = false)
+    private Integer totalCount;
+
+    @Column(name = "created_count", nullable = false)
+    private Integer createdCount = 0;
+
+    /** 이미 가입된 이메일이라 건너뛴 건수 */
+    @Column(name = "skipped_count", nullable = false)
+    private Integer skippedCount = 0;
+
+    @Column(name = "failed_count", nullable = false)
+    private Integer failedCount = 0;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    public CohortProvisioningJob(Long requestedBy, String academyName, int totalCount) {
+        this.requestedBy = requestedBy;
+        this.academyName = academyName;
+        this.totalCount = totalCount;
+        this.status = ProvisioningJobStatus.QUEUED;
+    }
+
+    public boolean isFinished() {
+        return status == ProvisioningJobStatus.COMPLETED || status == ProvisioningJobStatus.FAILED;
+    }
+}
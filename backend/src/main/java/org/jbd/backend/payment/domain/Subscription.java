@@ -24,10 +24,12 @@ import java.time.LocalDateTime;
  * - FREE_ACADEMY: 솔데스크 학원 소속자 3개월 무료
  * - PAID_MONTHLY: 일반 사용자 월 1원 정액제
  * - 중복 활성 구독 불가
- * - 만료일 기준 자동 상태 관리
+ * - 만료일 기준 자동 상태 관리 (SubscriptionExpiryProcessor)
  */
 @Entity
-@Table(name = "subscriptions")
+@Table(name = "subscriptions", indexes = {
+    @Index(name = "idx_subscriptions_status_end_date", columnList = "status, end_date, subscription_id")
+})
 @Getter
 @Setter
 public class Subscription extends BaseEntity {
@@ -87,6 +89,10 @@ public class Subscription extends BaseEntity {
     }
 
     // 비즈니스 메서드
+    public void markPending() {
+        this.status = SubscriptionStatus.PENDING;
+    }
+
     public void activate() {
         this.status = SubscriptionStatus.ACTIVE;
     }
@@ -99,6 +105,10 @@ public class Subscription extends BaseEntity {
         this.status = SubscriptionStatus.EXPIRED;
     }
 
+    public void refund() {
+        this.status = SubscriptionStatus.REFUNDED;
+    }
+
     public boolean isActive() {
         return status == SubscriptionStatus.ACTIVE &&
                LocalDateTime.now().isBefore(endDate);
@@ -0,0 +1,15 @@
+package org.jbd.backend.payment.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ProvisioningJobStatus {
+    QUEUED("대기중"),
+    RUNNING("생성중"),
+    COMPLETED("완료됨"),
+    FAILED("실패");
+
+    private final String description;
+}
@@ -4,9 +4,11 @@ package org.jbd.backend.payment.domain.enums;
  * 구독 상태
  */
 public enum SubscriptionStatus {
+    PENDING("결제 대기"),
     ACTIVE("활성"),
     EXPIRED("만료"),
-    CANCELLED("취소");
+    CANCELLED("취소"),
+    REFUNDED("환불");
 
     private final String description;
 
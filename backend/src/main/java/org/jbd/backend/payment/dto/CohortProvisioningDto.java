@@ -0,0 +1,119 @@
+package org.jbd.backend.payment.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.jbd.backend.payment.domain.CohortProvisioningJob;
+import org.jbd.backend.payment.domain.enums.ProvisioningJobStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class CohortProvisioningDto {
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CreateJobDto {
+        @NotBlank(message = "학원 쿠폰 코드는 필수입니다")
+        private String couponCode;
+
+        /**
+         * 수강생 명단 (행 단위 검증은 작업 등록 시 수행하며, 형식이 잘못된 행만 제외됩니다)
+         */
+        @NotEmpty(message = "수강생 명단이 비어 있습니다")
+        @Size(max = 10000, message = "한 번에 최대 10000명까지 생성할 수 있습니다")
+        private List<MemberDto> members;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MemberDto {
+        @NotBlank(message = "이메일은 필수입니다.")
+        @Email(message = "올바른 이메일 형식이 아닙니다.")
+        private String email;
+
+        @NotBlank(message = "이름은 필수입니다.")
+        private String name;
+
+        /**
+         * 초기 비밀번호 (UserRegistrationDto 와 같은 규칙)
+         */
+        @NotBlank(message = "비밀번호는 필수입니다.")
+        @Size(min = 8, max = 100, message = "비밀번호는 8자 이상 100자 이하여야 합니다.")
+        private String password;
+
+        @Override
+        public String toString() {
+            return "MemberDto(email=" + email + ", name=" + name + ")";
+        }
+    }
+
+    /**
+     * 등록 시 제외된 명단 행 (row 는 1부터 시작)
+     */
+    @Data
+    @AllArgsConstructor
+    public static class RejectedMemberDto {
+        private int row;
+        private String email;
+        private String message;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StartJobResponseDto {
+        private JobResponseDto job;
+        private int rejectedCount;
+        private List<RejectedMemberDto> rejectedMembers;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JobResponseDto {
+        private Long jobId;
+        private String academyName;
+        private ProvisioningJobStatus status;
+        private String statusDescription;
+        private int totalCount;
+        private int createdCount;
+        private int skippedCount;
+        private int failedCount;
+        private double progressPercent;
+        private LocalDateTime createdAt;
+        private LocalDateTime startedAt;
+        private LocalDateTime finishedAt;
+
+        public static JobResponseDto from(CohortProvisioningJob job) {
+            int processed = job.getCreatedCount() + job.getSkippedCount() + job.getFailedCount();
+            double progress = job.getTotalCount() == 0 ? 100.0
+                    : Math.round(processed * 1000.0 / job.getTotalCount()) / 10.0;
+            return JobResponseDto.builder()
+                    .jobId(job.getId())
+                    .academyName(job.getAcademyName())
+                    .status(job.getStatus())
+                    .statusDescription(job.getStatus().getDescription())
+                    .totalCount(job.getTotalCount())
+                    .createdCount(job.getCreatedCount())
+                    .skippedCount(job.getSkippedCount())
+                    .failedCount(job.getFailedCount())
+                    .progressPercent(progress)
+                    .createdAt(job.getCreatedAt())
+                    .startedAt(job.getStartedAt())
+                    .finishedAt(job.getFinishedAt())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.jbd.backend.payment.repository;
+
+import org.jbd.backend.payment.domain.CohortProvisioningJob;
+import org.jbd.backend.payment.domain.enums.ProvisioningJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface CohortProvisioningJobRepository extends JpaRepository<CohortProvisioningJob, Long> {
+
+    @Modifying
+    @Query("UPDATE CohortProvisioningJob j SET j.status = org.jbd.backend.payment.domain.enums.ProvisioningJobStatus.RUNNING, " +
+           "j.startedAt = :startedAt WHERE j.id = :jobId")
+    int markRunning(@Param("jobId") Long jobId, @Param("startedAt") LocalDateTime startedAt);
+
+    /**
+     * 청크 처리 결과를 진행 건수에 누적
+     */
+    @Modifying
+    @Query("UPDATE CohortProvisioningJob j SET j.createdCount = j.createdCount + :created, " +
+           "j.skippedCount = j.skippedCount + :skipped, j.failedCount = j.failedCount + :failed WHERE j.id = :jobId")
+    int addProgress(@Param("jobId") Long jobId,
+                    @Param("created") int created,
+                    @Param("skipped") int skipped,
+                    @Param("failed") int failed);
+
+    @Modifying
+    @Query("UPDATE CohortProvisioningJob j SET j.status = :status, j.finishedAt = :finishedAt WHERE j.id = :jobId")
+    int finish(@Param("jobId") Long jobId,
+               @Param("status") ProvisioningJobStatus status,
+               @Param("finishedAt") LocalDateTime finishedAt);
+
+    /**
+     * 시작 시각 이전에 등록되어 끝나지 않은(QUEUED/RUNNING) 작업을 실패 처리
+     */
+    @Modifying
+    @Query("UPDATE CohortProvisioningJob j SET j.status = org.jbd.backend.payment.domain.enums.ProvisioningJobStatus.FAILED, " +
+           "j.finishedAt = :finishedAt " +
+           "WHERE j.status IN (org.jbd.backend.payment.domain.enums.ProvisioningJobStatus.QUEUED, " +
+           "org.jbd.backend.payment.domain.enums.ProvisioningJobStatus.RUNNING) AND j.createdAt < :createdBefore")
+    int failUnfinishedCreatedBefore(@Param("createdBefore") LocalDateTime createdBefore,
+                                    @Param("finishedAt") LocalDateTime finishedAt);
+}
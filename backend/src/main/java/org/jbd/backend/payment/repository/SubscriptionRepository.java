@@ -2,6 +2,7 @@ package org.jbd.backend.payment.repository;
 
 import org.jbd.backend.payment.domain.Subscription;
 import org.jbd.backend.payment.domain.enums.SubscriptionStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -23,6 +24,29 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
     @Query("SELECT s FROM Subscription s WHERE s.status = :status AND s.endDate < :now")
     List<Subscription> findExpiredSubscriptions(@Param("status") SubscriptionStatus status, @Param("now") LocalDateTime now);
 
+    /**
+     * 만료 처리 대상 첫 페이지 [subscriptionId, userId, endDate] (end_date, id 순)
+     */
+    @Query("SELECT s.id, s.user.id, s.endDate FROM Subscription s " +
+           "WHERE s.status = :status AND s.endDate <= :now " +
+           "ORDER BY s.endDate, s.id")
+    List<Object[]> findDueForExpiry(@Param("status") SubscriptionStatus status,
+                                    @Param("now") LocalDateTime now,
+                                    Pageable pageable);
+
+    /**
+     * 만료 처리 대상 다음 페이지 (키셋: 마지막으로 처리한 (endDate, id) 이후)
+     */
+    @Query("SELECT s.id, s.user.id, s.endDate FROM Subscription s " +
+           "WHERE s.status = :status AND s.endDate <= :now " +
+           "AND (s.endDate > :afterEndDate OR (s.endDate = :afterEndDate AND s.id > :afterId)) " +
+           "ORDER BY s.endDate, s.id")
+    List<Object[]> findDueForExpiryAfter(@Param("status") SubscriptionStatus status,
+                                         @Param("now") LocalDateTime now,
+                                         @Param("afterEndDate") LocalDateTime afterEndDate,
+                                         @Param("afterId") Long afterId,
+                                         Pageable pageable);
+
     boolean existsByUserIdAndStatus(Long userId, SubscriptionStatus status);
 
     Optional<Subscription> findByOrderId(String orderId);
@@ -0,0 +1,390 @@
+package org.jbd.backend.payment.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.common.exception.BusinessException;
+import org.jbd.backend.common.exception.ErrorCode;
+import org.jbd.backend.payment.domain.CohortProvisioningJob;
+import org.jbd.backend.payment.domain.enums.PlanType;
+import org.jbd.backend.payment.domain.enums.ProvisioningJobStatus;
+import org.jbd.backend.payment.domain.enums.SubscriptionStatus;
+import org.jbd.backend.payment.dto.CohortProvisioningDto;
+import org.jbd.backend.payment.repository.CohortProvisioningJobRepository;
+import org.jbd.backend.user.domain.enums.OAuthProvider;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.jbd.backend.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 학원 수강생 계정 일괄 생성 파이프라인
+ *
+ * 학원 명단을 받아 수강생 계정과 무료 학원 구독을 청크 단위로 다음 순서로 생성합니다.
+ * 1. 중복 확인: 청크의 이메일 중 이미 가입된 이메일을 IN 쿼리 한 번으로 조회하여 건너뜀
+ * 2. 해싱: 크기가 제한된 워커 풀에서 초기 비밀번호를 BCrypt 로 해싱
+ * 3. 저장: users → user_profiles → subscriptions 순서로 JDBC batch INSERT 하고 작업 진행률을 함께 갱신
+ *
+ * BCrypt 는 CPU 를 많이 쓰므로 해싱 워커 수를 코어 수보다 작게 두어 요청 스레드의 로그인 처리를 방해하지 않게 합니다.
+ * 작업은 단일 코디네이터 스레드에서 순서대로 실행되며, 청크 저장이 실패하면(그 사이 같은 이메일로 가입한 경우 등)
+ * 해당 청크만 계정 단위로 다시 저장합니다.
+ */
+@Slf4j
+@Service
+public class CohortProvisioningService {
+
+    private static final int ACADEMY_FREE_MONTHS = 3;
+
+    private final CohortProvisioningJobRepository provisioningJobRepository;
+    private final UserRepository userRepository;
+    private final PaymentService paymentService;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    private final int chunkSize;
+    private final int maxMembersPerJob;
+    private final ExecutorService coordinator;
+    private final ThreadPoolExecutor hashPool;
+    private final LocalDateTime bootedAt;
+
+    public CohortProvisioningService(CohortProvisioningJobRepository provisioningJobRepository,
+                                     UserRepository userRepository,
+                                     PaymentService paymentService,
+                                     PasswordEncoder passwordEncoder,
+                                     Validator validator,
+                                     JdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     Clock clock,
+                                     @Value("${app.academy.provisioning.hash-workers:2}") int hashWorkers,
+                                     @Value("${app.academy.provisioning.chunk-size:500}") int chunkSize,
+                                     @Value("${app.academy.provisioning.max-members-per-job:10000}") int maxMembersPerJob) {
+        this.provisioningJobRepository = provisioningJobRepository;
+        this.userRepository = userRepository;
+        this.paymentService = paymentService;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.bootedAt = LocalDateTime.now(clock);
+        this.chunkSize = chunkSize;
+        this.maxMembersPerJob = maxMembersPerJob;
+        this.coordinator = Executors.newSingleThreadExecutor(namedThreads("cohort-provisioning-"));
+        // 코디네이터가 한 청크(최대 chunkSize 건)를 제출한 뒤 모두 끝날 때까지 기다리는 것으로 제출 속도가 제한되므로
+        // 큐는 한 청크 크기면 가득 차지 않음 (종료 중 제출은 거부되어 작업이 실패로 기록됨)
+        this.hashPool = new ThreadPoolExecutor(hashWorkers, hashWorkers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(chunkSize), namedThreads("cohort-password-hash-"));
+    }
+
+    /**
+     * 계정 생성 작업 등록
+     *
+     * 형식이 잘못된 행과 명단 안에서 중복된 이메일(뒤에 나온 행)은 제외하고 응답에 행 번호와 함께 보고합니다.
+     *
+     * @throws BusinessException 쿠폰 코드가 유효하지 않거나 명단이 비었거나 한도를 넘으면 INVALID_REQUEST
+     */
+    public CohortProvisioningDto.StartJobResponseDto startJob(Long adminId, String couponCode,
+                                                              List<CohortProvisioningDto.MemberDto> members) {
+        Map<String, Object> eligibility = paymentService.checkAcademyEligibility(couponCode);
+        if (!(boolean) eligibility.get("eligible")) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "유효하지 않은 학원 쿠폰 코드입니다.");
+        }
+        if (members == null || members.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "수강생 명단이 비어 있습니다");
+        }
+        if (members.size() > maxMembersPerJob) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST,
+                    "한 번에 최대 " + maxMembersPerJob + "명까지 생성할 수 있습니다");
+        }
+
+        List<Member> accepted = new ArrayList<>(members.size());
+        List<CohortProvisioningDto.RejectedMemberDto> rejected = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < members.size(); i++) {
+            CohortProvisioningDto.MemberDto member = members.get(i);
+            String error = validate(member);
+            if (error == null && !seen.add(emailKey(member.getEmail()))) {
+                error = "명단에 같은 이메일이 이미 있습니다";
+            }
+            if (error != null) {
+                rejected.add(new CohortProvisioningDto.RejectedMemberDto(
+                        i + 1, member != null ? member.getEmail() : null, error));
+                continue;
+            }
+            accepted.add(new Member(member.getEmail().trim(), member.getName().trim(), member.getPassword()));
+        }
+        if (accepted.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "생성할 수 있는 수강생이 없습니다");
+        }
+
+        Academy academy = new Academy((String) eligibility.get("academyName"), couponCode);
+        CohortProvisioningJob job = transactionTemplate.execute(status ->
+                provisioningJobRepository.save(new CohortProvisioningJob(adminId, academy.name(), accepted.size())));
+
+        coordinator.submit(() -> runJob(job.getId(), academy, accepted));
+        log.info("Cohort provisioning job {} queued by admin {}: academy={}, members={}, rejected={}",
+                job.getId(), adminId, academy.name(), accepted.size(), rejected.size());
+
+        return CohortProvisioningDto.StartJobResponseDto.builder()
+                .job(CohortProvisioningDto.JobResponseDto.from(job))
+                .rejectedCount(rejected.size())
+                .rejectedMembers(rejected)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public CohortProvisioningDto.JobResponseDto getJob(Long jobId) {
+        CohortProvisioningJob job = provisioningJobRepository.findById(jobId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "계정 생성 작업을 찾을 수 없습니다"));
+        return CohortProvisioningDto.JobResponseDto.from(job);
+    }
+
+    /**
+     * 이전 실행에서 끝나지 않은 작업 정리 (이 인스턴스 시작 전에 등록된 QUEUED/RUNNING 작업은 대기열에 없음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failOrphanedJobs() {
+        try {
+            Integer failed = transactionTemplate.execute(status ->
+                    provisioningJobRepository.failUnfinishedCreatedBefore(bootedAt, LocalDateTime.now(clock)));
+            if (failed != null && failed > 0) {
+                log.warn("Marked {} cohort provisioning jobs interrupted by restart as FAILED", failed);
+            }
+        } catch (Exception e) {
+            log.error("Failed to clean up interrupted cohort provisioning jobs", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        hashPool.shutdownNow();
+    }
+
+    private String validate(CohortProvisioningDto.MemberDto member) {
+        if (member == null) {
+            return "비어 있는 행입니다";
+        }
+        Set<ConstraintViolation<CohortProvisioningDto.MemberDto>> violations = validator.validate(member);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.joining(", "));
+    }
+
+    void runJob(Long jobId, Academy academy, List<Member> members) {
+        long started = System.currentTimeMillis();
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    provisioningJobRepository.markRunning(jobId, LocalDateTime.now(clock)));
+
+            for (int from = 0; from < members.size(); from += chunkSize) {
+                List<Member> chunk = members.subList(from, Math.min(from + chunkSize, members.size()));
+                processChunk(jobId, academy, chunk);
+            }
+
+            finish(jobId, ProvisioningJobStatus.COMPLETED);
+            log.info("Cohort provisioning job {} finished: {} members in {} ms",
+                    jobId, members.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("Cohort provisioning job {} failed", jobId, e);
+            finish(jobId, ProvisioningJobStatus.FAILED);
+        }
+    }
+
+    private void processChunk(Long jobId, Academy academy, List<Member> chunk) throws InterruptedException {
+        // MySQL 기본 콜레이션은 대소문자를 구분하지 않으므로 소문자로 비교
+        Set<String> registered = userRepository.findRegisteredEmails(
+                        chunk.stream().map(Member::email).toList()).stream()
+                .map(CohortProvisioningService::emailKey)
+                .collect(Collectors.toSet());
+
+        List<Member> fresh = chunk.stream()
+                .filter(member -> !registered.contains(emailKey(member.email())))
+                .toList();
+
+        List<Future<String>> futures = new ArrayList<>(fresh.size());
+        for (Member member : fresh) {
+            futures.add(hashPool.submit(() -> passwordEncoder.encode(member.password())));
+        }
+
+        List<Account> accounts = new ArrayList<>(fresh.size());
+        int failed = 0;
+        for (int i = 0; i < fresh.size(); i++) {
+            try {
+                accounts.add(new Account(fresh.get(i), futures.get(i).get()));
+            } catch (ExecutionException e) {
+                failed++;
+                log.warn("Password hashing failed in cohort provisioning job {}: {}", jobId, e.getCause().getMessage());
+            }
+        }
+
+        int skipped = chunk.size() - fresh.size();
+        int hashFailed = failed;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                insertAccounts(academy, accounts);
+                provisioningJobRepository.addProgress(jobId, accounts.size(), skipped, hashFailed);
+            });
+        } catch (DataAccessException e) {
+            log.warn("Cohort provisioning chunk of {} accounts failed in job {}, retrying one by one: {}",
+                    accounts.size(), jobId, NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            retryOneByOne(jobId, academy, accounts, skipped, hashFailed);
+        }
+    }
+
+    private void retryOneByOne(Long jobId, Academy academy, List<Account> accounts, int skipped, int failed) {
+        int created = 0;
+        for (Account account : accounts) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertAccounts(academy, List.of(account)));
+                created++;
+            } catch (DuplicateKeyException e) {
+                // 중복 확인 이후 같은 이메일로 가입된 경우
+                skipped++;
+            } catch (DataAccessException e) {
+                failed++;
+                log.warn("Cohort provisioning failed for {} in job {}: {}", account.member().email(), jobId,
+                        NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            }
+        }
+        int createdCount = created;
+        int skippedCount = skipped;
+        int failedCount = failed;
+        transactionTemplate.executeWithoutResult(status ->
+                provisioningJobRepository.addProgress(jobId, createdCount, skippedCount, failedCount));
+    }
+
+    /**
+     * 계정/프로필/구독 batch INSERT (User/UserProfile/Subscription 엔티티의 기본값과 같은 값으로 저장)
+     *
+     * users 는 IDENTITY 키이므로 생성된 ID 는 이메일 IN 쿼리 한 번으로 다시 조회합니다.
+     */
+    private void insertAccounts(Academy academy, List<Account> accounts) {
+        if (accounts.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        Timestamp nowTimestamp = Timestamp.valueOf(now);
+        Timestamp endDate = Timestamp.valueOf(now.plusMonths(ACADEMY_FREE_MONTHS));
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO users (email, password_hash, user_type, oauth_provider, is_active, email_verified, " +
+                "company_email_verified, created_at, updated_at, is_deleted) " +
+                "VALUES (?, ?, ?, ?, true, false, false, ?, ?, false)",
+                accounts, chunkSize, (ps, account) -> {
+                    ps.setString(1, account.member().email());
+                    ps.setString(2, account.passwordHash());
+                    ps.setString(3, UserType.GENERAL.name());
+                    ps.setString(4, OAuthProvider.NATIVE.name());
+                    ps.setTimestamp(5, nowTimestamp);
+                    ps.setTimestamp(6, nowTimestamp);
+                });
+
+        Map<String, Long> userIds = new HashMap<>();
+        for (Object[] row : userRepository.findIdsByEmailIn(accounts.stream().map(a -> a.member().email()).toList())) {
+            userIds.put(emailKey((String) row[1]), (Long) row[0]);
+        }
+        List<Long> ids = accounts.stream()
+                .map(account -> Objects.requireNonNull(userIds.get(emailKey(account.member().email())),
+                        "생성된 사용자 ID 를 찾을 수 없습니다: " + account.member().email()))
+                .toList();
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO user_profiles (user_id, first_name, last_name, created_at, updated_at, is_deleted) " +
+                "VALUES (?, ?, '', ?, ?, false)",
+                indexes(accounts.size()), chunkSize, (ps, i) -> {
+                    ps.setLong(1, ids.get(i));
+                    ps.setString(2, accounts.get(i).member().name());
+                    ps.setTimestamp(3, nowTimestamp);
+                    ps.setTimestamp(4, nowTimestamp);
+                });
+
+        // PaymentService.createFreeAcademySubscription 과 같은 무료 학원 구독
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO subscriptions (user_id, plan_type, status, start_date, end_date, amount, " +
+                "academy_name, academy_email, academy_verified, created_at, updated_at, is_deleted) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, true, ?, ?, false)",
+                ids, chunkSize, (ps, userId) -> {
+                    ps.setLong(1, userId);
+                    ps.setString(2, PlanType.FREE_ACADEMY.name());
+                    ps.setString(3, SubscriptionStatus.ACTIVE.name());
+                    ps.setTimestamp(4, nowTimestamp);
+                    ps.setTimestamp(5, endDate);
+                    ps.setBigDecimal(6, BigDecimal.ZERO);
+                    ps.setString(7, academy.name());
+                    ps.setString(8, academy.couponCode());
+                    ps.setTimestamp(9, nowTimestamp);
+                    ps.setTimestamp(10, nowTimestamp);
+                });
+    }
+
+    private void finish(Long jobId, ProvisioningJobStatus status) {
+        try {
+            transactionTemplate.executeWithoutResult(tx ->
+                    provisioningJobRepository.finish(jobId, status, LocalDateTime.now(clock)));
+        } catch (Exception e) {
+            log.error("Failed to record final status {} for cohort provisioning job {}", status, jobId, e);
+        }
+    }
+
+    private static String emailKey(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static List<Integer> indexes(int size) {
+        List<Integer> indexes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            indexes.add(i);
+        }
+        return indexes;
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    record Academy(String name, String couponCode) {
+    }
+
+    record Member(String email, String name, String password) {
+        @Override
+        public String toString() {
+            return "Member[email=" + email + ", name=" + name + "]";
+        }
+    }
+
+    private record Account(Member member, String passwordHash) {
+    }
+}
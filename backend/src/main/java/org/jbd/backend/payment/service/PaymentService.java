@@ -1,7 +1,8 @@
 package org.jbd.backend.payment.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.common.exception.BusinessException;
+import org.jbd.backend.common.exception.ErrorCode;
 import org.jbd.backend.payment.config.KakaoPayConfig;
 import org.jbd.backend.payment.domain.Subscription;
 import org.jbd.backend.payment.domain.enums.PlanType;
@@ -11,31 +12,54 @@ import org.jbd.backend.payment.dto.PaymentRequestDto;
 import org.jbd.backend.payment.repository.SubscriptionRepository;
 import org.jbd.backend.user.domain.User;
 import org.jbd.backend.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class PaymentService {
 
     private final SubscriptionRepository subscriptionRepository;
     private final UserRepository userRepository;
     private final KakaoPayConfig kakaoPayConfig;
+    private final SubscriptionEntitlementCache entitlementCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
     private final RestTemplate restTemplate = new RestTemplate();
 
+    public PaymentService(SubscriptionRepository subscriptionRepository,
+                          UserRepository userRepository,
+                          KakaoPayConfig kakaoPayConfig,
+                          SubscriptionEntitlementCache entitlementCache,
+                          ApplicationEventPublisher eventPublisher,
+                          PlatformTransactionManager transactionManager,
+                          Clock clock) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.userRepository = userRepository;
+        this.kakaoPayConfig = kakaoPayConfig;
+        this.entitlementCache = entitlementCache;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+    }
+
     /**
      * 카카오페이 결제 준비
      */
@@ -62,6 +86,7 @@ public class PaymentService {
         // TID 저장
         subscription.setKakaoTid(response.getTid());
         subscriptionRepository.save(subscription);
+        publishChanged(subscription);
 
         log.info("카카오페이 결제 준비 완료: TID={}", response.getTid());
         return response;
@@ -84,6 +109,7 @@ public class PaymentService {
         // 구독 활성화
         subscription.activate();
         subscriptionRepository.save(subscription);
+        publishChanged(subscription);
 
         // 응답 데이터 구성
         Map<String, Object> response = new HashMap<>();
@@ -99,10 +125,10 @@ public class PaymentService {
     }
 
     /**
-     * 현재 구독 정보 조회
+     * 현재 구독 정보 조회 (권한 캐시 경유)
      */
-    public Optional<Subscription> getCurrentSubscription(Long userId) {
-        return subscriptionRepository.findTopByUserIdAndStatusOrderByCreatedAtDesc(userId, SubscriptionStatus.ACTIVE);
+    public Optional<SubscriptionEntitlement> getCurrentSubscription(Long userId) {
+        return entitlementCache.get(userId);
     }
 
     /**
@@ -119,6 +145,51 @@ public class PaymentService {
 
         subscription.cancel();
         subscriptionRepository.save(subscription);
+        publishChanged(subscription);
+    }
+
+    /**
+     * 구독 환불 (카카오페이 결제 취소 후 환불 상태로 전환)
+     *
+     * 결제 취소 API 는 트랜잭션 밖에서 호출하여 외부 응답을 기다리는 동안 DB 연결을 잡고 있지 않습니다.
+     * 취소 후 상태 저장이 실패하면 TID 를 로그로 남기며, 다시 요청해도 같은 TID 재취소는 카카오페이가 거절합니다.
+     */
+    public void refundSubscription(Long subscriptionId) {
+        Subscription subscription = subscriptionRepository.findById(subscriptionId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "구독 정보를 찾을 수 없습니다."));
+
+        requireRefundable(subscription);
+
+        if (subscription.getKakaoTid() != null && subscription.getAmount() != null
+                && subscription.getAmount().signum() > 0) {
+            callKakaoPayCancel(subscription);
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Subscription current = subscriptionRepository.findById(subscriptionId)
+                        .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "구독 정보를 찾을 수 없습니다."));
+                requireRefundable(current);
+                current.refund();
+                subscriptionRepository.save(current);
+                publishChanged(current);
+            });
+        } catch (RuntimeException e) {
+            log.error("카카오페이 결제 취소 후 환불 상태 저장 실패: subscriptionId={}, tid={}",
+                    subscriptionId, subscription.getKakaoTid(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 결제가 승인된 상태(활성/만료/취소)만 환불 가능 (결제 대기/이미 환불된 구독은 거절)
+     */
+    private void requireRefundable(Subscription subscription) {
+        SubscriptionStatus status = subscription.getStatus();
+        if (status == SubscriptionStatus.PENDING || status == SubscriptionStatus.REFUNDED) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST,
+                    "환불할 수 없는 구독 상태입니다: " + status.getDescription());
+        }
     }
 
     /**
@@ -163,7 +234,7 @@ public class PaymentService {
         }
 
         // 무료 구독 생성
-        LocalDateTime startDate = LocalDateTime.now();
+        LocalDateTime startDate = LocalDateTime.now(clock);
         LocalDateTime endDate = startDate.plusMonths(3); // 3개월 무료
 
         Subscription subscription = new Subscription(user, PlanType.FREE_ACADEMY, startDate, endDate);
@@ -172,6 +243,7 @@ public class PaymentService {
         subscription.activate(); // 즉시 활성화
 
         subscriptionRepository.save(subscription);
+        publishChanged(subscription);
 
         // 응답 생성
         Map<String, Object> response = new HashMap<>();
@@ -191,7 +263,7 @@ public class PaymentService {
      * 구독 생성
      */
     private Subscription createSubscription(User user, PaymentRequestDto request) {
-        LocalDateTime startDate = LocalDateTime.now();
+        LocalDateTime startDate = LocalDateTime.now(clock);
         LocalDateTime endDate;
 
         if (request.getPlanType() == PlanType.FREE_ACADEMY) {
@@ -201,6 +273,8 @@ public class PaymentService {
         }
 
         Subscription subscription = new Subscription(user, request.getPlanType(), startDate, endDate);
+        // 결제 승인 전까지는 권한을 주지 않음 (approvePayment 에서 활성화)
+        subscription.markPending();
         subscription.setOrderId(request.getOrderId());
         subscription.setAmount(request.getAmount());
 
@@ -211,6 +285,14 @@ public class PaymentService {
         return subscription;
     }
 
+    /**
+     * 커밋 이후 권한 캐시 무효화
+     */
+    private void publishChanged(Subscription subscription) {
+        eventPublisher.publishEvent(new SubscriptionChangedEvent(
+                subscription.getUser().getId(), subscription.getId(), subscription.getStatus()));
+    }
+
     /**
      * 카카오페이 결제 준비 API 호출
      */
@@ -270,4 +352,30 @@ public class PaymentService {
             throw new RuntimeException("카카오페이 결제 승인에 실패했습니다: " + e.getMessage());
         }
     }
+
+    /**
+     * 카카오페이 결제 취소 API 호출 (전액 환불)
+     */
+    private void callKakaoPayCancel(Subscription subscription) {
+        String url = kakaoPayConfig.getBaseUrl() + "/v1/payment/cancel";
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", kakaoPayConfig.getAuthorizationHeader());
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("cid", kakaoPayConfig.getCid());
+        params.add("tid", subscription.getKakaoTid());
+        params.add("cancel_amount", String.valueOf(subscription.getAmount().intValue()));
+        params.add("cancel_tax_free_amount", "0");
+
+        HttpEntity<MultiValueMap<String, String>> entity = new HttpEntity<>(params, headers);
+
+        try {
+            restTemplate.postForObject(url, entity, Map.class);
+        } catch (Exception e) {
+            log.error("카카오페이 결제 취소 실패: tid={}", subscription.getKakaoTid(), e);
+            throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR, "카카오페이 결제 취소에 실패했습니다.");
+        }
+    }
 }
\ No newline at end of file
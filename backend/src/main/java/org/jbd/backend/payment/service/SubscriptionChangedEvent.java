@@ -0,0 +1,11 @@
+package org.jbd.backend.payment.service;
+
+import org.jbd.backend.payment.domain.enums.SubscriptionStatus;
+
+/**
+ * 구독 상태 변경 이벤트 (결제 승인/취소/환불/만료)
+ *
+ * 커밋 이후 사용자의 구독 권한 캐시를 무효화하는 데 사용합니다.
+ */
+public record SubscriptionChangedEvent(Long userId, Long subscriptionId, SubscriptionStatus status) {
+}
@@ -0,0 +1,37 @@
+package org.jbd.backend.payment.service;
+
+import org.jbd.backend.payment.domain.Subscription;
+import org.jbd.backend.payment.domain.enums.PlanType;
+import org.jbd.backend.payment.domain.enums.SubscriptionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 구독 권한 스냅샷 (불변, 캐시 보관용)
+ */
+public record SubscriptionEntitlement(Long subscriptionId,
+                                      PlanType planType,
+                                      SubscriptionStatus status,
+                                      LocalDateTime startDate,
+                                      LocalDateTime endDate,
+                                      BigDecimal amount,
+                                      String academyName,
+                                      Boolean academyVerified) {
+
+    public static SubscriptionEntitlement from(Subscription subscription) {
+        return new SubscriptionEntitlement(
+                subscription.getId(),
+                subscription.getPlanType(),
+                subscription.getStatus(),
+                subscription.getStartDate(),
+                subscription.getEndDate(),
+                subscription.getAmount(),
+                subscription.getAcademyName(),
+                subscription.getAcademyVerified());
+    }
+
+    public boolean isActiveAt(LocalDateTime now) {
+        return status == SubscriptionStatus.ACTIVE && now.isBefore(endDate);
+    }
+}
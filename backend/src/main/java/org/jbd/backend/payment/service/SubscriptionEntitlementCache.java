@@ -0,0 +1,95 @@
+package org.jbd.backend.payment.service;
+
+import org.jbd.backend.payment.domain.enums.SubscriptionStatus;
+import org.jbd.backend.payment.repository.SubscriptionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 구독 권한 캐시
+ *
+ * 활성 구독 스냅샷(구독이 없으면 빈 값도 포함)을 TTL 동안 보관하여 권한 확인마다 DB를 조회하지 않습니다.
+ * 결제 승인/취소/환불/만료 시 발행되는 SubscriptionChangedEvent로 커밋 이후 해당 사용자 항목을 무효화하며,
+ * 조회 도중 무효화가 일어난 경우에는 조회 결과를 캐시하지 않습니다.
+ * 만료일이 지난 스냅샷은 만료 처리 작업 이전이라도 권한 없음으로 취급합니다.
+ * 다른 인스턴스의 변경은 TTL 만료 후 재조회로 반영됩니다.
+ * 항목 수는 max-entries 로 제한하며, 넘치면 가장 오래 조회되지 않은 사용자부터 제거합니다 (LRU).
+ */
+@Component
+public class SubscriptionEntitlementCache {
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final Clock clock;
+    private final long ttlMillis;
+
+    /** 접근 순서 LRU (동기화 맵, 잠금 안에서는 DB 조회를 하지 않음) */
+    private final Map<Long, Entry> byUser;
+    /** 무효화마다 증가 */
+    private final AtomicLong generation = new AtomicLong();
+
+    public SubscriptionEntitlementCache(SubscriptionRepository subscriptionRepository,
+                                        Clock clock,
+                                        @Value("${app.payment.entitlement-ttl-seconds:300}") long ttlSeconds,
+                                        @Value("${app.payment.entitlement-max-entries:50000}") int maxEntries) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.clock = clock;
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.byUser = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * 현재 유효한 구독 권한 (없거나 만료일이 지났으면 빈 값)
+     */
+    public Optional<SubscriptionEntitlement> get(Long userId) {
+        long now = clock.millis();
+        Entry entry = byUser.get(userId);
+        if (entry == null || now - entry.loadedAt() >= ttlMillis) {
+            entry = load(userId, now);
+        }
+        LocalDateTime current = LocalDateTime.now(clock);
+        return entry.entitlement().filter(entitlement -> entitlement.isActiveAt(current));
+    }
+
+    public void invalidate(Long userId) {
+        generation.incrementAndGet();
+        byUser.remove(userId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSubscriptionChanged(SubscriptionChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    private Entry load(Long userId, long now) {
+        long startGeneration = generation.get();
+        Entry loaded = new Entry(subscriptionRepository
+                .findTopByUserIdAndStatusOrderByCreatedAtDesc(userId, SubscriptionStatus.ACTIVE)
+                .map(SubscriptionEntitlement::from), now);
+        if (generation.get() != startGeneration) {
+            return loaded;
+        }
+        byUser.put(userId, loaded);
+        // 저장 직전에 무효화된 경우 되돌림
+        if (generation.get() != startGeneration) {
+            byUser.remove(userId, loaded);
+        }
+        return loaded;
+    }
+
+    private record Entry(Optional<SubscriptionEntitlement> entitlement, long loadedAt) {}
+}
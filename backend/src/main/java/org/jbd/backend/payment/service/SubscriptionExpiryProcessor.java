@@ -0,0 +1,122 @@
+package org.jbd.backend.payment.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.payment.domain.enums.SubscriptionStatus;
+import org.jbd.backend.payment.repository.SubscriptionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 구독 만료 처리 작업
+ *
+ * 만료일이 지난 활성 구독을 (end_date, subscription_id) 키셋 페이지 단위로 조회하여 배치마다 별도 트랜잭션으로 만료시킵니다.
+ * 상태 전이는 "아직 ACTIVE이고 만료일이 지난 경우에만" 적용되는 조건부 UPDATE로 수행하므로,
+ * 여러 인스턴스의 실행이 겹치거나 처리 도중 취소/환불된 구독이 있어도 구독마다 정확히 한 번만 처리됩니다.
+ * 실제로 만료된 구독에 대해서만 SubscriptionChangedEvent를 발행하여 권한 캐시를 무효화합니다.
+ */
+@Slf4j
+@Component
+public class SubscriptionExpiryProcessor {
+
+    private static final String EXPIRE_SQL =
+            "UPDATE subscriptions SET status = ?, updated_at = ? " +
+            "WHERE subscription_id = ? AND status = ? AND end_date <= ?";
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final int batchSize;
+
+    public SubscriptionExpiryProcessor(SubscriptionRepository subscriptionRepository,
+                                       JdbcTemplate jdbcTemplate,
+                                       PlatformTransactionManager transactionManager,
+                                       ApplicationEventPublisher eventPublisher,
+                                       Clock clock,
+                                       @Value("${app.payment.expiry.batch-size:200}") int batchSize) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 만료일이 지난 활성 구독을 모두 만료 처리
+     *
+     * @return 이번 실행에서 만료 처리한 구독 수
+     */
+    @Scheduled(fixedDelayString = "${app.payment.expiry.interval-ms:60000}")
+    public int expireDueSubscriptions() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int expired = 0;
+        try {
+            Due last = null;
+            List<Due> batch;
+            do {
+                batch = findDue(now, last);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                List<Due> targets = batch;
+                expired += transactionTemplate.execute(status -> expire(targets, now));
+                last = batch.get(batch.size() - 1);
+            } while (batch.size() == batchSize);
+
+            if (expired > 0) {
+                log.info("Subscriptions expired: {}", expired);
+            }
+        } catch (Exception e) {
+            log.error("Subscription expiry failed after {} subscriptions", expired, e);
+        }
+        return expired;
+    }
+
+    /**
+     * 만료 대상 한 페이지 조회 (last 이후)
+     */
+    List<Due> findDue(LocalDateTime now, Due last) {
+        PageRequest page = PageRequest.of(0, batchSize);
+        List<Object[]> rows = last == null
+                ? subscriptionRepository.findDueForExpiry(SubscriptionStatus.ACTIVE, now, page)
+                : subscriptionRepository.findDueForExpiryAfter(SubscriptionStatus.ACTIVE, now,
+                        last.endDate(), last.subscriptionId(), page);
+        return rows.stream()
+                .map(row -> new Due((Long) row[0], (Long) row[1], (LocalDateTime) row[2]))
+                .toList();
+    }
+
+    /**
+     * 배치 만료 처리 (호출자 트랜잭션 안에서 실행)
+     *
+     * @return 이 호출로 상태가 바뀐 구독 수 (이미 처리된 구독은 제외)
+     */
+    int expire(List<Due> batch, LocalDateTime now) {
+        int expired = 0;
+        for (Due due : batch) {
+            // 배치 UPDATE는 드라이버에 따라 행별 결과를 돌려주지 않으므로 구독마다 실행
+            int updated = jdbcTemplate.update(EXPIRE_SQL,
+                    SubscriptionStatus.EXPIRED.name(), now, due.subscriptionId(), SubscriptionStatus.ACTIVE.name(), now);
+            if (updated == 1) {
+                expired++;
+                eventPublisher.publishEvent(
+                        new SubscriptionChangedEvent(due.userId(), due.subscriptionId(), SubscriptionStatus.EXPIRED));
+            }
+        }
+        return expired;
+    }
+
+    record Due(Long subscriptionId, Long userId, LocalDateTime endDate) {}
+}
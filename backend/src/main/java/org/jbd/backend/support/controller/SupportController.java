@@ -10,10 +10,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.validation.Valid;
 
@@ -99,12 +101,29 @@ public class SupportController {
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<List<SupportDto.MessageResponse>>> getMessages(
             @RequestHeader("Authorization") String authHeader,
-            @PathVariable Long ticketId) {
+            @PathVariable Long ticketId,
+            @RequestParam(required = false) Long afterId) {
 
-        List<SupportDto.MessageResponse> messages = supportService.getMessages(ticketId, authHeader);
+        List<SupportDto.MessageResponse> messages = supportService.getMessages(ticketId, afterId, authHeader);
         return ResponseEntity.ok(ApiResponse.success("메시지 목록을 조회했습니다", messages));
     }
 
+    // 재연결 시 마지막으로 받은 메시지 ID를 afterId로 전달하여 놓친 메시지만 조회
+    @GetMapping(value = "/tickets/{ticketId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public SseEmitter streamTicket(
+            @RequestHeader("Authorization") String authHeader,
+            @PathVariable Long ticketId) {
+
+        return supportService.subscribeTicket(ticketId, authHeader);
+    }
+
+    @GetMapping(value = "/admin/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public SseEmitter streamAdminQueue(@RequestHeader("Authorization") String authHeader) {
+        return supportService.subscribeAdminQueue(authHeader);
+    }
+
     @PostMapping("/tickets/{ticketId}/messages")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<SupportDto.MessageResponse>> sendMessage(
@@ -127,6 +146,8 @@ public class SupportController {
         return ResponseEntity.ok(ApiResponse.success("만족도 평가가 제출되었습니다"));
     }
 
+    // 관리자 토큰이면 전체 티켓 통계, 그 외에는 본인 티켓 통계를 반환
+    // (본인 통계만 필요하면 /my-stats 사용)
     @GetMapping("/stats")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<SupportDto.TicketStats>> getTicketStats(
@@ -141,7 +162,7 @@ public class SupportController {
     public ResponseEntity<ApiResponse<SupportDto.TicketStats>> getMyTicketStats(
             @RequestHeader("Authorization") String authHeader) {
 
-        SupportDto.TicketStats stats = supportService.getTicketStats(authHeader);
+        SupportDto.TicketStats stats = supportService.getMyTicketStats(authHeader);
         return ResponseEntity.ok(ApiResponse.success("내 통계를 조회했습니다", stats));
     }
 
@@ -9,7 +9,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "support_tickets")
+@Table(name = "support_tickets", indexes = {
+        @Index(name = "idx_support_tickets_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_support_tickets_user_created", columnList = "user_id, created_at")
+})
 public class SupportTicket extends BaseEntity {
 
     @Id
@@ -94,6 +94,21 @@ public class SupportDto {
         private String feedback;
     }
 
+    /**
+     * SSE 이벤트 (type: message, ticket, heartbeat)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StreamEvent {
+        private String type;
+        private Long ticketId;
+        private Long messageId;
+        private MessageResponse message;
+        private TicketResponse ticket;
+    }
+
     @Data
     @Builder
     @NoArgsConstructor
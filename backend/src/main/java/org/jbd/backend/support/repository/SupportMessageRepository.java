@@ -19,6 +19,11 @@ public interface SupportMessageRepository extends JpaRepository<SupportMessage,
     // SupportTicket 엔티티 기반 (Service에서 사용)
     List<SupportMessage> findBySupportTicketIdOrderByCreatedAtAsc(Long ticketId);
 
+    // 재연결 시 놓친 메시지만 조회 (발신자 fetch join으로 변환 시 추가 쿼리 없음)
+    @Query("SELECT m FROM SupportMessage m JOIN FETCH m.sender " +
+           "WHERE m.supportTicket.id = :ticketId AND m.id > :afterId ORDER BY m.id ASC")
+    List<SupportMessage> findMessagesAfter(@Param("ticketId") Long ticketId, @Param("afterId") Long afterId);
+
     // 티켓별 메시지 페이징 조회
     Page<SupportMessage> findBySupportTicket_IdOrderByCreatedAtDesc(Long ticketId, Pageable pageable);
 
@@ -79,6 +79,17 @@ public interface SupportTicketRepository extends JpaRepository<SupportTicket, Lo
     @Query("SELECT AVG(t.satisfactionRating) FROM SupportTicket t WHERE t.user.id = :userId AND t.satisfactionRating IS NOT NULL")
     Double calculateUserAverageSatisfactionRating(@Param("userId") Long userId);
 
+    // 상태/우선순위별 티켓 수와 만족도 합계를 한 번에 집계
+    String STATS_SELECT = "SELECT t.status AS status, t.priority AS priority, COUNT(t) AS ticketCount, " +
+            "COALESCE(SUM(t.satisfactionRating), 0) AS ratingSum, COUNT(t.satisfactionRating) AS ratingCount " +
+            "FROM SupportTicket t ";
+
+    @Query(STATS_SELECT + "GROUP BY t.status, t.priority")
+    List<TicketStatsRow> aggregateStats();
+
+    @Query(STATS_SELECT + "WHERE t.user.id = :userId GROUP BY t.status, t.priority")
+    List<TicketStatsRow> aggregateStatsByUserId(@Param("userId") Long userId);
+
     // Service에서 필요한 User 엔티티 기반 메서드들
     Page<SupportTicket> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
     Page<SupportTicket> findByUserAndStatusOrderByCreatedAtDesc(User user, TicketStatus status, Pageable pageable);
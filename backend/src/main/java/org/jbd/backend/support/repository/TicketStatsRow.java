@@ -0,0 +1,20 @@
+package org.jbd.backend.support.repository;
+
+import org.jbd.backend.support.domain.TicketPriority;
+import org.jbd.backend.support.domain.TicketStatus;
+
+/**
+ * 티켓 통계 집계 프로젝션 ((status, priority) 그룹당 한 행)
+ */
+public interface TicketStatsRow {
+
+    TicketStatus getStatus();
+
+    TicketPriority getPriority();
+
+    Long getTicketCount();
+
+    Long getRatingSum();
+
+    Long getRatingCount();
+}
@@ -0,0 +1,376 @@
+package org.jbd.backend.support.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.support.dto.SupportDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지원 티켓 실시간 이벤트 허브 (SSE)
+ *
+ * 티켓별 토픽과 관리자 큐 토픽으로 새 메시지/티켓 이벤트를 인프로세스 팬아웃합니다.
+ * 구독자마다 고정 크기 큐를 두고 소수의 디스패처 스레드가 큐를 비우며 전송하므로,
+ * 발행자는 네트워크 쓰기를 기다리지 않습니다. 큐가 가득 찬 느린 구독자는 연결을 끊어
+ * 메모리 사용량이 구독자 수 × 큐 크기를 넘지 않도록 합니다.
+ *
+ * 쓰기가 멈춘 연결은 디스패처 스레드를 붙잡고 있으므로, 감시 스레드가 write-timeout-ms 를 넘긴 전송을 찾아
+ * 구독을 끊고 그동안 디스패처에 스레드를 하나 보충합니다. 보충 스레드는 max-extra-dispatch-threads 개까지만 늘리므로
+ * 멈춘 연결이 그보다 많으면 나머지 구독자 전송은 멈춘 쓰기가 컨테이너 타임아웃으로 풀릴 때까지 느려집니다.
+ * 출력 종료는 고정 크기 종료 스레드(close-threads, 대기열 close-queue-capacity)에서 수행하고,
+ * 대기열이 가득 차면 종료를 생략하여 구독 만료(timeout-ms)에 맡깁니다.
+ *
+ * 연결이 끊긴 클라이언트는 재연결 후 GET /tickets/{id}/messages?afterId= 로 놓친 메시지만 받아옵니다.
+ * 허브 자체는 DB를 조회하지 않습니다.
+ */
+@Slf4j
+@Component
+public class SupportEventHub {
+
+    public static final String ADMIN_QUEUE_TOPIC = "admin-queue";
+
+    private static final int DRAIN_BATCH = 16;
+
+    private static final int IDLE = 0;
+    private static final int WRITING = 1;
+    private static final int STALLED = 2;
+
+    /**
+     * 구독자에게 이벤트를 전달하는 출력 (운영에서는 SseEmitter)
+     */
+    public interface EventSink {
+
+        void send(SupportDto.StreamEvent event) throws IOException;
+
+        void close();
+    }
+
+    private final Map<String, Set<Subscriber>> topics = new ConcurrentHashMap<>();
+    private final Set<Subscriber> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicInteger droppedCount = new AtomicInteger();
+    private final ThreadPoolExecutor dispatcher;
+    private final ThreadPoolExecutor closer;
+    private final ScheduledExecutorService watchdog;
+    private final int queueCapacity;
+    private final int maxSubscribers;
+    private final long emitterTimeoutMs;
+    private final long writeTimeoutNanos;
+    private final int dispatchThreads;
+    private final int maxExtraDispatchThreads;
+    /** 감시 스레드가 멈춘 것으로 판정했지만 아직 반환되지 않은 전송 수 (resizeDispatcher 에서만 변경) */
+    private int stalledWrites;
+
+    public SupportEventHub(@Value("${app.support.sse.dispatch-threads:8}") int dispatchThreads,
+                           @Value("${app.support.sse.queue-capacity:64}") int queueCapacity,
+                           @Value("${app.support.sse.max-subscribers:5000}") int maxSubscribers,
+                           @Value("${app.support.sse.timeout-ms:1800000}") long emitterTimeoutMs,
+                           @Value("${app.support.sse.write-timeout-ms:10000}") long writeTimeoutMs,
+                           @Value("${app.support.sse.max-extra-dispatch-threads:16}") int maxExtraDispatchThreads,
+                           @Value("${app.support.sse.close-threads:2}") int closeThreads,
+                           @Value("${app.support.sse.close-queue-capacity:1024}") int closeQueueCapacity) {
+        this.queueCapacity = queueCapacity;
+        this.maxSubscribers = maxSubscribers;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMs);
+        this.dispatchThreads = dispatchThreads;
+        this.maxExtraDispatchThreads = maxExtraDispatchThreads;
+        this.dispatcher = new ThreadPoolExecutor(dispatchThreads, dispatchThreads, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), daemonThreads("support-sse-"));
+        this.closer = new ThreadPoolExecutor(closeThreads, closeThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(closeQueueCapacity), daemonThreads("support-sse-close-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(daemonThreads("support-sse-watchdog-"));
+        long checkIntervalMs = Math.max(writeTimeoutMs / 2, 1);
+        this.watchdog.scheduleWithFixedDelay(this::dropStalledWriters, checkIntervalMs, checkIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public static String ticketTopic(Long ticketId) {
+        return "ticket:" + ticketId;
+    }
+
+    /**
+     * SSE 구독 생성 (연결 종료/타임아웃/오류 시 자동 해제)
+     */
+    public SseEmitter subscribe(String topic) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = subscribe(topic, new EventSink() {
+            @Override
+            public void send(SupportDto.StreamEvent event) throws IOException {
+                SseEmitter.SseEventBuilder builder = SseEmitter.event().name(event.getType());
+                if (event.getMessageId() != null) {
+                    builder.id(String.valueOf(event.getMessageId()));
+                }
+                emitter.send(builder.data(event, MediaType.APPLICATION_JSON));
+            }
+
+            @Override
+            public void close() {
+                emitter.complete();
+            }
+        });
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+        return emitter;
+    }
+
+    public Subscriber subscribe(String topic, EventSink sink) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new IllegalStateException("실시간 연결 수가 한도를 초과했습니다. 잠시 후 다시 시도해주세요");
+        }
+        Subscriber subscriber = new Subscriber(topic, sink, new ArrayBlockingQueue<>(queueCapacity));
+        topics.computeIfAbsent(topic, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        return subscriber;
+    }
+
+    public void unsubscribe(Subscriber subscriber) {
+        remove(subscriber);
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        topics.computeIfPresent(subscriber.topic, (key, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        subscriber.queue.clear();
+        subscriberCount.decrementAndGet();
+        return true;
+    }
+
+    /**
+     * 토픽 구독자들의 큐에 이벤트 적재 (네트워크 전송은 디스패처가 수행)
+     */
+    public void publish(String topic, SupportDto.StreamEvent event) {
+        Set<Subscriber> subscribers = topics.get(topic);
+        if (subscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            offer(subscriber, event);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 발행 (롤백된 메시지가 전송되지 않도록)
+     */
+    public void publishAfterCommit(String topic, SupportDto.StreamEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(topic, event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(topic, event);
+            }
+        });
+    }
+
+    /**
+     * 주기적 하트비트: 프록시 유휴 타임아웃을 막고 끊어진 연결을 전송 실패로 정리
+     */
+    @Scheduled(fixedDelayString = "${app.support.sse.heartbeat-ms:25000}")
+    public void heartbeat() {
+        SupportDto.StreamEvent event = SupportDto.StreamEvent.builder().type("heartbeat").build();
+        topics.values().forEach(subscribers -> subscribers.forEach(subscriber -> offer(subscriber, event)));
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public int getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * 현재 디스패처 스레드 한도 (dispatch-threads + 보충 스레드)
+     */
+    public int getDispatcherThreadLimit() {
+        return dispatcher.getMaximumPoolSize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+        topics.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.sink.close()));
+        dispatcher.shutdownNow();
+        closer.shutdownNow();
+    }
+
+    private void offer(Subscriber subscriber, SupportDto.StreamEvent event) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        if (!subscriber.queue.offer(event)) {
+            // 큐가 가득 찬 느린 구독자는 끊고, 재연결 시 afterId 조회로 따라오게 함
+            log.debug("Dropping slow SSE subscriber on {}", subscriber.topic);
+            disconnect(subscriber, true);
+            return;
+        }
+        schedule(subscriber);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    /**
+     * 한 번에 최대 DRAIN_BATCH건만 전송하고 남은 이벤트는 다시 대기열 뒤로 보내,
+     * 느린 구독자가 디스패처 스레드를 오래 점유하지 않도록 함
+     */
+    private void drain(Subscriber subscriber) {
+        // 큐 초과로 이미 끊긴 구독자의 멈춘 전송도 감시 대상이 되도록 토픽과 별도로 추적
+        inFlight.add(subscriber);
+        try {
+            for (int i = 0; i < DRAIN_BATCH; i++) {
+                SupportDto.StreamEvent event = subscriber.queue.poll();
+                if (event == null || subscriber.closed.get()) {
+                    break;
+                }
+                if (!write(subscriber, event)) {
+                    return;
+                }
+            }
+        } finally {
+            inFlight.remove(subscriber);
+        }
+        subscriber.draining.set(false);
+        if (!subscriber.queue.isEmpty() && !subscriber.closed.get()) {
+            schedule(subscriber);
+        }
+    }
+
+    /**
+     * 전송 1건 (감시 스레드가 멈춘 전송으로 판정해 보충한 디스패처 스레드는 전송이 끝날 때 반납)
+     */
+    private boolean write(Subscriber subscriber, SupportDto.StreamEvent event) {
+        subscriber.writeStartedAt = System.nanoTime();
+        subscriber.writeState.set(WRITING);
+        try {
+            subscriber.sink.send(event);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            disconnect(subscriber);
+            return false;
+        } finally {
+            if (subscriber.writeState.getAndSet(IDLE) == STALLED) {
+                resizeDispatcher(-1);
+            }
+        }
+    }
+
+    /**
+     * write-timeout-ms 를 넘긴 전송의 구독을 끊고, 그 전송이 점유한 디스패처 스레드만큼 스레드를 보충
+     * (max-extra-dispatch-threads 까지)
+     */
+    private void dropStalledWriters() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : inFlight) {
+            if (now - subscriber.writeStartedAt > writeTimeoutNanos
+                    && subscriber.writeState.compareAndSet(WRITING, STALLED)) {
+                resizeDispatcher(1);
+                log.debug("Dropping stalled SSE subscriber on {}", subscriber.topic);
+                disconnect(subscriber, true);
+            }
+        }
+    }
+
+    private synchronized void resizeDispatcher(int delta) {
+        stalledWrites += delta;
+        int size = dispatchThreads + Math.min(stalledWrites, maxExtraDispatchThreads);
+        if (size > dispatcher.getMaximumPoolSize()) {
+            dispatcher.setMaximumPoolSize(size);
+            dispatcher.setCorePoolSize(size);
+        } else if (size < dispatcher.getMaximumPoolSize()) {
+            dispatcher.setCorePoolSize(size);
+            dispatcher.setMaximumPoolSize(size);
+        }
+    }
+
+    private void disconnect(Subscriber subscriber) {
+        disconnect(subscriber, false);
+    }
+
+    /**
+     * 팬아웃 대상에서 즉시 제외하고, 전송 중일 수 있는 출력 종료는 종료 스레드에서 수행하여
+     * 발행 스레드와 디스패처가 느린 연결 때문에 대기하지 않도록 함
+     * (종료 대기열이 가득 차면 호출 스레드에서 닫지 않고 구독 만료에 맡김)
+     */
+    private void disconnect(Subscriber subscriber, boolean dropped) {
+        if (remove(subscriber) && dropped) {
+            droppedCount.incrementAndGet();
+        }
+        try {
+            closer.execute(() -> closeQuietly(subscriber));
+        } catch (RejectedExecutionException e) {
+            log.debug("SSE close queue is full, leaving subscriber on {} to expire", subscriber.topic);
+        }
+    }
+
+    private void closeQuietly(Subscriber subscriber) {
+        try {
+            subscriber.sink.close();
+        } catch (RuntimeException e) {
+            log.debug("Failed to close SSE subscriber on {}", subscriber.topic, e);
+        }
+    }
+
+    public static final class Subscriber {
+
+        private final String topic;
+        private final EventSink sink;
+        private final BlockingQueue<SupportDto.StreamEvent> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicInteger writeState = new AtomicInteger(IDLE);
+        private volatile long writeStartedAt;
+
+        private Subscriber(String topic, EventSink sink, BlockingQueue<SupportDto.StreamEvent> queue) {
+            this.topic = topic;
+            this.sink = sink;
+            this.queue = queue;
+        }
+
+        public boolean isClosed() {
+            return closed.get();
+        }
+
+        public int getQueuedCount() {
+            return queue.size();
+        }
+    }
+}
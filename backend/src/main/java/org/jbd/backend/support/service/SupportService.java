@@ -21,6 +21,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -37,6 +38,8 @@ public class SupportService {
     private final UserRepository userRepository;
     private final JwtService jwtService;
     private final FAQRepository faqRepository;
+    private final SupportTicketStatsCache statsCache;
+    private final SupportEventHub eventHub;
 
     private User getCurrentUser(String authHeader) {
         String token = authHeader.substring(7);
@@ -59,7 +62,15 @@ public class SupportService {
         );
 
         SupportTicket savedTicket = ticketRepository.save(ticket);
-        return convertToTicketResponse(savedTicket);
+        statsCache.onCreated(currentUser.getId(), savedTicket.getPriority());
+
+        SupportDto.TicketResponse response = convertToTicketResponse(savedTicket);
+        eventHub.publishAfterCommit(SupportEventHub.ADMIN_QUEUE_TOPIC, SupportDto.StreamEvent.builder()
+                .type("ticket")
+                .ticketId(savedTicket.getId())
+                .ticket(response)
+                .build());
+        return response;
     }
 
     // 티켓 목록 조회 (사용자)
@@ -108,6 +119,7 @@ public class SupportService {
         }
 
         TicketStatus newStatus = TicketStatus.valueOf(status);
+        TicketStatus previousStatus = ticket.getStatus();
 
         if (newStatus == TicketStatus.RESOLVED) {
             ticket.markResolved();
@@ -117,6 +129,7 @@ public class SupportService {
             ticket.markInProgress();
         }
 
+        recordStatusChange(ticket, previousStatus);
         SupportTicket updatedTicket = ticketRepository.save(ticket);
         return convertToTicketResponse(updatedTicket);
     }
@@ -135,7 +148,9 @@ public class SupportService {
             throw new AccessDeniedException("You don't have permission to close this ticket");
         }
 
+        TicketStatus previousStatus = ticket.getStatus();
         ticket.close();
+        recordStatusChange(ticket, previousStatus);
         SupportTicket updatedTicket = ticketRepository.save(ticket);
         return convertToTicketResponse(updatedTicket);
     }
@@ -153,30 +168,40 @@ public class SupportService {
             throw new AccessDeniedException("You don't have permission to reopen this ticket");
         }
 
+        TicketStatus previousStatus = ticket.getStatus();
         ticket.reopen();
+        recordStatusChange(ticket, previousStatus);
         SupportTicket updatedTicket = ticketRepository.save(ticket);
         return convertToTicketResponse(updatedTicket);
     }
 
-    // 메시지 조회
-    public List<SupportDto.MessageResponse> getMessages(Long ticketId, String authHeader) {
-        // 티켓 존재 및 권한 확인
-        SupportTicket ticket = ticketRepository.findById(ticketId)
-                .orElseThrow(() -> new EntityNotFoundException("Ticket not found"));
-
-        User currentUser = getCurrentUser(authHeader);
-
-        if (!ticket.getUser().getId().equals(currentUser.getId()) &&
-            !currentUser.getUserType().equals(UserType.ADMIN)) {
-            throw new AccessDeniedException("You don't have permission to view messages for this ticket");
-        }
+    // 메시지 조회 (afterId가 있으면 해당 메시지 이후만 조회)
+    public List<SupportDto.MessageResponse> getMessages(Long ticketId, Long afterId, String authHeader) {
+        requireTicketAccess(ticketId, authHeader, "You don't have permission to view messages for this ticket");
 
-        List<SupportMessage> messages = messageRepository.findBySupportTicketIdOrderByCreatedAtAsc(ticketId);
+        List<SupportMessage> messages = afterId != null
+                ? messageRepository.findMessagesAfter(ticketId, afterId)
+                : messageRepository.findBySupportTicketIdOrderByCreatedAtAsc(ticketId);
         return messages.stream()
                 .map(this::convertToMessageResponse)
                 .collect(Collectors.toList());
     }
 
+    // 티켓 실시간 구독 (새 메시지를 SSE로 전달)
+    public SseEmitter subscribeTicket(Long ticketId, String authHeader) {
+        requireTicketAccess(ticketId, authHeader, "You don't have permission to subscribe to this ticket");
+        return eventHub.subscribe(SupportEventHub.ticketTopic(ticketId));
+    }
+
+    // 관리자 큐 실시간 구독 (새 티켓과 사용자 메시지를 SSE로 전달)
+    public SseEmitter subscribeAdminQueue(String authHeader) {
+        String token = authHeader.substring(7);
+        if (!UserType.ADMIN.name().equals(jwtService.extractUserType(token))) {
+            throw new AccessDeniedException("Only admins can subscribe to the support queue");
+        }
+        return eventHub.subscribe(SupportEventHub.ADMIN_QUEUE_TOPIC);
+    }
+
     // 메시지 전송
     @Transactional
     public SupportDto.MessageResponse sendMessage(Long ticketId, SupportDto.SendMessageRequest request, String authHeader) {
@@ -208,7 +233,18 @@ public class SupportService {
 
         ticketRepository.save(ticket);
 
-        return convertToMessageResponse(savedMessage);
+        SupportDto.MessageResponse response = convertToMessageResponse(savedMessage);
+        SupportDto.StreamEvent event = SupportDto.StreamEvent.builder()
+                .type("message")
+                .ticketId(ticketId)
+                .messageId(savedMessage.getId())
+                .message(response)
+                .build();
+        eventHub.publishAfterCommit(SupportEventHub.ticketTopic(ticketId), event);
+        if (!isFromAdmin) {
+            eventHub.publishAfterCommit(SupportEventHub.ADMIN_QUEUE_TOPIC, event);
+        }
+        return response;
     }
 
     // 만족도 평가 제출
@@ -229,23 +265,26 @@ public class SupportService {
             throw new IllegalStateException("You can only rate resolved or closed tickets");
         }
 
+        Integer previousRating = ticket.getSatisfactionRating();
         ticket.addSatisfactionRating(rating, feedback);
+        statsCache.onRated(currentUser.getId(), ticket.getStatus(), ticket.getPriority(),
+                previousRating, ticket.getSatisfactionRating());
         ticketRepository.save(ticket);
     }
 
-    // 통계 조회
+    // 통계 조회 (관리자는 전체 티켓, 일반 사용자는 본인 티켓 기준)
     public SupportDto.TicketStats getTicketStats(String authHeader) {
-        User currentUser = getCurrentUser(authHeader);
+        String token = authHeader.substring(7);
+        if (UserType.ADMIN.name().equals(jwtService.extractUserType(token))) {
+            return convertToTicketStats(statsCache.getGlobalStats());
+        }
+        return getMyTicketStats(authHeader);
+    }
 
-        return SupportDto.TicketStats.builder()
-                .totalTickets(ticketRepository.countByUser(currentUser))
-                .openTickets(ticketRepository.countByUserAndStatus(currentUser, TicketStatus.OPEN))
-                .inProgressTickets(ticketRepository.countByUserAndStatus(currentUser, TicketStatus.IN_PROGRESS))
-                .resolvedTickets(ticketRepository.countByUserAndStatus(currentUser, TicketStatus.RESOLVED))
-                .closedTickets(ticketRepository.countByUserAndStatus(currentUser, TicketStatus.CLOSED))
-                .averageResponseTime(0L) // 실제 구현 필요
-                .satisfactionScore(ticketRepository.calculateUserAverageSatisfactionRating(currentUser.getId()))
-                .build();
+    // 본인 티켓 통계 조회
+    public SupportDto.TicketStats getMyTicketStats(String authHeader) {
+        Long userId = jwtService.extractUserId(authHeader.substring(7));
+        return convertToTicketStats(statsCache.getUserStats(userId));
     }
 
     // 카테고리 목록 조회
@@ -329,6 +368,35 @@ public class SupportService {
     }
 
     // Helper methods
+    private void requireTicketAccess(Long ticketId, String authHeader, String deniedMessage) {
+        SupportTicket ticket = ticketRepository.findById(ticketId)
+                .orElseThrow(() -> new EntityNotFoundException("Ticket not found"));
+
+        User currentUser = getCurrentUser(authHeader);
+
+        if (!ticket.getUser().getId().equals(currentUser.getId()) &&
+            !currentUser.getUserType().equals(UserType.ADMIN)) {
+            throw new AccessDeniedException(deniedMessage);
+        }
+    }
+
+    private void recordStatusChange(SupportTicket ticket, TicketStatus previousStatus) {
+        statsCache.onStatusChanged(ticket.getUser().getId(), ticket.getPriority(),
+                previousStatus, ticket.getStatus(), ticket.getSatisfactionRating());
+    }
+
+    private SupportDto.TicketStats convertToTicketStats(SupportTicketStatsCache.Snapshot snapshot) {
+        return SupportDto.TicketStats.builder()
+                .totalTickets(snapshot.total())
+                .openTickets(snapshot.countByStatus(TicketStatus.OPEN))
+                .inProgressTickets(snapshot.countByStatus(TicketStatus.IN_PROGRESS))
+                .resolvedTickets(snapshot.countByStatus(TicketStatus.RESOLVED))
+                .closedTickets(snapshot.countByStatus(TicketStatus.CLOSED))
+                .averageResponseTime(0L) // 실제 구현 필요
+                .satisfactionScore(snapshot.averageRating())
+                .build();
+    }
+
     private SupportDto.TicketResponse convertToTicketResponse(SupportTicket ticket) {
         String adminName = null;
         if (ticket.getAssignedAdmin() != null) {
@@ -0,0 +1,257 @@
+package org.jbd.backend.support.service;
+
+import org.jbd.backend.support.domain.TicketPriority;
+import org.jbd.backend.support.domain.TicketStatus;
+import org.jbd.backend.support.repository.SupportTicketRepository;
+import org.jbd.backend.support.repository.TicketStatsRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 지원 티켓 통계 스냅샷 캐시
+ *
+ * 전체/사용자별 (상태, 우선순위) 집계를 짧은 TTL 동안 보관하고,
+ * 티켓 생성/상태 전이/만족도 평가 시 커밋 이후 증감치로 스냅샷을 직접 갱신합니다.
+ * 관리자 콘솔의 주기적 통계 조회는 TTL이 지나기 전까지 DB를 조회하지 않습니다.
+ *
+ * 집계 쿼리 도중 커밋된 변경이 스냅샷에 중복/누락 반영되지 않도록,
+ * 커밋 진행 중인 쓰기가 있거나 집계 중 쓰기가 완료된 경우에는 결과를 캐시하지 않습니다.
+ * 다른 인스턴스의 변경은 TTL 만료 후 재집계로 반영됩니다.
+ */
+@Component
+public class SupportTicketStatsCache {
+
+    private static final int MAX_USER_ENTRIES = 10_000;
+
+    private final SupportTicketRepository ticketRepository;
+    private final long ttlNanos;
+
+    private final AtomicReference<Entry> global = new AtomicReference<>();
+    private final Map<Long, Entry> byUser = new ConcurrentHashMap<>();
+
+    /** 커밋 진행 중인 쓰기 수 */
+    private final AtomicLong pendingWrites = new AtomicLong();
+    /** 완료된 쓰기마다 증가 */
+    private final AtomicLong generation = new AtomicLong();
+
+    public SupportTicketStatsCache(SupportTicketRepository ticketRepository,
+                                   @Value("${app.support.stats-ttl-seconds:30}") long ttlSeconds) {
+        this.ticketRepository = ticketRepository;
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+    }
+
+    public Snapshot getGlobalStats() {
+        Entry entry = global.get();
+        if (isFresh(entry)) {
+            return entry.snapshot();
+        }
+        return load(ticketRepository::aggregateStats, loaded -> global.set(loaded));
+    }
+
+    public Snapshot getUserStats(Long userId) {
+        Entry entry = byUser.get(userId);
+        if (isFresh(entry)) {
+            return entry.snapshot();
+        }
+        if (byUser.size() >= MAX_USER_ENTRIES) {
+            byUser.values().removeIf(e -> !isFresh(e));
+        }
+        return load(() -> ticketRepository.aggregateStatsByUserId(userId), loaded -> byUser.put(userId, loaded));
+    }
+
+    /**
+     * 티켓 생성 반영
+     */
+    public void onCreated(Long userId, TicketPriority priority) {
+        record(userId, new Delta(TicketStatus.OPEN, priority, 1, 0, 0));
+    }
+
+    /**
+     * 상태 전이 반영 (만족도 평가도 함께 다른 상태 버킷으로 이동)
+     */
+    public void onStatusChanged(Long userId, TicketPriority priority, TicketStatus from, TicketStatus to, Integer rating) {
+        if (from == to) {
+            return;
+        }
+        long ratingSum = rating != null ? rating : 0;
+        long ratingCount = rating != null ? 1 : 0;
+        record(userId,
+                new Delta(from, priority, -1, -ratingSum, -ratingCount),
+                new Delta(to, priority, 1, ratingSum, ratingCount));
+    }
+
+    /**
+     * 만족도 평가 반영 (기존 평가를 덮어쓰는 경우 차이만 반영)
+     */
+    public void onRated(Long userId, TicketStatus status, TicketPriority priority, Integer previousRating, Integer rating) {
+        long sumDelta = (rating != null ? rating : 0) - (previousRating != null ? previousRating : 0);
+        long countDelta = (rating != null ? 1 : 0) - (previousRating != null ? 1 : 0);
+        if (sumDelta != 0 || countDelta != 0) {
+            record(userId, new Delta(status, priority, 0, sumDelta, countDelta));
+        }
+    }
+
+    private void record(Long userId, Delta... deltas) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(userId, deltas);
+            generation.incrementAndGet();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean counted;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                pendingWrites.incrementAndGet();
+                counted = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    apply(userId, deltas);
+                }
+                if (counted) {
+                    generation.incrementAndGet();
+                    pendingWrites.decrementAndGet();
+                }
+            }
+        });
+    }
+
+    private void apply(Long userId, Delta[] deltas) {
+        global.updateAndGet(entry -> entry != null ? entry.with(deltas) : null);
+        byUser.computeIfPresent(userId, (id, entry) -> entry.with(deltas));
+    }
+
+    private Snapshot load(Supplier<List<TicketStatsRow>> query, Consumer<Entry> store) {
+        long startGeneration = generation.get();
+        boolean quiet = pendingWrites.get() == 0;
+        Snapshot snapshot = Snapshot.of(query.get());
+        if (quiet && pendingWrites.get() == 0 && generation.get() == startGeneration) {
+            store.accept(new Entry(snapshot, System.nanoTime()));
+        }
+        return snapshot;
+    }
+
+    private boolean isFresh(Entry entry) {
+        return entry != null && System.nanoTime() - entry.loadedAt() < ttlNanos;
+    }
+
+    private record Entry(Snapshot snapshot, long loadedAt) {
+        Entry with(Delta[] deltas) {
+            return new Entry(snapshot.with(deltas), loadedAt);
+        }
+    }
+
+    private record Delta(TicketStatus status, TicketPriority priority, long count, long ratingSum, long ratingCount) {
+    }
+
+    /**
+     * (상태, 우선순위)별 티켓 수와 만족도 합계/개수 (불변)
+     */
+    public static final class Snapshot {
+
+        private static final int COUNT = 0;
+        private static final int RATING_SUM = 1;
+        private static final int RATING_COUNT = 2;
+
+        private final long[][][] buckets;
+
+        private Snapshot(long[][][] buckets) {
+            this.buckets = buckets;
+        }
+
+        public static Snapshot of(List<TicketStatsRow> rows) {
+            long[][][] buckets = empty();
+            for (TicketStatsRow row : rows) {
+                long[] bucket = buckets[row.getStatus().ordinal()][row.getPriority().ordinal()];
+                bucket[COUNT] += row.getTicketCount();
+                bucket[RATING_SUM] += row.getRatingSum() != null ? row.getRatingSum() : 0;
+                bucket[RATING_COUNT] += row.getRatingCount() != null ? row.getRatingCount() : 0;
+            }
+            return new Snapshot(buckets);
+        }
+
+        Snapshot with(Delta[] deltas) {
+            long[][][] copy = empty();
+            for (int s = 0; s < buckets.length; s++) {
+                for (int p = 0; p < buckets[s].length; p++) {
+                    copy[s][p] = buckets[s][p].clone();
+                }
+            }
+            for (Delta delta : deltas) {
+                long[] bucket = copy[delta.status().ordinal()][delta.priority().ordinal()];
+                bucket[COUNT] += delta.count();
+                bucket[RATING_SUM] += delta.ratingSum();
+                bucket[RATING_COUNT] += delta.ratingCount();
+            }
+            return new Snapshot(copy);
+        }
+
+        public long count(TicketStatus status, TicketPriority priority) {
+            return buckets[status.ordinal()][priority.ordinal()][COUNT];
+        }
+
+        public long countByStatus(TicketStatus status) {
+            long total = 0;
+            for (long[] bucket : buckets[status.ordinal()]) {
+                total += bucket[COUNT];
+            }
+            return total;
+        }
+
+        public long total() {
+            long total = 0;
+            for (TicketStatus status : TicketStatus.values()) {
+                total += countByStatus(status);
+            }
+            return total;
+        }
+
+        /**
+         * @return 평균 만족도 (평가가 없으면 null)
+         */
+        public Double averageRating() {
+            long sum = 0;
+            long count = 0;
+            for (long[][] byPriority : buckets) {
+                for (long[] bucket : byPriority) {
+                    sum += bucket[RATING_SUM];
+                    count += bucket[RATING_COUNT];
+                }
+            }
+            return count > 0 ? (double) sum / count : null;
+        }
+
+        private static long[][][] empty() {
+            return new long[TicketStatus.values().length][TicketPriority.values().length][3];
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || (o instanceof Snapshot other && Arrays.deepEquals(buckets, other.buckets));
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.deepHashCode(buckets);
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.deepToString(buckets);
+        }
+    }
+}
@@ -41,7 +41,11 @@ import java.time.LocalDateTime;
  * @see BaseEntity
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_oauth", columnList = "oauth_provider, oauth_id"),
+        @Index(name = "idx_users_type_active", columnList = "user_type, is_deleted, is_active"),
+        @Index(name = "idx_users_created", columnList = "created_at")
+})
 public class User extends BaseEntity {
 
     @Id
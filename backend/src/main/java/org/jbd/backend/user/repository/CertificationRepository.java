@@ -2,9 +2,12 @@ package org.jbd.backend.user.repository;
 
 import org.jbd.backend.user.domain.Certification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -23,4 +26,10 @@ public interface CertificationRepository extends JpaRepository<Certification, Lo
     long countByUserId(Long userId);
     
     void deleteByUserId(Long userId);
-}
\ No newline at end of file
+
+    /**
+     * 지원자 순위 계산용: [userId, 유효 자격증 수]
+     */
+    @Query("SELECT c.user.id, COUNT(c) FROM Certification c WHERE c.user.id IN :userIds AND c.isActive = true GROUP BY c.user.id")
+    List<Object[]> countActiveByUserIdIn(@Param("userIds") Collection<Long> userIds);
+}
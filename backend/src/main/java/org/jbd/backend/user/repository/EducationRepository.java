@@ -3,8 +3,11 @@ package org.jbd.backend.user.repository;
 import org.jbd.backend.user.domain.Education;
 import org.jbd.backend.user.domain.enums.EducationLevel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +25,10 @@ public interface EducationRepository extends JpaRepository<Education, Long> {
     long countByUserId(Long userId);
     
     void deleteByUserId(Long userId);
-}
\ No newline at end of file
+
+    /**
+     * 지원자 순위 계산용: [userId, educationLevel]
+     */
+    @Query("SELECT e.user.id, e.educationLevel FROM Education e WHERE e.user.id IN :userIds")
+    List<Object[]> findLevelsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+}
@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +19,24 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
 
+    /**
+     * 여러 사용자의 (id, email)을 한 번에 조회 (목록 작성자 표시용)
+     */
+    @Query("SELECT u.id, u.email FROM User u WHERE u.id IN :ids")
+    List<Object[]> findEmailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 주어진 이메일 중 이미 사용 중인 이메일 (탈퇴 계정 포함, 일괄 가입 중복 확인용)
+     */
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findRegisteredEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * 여러 사용자의 (id, email)을 이메일로 한 번에 조회 (일괄 가입 직후 생성된 ID 확인용)
+     */
+    @Query("SELECT u.id, u.email FROM User u WHERE u.email IN :emails")
+    List<Object[]> findIdsByEmailIn(@Param("emails") Collection<String> emails);
+
     Optional<User> findByEmailAndIsDeletedFalse(String email);
 
     Optional<User> findByOauthProviderAndOauthId(OAuthProvider oauthProvider, String oauthId);
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,4 +28,10 @@ public interface UserSkillRepository extends JpaRepository<UserSkill, Long> {
     long countByUserId(Long userId);
 
     void deleteByUserId(Long userId);
-}
\ No newline at end of file
+
+    /**
+     * 지원자 순위 계산용: [userId, skillId, proficiencyLevel, yearsOfExperience]
+     */
+    @Query("SELECT us.user.id, us.skill.id, us.proficiencyLevel, us.yearsOfExperience FROM UserSkill us WHERE us.user.id IN :userIds")
+    List<Object[]> findSkillSignalsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+}
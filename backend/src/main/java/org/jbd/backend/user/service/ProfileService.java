@@ -2,6 +2,7 @@ package org.jbd.backend.user.service;
 
 import org.jbd.backend.common.exception.BusinessException;
 import org.jbd.backend.common.exception.ErrorCode;
+import org.jbd.backend.job.service.ApplicantRankingService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.jbd.backend.user.domain.*;
@@ -38,6 +39,7 @@ public class ProfileService {
     private final CertificationRepository certificationRepository;
     private final PortfolioRepository portfolioRepository;
     private final CareerHistoryRepository careerHistoryRepository;
+    private final ApplicantRankingService rankingService;
     
     public ProfileService(UserRepository userRepository,
                          EducationRepository educationRepository,
@@ -45,7 +47,8 @@ public class ProfileService {
                          SkillMasterRepository skillMasterRepository,
                          CertificationRepository certificationRepository,
                          PortfolioRepository portfolioRepository,
-                         CareerHistoryRepository careerHistoryRepository) {
+                         CareerHistoryRepository careerHistoryRepository,
+                         ApplicantRankingService rankingService) {
         this.userRepository = userRepository;
         this.educationRepository = educationRepository;
         this.userSkillRepository = userSkillRepository;
@@ -53,6 +56,7 @@ public class ProfileService {
         this.certificationRepository = certificationRepository;
         this.portfolioRepository = portfolioRepository;
         this.careerHistoryRepository = careerHistoryRepository;
+        this.rankingService = rankingService;
     }
     
     // Education 관련 메서드
@@ -64,7 +68,9 @@ public class ProfileService {
         Education education = new Education(user, educationLevel, schoolName, major, graduationYear);
         education.updateEducationInfo(educationLevel, schoolName, major, graduationYear, graduationDate, gpa, maxGpa);
         
-        return educationRepository.save(education);
+        Education saved = educationRepository.save(education);
+        rankingService.rerankUser(userId);
+        return saved;
     }
     
     public List<Education> getEducationList(Long userId) {
@@ -79,7 +85,9 @@ public class ProfileService {
         
         education.updateEducationInfo(educationLevel, schoolName, major, graduationYear, graduationDate, gpa, maxGpa);
         
-        return educationRepository.save(education);
+        Education saved = educationRepository.save(education);
+        rankingService.rerankUser(education.getUser().getId());
+        return saved;
     }
     
     @Transactional
@@ -88,6 +96,7 @@ public class ProfileService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.EDUCATION_NOT_FOUND));
         
         educationRepository.delete(education);
+        rankingService.rerankUser(education.getUser().getId());
     }
     
     // Skill 관련 메서드
@@ -116,7 +125,9 @@ public class ProfileService {
         }
 
         logger.info("스킬 추가 완료: {} - {} (사용자: {})", skillName, skillLevel, userId);
-        return userSkillRepository.save(userSkill);
+        UserSkill saved = userSkillRepository.save(userSkill);
+        rankingService.rerankUser(userId);
+        return saved;
     }
 
     public List<UserSkill> getSkillList(Long userId) {
@@ -144,6 +155,7 @@ public class ProfileService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.SKILL_NOT_FOUND));
 
         userSkillRepository.delete(userSkill);
+        rankingService.rerankUser(userSkill.getUser().getId());
     }
     
     // Certification 관련 메서드
@@ -157,7 +169,9 @@ public class ProfileService {
         certification.updateCertification(certificationName, issuingOrganization, issueDate, expiryDate,
                                         credentialId, credentialUrl, description);
         
-        return certificationRepository.save(certification);
+        Certification saved = certificationRepository.save(certification);
+        rankingService.rerankUser(userId);
+        return saved;
     }
     
     public List<Certification> getCertificationList(Long userId) {
@@ -178,7 +192,9 @@ public class ProfileService {
         certification.updateCertification(certificationName, issuingOrganization, issueDate, expiryDate,
                                         credentialId, credentialUrl, description);
         
-        return certificationRepository.save(certification);
+        Certification saved = certificationRepository.save(certification);
+        rankingService.rerankUser(certification.getUser().getId());
+        return saved;
     }
     
     @Transactional
@@ -187,6 +203,7 @@ public class ProfileService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.CERTIFICATION_NOT_FOUND));
         
         certificationRepository.delete(certification);
+        rankingService.rerankUser(certification.getUser().getId());
     }
     
     // Portfolio 관련 메서드
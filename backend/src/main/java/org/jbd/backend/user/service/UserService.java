@@ -2,6 +2,7 @@ package org.jbd.backend.user.service;
 
 import org.jbd.backend.common.exception.BusinessException;
 import org.jbd.backend.common.exception.ErrorCode;
+import org.jbd.backend.common.security.UserChangedEvent;
 import org.jbd.backend.user.domain.User;
 import org.jbd.backend.user.domain.UserProfile;
 import org.jbd.backend.user.domain.enums.UserType;
@@ -11,6 +12,7 @@ import org.jbd.backend.user.dto.UserRegistrationDto;
 import org.jbd.backend.user.dto.UserResponseDto;
 import org.jbd.backend.user.repository.UserRepository;
 import org.jbd.backend.user.repository.UserProfileRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -56,6 +58,9 @@ public class UserService {
     /** 이메일 인증 관리 서비스 */
     private final EmailVerificationService emailVerificationService;
 
+    /** 권한 스냅샷 캐시 무효화 이벤트 발행 */
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * UserService 생성자
      *
@@ -63,15 +68,18 @@ public class UserService {
      * @param userProfileRepository 사용자 프로필 리포지토리
      * @param passwordEncoder 비밀번호 암호화 서비스
      * @param emailVerificationService 이메일 인증 서비스
+     * @param eventPublisher 이벤트 발행기
      */
     public UserService(UserRepository userRepository,
                       UserProfileRepository userProfileRepository,
                       PasswordEncoder passwordEncoder,
-                      EmailVerificationService emailVerificationService) {
+                      EmailVerificationService emailVerificationService,
+                      ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.userProfileRepository = userProfileRepository;
         this.passwordEncoder = passwordEncoder;
         this.emailVerificationService = emailVerificationService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -217,6 +225,7 @@ public class UserService {
 
         user.deactivate();
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(userId));
     }
 
     public void verifyEmail(Long userId) {
@@ -257,6 +266,7 @@ public class UserService {
 
         user.convertToCompanyUser();
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(userId));
     }
 
 
@@ -440,6 +450,7 @@ public class UserService {
 
         user.deactivate();
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(userId));
 
         // 실제 계정 잠금 기능을 위해서는 스키마에 lock_until 필드 추가 또는 별도 테이블 사용 가능
         logger.info("계정 잠금이 완료되었습니다. userId: {}, lockUntil: {}", userId, lockUntil);
@@ -456,6 +467,7 @@ public class UserService {
 
         user.activate();
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(userId));
 
         // 실제 계정 잠금 기능을 위해서는 스키마에 lock_until 필드 추가 또는 별도 테이블 사용 가능
         logger.info("계정 잠금이 해제되었습니다. userId: {}", userId);
@@ -472,6 +484,8 @@ public class UserService {
      * 사용자 엔티티 업데이트
      */
     public User updateUser(User user) {
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(saved.getId()));
+        return saved;
     }
 }
\ No newline at end of file
@@ -8,17 +8,21 @@ import org.jbd.backend.common.dto.ApiResponse;
 import org.jbd.backend.common.dto.PageResponse;
 import org.jbd.backend.user.domain.User;
 import org.jbd.backend.webmail.domain.EmailHistory;
+import org.jbd.backend.webmail.dto.EmailHistoryDto;
 import org.jbd.backend.webmail.dto.SendEmailRequest;
 import org.jbd.backend.webmail.dto.SendEmailResponse;
+import org.jbd.backend.webmail.service.EmailHistoryService;
 import org.jbd.backend.webmail.service.WebMailService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -28,6 +32,7 @@ import java.util.List;
 public class WebMailController {
     
     private final WebMailService webMailService;
+    private final EmailHistoryService emailHistoryService;
     private final JwtService jwtService;
     
     @PostMapping("/send")
@@ -119,6 +124,51 @@ public class WebMailController {
         }
     }
     
+    /**
+     * 보낸 이메일 목록 (본문 제외, 최신순 키셋 페이징 - 다음 페이지는 응답의 커서를 그대로 전달)
+     */
+    @GetMapping("/history")
+    public ResponseEntity<ApiResponse<EmailHistoryDto.CursorPageDto>> getHistory(
+            @RequestParam(defaultValue = "false") boolean translatedOnly,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader("Authorization") String authHeader) {
+        
+        Long userId = jwtService.extractUserId(authHeader.substring(7));
+        EmailHistoryDto.CursorPageDto history = emailHistoryService.getHistory(
+                userId, translatedOnly, cursorCreatedAt, cursorId, size);
+        return ResponseEntity.ok(ApiResponse.success("이메일 이력 조회 성공", history));
+    }
+    
+    /**
+     * 보낸 이메일 제목/본문 검색 (보관 기간 이내의 이력, 최신순)
+     */
+    @GetMapping("/history/search")
+    public ResponseEntity<ApiResponse<EmailHistoryDto.CursorPageDto>> searchHistory(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader("Authorization") String authHeader) {
+        
+        Long userId = jwtService.extractUserId(authHeader.substring(7));
+        EmailHistoryDto.CursorPageDto result = emailHistoryService.search(userId, query, cursorId, size);
+        return ResponseEntity.ok(ApiResponse.success("이메일 이력 검색 성공", result));
+    }
+    
+    /**
+     * 보낸 이메일 상세 (보관된 이력 포함)
+     */
+    @GetMapping("/history/{emailHistoryId}")
+    public ResponseEntity<ApiResponse<EmailHistoryDto.DetailDto>> getHistoryDetail(
+            @PathVariable Long emailHistoryId,
+            @RequestHeader("Authorization") String authHeader) {
+        
+        Long userId = jwtService.extractUserId(authHeader.substring(7));
+        return ResponseEntity.ok(ApiResponse.success("이메일 이력 상세 조회 성공",
+                emailHistoryService.getDetail(userId, emailHistoryId)));
+    }
+    
     @GetMapping("/stats")
     public ResponseEntity<ApiResponse<EmailStatsResponse>> getEmailStats(
             @RequestHeader("Authorization") String authHeader,
@@ -129,7 +179,7 @@ public class WebMailController {
             Long userId = jwtService.extractUserId(token);
             
             long totalSentCount = webMailService.getSentEmailCount(userId);
-            long translatedCount = webMailService.getTranslatedEmails(userId).size();
+            long translatedCount = webMailService.getTranslatedEmailCount(userId);
             
             EmailStatsResponse stats = EmailStatsResponse.builder()
                 .totalSentCount(totalSentCount)
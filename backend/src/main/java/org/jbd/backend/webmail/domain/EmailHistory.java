@@ -7,8 +7,18 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.jbd.backend.common.entity.BaseEntity;
 
+/**
+ * 이메일 발송 이력
+ *
+ * 목록 화면은 본문 없이 EmailHistorySummary 프로젝션을 (user_id, created_at, id) 키셋으로 조회하며,
+ * idx_email_history_user_created 가 목록 컬럼까지 포함하므로 테이블 행을 읽지 않습니다.
+ * 보관 기간이 지난 이력은 EmailHistoryArchiver 가 email_history_archive 로 옮깁니다.
+ */
 @Entity
-@Table(name = "email_history")
+@Table(name = "email_history", indexes = {
+        @Index(name = "idx_email_history_user_created",
+                columnList = "user_id, created_at, id, was_translated, status, recipient_email, subject")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,44 @@
+package org.jbd.backend.webmail.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 이메일 이력
+ *
+ * 보관 기간이 지난 email_history 행을 같은 ID 로 옮긴 것이며, 전체 내용은 gzip 압축한 JSON(payload)으로만 보관합니다.
+ * 소유자 확인과 식별에 필요한 컬럼(user_id, subject, created_at)만 압축하지 않고 둡니다.
+ *
+ * @see org.jbd.backend.webmail.service.EmailHistoryArchiver
+ */
+@Entity
+@Table(name = "email_history_archive", indexes = {
+        @Index(name = "idx_email_history_archive_user_created", columnList = "user_id, created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmailHistoryArchive {
+
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "subject", nullable = false, length = 200)
+    private String subject;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @Lob
+    @Column(name = "payload", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] payload;
+}
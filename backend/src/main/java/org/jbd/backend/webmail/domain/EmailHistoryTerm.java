@@ -0,0 +1,84 @@
+package org.jbd.backend.webmail.domain;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * 이메일 이력 검색 역색인 항목
+ *
+ * 발송 시점에 제목/본문을 EmailHistorySearchIndex 규칙으로 나눈 검색어마다 (user_id, term, email_history_id) 한 행을 저장합니다.
+ * 기본 키가 사용자 → 검색어 순이므로 검색은 이 테이블의 인덱스 범위 조회만으로 끝납니다.
+ */
+@Entity
+@Table(name = "email_history_terms", indexes = {
+        @Index(name = "idx_email_history_terms_email", columnList = "email_history_id")
+})
+@IdClass(EmailHistoryTerm.Key.class)
+public class EmailHistoryTerm {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "term", length = 50)
+    private String term;
+
+    @Id
+    @Column(name = "email_history_id")
+    private Long emailHistoryId;
+
+    protected EmailHistoryTerm() {}
+
+    public EmailHistoryTerm(Long userId, String term, Long emailHistoryId) {
+        this.userId = userId;
+        this.term = term;
+        this.emailHistoryId = emailHistoryId;
+    }
+
+    // Getters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getTerm() {
+        return term;
+    }
+
+    public Long getEmailHistoryId() {
+        return emailHistoryId;
+    }
+
+    /**
+     * 복합 키 (user_id, term, email_history_id)
+     */
+    public static class Key implements Serializable {
+
+        private Long userId;
+        private String term;
+        private Long emailHistoryId;
+
+        public Key() {}
+
+        public Key(Long userId, String term, Long emailHistoryId) {
+            this.userId = userId;
+            this.term = term;
+            this.emailHistoryId = emailHistoryId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(userId, key.userId) && Objects.equals(term, key.term)
+                    && Objects.equals(emailHistoryId, key.emailHistoryId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, term, emailHistoryId);
+        }
+    }
+}
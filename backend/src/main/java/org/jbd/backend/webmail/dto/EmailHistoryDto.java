@@ -0,0 +1,106 @@
+package org.jbd.backend.webmail.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.jbd.backend.webmail.domain.EmailHistory;
+import org.jbd.backend.webmail.domain.EmailStatus;
+import org.jbd.backend.webmail.repository.EmailHistorySummary;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class EmailHistoryDto {
+
+    /**
+     * 목록 항목 (본문 제외)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SummaryDto {
+        private Long id;
+        private String recipientEmail;
+        private String subject;
+        private EmailStatus status;
+        private boolean wasTranslated;
+        private LocalDateTime createdAt;
+
+        public static SummaryDto from(EmailHistorySummary summary) {
+            return SummaryDto.builder()
+                    .id(summary.getId())
+                    .recipientEmail(summary.getRecipientEmail())
+                    .subject(summary.getSubject())
+                    .status(summary.getStatus())
+                    .wasTranslated(Boolean.TRUE.equals(summary.getWasTranslated()))
+                    .createdAt(summary.getCreatedAt())
+                    .build();
+        }
+    }
+
+    /**
+     * 이력 상세 (보관된 이력은 archived = true, 보관 payload 의 JSON 형식이기도 함)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DetailDto {
+        private Long id;
+        private Long userId;
+        private String senderEmail;
+        private String senderName;
+        private String recipientEmail;
+        private String subject;
+        private String content;
+        private String originalContent;
+        private String translatedContent;
+        private boolean wasTranslated;
+        private String sourceLanguage;
+        private String targetLanguage;
+        private String documentType;
+        private String sendgridMessageId;
+        private EmailStatus status;
+        private LocalDateTime createdAt;
+        private boolean archived;
+
+        public static DetailDto from(EmailHistory history) {
+            return DetailDto.builder()
+                    .id(history.getId())
+                    .userId(history.getUserId())
+                    .senderEmail(history.getSenderEmail())
+                    .senderName(history.getSenderName())
+                    .recipientEmail(history.getRecipientEmail())
+                    .subject(history.getSubject())
+                    .content(history.getContent())
+                    .originalContent(history.getOriginalContent())
+                    .translatedContent(history.getTranslatedContent())
+                    .wasTranslated(history.isWasTranslated())
+                    .sourceLanguage(history.getSourceLanguage())
+                    .targetLanguage(history.getTargetLanguage())
+                    .documentType(history.getDocumentType())
+                    .sendgridMessageId(history.getSendgridMessageId())
+                    .status(history.getStatus())
+                    .createdAt(history.getCreatedAt())
+                    .build();
+        }
+    }
+
+    /**
+     * 키셋 페이징 응답
+     *
+     * 목록은 nextCursorCreatedAt/nextCursorId 를, 검색은 nextCursorId 만 그대로 전달하여 다음 페이지를 조회합니다.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CursorPageDto {
+        private List<SummaryDto> content;
+        private boolean hasNext;
+        private LocalDateTime nextCursorCreatedAt;
+        private Long nextCursorId;
+    }
+}
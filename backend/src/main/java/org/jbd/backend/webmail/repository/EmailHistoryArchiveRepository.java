@@ -0,0 +1,11 @@
+package org.jbd.backend.webmail.repository;
+
+import org.jbd.backend.webmail.domain.EmailHistoryArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface EmailHistoryArchiveRepository extends JpaRepository<EmailHistoryArchive, Long> {
+
+    Optional<EmailHistoryArchive> findByIdAndUserId(Long id, Long userId);
+}
@@ -10,10 +10,64 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface EmailHistoryRepository extends JpaRepository<EmailHistory, Long> {
+
+    String SUMMARY_SELECT = "SELECT e.id AS id, e.recipientEmail AS recipientEmail, e.subject AS subject, " +
+                            "e.status AS status, e.wasTranslated AS wasTranslated, e.createdAt AS createdAt " +
+                            "FROM EmailHistory e WHERE e.userId = :userId ";
+
+    String KEYSET_AFTER = "AND (e.createdAt < :cursorCreatedAt OR (e.createdAt = :cursorCreatedAt AND e.id < :cursorId)) ";
+
+    String NEWEST_FIRST = "ORDER BY e.createdAt DESC, e.id DESC";
+
+    /**
+     * 사용자별 이력 목록 프로젝션 (최신순, 첫 페이지)
+     */
+    @Query(SUMMARY_SELECT + NEWEST_FIRST)
+    List<EmailHistorySummary> findSummaries(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 사용자별 이력 목록 프로젝션 - 커서 이후 (createdAt, id) 키셋 페이징
+     */
+    @Query(SUMMARY_SELECT + KEYSET_AFTER + NEWEST_FIRST)
+    List<EmailHistorySummary> findSummariesAfter(@Param("userId") Long userId,
+                                                 @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                 @Param("cursorId") Long cursorId,
+                                                 Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "AND e.wasTranslated = true " + NEWEST_FIRST)
+    List<EmailHistorySummary> findTranslatedSummaries(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "AND e.wasTranslated = true " + KEYSET_AFTER + NEWEST_FIRST)
+    List<EmailHistorySummary> findTranslatedSummariesAfter(@Param("userId") Long userId,
+                                                           @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                           @Param("cursorId") Long cursorId,
+                                                           Pageable pageable);
+
+    /**
+     * 검색 결과 ID 의 목록 프로젝션 (다른 사용자의 이력은 제외)
+     */
+    @Query(SUMMARY_SELECT + "AND e.id IN :ids")
+    List<EmailHistorySummary> findSummariesByIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * 검색 색인이 없는 이력 (색인 도입 이전 데이터 백필용, ID 키셋 페이징)
+     */
+    @Query("SELECT e FROM EmailHistory e WHERE e.id > :afterId " +
+           "AND NOT EXISTS (SELECT 1 FROM EmailHistoryTerm t WHERE t.emailHistoryId = e.id) ORDER BY e.id")
+    List<EmailHistory> findWithoutSearchTerms(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 보관 대상 한 배치 (생성일이 cutoff 이전, ID 순)
+     *
+     * ID 는 생성 순서대로 증가하므로 PK 를 앞에서부터 읽으면 가장 오래된 이력부터 나옵니다.
+     */
+    @Query("SELECT e FROM EmailHistory e WHERE e.createdAt < :cutoff ORDER BY e.id")
+    List<EmailHistory> findArchiveCandidates(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
     
     // 사용자별 발송 이메일 조회
     Page<EmailHistory> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
@@ -39,6 +93,9 @@ public interface EmailHistoryRepository extends JpaRepository<EmailHistory, Long
     @Query("SELECT COUNT(e) FROM EmailHistory e WHERE e.userId = :userId")
     long countByUserId(@Param("userId") Long userId);
     
+    @Query("SELECT COUNT(e) FROM EmailHistory e WHERE e.userId = :userId AND e.wasTranslated = true")
+    long countTranslatedByUserId(@Param("userId") Long userId);
+
     @Query("SELECT COUNT(e) FROM EmailHistory e WHERE e.userId = :userId AND e.status = :status")
     long countByUserIdAndStatus(@Param("userId") Long userId, @Param("status") EmailStatus status);
 }
\ No newline at end of file
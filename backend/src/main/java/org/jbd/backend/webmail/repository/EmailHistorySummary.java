@@ -0,0 +1,26 @@
+package org.jbd.backend.webmail.repository;
+
+import org.jbd.backend.webmail.domain.EmailStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이메일 이력 목록용 프로젝션
+ *
+ * 본문(content/original_content/translated_content) 없이 목록에 필요한 컬럼만 조회하며,
+ * 모든 컬럼이 idx_email_history_user_created 에 포함되어 있습니다.
+ */
+public interface EmailHistorySummary {
+
+    Long getId();
+
+    String getRecipientEmail();
+
+    String getSubject();
+
+    EmailStatus getStatus();
+
+    Boolean getWasTranslated();
+
+    LocalDateTime getCreatedAt();
+}
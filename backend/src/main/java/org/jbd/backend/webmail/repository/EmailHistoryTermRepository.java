@@ -0,0 +1,31 @@
+package org.jbd.backend.webmail.repository;
+
+import org.jbd.backend.webmail.domain.EmailHistoryTerm;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface EmailHistoryTermRepository extends JpaRepository<EmailHistoryTerm, EmailHistoryTerm.Key> {
+
+    /**
+     * 모든 검색어를 포함하는 이력 ID (최신순, beforeId 미만)
+     */
+    @Query("SELECT t.emailHistoryId FROM EmailHistoryTerm t " +
+           "WHERE t.userId = :userId AND t.term IN :terms AND t.emailHistoryId < :beforeId " +
+           "GROUP BY t.emailHistoryId HAVING COUNT(t.term) = :termCount " +
+           "ORDER BY t.emailHistoryId DESC")
+    List<Long> findMatchingIds(@Param("userId") Long userId,
+                               @Param("terms") Collection<String> terms,
+                               @Param("termCount") long termCount,
+                               @Param("beforeId") Long beforeId,
+                               Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM EmailHistoryTerm t WHERE t.emailHistoryId IN :ids")
+    int deleteByEmailHistoryIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,160 @@
+package org.jbd.backend.webmail.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.webmail.domain.EmailHistory;
+import org.jbd.backend.webmail.domain.EmailHistoryArchive;
+import org.jbd.backend.webmail.dto.EmailHistoryDto;
+import org.jbd.backend.webmail.repository.EmailHistoryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 이메일 이력 보관 작업
+ *
+ * 보관 기간(retention-days)이 지난 email_history 행을 배치마다 별도 트랜잭션으로 email_history_archive 로 옮겨
+ * 조회가 잦은 원본 테이블을 작게 유지합니다. 전체 내용은 EmailHistoryDto.DetailDto JSON 을 gzip 으로 압축해 보관하며,
+ * 상세 조회 시 필요한 이력만 풀어서 돌려줍니다.
+ *
+ * 원본 행 DELETE 가 실제로 삭제한 행만 보관 테이블에 INSERT 하므로,
+ * 여러 인스턴스의 실행이 겹쳐도 같은 이력이 두 번 보관되지 않습니다.
+ */
+@Slf4j
+@Component
+public class EmailHistoryArchiver {
+
+    private final EmailHistoryRepository emailHistoryRepository;
+    private final EmailHistorySearchIndex searchIndex;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final int retentionDays;
+    private final int batchSize;
+
+    public EmailHistoryArchiver(EmailHistoryRepository emailHistoryRepository,
+                                EmailHistorySearchIndex searchIndex,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                ObjectMapper objectMapper,
+                                Clock clock,
+                                @Value("${app.webmail.archive.retention-days:180}") int retentionDays,
+                                @Value("${app.webmail.archive.batch-size:200}") int batchSize) {
+        this.emailHistoryRepository = emailHistoryRepository;
+        this.searchIndex = searchIndex;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 보관 기간이 지난 이력을 모두 보관 테이블로 이동
+     *
+     * @return 이번 실행에서 보관한 이력 수
+     */
+    @Scheduled(cron = "${app.webmail.archive.cron:0 30 4 * * *}")
+    public int archiveExpired() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime cutoff = now.minusDays(retentionDays);
+        int archived = 0;
+        try {
+            int[] result;
+            do {
+                result = transactionTemplate.execute(status -> archiveBatch(cutoff, now));
+                archived += result[1];
+            } while (result[0] == batchSize);
+
+            if (archived > 0) {
+                log.info("Email history archived: {} rows created before {}", archived, cutoff);
+            }
+        } catch (Exception e) {
+            log.error("Email history archiving failed after {} rows", archived, e);
+        }
+        return archived;
+    }
+
+    /**
+     * 보관된 이력 복원 (압축 해제)
+     */
+    public EmailHistoryDto.DetailDto read(EmailHistoryArchive archive) {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(archive.getPayload()))) {
+            EmailHistoryDto.DetailDto detail = objectMapper.readValue(input, EmailHistoryDto.DetailDto.class);
+            detail.setArchived(true);
+            return detail;
+        } catch (IOException e) {
+            throw new UncheckedIOException("보관된 이메일 이력을 읽을 수 없습니다: " + archive.getId(), e);
+        }
+    }
+
+    /**
+     * 보관 대상 한 배치 이동 (호출자 트랜잭션 안에서 실행)
+     *
+     * @return {조회한 행 수, 보관한 행 수}
+     */
+    private int[] archiveBatch(LocalDateTime cutoff, LocalDateTime now) {
+        List<EmailHistory> batch = emailHistoryRepository.findArchiveCandidates(cutoff, PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return new int[]{0, 0};
+        }
+
+        int[][] deleteCounts = jdbcTemplate.batchUpdate("DELETE FROM email_history WHERE id = ?",
+                batch, batchSize, (ps, history) -> ps.setLong(1, history.getId()));
+        int[] counts = Arrays.stream(deleteCounts).flatMapToInt(Arrays::stream).toArray();
+
+        // 다른 실행이 먼저 옮긴 행은 제외
+        List<EmailHistory> moved = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                moved.add(batch.get(i));
+            }
+        }
+        // 다른 실행이 먼저 옮긴 행도 그 사이 백필이 남긴 검색어가 있을 수 있으므로 함께 제거
+        searchIndex.remove(batch.stream().map(EmailHistory::getId).toList());
+
+        Timestamp archivedAt = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO email_history_archive (id, user_id, subject, created_at, archived_at, payload) " +
+                "VALUES (?, ?, ?, ?, ?, ?)",
+                moved, batchSize, (ps, history) -> {
+                    ps.setLong(1, history.getId());
+                    ps.setLong(2, history.getUserId());
+                    ps.setString(3, history.getSubject());
+                    ps.setTimestamp(4, Timestamp.valueOf(history.getCreatedAt()));
+                    ps.setTimestamp(5, archivedAt);
+                    ps.setBytes(6, compress(EmailHistoryDto.DetailDto.from(history)));
+                });
+        return new int[]{batch.size(), moved.size()};
+    }
+
+    private byte[] compress(EmailHistoryDto.DetailDto detail) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream output = new GZIPOutputStream(buffer)) {
+            objectMapper.writeValue(output, detail);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,91 @@
+package org.jbd.backend.webmail.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.webmail.domain.EmailHistory;
+import org.jbd.backend.webmail.repository.EmailHistoryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 이메일 이력 검색 색인(email_history_terms) 백필
+ *
+ * 색인 도입 이전에 저장된 이력은 검색어 행이 없어 색인 검색에 나오지 않습니다.
+ * 기동 후 별도 스레드에서 ID 키셋 순서로 배치 순회하며 색인하고, 끝나면 검색을 색인 경로로 전환합니다.
+ * 다른 인스턴스가 같은 이력을 먼저 색인해 키가 충돌하면 그 배치를 다시 조회합니다 (이미 색인된 이력은 제외됨).
+ * 읽은 뒤 보관(EmailHistoryArchiver)으로 삭제된 이력은 색인이 행 존재를 확인하며 추가하므로 건너뜁니다.
+ */
+@Slf4j
+@Component
+public class EmailHistorySearchBackfill {
+
+    private static final int MAX_CONFLICT_RETRIES = 3;
+
+    private final EmailHistoryRepository emailHistoryRepository;
+    private final EmailHistorySearchIndex searchIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public EmailHistorySearchBackfill(EmailHistoryRepository emailHistoryRepository,
+                                      EmailHistorySearchIndex searchIndex,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${app.webmail.search.backfill-batch-size:200}") int batchSize) {
+        this.emailHistoryRepository = emailHistoryRepository;
+        this.searchIndex = searchIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread thread = new Thread(this::backfill, "email-search-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 색인되지 않은 이력을 모두 색인하고 성공하면 검색을 색인 경로로 전환
+     */
+    void backfill() {
+        long afterId = 0;
+        int total = 0;
+        int conflicts = 0;
+        try {
+            List<EmailHistory> batch;
+            do {
+                long cursor = afterId;
+                try {
+                    batch = transactionTemplate.execute(status -> {
+                        List<EmailHistory> histories = emailHistoryRepository.findWithoutSearchTerms(
+                                cursor, PageRequest.of(0, batchSize));
+                        histories.forEach(searchIndex::index);
+                        return histories;
+                    });
+                } catch (DataIntegrityViolationException e) {
+                    if (++conflicts > MAX_CONFLICT_RETRIES) {
+                        throw e;
+                    }
+                    batch = null;
+                    continue;
+                }
+                conflicts = 0;
+                if (!batch.isEmpty()) {
+                    afterId = batch.get(batch.size() - 1).getId();
+                    total += batch.size();
+                }
+            } while (batch == null || batch.size() == batchSize);
+
+            searchIndex.markBackfilled();
+            log.info("Email history search index backfilled: {} emails", total);
+        } catch (Exception e) {
+            log.error("Email history search backfill failed after {} emails, search stays on the scan path", total, e);
+        }
+    }
+}
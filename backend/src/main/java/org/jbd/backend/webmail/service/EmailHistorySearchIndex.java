@@ -0,0 +1,166 @@
+package org.jbd.backend.webmail.service;
+
+import org.jbd.backend.webmail.domain.EmailHistory;
+import org.jbd.backend.webmail.repository.EmailHistoryTermRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 이메일 이력 제목/본문 검색 역색인 (email_history_terms)
+ *
+ * 발송 시점에 제목과 본문(원문 포함)을 검색어로 나누어 (사용자, 검색어, 이력 ID) 행으로 저장하고,
+ * 검색은 질의의 모든 검색어를 포함하는 이력 ID 를 이 테이블에서만 찾습니다.
+ * - HTML 태그를 제거하고 소문자로 바꾼 뒤 문자/숫자가 아닌 문자로 단어를 나눔
+ * - 한글이 들어간 단어는 조사/어미가 붙어도 찾을 수 있도록 2-gram 으로, 그 밖의 단어는 두 글자 이상만 그대로 색인
+ * - 이력 하나당 검색어 수는 max-terms-per-email 로 제한 (앞부분 우선)
+ *
+ * 보관(EmailHistoryArchiver)된 이력은 색인에서도 제거되므로 검색 대상은 보관 기간 이내의 이력입니다.
+ *
+ * 색인 도입 이전 이력은 EmailHistorySearchBackfill 이 채우며, 백필이 끝나기 전까지는 색인에 없는 이력도 찾도록
+ * 같은 검색어를 email_history 에서 LIKE 로 직접 찾습니다 (본문 전체를 읽으므로 느림).
+ */
+@Component
+public class EmailHistorySearchIndex {
+
+    static final int MAX_TERM_LENGTH = 50;
+    static final int MAX_QUERY_TERMS = 10;
+
+    private static final Pattern TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final EmailHistoryTermRepository termRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxTermsPerEmail;
+    private volatile boolean backfilled;
+
+    public EmailHistorySearchIndex(EmailHistoryTermRepository termRepository,
+                                   JdbcTemplate jdbcTemplate,
+                                   @Value("${app.webmail.search.max-terms-per-email:2000}") int maxTermsPerEmail) {
+        this.termRepository = termRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxTermsPerEmail = maxTermsPerEmail;
+    }
+
+    /**
+     * 저장된 이력을 색인 (호출자 트랜잭션 안에서 실행)
+     *
+     * 검색어 행은 email_history 행이 남아 있을 때만 INSERT ... SELECT 로 추가하므로,
+     * 백필이 읽은 뒤 보관 작업이 삭제한 이력에는 고아 검색어가 생기지 않습니다.
+     */
+    public void index(EmailHistory history) {
+        Set<String> terms = terms(maxTermsPerEmail,
+                history.getSubject(), history.getContent(), history.getOriginalContent());
+        if (terms.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO email_history_terms (user_id, term, email_history_id) " +
+                "SELECT user_id, ?, id FROM email_history WHERE id = ?",
+                terms, terms.size(), (ps, term) -> {
+                    ps.setString(1, term);
+                    ps.setLong(2, history.getId());
+                });
+    }
+
+    /**
+     * 질의의 모든 검색어를 포함하는 이력 ID (최신순, beforeId 가 있으면 그 미만)
+     *
+     * @throws IllegalArgumentException 질의에 검색어가 없으면
+     */
+    public List<Long> search(Long userId, String query, Long beforeId, int limit) {
+        Set<String> terms = terms(MAX_QUERY_TERMS, query);
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요");
+        }
+        long before = beforeId != null ? beforeId : Long.MAX_VALUE;
+        if (!backfilled) {
+            return scan(userId, terms, before, limit);
+        }
+        return termRepository.findMatchingIds(userId, terms, terms.size(), before, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 기존 이력 백필 완료 (이후 검색은 색인만 사용)
+     */
+    public void markBackfilled() {
+        backfilled = true;
+    }
+
+    public boolean isBackfilled() {
+        return backfilled;
+    }
+
+    /**
+     * 색인 없이 제목/본문(원문 포함)에 모든 검색어가 들어 있는 이력 ID (백필 완료 전 대체 경로)
+     *
+     * 검색어는 문자/숫자로만 이루어지므로 LIKE 패턴 이스케이프가 필요 없습니다.
+     */
+    private List<Long> scan(Long userId, Set<String> terms, long beforeId, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT id FROM email_history WHERE user_id = ? AND id < ?");
+        List<Object> args = new ArrayList<>(List.of(userId, beforeId));
+        for (String term : terms) {
+            sql.append(" AND (LOWER(subject) LIKE ? OR LOWER(content) LIKE ? OR LOWER(original_content) LIKE ?)");
+            String pattern = "%" + term + "%";
+            args.addAll(List.of(pattern, pattern, pattern));
+        }
+        sql.append(" ORDER BY id DESC LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.queryForList(sql.toString(), Long.class, args.toArray());
+    }
+
+    /**
+     * 이력의 색인 항목 제거 (호출자 트랜잭션 안에서 실행)
+     */
+    public void remove(Collection<Long> emailHistoryIds) {
+        if (!emailHistoryIds.isEmpty()) {
+            termRepository.deleteByEmailHistoryIdIn(emailHistoryIds);
+        }
+    }
+
+    /**
+     * 텍스트를 검색어로 분리 (등장 순서 유지, 최대 maxTerms 개)
+     */
+    static Set<String> terms(int maxTerms, String... texts) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String text : texts) {
+            if (text == null || text.isBlank()) {
+                continue;
+            }
+            String plain = TAG.matcher(text).replaceAll(" ").toLowerCase(Locale.ROOT);
+            for (String word : SEPARATOR.split(plain)) {
+                if (word.isEmpty()) {
+                    continue;
+                }
+                if (containsHangul(word)) {
+                    addBigrams(word, terms, maxTerms);
+                } else if (word.codePointCount(0, word.length()) >= 2) {
+                    terms.add(word.length() > MAX_TERM_LENGTH ? word.substring(0, MAX_TERM_LENGTH) : word);
+                }
+                if (terms.size() >= maxTerms) {
+                    return terms;
+                }
+            }
+        }
+        return terms;
+    }
+
+    private static void addBigrams(String word, Set<String> terms, int maxTerms) {
+        int[] codePoints = word.codePoints().toArray();
+        if (codePoints.length == 1) {
+            terms.add(word);
+            return;
+        }
+        for (int i = 0; i + 1 < codePoints.length && terms.size() < maxTerms; i++) {
+            terms.add(new String(codePoints, i, 2));
+        }
+    }
+
+    private static boolean containsHangul(String word) {
+        return word.codePoints().anyMatch(c -> Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL);
+    }
+}
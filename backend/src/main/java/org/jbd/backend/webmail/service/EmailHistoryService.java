@@ -0,0 +1,113 @@
+package org.jbd.backend.webmail.service;
+
+import lombok.RequiredArgsConstructor;
+import org.jbd.backend.common.exception.BusinessException;
+import org.jbd.backend.common.exception.ErrorCode;
+import org.jbd.backend.webmail.dto.EmailHistoryDto;
+import org.jbd.backend.webmail.repository.EmailHistoryArchiveRepository;
+import org.jbd.backend.webmail.repository.EmailHistoryRepository;
+import org.jbd.backend.webmail.repository.EmailHistorySummary;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 이메일 이력 조회 서비스
+ *
+ * 목록과 검색은 본문 없는 요약(EmailHistorySummary)을 키셋 페이징으로 돌려주고,
+ * 본문은 상세 조회에서만 읽습니다. 보관된 이력은 상세 조회 시 보관 테이블에서 복원합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class EmailHistoryService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final EmailHistoryRepository emailHistoryRepository;
+    private final EmailHistoryArchiveRepository archiveRepository;
+    private final EmailHistorySearchIndex searchIndex;
+    private final EmailHistoryArchiver archiver;
+
+    /**
+     * 보낸 이메일 목록 (최신순, (createdAt, id) 키셋 페이징)
+     */
+    public EmailHistoryDto.CursorPageDto getHistory(Long userId, boolean translatedOnly,
+                                                    LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        int pageSize = clampSize(size);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        boolean hasCursor = hasCursor(cursorCreatedAt, cursorId);
+
+        List<EmailHistorySummary> summaries;
+        if (translatedOnly) {
+            summaries = hasCursor
+                    ? emailHistoryRepository.findTranslatedSummariesAfter(userId, cursorCreatedAt, cursorId, limit)
+                    : emailHistoryRepository.findTranslatedSummaries(userId, limit);
+        } else {
+            summaries = hasCursor
+                    ? emailHistoryRepository.findSummariesAfter(userId, cursorCreatedAt, cursorId, limit)
+                    : emailHistoryRepository.findSummaries(userId, limit);
+        }
+
+        boolean hasNext = summaries.size() > pageSize;
+        List<EmailHistorySummary> page = hasNext ? summaries.subList(0, pageSize) : summaries;
+        EmailHistorySummary last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        return EmailHistoryDto.CursorPageDto.builder()
+                .content(page.stream().map(EmailHistoryDto.SummaryDto::from).toList())
+                .hasNext(hasNext)
+                .nextCursorCreatedAt(hasNext ? last.getCreatedAt() : null)
+                .nextCursorId(hasNext ? last.getId() : null)
+                .build();
+    }
+
+    /**
+     * 제목/본문 검색 (모든 검색어를 포함하는 이력, 최신순, id 키셋 페이징)
+     */
+    public EmailHistoryDto.CursorPageDto search(Long userId, String query, Long cursorId, int size) {
+        int pageSize = clampSize(size);
+        List<Long> ids = searchIndex.search(userId, query, cursorId, pageSize + 1);
+
+        boolean hasNext = ids.size() > pageSize;
+        List<Long> pageIds = hasNext ? ids.subList(0, pageSize) : ids;
+        List<EmailHistoryDto.SummaryDto> content = pageIds.isEmpty() ? List.of()
+                : emailHistoryRepository.findSummariesByIdIn(userId, pageIds).stream()
+                        .sorted(Comparator.comparing(EmailHistorySummary::getId).reversed())
+                        .map(EmailHistoryDto.SummaryDto::from)
+                        .toList();
+
+        return EmailHistoryDto.CursorPageDto.builder()
+                .content(content)
+                .hasNext(hasNext)
+                .nextCursorId(hasNext ? pageIds.get(pageIds.size() - 1) : null)
+                .build();
+    }
+
+    /**
+     * 이력 상세 (본인 이력만, 보관된 이력은 압축을 풀어 반환)
+     */
+    public EmailHistoryDto.DetailDto getDetail(Long userId, Long emailHistoryId) {
+        return emailHistoryRepository.findById(emailHistoryId)
+                .filter(history -> history.getUserId().equals(userId))
+                .map(EmailHistoryDto.DetailDto::from)
+                .or(() -> archiveRepository.findByIdAndUserId(emailHistoryId, userId).map(archiver::read))
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "이메일 이력을 찾을 수 없습니다"));
+    }
+
+    private boolean hasCursor(LocalDateTime cursorCreatedAt, Long cursorId) {
+        if ((cursorCreatedAt == null) != (cursorId == null)) {
+            throw new IllegalArgumentException("커서는 cursorCreatedAt과 cursorId를 함께 지정해야 합니다");
+        }
+        return cursorCreatedAt != null;
+    }
+
+    private int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+}
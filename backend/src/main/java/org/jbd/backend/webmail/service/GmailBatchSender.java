@@ -0,0 +1,416 @@
+package org.jbd.backend.webmail.service;
+
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.services.gmail.Gmail;
+import com.google.api.services.gmail.model.Message;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gmail 발송 대기열
+ *
+ * 발송 요청을 대기열에 모았다가 linger-ms 동안 들어온 요청(최대 max-size 건)을 사용자별로 묶어
+ * Gmail 배치 HTTP 요청 한 번으로 보냅니다. 묶인 요청이 한 건이면 배치 없이 바로 보냅니다.
+ * - messages.send 는 멱등이 아니므로 요청이 Gmail 에 닿지 않았거나 처리되지 않은 것이 확실한 경우만
+ *   (429, 사용량 제한 403, 연결 단계 오류) 메시지 단위로 지수 백오프(지터 포함) 후 재시도하며,
+ *   응답에 Retry-After(초)가 있으면 그보다 먼저 재시도하지 않음
+ * - 5xx 와 읽기 시간 초과는 재시도하지 않고 실패 처리 (의도된 동작)
+ *   Gmail 가이드는 5xx 재시도를 권하지만, 5xx 는 서버가 메시지를 이미 발송한 뒤에도 올 수 있고
+ *   messages.send 는 멱등이 아니므로 다시 보내면 같은 메일이 중복 발송될 수 있음
+ * - 그 밖의 오류이거나 max-attempts 번 시도해도 실패하면 해당 메시지만 실패 처리
+ * - 재시도는 발송 요청 후 send-timeout-ms 안에 시작할 수 있을 때만 예약
+ * - 묶음 전송은 senders 개 스레드가 나누어 처리하고, 모두 바쁘면 디스패처가 직접 보내 대기열 소비 속도를 조절
+ *
+ * 배치로 묶이는 것은 같은 사용자의 발송이 동시에 대기열에 있을 때뿐이므로 대기열은 submit() 으로 여러 건을 한꺼번에 넣는
+ * 대량 발송용입니다 (GmailBatchSenderBenchmark 참고). 한 건씩 결과를 기다리는 send() 는 묶을 메시지가 없어 linger-ms 만큼
+ * 늦어지기만 하므로 대기열을 거치지 않고 호출 스레드에서 같은 재시도 규칙으로 바로 보냅니다.
+ * 디스패처/발송/재시도 스레드는 첫 submit() 에서 시작하므로 send() 만 사용하면 스레드를 만들지 않습니다.
+ */
+@Slf4j
+@Component
+public class GmailBatchSender {
+
+    private static final String ME = "me";
+    private static final Set<String> RATE_LIMIT_REASONS = Set.of("rateLimitExceeded", "userRateLimitExceeded");
+
+    private final int maxBatchSize;
+    private final long lingerNanos;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final long sendTimeoutMs;
+    private final int senderThreads;
+    private final BlockingQueue<PendingSend> queue;
+
+    /** 대기열 스레드 시작/종료 동기화 (시작 후에는 아래 필드를 다시 쓰지 않음) */
+    private final Object lifecycleLock = new Object();
+    private ThreadPoolExecutor senders;
+    private ScheduledExecutorService retryScheduler;
+    private Thread dispatcher;
+    private volatile boolean started;
+    private volatile boolean running = true;
+
+    public GmailBatchSender(@Value("${app.webmail.gmail.batch.max-size:50}") int maxBatchSize,
+                            @Value("${app.webmail.gmail.batch.linger-ms:10}") long lingerMs,
+                            @Value("${app.webmail.gmail.batch.senders:4}") int senderThreads,
+                            @Value("${app.webmail.gmail.batch.queue-capacity:10000}") int queueCapacity,
+                            @Value("${app.webmail.gmail.retry.max-attempts:5}") int maxAttempts,
+                            @Value("${app.webmail.gmail.retry.initial-backoff-ms:1000}") long initialBackoffMs,
+                            @Value("${app.webmail.gmail.retry.max-backoff-ms:32000}") long maxBackoffMs,
+                            @Value("${app.webmail.gmail.send-timeout-ms:60000}") long sendTimeoutMs) {
+        this.maxBatchSize = maxBatchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.senderThreads = senderThreads;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * 메시지를 호출 스레드에서 바로 발송
+     *
+     * 대기열을 거치지 않으며, 재시도는 대기 시간(send-timeout-ms) 안에 다시 보낼 수 있을 때만 백오프 후 수행합니다.
+     *
+     * @return Gmail 이 저장한 발송 메시지 (id 포함)
+     * @throws IOException 발송에 실패했거나 대기 시간 안에 재시도할 수 없으면
+     */
+    public Message send(GmailClientPool.PooledGmail client, Message message) throws IOException {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return request(client, message).execute();
+            } catch (IOException e) {
+                int status = e instanceof HttpResponseException response ? response.getStatusCode() : 0;
+                GoogleJsonError error = e instanceof GoogleJsonResponseException json ? json.getDetails() : null;
+                HttpHeaders headers = e instanceof HttpResponseException response ? response.getHeaders() : null;
+                if (attempt >= maxAttempts || !isRetryable(status, error, e)) {
+                    throw e;
+                }
+                long delay = retryDelayMillis(attempt, retryAfterSeconds(headers));
+                if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay) - deadlineNanos >= 0) {
+                    throw e;
+                }
+                log.debug("Retrying Gmail send for {} in {} ms (attempt {}, status {})",
+                        client.getUserEmail(), delay, attempt, status);
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Gmail 발송 재시도 대기 중 중단되었습니다");
+                }
+            }
+        }
+    }
+
+    /**
+     * 메시지를 발송 대기열에 추가
+     *
+     * 재시도는 send-timeout-ms 안에서만 예약합니다.
+     *
+     * @return 발송 결과 (취소하면 아직 보내지 않은 메시지는 보내지 않음)
+     */
+    public CompletableFuture<Message> submit(GmailClientPool.PooledGmail client, Message message) {
+        startQueue();
+        PendingSend send = newSend(client, message);
+        enqueue(send);
+        return send.result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        synchronized (lifecycleLock) {
+            running = false;
+        }
+        if (!started) {
+            return;
+        }
+        dispatcher.interrupt();
+        retryScheduler.shutdownNow();
+        senders.shutdown();
+        try {
+            if (!senders.awaitTermination(10, TimeUnit.SECONDS)) {
+                senders.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            senders.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        List<PendingSend> left = new ArrayList<>();
+        queue.drainTo(left);
+        left.forEach(send -> send.result.completeExceptionally(new IOException("메일 발송 대기열이 종료되었습니다")));
+    }
+
+    /**
+     * 재시도 대기 시간 (지수 백오프 + 최대 25% 지터, max-backoff-ms 상한, Retry-After 가 더 길면 그 시간)
+     *
+     * @param attempt 실패한 시도 순번 (1부터)
+     * @param retryAfterSeconds 응답의 Retry-After 초 (없으면 음수)
+     */
+    long retryDelayMillis(int attempt, long retryAfterSeconds) {
+        long base = initialBackoffMs << Math.min(attempt - 1, 20);
+        long jitter = ThreadLocalRandom.current().nextLong(base / 4 + 1);
+        long delay = Math.min(maxBackoffMs, base + jitter);
+        return Math.max(delay, TimeUnit.SECONDS.toMillis(Math.max(retryAfterSeconds, 0)));
+    }
+
+    /**
+     * 대기열 스레드 시작 (첫 submit() 에서 한 번, 종료 후에는 시작하지 않음)
+     */
+    private void startQueue() {
+        if (started) {
+            return;
+        }
+        synchronized (lifecycleLock) {
+            if (started || !running) {
+                return;
+            }
+            AtomicInteger sequence = new AtomicInteger();
+            senders = new ThreadPoolExecutor(senderThreads, senderThreads, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(senderThreads * 2), runnable -> {
+                        Thread thread = new Thread(runnable, "gmail-sender-" + sequence.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }, new ThreadPoolExecutor.CallerRunsPolicy());
+            retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "gmail-retry");
+                thread.setDaemon(true);
+                return thread;
+            });
+            dispatcher = new Thread(this::dispatchLoop, "gmail-batch-dispatcher");
+            dispatcher.setDaemon(true);
+            started = true;
+            dispatcher.start();
+        }
+    }
+
+    private PendingSend newSend(GmailClientPool.PooledGmail client, Message message) {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        return new PendingSend(client, message, new CompletableFuture<>(), new AtomicInteger(PendingSend.QUEUED),
+                deadlineNanos, 1);
+    }
+
+    private void enqueue(PendingSend send) {
+        if (!running || !queue.offer(send)) {
+            send.result.completeExceptionally(new IOException("메일 발송 대기열이 가득 찼습니다"));
+        }
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                PendingSend first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<PendingSend> drained = new ArrayList<>(maxBatchSize);
+                drained.add(first);
+                long deadline = System.nanoTime() + lingerNanos;
+                while (drained.size() < maxBatchSize) {
+                    PendingSend next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    drained.add(next);
+                }
+
+                // 배치 요청 하나는 한 사용자의 인증으로만 보낼 수 있으므로 클라이언트별로 나눔
+                Map<GmailClientPool.PooledGmail, List<PendingSend>> groups = new LinkedHashMap<>();
+                for (PendingSend send : drained) {
+                    groups.computeIfAbsent(send.client, client -> new ArrayList<>()).add(send);
+                }
+                groups.values().forEach(group -> senders.execute(() -> deliver(group)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Gmail batch dispatch failed", e);
+            }
+        }
+    }
+
+    private void deliver(List<PendingSend> group) {
+        // 호출자가 기다림을 포기한(취소된) 메시지는 보내지 않음
+        List<PendingSend> live = group.stream().filter(PendingSend::startSending).toList();
+        if (live.size() == 1) {
+            sendOne(live.get(0));
+        } else if (live.size() > 1) {
+            sendBatch(live);
+        }
+    }
+
+    private void sendOne(PendingSend send) {
+        try {
+            send.result.complete(request(send).execute());
+        } catch (GoogleJsonResponseException e) {
+            retryOrFail(send, e.getStatusCode(), e.getDetails(), e.getHeaders(), e);
+        } catch (HttpResponseException e) {
+            retryOrFail(send, e.getStatusCode(), null, e.getHeaders(), e);
+        } catch (IOException e) {
+            retryOrFail(send, 0, null, null, e);
+        } catch (RuntimeException e) {
+            send.result.completeExceptionally(e);
+        }
+    }
+
+    private void sendBatch(List<PendingSend> sends) {
+        GmailClientPool.PooledGmail client = sends.get(0).client;
+        BatchRequest batch = client.getGmail().batch(client);
+        Set<PendingSend> answered = new HashSet<>();
+        try {
+            for (PendingSend send : sends) {
+                request(send).queue(batch, new JsonBatchCallback<>() {
+                    @Override
+                    public void onSuccess(Message message, HttpHeaders responseHeaders) {
+                        answered.add(send);
+                        send.result.complete(message);
+                    }
+
+                    @Override
+                    public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+                        answered.add(send);
+                        retryOrFail(send, error.getCode(), error, responseHeaders,
+                                new IOException("Gmail 발송 실패 (" + error.getCode() + "): " + error.getMessage()));
+                    }
+                });
+            }
+            batch.execute();
+            log.debug("Sent Gmail batch of {} messages for {}", sends.size(), client.getUserEmail());
+        } catch (IOException e) {
+            // 배치 요청 자체가 실패: 응답을 받지 못한 메시지만 재시도
+            int status = e instanceof HttpResponseException response ? response.getStatusCode() : 0;
+            HttpHeaders headers = e instanceof HttpResponseException response ? response.getHeaders() : null;
+            sends.stream()
+                    .filter(send -> !answered.contains(send))
+                    .forEach(send -> retryOrFail(send, status, null, headers, e));
+        } catch (RuntimeException e) {
+            sends.stream()
+                    .filter(send -> !answered.contains(send))
+                    .forEach(send -> send.result.completeExceptionally(e));
+        }
+    }
+
+    private Gmail.Users.Messages.Send request(PendingSend send) throws IOException {
+        return request(send.client, send.message);
+    }
+
+    private static Gmail.Users.Messages.Send request(GmailClientPool.PooledGmail client, Message message)
+            throws IOException {
+        Gmail.Users.Messages.Send request = client.getGmail().users().messages().send(ME, message);
+        // raw 는 이미 base64 로 인코딩된 MIME 이라 압축 이득이 적음
+        request.setDisableGZipContent(true);
+        return request;
+    }
+
+    private void retryOrFail(PendingSend send, int status, GoogleJsonError error, HttpHeaders headers, Exception cause) {
+        if (send.attempt >= maxAttempts || !isRetryable(status, error, cause)) {
+            send.result.completeExceptionally(cause);
+            return;
+        }
+        long delay = retryDelayMillis(send.attempt, retryAfterSeconds(headers));
+        // 대기 시간 안에 다시 보낼 수 없으면 호출자에게 실패를 알림
+        if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay) - send.deadlineNanos >= 0) {
+            send.result.completeExceptionally(cause);
+            return;
+        }
+        log.debug("Retrying Gmail send for {} in {} ms (attempt {}, status {})",
+                send.client.getUserEmail(), delay, send.attempt, status);
+        send.state.set(PendingSend.QUEUED);
+        try {
+            retryScheduler.schedule(() -> enqueue(send.nextAttempt()), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            send.result.completeExceptionally(cause);
+        }
+    }
+
+    private static boolean isRetryable(int status, GoogleJsonError error, Exception cause) {
+        if (status == 0) {
+            return isConnectFailure(cause);
+        }
+        if (status == 429) {
+            return true;
+        }
+        // Gmail 은 사용량 제한을 403 으로도 응답함
+        return status == 403 && error != null && error.getErrors() != null
+                && error.getErrors().stream().anyMatch(info -> RATE_LIMIT_REASONS.contains(info.getReason()));
+    }
+
+    /**
+     * 연결 단계 오류 (요청을 보내기 전에 실패했으므로 다시 보내도 중복 발송되지 않음)
+     */
+    private static boolean isConnectFailure(Throwable cause) {
+        for (Throwable t = cause; t != null; t = t.getCause()) {
+            if (t instanceof ConnectException || t instanceof NoRouteToHostException || t instanceof UnknownHostException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long retryAfterSeconds(HttpHeaders headers) {
+        String retryAfter = headers != null ? headers.getFirstHeaderStringValue("Retry-After") : null;
+        if (retryAfter == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(retryAfter.trim());
+        } catch (NumberFormatException e) {
+            // HTTP 날짜 형식은 지원하지 않고 백오프 시간만 적용
+            return -1;
+        }
+    }
+
+    /**
+     * 발송 한 건의 시도 (result/state/deadlineNanos 는 재시도 사이에 공유)
+     */
+    private static final class PendingSend {
+
+        private static final int QUEUED = 0;
+        private static final int SENDING = 1;
+
+        private final GmailClientPool.PooledGmail client;
+        private final Message message;
+        private final CompletableFuture<Message> result;
+        private final AtomicInteger state;
+        private final long deadlineNanos;
+        private final int attempt;
+
+        private PendingSend(GmailClientPool.PooledGmail client, Message message, CompletableFuture<Message> result,
+                            AtomicInteger state, long deadlineNanos, int attempt) {
+            this.client = client;
+            this.message = message;
+            this.result = result;
+            this.state = state;
+            this.deadlineNanos = deadlineNanos;
+            this.attempt = attempt;
+        }
+
+        /**
+         * 전송 시작 (호출자가 취소한 발송이면 false)
+         */
+        private boolean startSending() {
+            return state.compareAndSet(QUEUED, SENDING) && !result.isDone();
+        }
+
+        private PendingSend nextAttempt() {
+            return new PendingSend(client, message, result, state, deadlineNanos, attempt + 1);
+        }
+    }
+}
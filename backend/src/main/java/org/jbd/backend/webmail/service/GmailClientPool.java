@@ -0,0 +1,139 @@
+package org.jbd.backend.webmail.service;
+
+import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
+import com.google.api.client.http.HttpRequest;
+import com.google.api.client.http.HttpRequestInitializer;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.gmail.Gmail;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.client.AuthorizedClientServiceOAuth2AuthorizedClientManager;
+import org.springframework.security.oauth2.client.OAuth2AuthorizeRequest;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientProviderBuilder;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자별 Gmail API 클라이언트 풀
+ *
+ * 발송마다 전송 계층(NetHttpTransport)과 Gmail 클라이언트를 새로 만들면 매번 TLS 핸드셰이크와 객체 생성 비용이 들므로,
+ * 전송 계층 하나를 모든 클라이언트가 공유하고(JDK keep-alive 연결 재사용) 클라이언트는 사용자(OAuth2 인증 정보)별로 캐시합니다.
+ * - 캐시는 max-cached-clients 개를 넘으면 가장 오래 쓰지 않은 클라이언트부터 버리는 LRU
+ * - 액세스 토큰은 요청마다 현재 값으로 헤더에 넣으므로, 토큰이 바뀌어도 클라이언트를 다시 만들지 않음
+ * - 만료까지 token-refresh-skew-seconds 이내로 남은 토큰은 발송 전에 리프레시 토큰으로 미리 갱신
+ */
+@Component
+public class GmailClientPool {
+
+    static final String REGISTRATION_ID = "google";
+
+    private static final String APPLICATION_NAME = "JBD Webmail Service";
+    private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
+
+    private final AuthorizedClientServiceOAuth2AuthorizedClientManager authorizedClientManager;
+    private final HttpTransport transport;
+    private final String rootUrl;
+    private final int connectTimeoutMs;
+    private final int readTimeoutMs;
+    private final Map<String, PooledGmail> clients;
+
+    public GmailClientPool(ClientRegistrationRepository clientRegistrationRepository,
+                           OAuth2AuthorizedClientService authorizedClientService,
+                           Clock clock,
+                           @Value("${app.webmail.gmail.root-url:https://gmail.googleapis.com/}") String rootUrl,
+                           @Value("${app.webmail.gmail.token-refresh-skew-seconds:120}") long tokenRefreshSkewSeconds,
+                           @Value("${app.webmail.gmail.connect-timeout-ms:10000}") int connectTimeoutMs,
+                           @Value("${app.webmail.gmail.read-timeout-ms:30000}") int readTimeoutMs,
+                           @Value("${app.webmail.gmail.max-cached-clients:1000}") int maxCachedClients)
+            throws GeneralSecurityException, IOException {
+        this.authorizedClientManager = new AuthorizedClientServiceOAuth2AuthorizedClientManager(
+                clientRegistrationRepository, authorizedClientService);
+        this.authorizedClientManager.setAuthorizedClientProvider(OAuth2AuthorizedClientProviderBuilder.builder()
+                .refreshToken(refresh -> refresh
+                        .clockSkew(Duration.ofSeconds(tokenRefreshSkewSeconds))
+                        .clock(clock))
+                .build());
+        this.transport = GoogleNetHttpTransport.newTrustedTransport();
+        this.rootUrl = rootUrl;
+        this.connectTimeoutMs = connectTimeoutMs;
+        this.readTimeoutMs = readTimeoutMs;
+        this.clients = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PooledGmail> eldest) {
+                return size() > maxCachedClients;
+            }
+        };
+    }
+
+    /**
+     * 사용자의 Gmail 클라이언트 (만료가 가까운 액세스 토큰은 갱신한 뒤 반환)
+     *
+     * @return Google 계정이 연동되지 않았으면 empty
+     * @throws org.springframework.security.oauth2.core.OAuth2AuthorizationException 토큰 갱신에 실패하면
+     */
+    public Optional<PooledGmail> acquire(String userEmail) {
+        OAuth2AuthorizedClient authorizedClient = authorizedClientManager.authorize(
+                OAuth2AuthorizeRequest.withClientRegistrationId(REGISTRATION_ID).principal(userEmail).build());
+        if (authorizedClient == null || authorizedClient.getAccessToken() == null
+                || authorizedClient.getAccessToken().getTokenValue() == null) {
+            return Optional.empty();
+        }
+
+        PooledGmail client;
+        synchronized (clients) {
+            client = clients.computeIfAbsent(userEmail, key -> new PooledGmail(key, this));
+        }
+        client.accessToken = authorizedClient.getAccessToken().getTokenValue();
+        return Optional.of(client);
+    }
+
+    /**
+     * 캐시된 사용자별 클라이언트
+     *
+     * 공유 전송 계층 위의 Gmail 클라이언트이며, 요청 초기화 시 최신 액세스 토큰과 타임아웃을 설정합니다.
+     */
+    public static final class PooledGmail implements HttpRequestInitializer {
+
+        private final String userEmail;
+        private final Gmail gmail;
+        private final int connectTimeoutMs;
+        private final int readTimeoutMs;
+        private volatile String accessToken;
+
+        private PooledGmail(String userEmail, GmailClientPool pool) {
+            this.userEmail = userEmail;
+            this.connectTimeoutMs = pool.connectTimeoutMs;
+            this.readTimeoutMs = pool.readTimeoutMs;
+            this.gmail = new Gmail.Builder(pool.transport, JSON_FACTORY, this)
+                    .setApplicationName(APPLICATION_NAME)
+                    .setRootUrl(pool.rootUrl)
+                    .build();
+        }
+
+        @Override
+        public void initialize(HttpRequest request) {
+            request.getHeaders().setAuthorization("Bearer " + accessToken);
+            request.setConnectTimeout(connectTimeoutMs);
+            request.setReadTimeout(readTimeoutMs);
+        }
+
+        public String getUserEmail() {
+            return userEmail;
+        }
+
+        public Gmail getGmail() {
+            return gmail;
+        }
+    }
+}
@@ -1,13 +1,6 @@
 package org.jbd.backend.webmail.service;
 
-import com.google.api.client.googleapis.auth.oauth2.GoogleCredential;
-import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.JsonFactory;
-import com.google.api.client.json.gson.GsonFactory;
-import com.google.api.services.gmail.Gmail;
 import com.google.api.services.gmail.model.Message;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jbd.backend.ai.service.AITranslationService;
 import org.jbd.backend.ai.dto.TranslationDto;
@@ -16,11 +9,10 @@ import org.jbd.backend.webmail.domain.EmailStatus;
 import org.jbd.backend.webmail.dto.SendEmailRequest;
 import org.jbd.backend.webmail.dto.SendEmailResponse;
 import org.jbd.backend.webmail.repository.EmailHistoryRepository;
-import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
-import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
-import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2AuthorizationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.mail.MessagingException;
 import javax.mail.Session;
@@ -28,41 +20,58 @@ import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeMessage;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.security.GeneralSecurityException;
 import java.time.LocalDateTime;
 import java.util.Base64;
+import java.util.Optional;
 import java.util.Properties;
 
+/**
+ * Gmail 발송
+ *
+ * 번역과 Gmail 호출(재시도 대기 포함)은 트랜잭션 밖에서 수행하고,
+ * 발송이 끝난 뒤 이력 저장과 색인만 짧은 트랜잭션으로 묶어 DB 커넥션을 외부 호출 동안 잡고 있지 않습니다.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class GmailService {
     
-    private static final String APPLICATION_NAME = "JBD Webmail Service";
-    private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
-    
-    private final OAuth2AuthorizedClientService authorizedClientService;
+    private final GmailClientPool gmailClientPool;
+    private final GmailBatchSender gmailBatchSender;
     private final EmailHistoryRepository emailHistoryRepository;
     private final AITranslationService aiTranslationService;
+    private final EmailHistorySearchIndex emailHistorySearchIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    public GmailService(GmailClientPool gmailClientPool,
+                        GmailBatchSender gmailBatchSender,
+                        EmailHistoryRepository emailHistoryRepository,
+                        AITranslationService aiTranslationService,
+                        EmailHistorySearchIndex emailHistorySearchIndex,
+                        PlatformTransactionManager transactionManager) {
+        this.gmailClientPool = gmailClientPool;
+        this.gmailBatchSender = gmailBatchSender;
+        this.emailHistoryRepository = emailHistoryRepository;
+        this.aiTranslationService = aiTranslationService;
+        this.emailHistorySearchIndex = emailHistorySearchIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
     
     public SendEmailResponse sendEmailViaGmail(SendEmailRequest request, Long userId, String userEmail) {
         try {
-            // OAuth2 클라이언트에서 액세스 토큰 가져오기
-            OAuth2AuthorizedClient authorizedClient = authorizedClientService
-                .loadAuthorizedClient("google", userEmail);
+            // 캐시된 Gmail 클라이언트 가져오기 (만료가 가까운 액세스 토큰은 갱신)
+            Optional<GmailClientPool.PooledGmail> gmailClient;
+            try {
+                gmailClient = gmailClientPool.acquire(userEmail);
+            } catch (OAuth2AuthorizationException e) {
+                log.error("사용자 {}의 액세스 토큰을 갱신할 수 없습니다: {}", userEmail, e.getMessage());
+                return SendEmailResponse.failure("Google 인증 토큰이 만료되었습니다. 다시 로그인해주세요.");
+            }
             
-            if (authorizedClient == null) {
+            if (gmailClient.isEmpty()) {
                 log.error("사용자 {}의 Google OAuth2 인증 정보를 찾을 수 없습니다", userEmail);
                 return SendEmailResponse.failure("Google 계정 연동이 필요합니다. 다시 로그인해주세요.");
             }
             
-            OAuth2AccessToken accessToken = authorizedClient.getAccessToken();
-            if (accessToken == null || accessToken.getTokenValue() == null) {
-                log.error("사용자 {}의 액세스 토큰이 유효하지 않습니다", userEmail);
-                return SendEmailResponse.failure("Google 인증 토큰이 만료되었습니다. 다시 로그인해주세요.");
-            }
-            
             String contentToSend = request.getContent();
             String originalContent = null;
             String translatedContent = null;
@@ -105,21 +114,18 @@ public class GmailService {
                 }
             }
             
-            // Gmail API 클라이언트 생성
-            Gmail service = createGmailService(accessToken.getTokenValue());
-            
             // 이메일 메시지 생성
             MimeMessage email = createEmail(request.getTo(), userEmail, request.getSubject(), contentToSend);
             Message message = createMessageWithEmail(email);
             
-            // Gmail을 통해 이메일 발송
-            message = service.users().messages().send("me", message).execute();
+            // Gmail을 통해 이메일 발송 (단건이므로 대기열을 거치지 않고 바로 전송)
+            message = gmailBatchSender.send(gmailClient.get(), message);
             
             if (message != null && message.getId() != null) {
                 // 발송 성공
                 LocalDateTime sentAt = LocalDateTime.now();
                 
-                // 이메일 히스토리 저장
+                // 이메일 히스토리 저장 (발송 후 짧은 트랜잭션)
                 EmailHistory emailHistory = EmailHistory.builder()
                     .senderEmail(userEmail)
                     .senderName("JBD User") // 실제 사용자 이름으로 변경 가능
@@ -137,7 +143,10 @@ public class GmailService {
                     .userId(userId)
                     .build();
                 
-                emailHistoryRepository.save(emailHistory);
+                transactionTemplate.executeWithoutResult(status -> {
+                    emailHistoryRepository.save(emailHistory);
+                    emailHistorySearchIndex.index(emailHistory);
+                });
                 
                 log.info("Gmail을 통한 이메일 발송 성공: {} -> {}", userEmail, request.getTo());
                 
@@ -158,17 +167,6 @@ public class GmailService {
         }
     }
     
-    private Gmail createGmailService(String accessToken) throws GeneralSecurityException, IOException {
-        NetHttpTransport httpTransport = GoogleNetHttpTransport.newTrustedTransport();
-        
-        // OAuth2 액세스 토큰으로 Gmail 서비스 생성
-        GoogleCredential credential = new GoogleCredential().setAccessToken(accessToken);
-        
-        return new Gmail.Builder(httpTransport, JSON_FACTORY, credential)
-                .setApplicationName(APPLICATION_NAME)
-                .build();
-    }
-    
     private MimeMessage createEmail(String to, String from, String subject, String bodyText)
             throws MessagingException {
         Properties props = new Properties();
@@ -46,6 +46,7 @@ public class WebMailService {
     
     private final EmailHistoryRepository emailHistoryRepository;
     private final AITranslationService aiTranslationService;
+    private final EmailHistorySearchIndex emailHistorySearchIndex;
     
     public SendEmailResponse sendEmail(SendEmailRequest request, Long userId) {
         try {
@@ -174,6 +175,7 @@ public class WebMailService {
                     .build();
                 
                 emailHistoryRepository.save(emailHistory);
+                emailHistorySearchIndex.index(emailHistory);
                 
                 log.info("이메일 발송 성공: {} -> {}", defaultSenderEmail, request.getTo());
                 
@@ -209,6 +211,11 @@ public class WebMailService {
         return emailHistoryRepository.countByUserId(userId);
     }
     
+    @Transactional(readOnly = true)
+    public long getTranslatedEmailCount(Long userId) {
+        return emailHistoryRepository.countTranslatedByUserId(userId);
+    }
+    
     private String formatEmailContent(String content) {
         // HTML 형식으로 이메일 내용 포맷팅
         return String.format("""
@@ -0,0 +1,551 @@
+-- JBD 기준 스키마 (MySQL 8.0, utf8mb4)
+-- Flyway 도입 이전(ddl-auto: update 로 운영하던 시점)의 엔티티 매핑 기준 테이블/제약조건/인덱스
+-- 기존 DB 는 spring.flyway.baseline-on-migrate=true 로 이 버전을 기준선으로 기록하고 V2 부터 적용하므로,
+-- 이후 추가되는 테이블/컬럼/인덱스는 이 파일을 고치지 말고 새 버전으로 추가합니다.
+
+-- ---------------------------------------------------------------------
+-- 사용자
+-- ---------------------------------------------------------------------
+CREATE TABLE users (
+  user_id bigint NOT NULL AUTO_INCREMENT,
+  email varchar(255) NOT NULL,
+  password_hash varchar(255) DEFAULT NULL,
+  user_type enum('ADMIN','COMPANY','GENERAL') NOT NULL,
+  oauth_provider enum('GOOGLE','NATIVE') DEFAULT NULL,
+  oauth_id varchar(255) DEFAULT NULL,
+  employment_status enum('EMPLOYED','JOB_SEEKING','PREPARING','STUDENT') DEFAULT NULL,
+  is_active bit(1) NOT NULL,
+  email_verified bit(1) NOT NULL,
+  company_email_verified bit(1) NOT NULL,
+  last_login_at datetime(6) DEFAULT NULL,
+  admin_converted_at datetime(6) DEFAULT NULL,
+  created_at datetime(6) NOT NULL,
+  updated_at datetime(6) DEFAULT NULL,
+  deleted_at datetime(6) DEFAULT NULL,
+  is_deleted bit(1) NOT NULL,
+  PRIMARY KEY (user_id),
+  UNIQUE KEY uk_users_email (email)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE user_profiles (
+  profile_id bigint NOT NULL AUTO_INCREMENT,
+  user_id bigint NOT NULL,
+  first_name varchar(255) DEFAULT NULL,
+  last_name varchar(255) DEFAULT NULL,
+  age int DEFAULT NULL,
+  gender enum('FEMALE','MALE','OTHER') DEFAULT NULL,
+  location varchar(255) DEFAULT NULL,
+  desired_job varchar(255) DEFAULT NULL,
+  phone_number varchar(255) DEFAULT NULL,
+  profile_image_url varchar(255) DEFAULT NULL,
+  bio text,
+  created_at datetime(6) NOT NULL,
+  updated_at datetime(6) DEFAULT NULL,
+  deleted_at datetime(6) DEFAULT NULL,
+  is_deleted bit(1) NOT NULL,
+  PRIMARY KEY (profile_id),
+  UNIQUE KEY uk_user_profiles_user (user_id),
+  CONSTRAINT fk_user_profiles_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE career_histories (
+  career_id bigint NOT NULL AUTO_INCREMENT,
+  user_id bigint NOT NULL,
+  company_name varchar(255) NOT NULL,
+  position varchar(255) NOT NULL,
+  department varchar(255) DEFAULT NULL,
+  start_date date NOT NULL,
+  end_date date DEFAULT NULL,
+  is_current bit(1) NOT NULL,
+  description text,
+  achievements text,
+  employment_type enum('CONTRACT','FREELANCE','FULL_TIME','HYBRID','INTERNSHIP','OTHER','PART_TIME','PROJECT_BASED','REMOTE','VOLUNTEER') DEFAULT NULL,
+  created_at datetime(6) NOT NULL,
+  updated_at datetime(6) DEFAULT NULL,
+  deleted_at datetime(6) DEFAULT NULL,
+  is_deleted bit(1) NOT NULL,
+  PRIMARY KEY (career_id),
+  CONSTRAINT fk_career_histories_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE certifications (
+  certification_id bigint NOT NULL AUTO_INCREMENT,
+  user_id bigint NOT NULL,
+  certification_name varchar(255) NOT NULL,
+  issuing_organization varchar(255) NOT NULL,
+  certification_number varchar(255) DEFAULT NULL,
+  issue_date date DEFAULT NULL,
+  expiration_date date DEFAULT NULL,
+  is_lifetime_valid bit(1) DEFAULT NULL,
+  status enum('ACTIVE','EXPIRED','PENDING','REVOKED') DEFAULT NULL,
+  score varchar(255) DEFAULT NULL,
+  certificate_url varchar(255) DEFAULT NULL,
+  verification_url varchar(255) DEFAULT NULL,
+  description text,
+  related_skills text,
+  created_at datetime(6) NOT NULL,
+  updated_at datetime(6) DEFAULT NULL,
+  deleted_at datetime(6) DEFAULT NULL,
+  is_deleted bit(1) NOT NULL,
+  PRIMARY KEY (certification_id),
+  CONSTRAINT fk_certifications_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE user_certifications (
+  id bigint NOT NULL AUTO_INCREMENT,
+  user_id bigint NOT NULL,
+  certification_name varchar(255) NOT NULL,
+  issuing_organization varchar(255) NOT NULL,
+  issue_date date DEFAULT NULL,
+  expiry_date date DEFAULT NULL,
+  credential_id varchar(255) DEFAULT NULL,
+  credential_url varchar(255) DEFAULT NULL,
+  description varchar(1000) DEFAULT NULL,
+  is_active bit(1) NOT NULL,
+  created_at datetime(6) NOT NULL,
+  updated_at datetime(6) DEFAULT NULL,
+  deleted_at datetime(6) DEFAULT NULL,
+  is_deleted bit(1) NOT NULL,
+  PRIMARY KEY (id),
+  CONSTRAINT fk_user_certifications_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE education_infos (
+  education_id bigint NOT NULL AUTO_INCREMENT,
+  user_id bigint NOT NULL,
+  education_type enum('BOOTCAMP','CERTIFICATE_COURSE','GRADUATE_SCHOOL','HIGH_SCHOOL','ONLINE_COURSE','OTHER','UNIVERSITY','VOCATIONAL_SCHOOL') NOT NULL,
+  institution_name varchar(255) NOT NULL,
+  major varchar(255) DEFAULT NULL,
+  degree varchar(255) DEFAULT NULL,
+  grade_type varchar(255) DEFAULT NULL,
+  grade_value varchar(255) DEFAULT NULL,
+  start_date date DEFAULT NULL,
+  end_date date DEFAULT NULL,
+  is_current_education bit(1) DEFAULT NULL,
+  location varchar(255) DEFAULT NULL,
+  description text,
+  achievements text,
+  created_at datetime(6) NOT NULL,
+  updated_at datetime(6) DEFAULT NULL,
+  deleted_at datetime(6) DEFAULT NULL,
+  is_deleted bit(1) NOT NULL,
+  PRIMARY KEY (education_id),
+  CONSTRAINT fk_education_infos_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE user_education (
+  id bigint NOT NULL AUTO_INCREMENT,
+  user_id bigint NOT NULL,
+  education_level enum('ASSOCIATE','BACHELOR','BOOTCAMP','DOCTORATE','HIGH_SCHOOL','MASTER','OTHER','VOCATIONAL') NOT NULL,
+  school_name varchar(255) NOT NULL,
+  major varchar(255) DEFAULT NULL,
+  graduation_year int DEFAULT NULL,
+  graduation_date date DEFAULT NULL,
+  gpa decimal(3,2) DEFAULT NULL,
+  max_gpa decimal(3,2) DEFAULT NULL,
+  is_current bit(1) NOT NULL,
+  created_at datetime(6) NOT NULL,
+  updated_at datetime(6) DEFAULT NULL,
+  deleted_at datetime(6) DEFAULT NULL,
+  is_deleted bit(1) NOT NULL,
+  PRIMARY KEY (id),
+  CONSTRAINT fk_user_education_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE portfolios (
+  portfolio_id bigint NOT NULL AUTO_INCREMENT,
+  user_id bigint NOT NULL,
+  title varchar(255) NOT NULL,
+  description text,
+  portfolio_url varchar(255) DEFAULT NULL,
+  image_url varchar(255) DEFAULT NULL,
+  technologies_used json DEFAULT NULL,
+  start_date date DEFAULT NULL,
+  end_date date DEFAULT NULL,
+  is_featured bit(1) NOT NULL,
+  portfolio_type enum('API_BACKEND','COMPETITION','DATA_ANALYSIS','DESIGN','DESKTOP_APPLICATION','HACKATHON','LIBRARY_FRAMEWORK','MACHINE_LEARNING','MOBILE_APPLICATION','OPEN_SOURCE','OTHER','PERSONAL_PROJECT','RESEARCH','TEAM_PROJECT','WEB_APPLICATION') DEFAULT NULL,
+  display_order int DEFAULT NULL,
+  created_at datetime(6) NOT NULL,
+  updated_at datetime(6) DEFAULT NULL,
+  deleted_at datetime(6) DEFAULT NULL,
+  is_deleted bit(1) NOT NULL,
+  PRIMARY KEY (portfolio_id),
+  CONSTRAINT fk_portfolios_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE skills (
+  skill_id bigint NOT NULL AUTO_INCREMENT,
+  skill_name varchar(255) NOT NULL,
+  category enum('AI_ML','BACKEND','CERTIFICATION','CLOUD','COMMUNICATION','DATABASE','DATA_SCIENCE','DESIGN','DEVOPS','FRAMEWORK','FRONTEND','LANGUAGE','MOBILE','OTHER','PROGRAMMING_LANGUAGE','PROJECT_MANAGEMENT') NOT NULL,
+  created_at datetime(6) NOT NULL,
+  updated_at datetime(6) DEFAULT NULL,
+  deleted_at datetime(6) DEFAULT NULL,
+  is_deleted bit(1) NOT NULL,
+  PRIMARY KEY (skill_id),
+  UNIQUE KEY uk_skills_skill_name (skill_name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE user_skills (
+  user_skill_id bigint NOT NULL AUTO_INCREMENT,
+  user_id bigint NOT NULL,
+  skill_id bigint NOT NULL,
+  proficiency_level enum('ADVANCED','BEGINNER','EXPERT','INTERMEDIATE') NOT NULL,
+  years_of_experience int DEFAULT NULL,
+  created_at datetime(6) NOT NULL,
+  updated_at datetime(6) DEFAULT NULL,
+  deleted_at datetime(6) DEFAULT NULL,
+  is_deleted bit(1) NOT NULL,
+  PRIMARY KEY (user_skill_id),
+  CONSTRAINT fk_user_skills_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+  CONSTRAINT fk_user_skills_skill FOREIGN KEY (skill_id) REFERENCES skills (skill_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- ---------------------------------------------------------------------
+-- 기업
+-- ---------------------------------------------------------------------
+CREATE TABLE companies (
+  company_id bigint NOT NULL AUTO_INCREMENT,
+  user_id bigint NOT NULL,
+  company_name varchar(100) NOT NULL,
+  business_number varchar(12) DEFAULT NULL,
+  industry varchar(50) DEFAULT NULL,
+  location varchar(100) DEFAULT NULL,
+  establishment_date date DEFAULT NULL,
+  employee_count int DEFAULT NULL,
+  revenue decimal(15,2) DEFAULT NULL,
+  description text,
+  website_url varchar(200) DEFAULT NULL,
+  company_email varchar(100) DEFAULT NULL,
+  phone_number varchar(20) DEFAULT NULL,
+  address varchar(200) DEFAULT NULL,
+  logo_url varchar(500) DEFAULT NULL,
+  is_verified bit(1) NOT NULL,
+  created_at datetime(6) NOT NULL,
+  updated_at datetime(6) DEFAULT NULL,
+  deleted_at datetime(6) DEFAULT NULL,
+  is_deleted bit(1) NOT NULL,
+  PRIMARY KEY (company_id),
+  UNIQUE KEY uk_companies_user (user_id),
+  UNIQUE KEY uk_companies_business_number (business_number),
+  CONSTRAINT fk_companies_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- ---------------------------------------------------------------------
+-- 커뮤니티
+-- ---------------------------------------------------------------------
+CREATE TABLE categories (
+  category_id bigint NOT NULL AUTO_INCREMENT,
+  name varchar(50) NOT NULL,
+  description text,
+  is_active bit(1) NOT NULL,
+  display_order int NOT NULL,
+  created_at datetime(6) NOT NULL,
+  updated_at datetime(6) DEFAULT NULL,
+  deleted_at datetime(6) DEFAULT NULL,
+  is_deleted bit(1) NOT NULL,
+  PRIMARY KEY (category_id),
+  UNIQUE KEY uk_categories_name (name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE posts (
+  post_id bigint NOT NULL AUTO_INCREMENT,
+  title varchar(200) NOT NULL,
+  content text NOT NULL,
+  user_id bigint NOT NULL,
+  category_id bigint NOT NULL,
+  view_count bigint NOT NULL,
+  like_count bigint NOT NULL,
+  is_notice bit(1) NOT NULL,
+  is_pinned bit(1) NOT NULL,
+  image_url varchar(1000) DEFAULT NULL,
+  sentiment_score double DEFAULT NULL,
+  sentiment_label varchar(20) DEFAULT NULL,
+  created_at datetime(6) NOT NULL,
+  updated_at datetime(6) DEFAULT NULL,
+  deleted_at datetime(6) DEFAULT NULL,
+  is_deleted bit(1) NOT NULL,
+  PRIMARY KEY (post_id),
+  CONSTRAINT fk_posts_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+  CONSTRAINT fk_posts_category FOREIGN KEY (category_id) REFERENCES categories (category_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE comments (
+  comment_id bigint NOT NULL AUTO_INCREMENT,
+  content text NOT NULL,
+  user_id bigint NOT NULL,
+  post_id bigint NOT NULL,
+  parent_comment_id bigint DEFAULT NULL,
+  like_count bigint NOT NULL,
+  created_at datetime(6) NOT NULL,
+  updated_at datetime(6) DEFAULT NULL,
+  deleted_at datetime(6) DEFAULT NULL,
+  is_deleted bit(1) NOT NULL,
+  PRIMARY KEY (comment_id),
+  CONSTRAINT fk_comments_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+  CONSTRAINT fk_comments_post FOREIGN KEY (post_id) REFERENCES posts (post_id),
+  CONSTRAINT fk_comments_parent FOREIGN KEY (parent_comment_id) REFERENCES comments (comment_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- ---------------------------------------------------------------------
+-- 채용
+-- ---------------------------------------------------------------------
+CREATE TABLE job_postings (
+  job_id bigint NOT NULL AUTO_INCREMENT,
+  company_user_id bigint NOT NULL,
+  title varchar(255) NOT NULL,
+  company_name varchar(255) NOT NULL,
+  location varchar(255) NOT NULL,
+  job_type enum('CONTRACT','FREELANCE','FULL_TIME','HYBRID','INTERNSHIP','PART_TIME','PROJECT_BASED','REMOTE','TEMPORARY') NOT NULL,
+  department varchar(255) DEFAULT NULL,
+  field varchar(255) DEFAULT NULL,
+  salary_min int DEFAULT NULL,
+  salary_max int DEFAULT NULL,
+  salary_negotiable bit(1) DEFAULT NULL,
+  description varchar(3000) DEFAULT NULL,
+  qualifications varchar(2000) DEFAULT NULL,
+  required_skills varchar(1500) DEFAULT NULL,
+  experience_level enum('ANY','DIRECTOR','ENTRY_LEVEL','EXPERT','JUNIOR','MANAGER','MID_LEVEL','SENIOR') NOT NULL,
+  deadline_date date DEFAULT NULL,
+  status enum('CLOSED','DRAFT','EXPIRED','PUBLISHED') NOT NULL,
+  view_count bigint NOT NULL,
+  application_count bigint NOT NULL,
+  benefits varchar(1000) DEFAULT NULL,
+  working_hours varchar(255) DEFAULT NULL,
+  is_remote_possible bit(1) DEFAULT NULL,
+  contact_email varchar(255) DEFAULT NULL,
+  contact_phone varchar(255) DEFAULT NULL,
+  published_at datetime(6) DEFAULT NULL,
+  created_at datetime(6) NOT NULL,
+  updated_at datetime(6) DEFAULT NULL,
+  deleted_at datetime(6) DEFAULT NULL,
+  is_deleted bit(1) NOT NULL,
+  PRIMARY KEY (job_id),
+  CONSTRAINT fk_job_postings_company_user FOREIGN KEY (company_user_id) REFERENCES users (user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE job_applications (
+  application_id bigint NOT NULL AUTO_INCREMENT,
+  user_id bigint NOT NULL,
+  job_id bigint NOT NULL,
+  status enum('DOCUMENT_PASSED','HIRED','INTERVIEW_PASSED','INTERVIEW_SCHEDULED','REJECTED','REVIEWED','SUBMITTED','WITHDRAWN') NOT NULL,
+  cover_letter varchar(2000) DEFAULT NULL,
+  resume_url varchar(255) DEFAULT NULL,
+  portfolio_urls varchar(1000) DEFAULT NULL,
+  applied_at datetime(6) NOT NULL,
+  reviewed_at datetime(6) DEFAULT NULL,
+  interviewer_notes varchar(1000) DEFAULT NULL,
+  rejection_reason varchar(500) DEFAULT NULL,
+  interview_scheduled_at datetime(6) DEFAULT NULL,
+  final_decision_at datetime(6) DEFAULT NULL,
+  created_at datetime(6) NOT NULL,
+  updated_at datetime(6) DEFAULT NULL,
+  deleted_at datetime(6) DEFAULT NULL,
+  is_deleted bit(1) NOT NULL,
+  PRIMARY KEY (application_id),
+  UNIQUE KEY uk_job_applications_user_job (user_id, job_id),
+  CONSTRAINT fk_job_applications_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+  CONSTRAINT fk_job_applications_job FOREIGN KEY (job_id) REFERENCES job_postings (job_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- ---------------------------------------------------------------------
+-- AI (면접/번역/챗봇)
+-- ---------------------------------------------------------------------
+CREATE TABLE interviews (
+  interview_id bigint NOT NULL AUTO_INCREMENT,
+  user_id bigint NOT NULL,
+  job_role varchar(255) NOT NULL,
+  interview_type varchar(255) NOT NULL,
+  experience_level varchar(255) DEFAULT NULL,
+  overall_score decimal(38,2) DEFAULT NULL,
+  total_questions int DEFAULT NULL,
+  answered_questions int DEFAULT NULL,
+  completed_at datetime(6) DEFAULT NULL,
+  duration_minutes int DEFAULT NULL,
+  status enum('CANCELLED','COMPLETED','IN_PROGRESS') NOT NULL,
+  created_at datetime(6) NOT NULL,
+  updated_at datetime(6) DEFAULT NULL,
+  deleted_at datetime(6) DEFAULT NULL,
+  is_deleted bit(1) NOT NULL,
+  PRIMARY KEY (interview_id),
+  CONSTRAINT fk_interviews_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE interview_questions (
+  question_id bigint NOT NULL AUTO_INCREMENT,
+  interview_id bigint NOT NULL,
+  temp_question_id varchar(255) DEFAULT NULL,
+  question_text text NOT NULL,
+  question_type varchar(255) DEFAULT NULL,
+  answer text,
+  score decimal(38,2) DEFAULT NULL,
+  strengths json DEFAULT NULL,
+  improvements json DEFAULT NULL,
+  suggestion text,
+  question_order int DEFAULT NULL,
+  created_at datetime(6) NOT NULL,
+  updated_at datetime(6) DEFAULT NULL,
+  deleted_at datetime(6) DEFAULT NULL,
+  is_deleted bit(1) NOT NULL,
+  PRIMARY KEY (question_id),
+  CONSTRAINT fk_interview_questions_interview FOREIGN KEY (interview_id) REFERENCES interviews (interview_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE translation_requests (
+  translation_id bigint NOT NULL AUTO_INCREMENT,
+  user_id bigint NOT NULL,
+  source_language varchar(10) NOT NULL,
+  target_language varchar(10) NOT NULL,
+  source_text text NOT NULL,
+  translated_text text,
+  document_type varchar(50) DEFAULT NULL,
+  status enum('COMPLETED','FAILED','IN_PROGRESS','PENDING') NOT NULL,
+  error_message text,
+  processed_at datetime(6) DEFAULT NULL,
+  character_count int DEFAULT NULL,
+  cost double DEFAULT NULL,
+  created_at datetime(6) NOT NULL,
+  updated_at datetime(6) DEFAULT NULL,
+  deleted_at datetime(6) DEFAULT NULL,
+  is_deleted bit(1) NOT NULL,
+  PRIMARY KEY (translation_id),
+  CONSTRAINT fk_translation_requests_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- ---------------------------------------------------------------------
+-- 대시보드 (증명서/지표)
+-- ---------------------------------------------------------------------
+CREATE TABLE certificate_requests (
+  id bigint NOT NULL AUTO_INCREMENT,
+  user_id bigint NOT NULL,
+  certificate_type enum('ATTENDANCE_CERTIFICATE','COMPLETION_CERTIFICATE','COURSE_COMPLETION_CERTIFICATE','ENROLLMENT_CERTIFICATE','TRANSCRIPT','VACATION_REQUEST') NOT NULL,
+  status enum('APPROVED','COMPLETED','PENDING','REJECTED') NOT NULL,
+  purpose varchar(255) NOT NULL,
+  admin_notes varchar(255) DEFAULT NULL,
+  created_at datetime(6) DEFAULT NULL,
+  updated_at datetime(6) DEFAULT NULL,
+  processed_at datetime(6) DEFAULT NULL,
+  PRIMARY KEY (id),
+  CONSTRAINT fk_certificate_requests_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE system_metrics (
+  id bigint NOT NULL AUTO_INCREMENT,
+  metric_date date NOT NULL,
+  metric_type enum('API_CALLS','DAILY_ACTIVE_USERS','ERROR_COUNT','LOGIN_COUNT','SIGNUP_COUNT') NOT NULL,
+  metric_value bigint NOT NULL,
+  description varchar(255) DEFAULT NULL,
+  created_at datetime(6) DEFAULT NULL,
+  PRIMARY KEY (id),
+  UNIQUE KEY uk_system_metrics_date_type (metric_date, metric_type)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- ---------------------------------------------------------------------
+-- 결제
+-- ---------------------------------------------------------------------
+CREATE TABLE subscriptions (
+  subscription_id bigint NOT NULL AUTO_INCREMENT,
+  user_id bigint NOT NULL,
+  plan_type enum('FREE_ACADEMY','PAID_MONTHLY') NOT NULL,
+  status enum('ACTIVE','CANCELLED','EXPIRED') NOT NULL,
+  start_date datetime(6) NOT NULL,
+  end_date datetime(6) NOT NULL,
+  amount decimal(10,2) DEFAULT NULL,
+  payment_method varchar(50) DEFAULT NULL,
+  kakao_tid varchar(255) DEFAULT NULL,
+  academy_name varchar(255) DEFAULT NULL,
+  academy_email varchar(255) DEFAULT NULL,
+  academy_verified bit(1) NOT NULL,
+  order_id varchar(255) DEFAULT NULL,
+  created_at datetime(6) NOT NULL,
+  updated_at datetime(6) DEFAULT NULL,
+  deleted_at datetime(6) DEFAULT NULL,
+  is_deleted bit(1) NOT NULL,
+  PRIMARY KEY (subscription_id),
+  CONSTRAINT fk_subscriptions_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- ---------------------------------------------------------------------
+-- 고객지원
+-- ---------------------------------------------------------------------
+CREATE TABLE support_faqs (
+  faq_id bigint NOT NULL AUTO_INCREMENT,
+  question varchar(500) NOT NULL,
+  answer text NOT NULL,
+  category varchar(50) NOT NULL,
+  view_count int NOT NULL,
+  helpful_count int NOT NULL,
+  display_order int NOT NULL,
+  is_active bit(1) NOT NULL,
+  created_at datetime(6) NOT NULL,
+  updated_at datetime(6) DEFAULT NULL,
+  deleted_at datetime(6) DEFAULT NULL,
+  is_deleted bit(1) NOT NULL,
+  PRIMARY KEY (faq_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE support_tickets (
+  ticket_id bigint NOT NULL AUTO_INCREMENT,
+  user_id bigint NOT NULL,
+  assigned_admin_id bigint DEFAULT NULL,
+  title varchar(200) NOT NULL,
+  description text NOT NULL,
+  category varchar(50) NOT NULL,
+  priority enum('HIGH','LOW','MEDIUM','URGENT') NOT NULL,
+  status enum('CLOSED','IN_PROGRESS','OPEN','RESOLVED') NOT NULL,
+  resolved_at datetime(6) DEFAULT NULL,
+  closed_at datetime(6) DEFAULT NULL,
+  first_response_at datetime(6) DEFAULT NULL,
+  last_activity_at datetime(6) NOT NULL,
+  satisfaction_rating int DEFAULT NULL,
+  satisfaction_feedback text,
+  created_at datetime(6) NOT NULL,
+  updated_at datetime(6) DEFAULT NULL,
+  deleted_at datetime(6) DEFAULT NULL,
+  is_deleted bit(1) NOT NULL,
+  PRIMARY KEY (ticket_id),
+  CONSTRAINT fk_support_tickets_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+  CONSTRAINT fk_support_tickets_assigned_admin FOREIGN KEY (assigned_admin_id) REFERENCES users (user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE support_messages (
+  message_id bigint NOT NULL AUTO_INCREMENT,
+  ticket_id bigint NOT NULL,
+  sender_id bigint NOT NULL,
+  message_content text NOT NULL,
+  is_from_admin bit(1) NOT NULL,
+  attachment_url varchar(500) DEFAULT NULL,
+  is_internal_note bit(1) NOT NULL,
+  created_at datetime(6) NOT NULL,
+  updated_at datetime(6) DEFAULT NULL,
+  deleted_at datetime(6) DEFAULT NULL,
+  is_deleted bit(1) NOT NULL,
+  PRIMARY KEY (message_id),
+  CONSTRAINT fk_support_messages_ticket FOREIGN KEY (ticket_id) REFERENCES support_tickets (ticket_id),
+  CONSTRAINT fk_support_messages_sender FOREIGN KEY (sender_id) REFERENCES users (user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- ---------------------------------------------------------------------
+-- 웹메일
+-- ---------------------------------------------------------------------
+CREATE TABLE email_history (
+  id bigint NOT NULL AUTO_INCREMENT,
+  user_id bigint NOT NULL,
+  sender_email varchar(255) NOT NULL,
+  sender_name varchar(255) DEFAULT NULL,
+  recipient_email varchar(255) NOT NULL,
+  subject varchar(200) NOT NULL,
+  content text NOT NULL,
+  original_content text,
+  translated_content text,
+  was_translated bit(1) NOT NULL,
+  source_language varchar(10) DEFAULT NULL,
+  target_language varchar(10) DEFAULT NULL,
+  document_type varchar(50) DEFAULT NULL,
+  sendgrid_message_id varchar(255) DEFAULT NULL,
+  status enum('BOUNCED','CLICKED','DELIVERED','FAILED','OPENED','PENDING','SENT') NOT NULL,
+  created_at datetime(6) NOT NULL,
+  updated_at datetime(6) DEFAULT NULL,
+  deleted_at datetime(6) DEFAULT NULL,
+  is_deleted bit(1) NOT NULL,
+  PRIMARY KEY (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
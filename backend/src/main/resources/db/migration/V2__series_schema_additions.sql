@@ -0,0 +1,140 @@
+-- V1 기준선(Flyway 도입 이전 스키마) 이후 엔티티에 추가된 테이블/컬럼/인덱스
+-- baseline-on-migrate 로 V1 을 기준선으로 기록한 기존 DB 는 이 버전부터 실제로 적용됩니다.
+
+-- ---------------------------------------------------------------------
+-- 커뮤니티
+-- ---------------------------------------------------------------------
+-- 댓글 스레드 위치 (기존 댓글의 root_comment_id/path 는 CommentThreadPositionBackfill 이 채움)
+ALTER TABLE comments
+  ADD COLUMN root_comment_id bigint DEFAULT NULL AFTER parent_comment_id,
+  ADD COLUMN path varchar(500) DEFAULT NULL AFTER root_comment_id,
+  ADD KEY idx_comments_post_parent (post_id, parent_comment_id, comment_id),
+  ADD KEY idx_comments_root_path (root_comment_id, path);
+
+-- 게시글 좋아요 (사용자당 1회)
+CREATE TABLE post_likes (
+  post_like_id bigint NOT NULL AUTO_INCREMENT,
+  post_id bigint NOT NULL,
+  user_id bigint NOT NULL,
+  created_at datetime(6) NOT NULL,
+  PRIMARY KEY (post_like_id),
+  UNIQUE KEY uk_post_likes_post_user (post_id, user_id),
+  KEY idx_post_likes_user (user_id, post_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- ---------------------------------------------------------------------
+-- 채용
+-- ---------------------------------------------------------------------
+-- 채용공고-기술 스택 매핑 (추천 후보 조회용)
+CREATE TABLE job_posting_skills (
+  job_id bigint NOT NULL,
+  skill_id bigint NOT NULL,
+  PRIMARY KEY (job_id, skill_id),
+  KEY idx_job_posting_skills_skill (skill_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 지원자 랭킹 점수와 낙관적 락 버전 (기존 지원서는 버전 0 에서 시작)
+ALTER TABLE job_applications
+  ADD COLUMN ranking_score int DEFAULT NULL AFTER final_decision_at,
+  ADD COLUMN version bigint NOT NULL DEFAULT 0 AFTER ranking_score,
+  ADD KEY idx_job_applications_job_score (job_id, ranking_score, application_id);
+
+-- 채용공고별 상태 카운터 (기존 지원서로 초기값을 채우고 이후 JobApplicationCounterReconciler 가 보정)
+CREATE TABLE job_application_status_counts (
+  job_id bigint NOT NULL,
+  status enum('DOCUMENT_PASSED','HIRED','INTERVIEW_PASSED','INTERVIEW_SCHEDULED','REJECTED','REVIEWED','SUBMITTED','WITHDRAWN') NOT NULL,
+  status_count bigint NOT NULL,
+  PRIMARY KEY (job_id, status)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO job_application_status_counts (job_id, status, status_count)
+SELECT job_id, status, COUNT(*) FROM job_applications GROUP BY job_id, status;
+
+-- ---------------------------------------------------------------------
+-- AI (면접/챗봇)
+-- ---------------------------------------------------------------------
+-- 답변 평가 중 상태
+ALTER TABLE interviews
+  MODIFY status enum('CANCELLED','COMPLETED','EVALUATING','IN_PROGRESS') NOT NULL;
+
+-- 면접 질문 뱅크와 사용자별 제공 이력
+CREATE TABLE interview_bank_questions (
+  bank_question_id bigint NOT NULL AUTO_INCREMENT,
+  position_key varchar(100) NOT NULL,
+  interview_type varchar(20) NOT NULL,
+  difficulty varchar(20) NOT NULL,
+  question_text text NOT NULL,
+  question_hash varchar(64) NOT NULL,
+  category varchar(50) DEFAULT NULL,
+  expected_keywords text,
+  created_at datetime(6) NOT NULL,
+  PRIMARY KEY (bank_question_id),
+  UNIQUE KEY uk_bank_question_pool_hash (position_key, interview_type, question_hash),
+  KEY idx_bank_question_pool (position_key, interview_type, difficulty)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE interview_bank_deliveries (
+  delivery_id bigint NOT NULL AUTO_INCREMENT,
+  user_id bigint NOT NULL,
+  bank_question_id bigint NOT NULL,
+  delivered_at datetime(6) NOT NULL,
+  PRIMARY KEY (delivery_id),
+  UNIQUE KEY uk_bank_delivery_user_question (user_id, bank_question_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 챗봇 대화 요약
+CREATE TABLE chat_conversation_summaries (
+  summary_id bigint NOT NULL AUTO_INCREMENT,
+  session_key varchar(255) NOT NULL,
+  summary text NOT NULL,
+  summarized_turns int NOT NULL,
+  created_at datetime(6) NOT NULL,
+  updated_at datetime(6) DEFAULT NULL,
+  deleted_at datetime(6) DEFAULT NULL,
+  is_deleted bit(1) NOT NULL,
+  PRIMARY KEY (summary_id),
+  UNIQUE KEY uk_chat_summary_session (session_key)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- ---------------------------------------------------------------------
+-- 대시보드 (증명서)
+-- ---------------------------------------------------------------------
+-- 처리 선점과 발급 문서 키, 목록 조회 인덱스
+ALTER TABLE certificate_requests
+  ADD COLUMN claimed_by bigint DEFAULT NULL AFTER processed_at,
+  ADD COLUMN claimed_at datetime(6) DEFAULT NULL AFTER claimed_by,
+  ADD COLUMN document_key varchar(64) DEFAULT NULL AFTER claimed_at,
+  ADD KEY idx_certificate_requests_status_created (status, created_at, id),
+  ADD KEY idx_certificate_requests_user_created (user_id, created_at, id);
+
+-- 상태별 요청 수 카운터 (기존 요청으로 초기값을 채우고 이후 CertificateRequestCounterService.reconcile 이 보정)
+CREATE TABLE certificate_request_status_counts (
+  status enum('APPROVED','COMPLETED','PENDING','REJECTED') NOT NULL,
+  request_count bigint NOT NULL,
+  PRIMARY KEY (status)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO certificate_request_status_counts (status, request_count)
+SELECT status, COUNT(*) FROM certificate_requests GROUP BY status;
+
+-- 증명서 일괄 발급 작업 (진행률 조회용)
+CREATE TABLE certificate_issuance_jobs (
+  id bigint NOT NULL AUTO_INCREMENT,
+  requested_by bigint NOT NULL,
+  status enum('COMPLETED','FAILED','QUEUED','RUNNING') NOT NULL,
+  total_count int NOT NULL,
+  completed_count int NOT NULL,
+  failed_count int NOT NULL,
+  created_at datetime(6) DEFAULT NULL,
+  started_at datetime(6) DEFAULT NULL,
+  finished_at datetime(6) DEFAULT NULL,
+  PRIMARY KEY (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- ---------------------------------------------------------------------
+-- 결제
+-- ---------------------------------------------------------------------
+-- 환불 상태와 만료 처리 배치 인덱스
+ALTER TABLE subscriptions
+  MODIFY status enum('ACTIVE','CANCELLED','EXPIRED','REFUNDED') NOT NULL,
+  ADD KEY idx_subscriptions_status_end_date (status, end_date, subscription_id);
@@ -0,0 +1,38 @@
+-- 조회 빈도가 높은 리포지토리 쿼리의 WHERE/ORDER BY 형태에 맞춘 복합 인덱스
+-- 각 인덱스는 엔티티 @Table(indexes) 에도 같은 이름으로 선언되어 있으며 QueryPlanTest 가 실행 계획을 검증합니다.
+
+-- JobPostingRepository.findByFilters / findByStatus / countByStatus (status = ? ORDER BY created_at DESC)
+CREATE INDEX idx_job_postings_status_created ON job_postings (status, created_at, job_id);
+-- findDeadlineApproachingJobPostings / findByStatusAndDeadlineDateBefore (status = ? AND deadline_date 범위)
+CREATE INDEX idx_job_postings_status_deadline ON job_postings (status, deadline_date);
+-- findByCompanyUserOrderByCreatedAtDesc / countByCompanyUser
+CREATE INDEX idx_job_postings_company_created ON job_postings (company_user_id, created_at);
+-- countByCreatedAtAfter
+CREATE INDEX idx_job_postings_created ON job_postings (created_at);
+
+-- PostRepository.findSummaries (is_deleted = false ORDER BY created_at DESC, post_id DESC)
+CREATE INDEX idx_posts_deleted_created ON posts (is_deleted, created_at, post_id);
+-- findSummariesByCategoryId / countByCategoryAndIsDeletedFalse
+CREATE INDEX idx_posts_category_deleted_created ON posts (category_id, is_deleted, created_at, post_id);
+
+-- JobApplicationRepository.findByStatus / countByStatus
+CREATE INDEX idx_job_applications_status_created ON job_applications (status, created_at);
+-- findByUserWithDetails (user_id = ? ORDER BY created_at DESC)
+CREATE INDEX idx_job_applications_user_created ON job_applications (user_id, created_at);
+-- findByJobPostingAndStatus / countByJobPostingIdsGroupByStatus
+CREATE INDEX idx_job_applications_job_status ON job_applications (job_id, status);
+
+-- SupportTicketRepository.findByStatusOrderByCreatedAtDesc / countByStatus
+CREATE INDEX idx_support_tickets_status_created ON support_tickets (status, created_at);
+-- findByUserOrderByCreatedAtDesc / findByUser_IdOrderByCreatedAtDesc
+CREATE INDEX idx_support_tickets_user_created ON support_tickets (user_id, created_at);
+
+-- EmailHistoryRepository.findByUserIdOrderByCreatedAtDesc / findByUserIdAndCreatedAtBetween
+CREATE INDEX idx_email_history_user_created ON email_history (user_id, created_at);
+
+-- UserRepository.findByOauthProviderAndOauthId (OAuth 로그인마다 호출)
+CREATE INDEX idx_users_oauth ON users (oauth_provider, oauth_id);
+-- countActiveUsersByType / findActiveUsersByType / countByUserType
+CREATE INDEX idx_users_type_active ON users (user_type, is_deleted, is_active);
+-- countAllNewUsersFromDate / countNewUsersByTypeFromDate
+CREATE INDEX idx_users_created ON users (created_at);
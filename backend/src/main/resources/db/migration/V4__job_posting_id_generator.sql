@@ -0,0 +1,13 @@
+-- 채용공고 ID 를 IDENTITY 에서 pooled 테이블 생성기로 전환 (일괄 등록 시 JDBC 배치 INSERT 가능)
+-- JobPosting @TableGenerator(allocationSize = 100) 과 값을 맞춥니다.
+-- pooled 최적화기는 읽은 값 v 에 대해 (v - 100, v] 구간을 사용하므로 기존 최대 ID + 100 으로 초기화합니다.
+-- job_id 의 AUTO_INCREMENT 속성은 외래 키 참조 때문에 그대로 두며, 애플리케이션은 항상 ID 를 지정해 INSERT 합니다.
+
+CREATE TABLE id_generators (
+  sequence_name varchar(255) NOT NULL,
+  next_val bigint DEFAULT NULL,
+  PRIMARY KEY (sequence_name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'job_postings', COALESCE(MAX(job_id), 0) + 100 FROM job_postings;
@@ -0,0 +1,15 @@
+-- 학원 수강생 계정 일괄 생성 작업 (진행률 조회용)
+CREATE TABLE cohort_provisioning_jobs (
+  id bigint NOT NULL AUTO_INCREMENT,
+  requested_by bigint NOT NULL,
+  academy_name varchar(255) NOT NULL,
+  status enum('COMPLETED','FAILED','QUEUED','RUNNING') NOT NULL,
+  total_count int NOT NULL,
+  created_count int NOT NULL,
+  skipped_count int NOT NULL,
+  failed_count int NOT NULL,
+  created_at datetime(6) DEFAULT NULL,
+  started_at datetime(6) DEFAULT NULL,
+  finished_at datetime(6) DEFAULT NULL,
+  PRIMARY KEY (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
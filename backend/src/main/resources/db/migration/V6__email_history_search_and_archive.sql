@@ -0,0 +1,27 @@
+-- 보낸 메일 목록(EmailHistoryRepository.findSummaries*)을 인덱스만으로 처리하도록 키셋 (user_id, created_at, id) 뒤에
+-- 목록 컬럼을 덧붙인 커버링 인덱스로 교체합니다. 이름은 그대로 두어 엔티티 @Index 선언과 맞춥니다.
+DROP INDEX idx_email_history_user_created ON email_history;
+CREATE INDEX idx_email_history_user_created ON email_history
+  (user_id, created_at, id, was_translated, status, recipient_email, subject);
+
+-- 제목/본문 검색용 역색인 (EmailHistorySearchIndex, 사용자별 단어/한글 2-gram)
+-- 검색어는 소문자로 정규화해 저장하므로 이진 비교 콜레이션을 사용합니다 (악센트 등이 다른 검색어가 키 충돌하지 않도록).
+CREATE TABLE email_history_terms (
+  user_id bigint NOT NULL,
+  term varchar(50) NOT NULL,
+  email_history_id bigint NOT NULL,
+  PRIMARY KEY (user_id, term, email_history_id),
+  KEY idx_email_history_terms_email (email_history_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_bin;
+
+-- 보관 기간이 지난 이메일 이력 (EmailHistoryArchiver, payload 는 gzip 압축한 JSON)
+CREATE TABLE email_history_archive (
+  id bigint NOT NULL,
+  user_id bigint NOT NULL,
+  subject varchar(200) NOT NULL,
+  created_at datetime(6) NOT NULL,
+  archived_at datetime(6) NOT NULL,
+  payload longblob NOT NULL,
+  PRIMARY KEY (id),
+  KEY idx_email_history_archive_user_created (user_id, created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,3 @@
+-- 카카오페이 결제 준비 후 승인 전까지의 구독 상태 (권한 없음, 환불 불가)
+ALTER TABLE subscriptions
+  MODIFY status enum('ACTIVE','CANCELLED','EXPIRED','PENDING','REFUNDED') NOT NULL;
@@ -0,0 +1,112 @@
+package org.jbd.backend.ai.client;
+
+import com.sun.net.httpserver.HttpServer;
+import org.jbd.backend.ai.config.AIServiceConfig;
+import org.jbd.backend.ai.dto.ChatbotDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 지연된 청크를 내보내는 로컬 스텁 서버로 스트리밍 중계를 검증합니다.
+ */
+@DisplayName("AI 챗봇 스트리밍 클라이언트 테스트")
+class AIServiceClientStreamTest {
+
+    private static final long CHUNK_DELAY_MS = 200;
+
+    private HttpServer server;
+    private AIServiceClient client;
+    private final AtomicReference<String> receivedBody = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/v1/chatbot/chat/stream", exchange -> {
+            receivedBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            if (receivedBody.get().contains("\"message\":\"fail\"")) {
+                exchange.sendResponseHeaders(503, -1);
+                exchange.close();
+                return;
+            }
+            byte[] hangul = "요".getBytes(StandardCharsets.UTF_8);
+            List<byte[]> chunks = List.of(
+                    "안녕하세".getBytes(StandardCharsets.UTF_8),
+                    // 멀티바이트 문자를 청크 경계에서 자름
+                    new byte[]{hangul[0]},
+                    new byte[]{hangul[1], hangul[2]},
+                    "! 무엇을".getBytes(StandardCharsets.UTF_8),
+                    " 도와드릴까요?".getBytes(StandardCharsets.UTF_8));
+            exchange.getResponseHeaders().add("Content-Type", "text/plain; charset=utf-8");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream body = exchange.getResponseBody()) {
+                for (byte[] chunk : chunks) {
+                    body.write(chunk);
+                    body.flush();
+                    Thread.sleep(CHUNK_DELAY_MS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        server.start();
+
+        AIServiceConfig config = new AIServiceConfig();
+        ReflectionTestUtils.setField(config, "aiServiceBaseUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+        client = new AIServiceClient(new RestTemplate(), config, WebClient.builder().build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("첫 청크는 전체 응답이 끝나기 전에 도착하고 잘린 문자도 올바르게 복원된다")
+    void relaysChunksAsTheyArrive() {
+        ChatbotDto.ChatRequest request = new ChatbotDto.ChatRequest("user@test.com", "안녕");
+        request.setSummary("- Q: 면접 준비 / A: 예상 질문 정리");
+        request.setHistory(List.of(new ChatbotDto.HistoryMessage("user", "이전 질문")));
+
+        long startedAt = System.nanoTime();
+        List<Long> arrivals = new ArrayList<>();
+        List<String> chunks = client.streamChat(request)
+                .doOnNext(chunk -> arrivals.add(System.nanoTime() - startedAt))
+                .collectList()
+                .block(Duration.ofSeconds(10));
+        long totalNanos = System.nanoTime() - startedAt;
+
+        assertThat(String.join("", chunks)).isEqualTo("안녕하세요! 무엇을 도와드릴까요?");
+        assertThat(chunks).doesNotContain("�");
+        assertThat(chunks.size()).isGreaterThan(1);
+        // 첫 청크는 나머지 청크 지연(최소 3회분)보다 훨씬 먼저 도착해야 함
+        assertThat(totalNanos - arrivals.get(0)).isGreaterThan(Duration.ofMillis(CHUNK_DELAY_MS * 3).toNanos());
+        assertThat(receivedBody.get()).contains("\"summary\"", "\"history\"", "이전 질문", "\"user_id\":\"user@test.com\"");
+    }
+
+    @Test
+    @DisplayName("맥락이 없으면 history/summary 필드를 보내지 않고, 업스트림 오류는 스트림 오류로 전달된다")
+    void omitsEmptyContextAndPropagatesUpstreamErrors() {
+        assertThatThrownBy(() -> client.streamChat(new ChatbotDto.ChatRequest("user@test.com", "fail"))
+                .collectList()
+                .block(Duration.ofSeconds(10)))
+                .isInstanceOf(WebClientResponseException.class);
+        assertThat(receivedBody.get()).doesNotContain("history", "summary");
+    }
+}
@@ -3,6 +3,9 @@ package org.jbd.backend.ai.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.jbd.backend.ai.dto.ChatbotDto;
 import org.jbd.backend.ai.service.AIChatbotService;
+import org.jbd.backend.auth.service.UserPrincipal;
+import org.jbd.backend.common.security.UserSnapshot;
+import org.jbd.backend.user.domain.enums.UserType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,12 +14,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -33,6 +38,7 @@ class AIChatbotControllerTest {
 
     private MockMvc mockMvc;
     private ObjectMapper objectMapper;
+    private UsernamePasswordAuthenticationToken authentication;
 
     @BeforeEach
     void setUp() {
@@ -41,13 +47,17 @@ class AIChatbotControllerTest {
                 .defaultResponseCharacterEncoding(java.nio.charset.StandardCharsets.UTF_8)
                 .build();
         objectMapper = new ObjectMapper();
+
+        UserPrincipal principal = new UserPrincipal(
+                new UserSnapshot(7L, "test@example.com", UserType.GENERAL, true, false));
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
     }
 
     @Test
     @DisplayName("챗봇과 대화하기")
     void 챗봇과_대화하기() throws Exception {
         // given
-        String userEmail = "test@example.com";
+        String sessionKey = "user:7";
         String message = "안녕하세요";
         
         AIChatbotController.ChatRequest request = new AIChatbotController.ChatRequest();
@@ -60,11 +70,11 @@ class AIChatbotControllerTest {
             true, "응답 성공", chatData
         );
 
-        given(aiChatbotService.processChat(userEmail, message)).willReturn(expectedResponse);
+        given(aiChatbotService.processChat(sessionKey, message)).willReturn(expectedResponse);
 
         // when & then
         mockMvc.perform(post("/api/ai/chatbot/chat")
-                        .header("X-User-Email", userEmail)
+                        .principal(authentication)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
@@ -72,14 +82,14 @@ class AIChatbotControllerTest {
                 .andExpect(jsonPath("$.data.response").value("안녕하세요! 어떻게 도와드릴까요?"))
                 .andExpect(jsonPath("$.data.category").value("greeting"));
 
-        verify(aiChatbotService).processChat(userEmail, message);
+        verify(aiChatbotService).processChat(sessionKey, message);
     }
 
     @Test
     @DisplayName("빠른 응답 조회")
     void 빠른_응답_조회() throws Exception {
         // given
-        String userEmail = "test@example.com";
+        String sessionKey = "user:7";
         String category = "회원가입";
         
         AIChatbotController.QuickResponseRequest request = new AIChatbotController.QuickResponseRequest();
@@ -92,11 +102,11 @@ class AIChatbotControllerTest {
             true, "빠른 응답", chatData
         );
 
-        given(aiChatbotService.getQuickResponse(userEmail, category)).willReturn(expectedResponse);
+        given(aiChatbotService.getQuickResponse(sessionKey, category)).willReturn(expectedResponse);
 
         // when & then
         mockMvc.perform(post("/api/ai/chatbot/quick-response")
-                        .header("X-User-Email", userEmail)
+                        .principal(authentication)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
@@ -104,22 +114,35 @@ class AIChatbotControllerTest {
                 .andExpect(jsonPath("$.data.response").value("회원가입은 이메일로 가능합니다."))
                 .andExpect(jsonPath("$.data.category").value("account"));
 
-        verify(aiChatbotService).getQuickResponse(userEmail, category);
+        verify(aiChatbotService).getQuickResponse(sessionKey, category);
     }
 
     @Test
     @DisplayName("채팅 히스토리 삭제")
     void 채팅_히스토리_삭제() throws Exception {
         // given
-        String userEmail = "test@example.com";
+        String sessionKey = "user:7";
 
         // when & then
         mockMvc.perform(delete("/api/ai/chatbot/history")
-                        .header("X-User-Email", userEmail))
+                        .principal(authentication))
                 .andExpect(status().isOk());
                 // Note: 인코딩 이슈로 인해 content 검증은 스킵
 
-        verify(aiChatbotService).clearChatHistory(userEmail);
+        verify(aiChatbotService).clearChatHistory(sessionKey);
+    }
+
+    @Test
+    @DisplayName("채팅 히스토리 삭제 - 헤더의 이메일이 아닌 인증 사용자 기준")
+    void 채팅_히스토리_삭제_헤더_무시() throws Exception {
+        // when & then
+        mockMvc.perform(delete("/api/ai/chatbot/history")
+                        .principal(authentication)
+                        .header("X-User-Email", "victim@example.com"))
+                .andExpect(status().isOk());
+
+        verify(aiChatbotService).clearChatHistory("user:7");
+        verify(aiChatbotService, never()).clearChatHistory("victim@example.com");
     }
 
     @Test
@@ -6,10 +6,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -23,6 +26,9 @@ class AIChatbotServiceTest {
     @Mock
     private AIServiceClient aiServiceClient;
 
+    @Mock
+    private ChatConversationStore conversationStore;
+
     @InjectMocks
     private AIChatbotService aiChatbotService;
 
@@ -48,7 +54,8 @@ class AIChatbotServiceTest {
         String userId = "test@example.com";
         String message = "안녕하세요";
         
-        given(aiServiceClient.chatWithBot(userId, message)).willReturn(successResponse);
+        given(conversationStore.context(userId)).willReturn(new ChatConversationStore.Context(null, List.of()));
+        given(aiServiceClient.chatWithBot(any(ChatbotDto.ChatRequest.class))).willReturn(successResponse);
 
         // when
         ChatbotDto.ChatResponse result = aiChatbotService.processChat(userId, message);
@@ -57,7 +64,31 @@ class AIChatbotServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.isSuccess()).isTrue();
         assertThat(result.getData().getResponse()).contains("안녕하세요");
-        verify(aiServiceClient).chatWithBot(userId, message);
+        verify(aiServiceClient).chatWithBot(any(ChatbotDto.ChatRequest.class));
+        verify(conversationStore).append(userId, message, chatData.getResponse());
+    }
+
+    @Test
+    @DisplayName("이전 대화 맥락을 함께 전달")
+    void 이전_대화_맥락을_함께_전달() {
+        // given
+        String userId = "test@example.com";
+        List<ChatbotDto.HistoryMessage> history = List.of(
+            new ChatbotDto.HistoryMessage("user", "자소서 첨삭 가능한가요?"),
+            new ChatbotDto.HistoryMessage("assistant", "네, 가능합니다.")
+        );
+        given(conversationStore.context(userId)).willReturn(new ChatConversationStore.Context("- Q: 회원가입 / A: 안내", history));
+        given(aiServiceClient.chatWithBot(any(ChatbotDto.ChatRequest.class))).willReturn(successResponse);
+
+        // when
+        aiChatbotService.processChat(userId, "  어떻게 하나요?  ");
+
+        // then
+        ArgumentCaptor<ChatbotDto.ChatRequest> captor = ArgumentCaptor.forClass(ChatbotDto.ChatRequest.class);
+        verify(aiServiceClient).chatWithBot(captor.capture());
+        assertThat(captor.getValue().getMessage()).isEqualTo("어떻게 하나요?");
+        assertThat(captor.getValue().getHistory()).isEqualTo(history);
+        assertThat(captor.getValue().getSummary()).contains("회원가입");
     }
 
     @Test
@@ -149,9 +180,10 @@ class AIChatbotServiceTest {
         // given
         String userId = "test@example.com";
 
-        // when & then (예외 발생하지 않음을 확인)
+        // when
         aiChatbotService.clearChatHistory(userId);
-        
-        // 현재는 로깅만 수행하므로 예외가 발생하지 않으면 성공
+
+        // then
+        verify(conversationStore).clear(userId);
     }
 }
\ No newline at end of file
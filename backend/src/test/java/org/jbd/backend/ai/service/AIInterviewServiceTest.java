@@ -2,6 +2,7 @@ package org.jbd.backend.ai.service;
 
 import org.jbd.backend.ai.client.AIServiceClient;
 import org.jbd.backend.ai.dto.InterviewDto;
+import org.jbd.backend.job.service.ApplicantRankingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,6 +26,12 @@ class AIInterviewServiceTest {
     @Mock
     private AIServiceClient aiServiceClient;
 
+    @Mock
+    private InterviewQuestionBank questionBank;
+
+    @Mock
+    private ApplicantRankingService rankingService;
+
     @InjectMocks
     private AIInterviewService aiInterviewService;
 
@@ -79,7 +86,7 @@ class AIInterviewServiceTest {
         String interviewType = "technical";
         int count = 5;
         
-        given(aiServiceClient.generateInterviewQuestions(position, interviewType, count))
+        given(questionBank.getQuestions(null, position, interviewType, null, count))
             .willReturn(successQuestionsResponse);
 
         // when
@@ -91,7 +98,7 @@ class AIInterviewServiceTest {
         assertThat(result.isSuccess()).isTrue();
         assertThat(result.getData()).isNotNull();
         assertThat(result.getData().getQuestions()).hasSize(2);
-        verify(aiServiceClient).generateInterviewQuestions(position, interviewType, count);
+        verify(questionBank).getQuestions(null, position, interviewType, null, count);
     }
 
     @Test
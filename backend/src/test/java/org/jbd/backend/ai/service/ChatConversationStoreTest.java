@@ -0,0 +1,135 @@
+package org.jbd.backend.ai.service;
+
+import org.jbd.backend.ai.domain.ChatConversationSummary;
+import org.jbd.backend.ai.dto.ChatbotDto;
+import org.jbd.backend.ai.repository.ChatConversationSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("챗봇 대화 기억 저장소 테스트")
+class ChatConversationStoreTest {
+
+    private static final String SESSION = "user@test.com";
+
+    @Autowired
+    private ChatConversationSummaryRepository summaryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ChatConversationStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = newStore(4, 200);
+    }
+
+    @Test
+    @DisplayName("턴 수 한도를 넘은 오래된 턴은 요약으로 접혀 저장된다")
+    void foldsOldTurnsIntoPersistedSummary() {
+        for (int i = 1; i <= 6; i++) {
+            store.append(SESSION, "질문" + i, "답변" + i);
+        }
+
+        ChatConversationStore.Context context = store.context(SESSION);
+
+        assertThat(context.history()).hasSize(8);
+        assertThat(context.history().get(0)).isEqualTo(new ChatbotDto.HistoryMessage("user", "질문3"));
+        assertThat(context.summary()).contains("질문1", "질문2").doesNotContain("질문3");
+        ChatConversationSummary saved = summaryRepository.findBySessionKey(SESSION).orElseThrow();
+        assertThat(saved.getSummarizedTurns()).isEqualTo(2);
+        assertThat(saved.getSummary()).isEqualTo(context.summary());
+    }
+
+    @Test
+    @DisplayName("토큰 예산을 넘으면 턴 수 한도 이전에도 요약으로 이동하고 요약도 예산 안으로 유지된다")
+    void keepsHotTurnsAndSummaryWithinTokenBudget() {
+        String longAnswer = "가".repeat(150);
+        for (int i = 1; i <= 20; i++) {
+            store.append(SESSION, "질문" + i, longAnswer);
+        }
+
+        ChatConversationStore.Context context = store.context(SESSION);
+        int hotTokens = context.history().stream()
+                .mapToInt(message -> ChatConversationStore.estimateTokens(message.getContent()))
+                .sum();
+
+        assertThat(context.history()).hasSize(2);
+        assertThat(hotTokens).isLessThanOrEqualTo(200);
+        assertThat(ChatConversationStore.estimateTokens(context.summary())).isLessThanOrEqualTo(400);
+        assertThat(context.summary()).contains("질문19").doesNotContain("질문1 ");
+        assertThat(summaryRepository.findBySessionKey(SESSION).orElseThrow().getSummarizedTurns()).isEqualTo(19);
+    }
+
+    @Test
+    @DisplayName("내려간 세션은 남은 턴까지 요약에 접히고 다시 적재하면 저장된 요약을 이어받는다")
+    void evictedSessionReloadsSummary() {
+        store.append(SESSION, "연봉 협상 팁", "희망 연봉 근거를 준비하세요");
+        store.evict(SESSION);
+
+        assertThat(store.getHotSessionCount()).isZero();
+
+        ChatConversationStore restarted = newStore(4, 200);
+        ChatConversationStore.Context context = restarted.context(SESSION);
+
+        assertThat(context.history()).isEmpty();
+        assertThat(context.summary()).contains("연봉 협상 팁");
+    }
+
+    @Test
+    @DisplayName("세션 수 한도를 넘으면 가장 오래 사용하지 않은 세션부터 내린다")
+    void evictsLeastRecentlyUsedSessionsOverLimit() {
+        ChatConversationStore limited = new ChatConversationStore(summaryRepository, transactionManager, 4, 200, 400, 30, 2);
+
+        limited.append("a@test.com", "질문", "답변");
+        limited.append("b@test.com", "질문", "답변");
+        limited.context("a@test.com");
+        limited.append("c@test.com", "질문", "답변");
+
+        assertThat(limited.getHotSessionCount()).isEqualTo(2);
+        assertThat(summaryRepository.findBySessionKey("b@test.com")).isPresent();
+        assertThat(summaryRepository.findBySessionKey("a@test.com")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("유휴 세션은 남은 턴을 요약에 접어 저장한 뒤 메모리에서 내린다")
+    void evictsIdleSessions() {
+        ChatConversationStore idle = new ChatConversationStore(summaryRepository, transactionManager, 4, 200, 400, 0, 1000);
+        idle.append("a@test.com", "질문", "답변");
+        idle.append("b@test.com", "질문", "답변");
+
+        idle.evictIdle();
+
+        assertThat(idle.getHotSessionCount()).isZero();
+        assertThat(summaryRepository.findBySessionKey("a@test.com")).isPresent();
+        assertThat(summaryRepository.findBySessionKey("b@test.com")).isPresent();
+    }
+
+    @Test
+    @DisplayName("히스토리 삭제 시 메모리와 저장된 요약이 모두 사라진다")
+    void clearRemovesMemoryAndSummary() {
+        for (int i = 0; i < 6; i++) {
+            store.append(SESSION, "질문" + i, "답변" + i);
+        }
+
+        store.clear(SESSION);
+
+        assertThat(summaryRepository.findBySessionKey(SESSION)).isEmpty();
+        ChatConversationStore.Context context = store.context(SESSION);
+        assertThat(context.history()).isEmpty();
+        assertThat(context.summary()).isNull();
+    }
+
+    private ChatConversationStore newStore(int maxTurns, int tokenBudget) {
+        return new ChatConversationStore(summaryRepository, transactionManager, maxTurns, tokenBudget, 400, 30, 1000);
+    }
+}
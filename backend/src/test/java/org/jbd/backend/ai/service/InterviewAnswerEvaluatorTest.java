@@ -0,0 +1,165 @@
+package org.jbd.backend.ai.service;
+
+import org.jbd.backend.ai.client.AIServiceClient;
+import org.jbd.backend.ai.domain.Interview;
+import org.jbd.backend.ai.domain.InterviewQuestion;
+import org.jbd.backend.ai.domain.InterviewStatus;
+import org.jbd.backend.ai.dto.InterviewDto;
+import org.jbd.backend.ai.repository.InterviewQuestionRepository;
+import org.jbd.backend.ai.repository.InterviewRepository;
+import org.jbd.backend.job.service.ApplicantRankingService;
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.jbd.backend.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 300ms 지연 스텁으로 20문항 면접의 일괄 평가 시간과 중단 후 재개를 검증합니다.
+ * 평가 작업 스레드가 커밋된 데이터를 읽어야 하므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("면접 답변 일괄 평가 테스트")
+class InterviewAnswerEvaluatorTest {
+
+    private static final int QUESTIONS = 20;
+    private static final long LATENCY_MS = 300;
+
+    @Autowired
+    private InterviewRepository interviewRepository;
+
+    @Autowired
+    private InterviewQuestionRepository questionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final AIServiceClient aiServiceClient = mock(AIServiceClient.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final Map<String, AtomicInteger> completedEvaluations = new ConcurrentHashMap<>();
+
+    private Interview interview;
+
+    @BeforeEach
+    void setUp() {
+        given(aiServiceClient.evaluateAnswer(anyString(), anyString(), anyString())).willAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(LATENCY_MS);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            completedEvaluations.computeIfAbsent(invocation.getArgument(0), key -> new AtomicInteger()).incrementAndGet();
+            return new InterviewDto.EvaluateAnswerResponse(true, "평가 완료",
+                    new InterviewDto.EvaluationData(80, "구체적인 사례가 좋습니다", List.of("구체성"), List.of("간결성"), 0.7));
+        });
+
+        User user = userRepository.save(new User("candidate@test.com", "password", UserType.GENERAL));
+        Interview created = new Interview(user, "백엔드 개발자", "technical", "junior");
+        for (int i = 1; i <= QUESTIONS; i++) {
+            InterviewQuestion question = new InterviewQuestion(created, "q" + i, "질문 " + i, "technical");
+            question.setQuestionOrder(i);
+            question.setAnswer("질문 " + i + "에 대한 충분히 긴 답변입니다.");
+            created.addQuestion(question);
+        }
+        created.setStatus(InterviewStatus.EVALUATING);
+        interview = interviewRepository.save(created);
+    }
+
+    @AfterEach
+    void tearDown() {
+        questionRepository.deleteAllInBatch();
+        interviewRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("20문항을 동시 실행 한도 안에서 병렬 평가해 순차 호출보다 빠르게 완료한다")
+    void evaluatesTwentyAnswersConcurrently() {
+        InterviewAnswerEvaluator evaluator = newEvaluator(8, 10_000);
+        try {
+            long startedAt = System.nanoTime();
+            Interview result = evaluator.evaluatePending(interview.getId());
+            long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+            // 순차 호출이면 20 × 300ms = 6초, 8개 동시 실행이면 3회분(약 0.9초)
+            assertThat(elapsedMs).isLessThan(QUESTIONS * LATENCY_MS / 3);
+            assertThat(maxInFlight.get()).isLessThanOrEqualTo(8);
+            assertThat(result.getStatus()).isEqualTo(InterviewStatus.COMPLETED);
+            assertThat(result.getOverallScore().doubleValue()).isEqualTo(80.0);
+            assertThat(result.getAnsweredQuestions()).isEqualTo(QUESTIONS);
+            assertThat(scoredCount()).isEqualTo(QUESTIONS);
+        } finally {
+            evaluator.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("기한 안에 끝난 점수는 저장되고, 재개 시 남은 답변만 평가한다")
+    void resumesOnlyUnscoredAnswersAfterDeadline() {
+        InterviewAnswerEvaluator slow = newEvaluator(2, 700);
+        Interview partial;
+        try {
+            partial = slow.evaluatePending(interview.getId());
+        } finally {
+            slow.shutdown();
+        }
+
+        int scoredBeforeResume = scoredCount();
+        assertThat(partial.getStatus()).isEqualTo(InterviewStatus.EVALUATING);
+        assertThat(scoredBeforeResume).isBetween(2, QUESTIONS - 1);
+
+        InterviewAnswerEvaluator resumed = newEvaluator(8, 10_000);
+        try {
+            resumed.resumePending();
+        } finally {
+            resumed.shutdown();
+        }
+
+        assertThat(scoredCount()).isEqualTo(QUESTIONS);
+        assertThat(interviewRepository.findById(interview.getId()).orElseThrow().getStatus())
+                .isEqualTo(InterviewStatus.COMPLETED);
+        // 저장까지 끝난 답변은 다시 평가하지 않음
+        assertThat(completedEvaluations.values()).allMatch(count -> count.get() == 1);
+        assertThat(completedEvaluations).hasSizeGreaterThanOrEqualTo(QUESTIONS);
+    }
+
+    private InterviewAnswerEvaluator newEvaluator(int concurrency, long deadlineMs) {
+        return new InterviewAnswerEvaluator(aiServiceClient, interviewRepository, questionRepository,
+                mock(ApplicantRankingService.class), transactionManager, concurrency, deadlineMs, 1440);
+    }
+
+    private int scoredCount() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM interview_questions WHERE interview_id = ? AND score IS NOT NULL",
+                Integer.class, interview.getId());
+    }
+}
@@ -0,0 +1,168 @@
+package org.jbd.backend.ai.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jbd.backend.ai.client.AIServiceClient;
+import org.jbd.backend.ai.dto.InterviewDto;
+import org.jbd.backend.ai.repository.InterviewBankQuestionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 비동기 보충 작업이 커밋된 풀을 읽어야 하므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("면접 질문 은행 테스트")
+class InterviewQuestionBankTest {
+
+    private static final String POSITION = "백엔드 개발자";
+    private static final String POSITION_KEY = "백엔드 개발자";
+    private static final String TYPE = "technical";
+    private static final int MAX_POOL = 30;
+
+    @Autowired
+    private InterviewBankQuestionRepository questionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final AIServiceClient aiServiceClient = mock(AIServiceClient.class);
+    private final AtomicInteger generatedSequence = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private InterviewQuestionBank questionBank;
+
+    @BeforeEach
+    void setUp() {
+        given(aiServiceClient.generateInterviewQuestions(anyString(), anyString(), anyInt())).willAnswer(invocation -> {
+            int count = invocation.getArgument(2);
+            List<InterviewDto.Question> questions = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                int n = generatedSequence.incrementAndGet();
+                questions.add(new InterviewDto.Question("생성 질문 #" + n, "technical",
+                        n % 2 == 0 ? "hard" : "easy", List.of("키워드" + n, "설계")));
+            }
+            return new InterviewDto.GenerateQuestionsResponse(true, "질문 생성 성공",
+                    new InterviewDto.QuestionsData(questions, invocation.getArgument(0), invocation.getArgument(1), 3.5));
+        });
+        meterRegistry = new SimpleMeterRegistry();
+        questionBank = new InterviewQuestionBank(aiServiceClient, questionRepository, jdbcTemplate, meterRegistry,
+                5, 10, MAX_POOL, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        questionBank.shutdown();
+        jdbcTemplate.update("DELETE FROM interview_bank_deliveries");
+        questionRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("첫 요청만 AI를 호출하고 보충된 풀에서 사용자별 중복 없이 제공한다")
+    void servesFromPoolWithoutRepeatingPerUser() throws Exception {
+        Set<String> seenByFirstUser = new HashSet<>();
+
+        seenByFirstUser.addAll(texts(questionBank.getQuestions(1L, POSITION, TYPE, null, 5)));
+        awaitTrue(() -> questionRepository.countPool(POSITION_KEY, TYPE) >= 15);
+
+        List<String> secondDraw = texts(questionBank.getQuestions(1L, POSITION, TYPE, null, 5));
+        List<String> otherUserDraw = texts(questionBank.getQuestions(2L, POSITION, TYPE, null, 5));
+
+        assertThat(secondDraw).hasSize(5).doesNotContainAnyElementsOf(seenByFirstUser);
+        assertThat(otherUserDraw).hasSize(5).doesNotHaveDuplicates();
+        // 동기 호출(5개 생성)은 첫 요청 한 번뿐, 나머지는 보충 작업(10개 생성)
+        verify(aiServiceClient, times(1)).generateInterviewQuestions(POSITION, TYPE, 5);
+        assertThat(meterRegistry.get("ai.interview.question_bank.lookups").tag("result", "hit").counter().count())
+                .isEqualTo(2.0);
+        assertThat(questionBank.getHitRate()).isEqualTo(2.0 / 3.0);
+    }
+
+    @Test
+    @DisplayName("반복 요청에도 사용자에게 같은 질문을 다시 내지 않고 풀은 상한을 넘지 않는다")
+    void neverRepeatsAndRespectsPoolCap() {
+        List<String> served = new ArrayList<>();
+        for (int round = 0; round < 8; round++) {
+            served.addAll(texts(questionBank.getQuestions(7L, POSITION, TYPE, null, 5)));
+        }
+        questionBank.shutdown();
+
+        assertThat(served).hasSize(40).doesNotHaveDuplicates();
+        assertThat(questionRepository.countPool(POSITION_KEY, TYPE)).isLessThanOrEqualTo(MAX_POOL);
+    }
+
+    @Test
+    @DisplayName("풀이 부족할 때 AI가 이미 받은 질문을 다시 생성해도 제공하지 않고 제공한 질문은 모두 기록한다")
+    void dropsRegeneratedQuestionsAlreadyDelivered() {
+        // given - AI가 항상 같은 5개 질문만 생성
+        List<InterviewDto.Question> fixed = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            fixed.add(new InterviewDto.Question("고정 질문 #" + i, "technical", "easy", List.of("설계")));
+        }
+        given(aiServiceClient.generateInterviewQuestions(anyString(), anyString(), anyInt())).willReturn(
+                new InterviewDto.GenerateQuestionsResponse(true, "질문 생성 성공",
+                        new InterviewDto.QuestionsData(fixed, POSITION, TYPE, 3.5)));
+        List<String> firstDraw = texts(questionBank.getQuestions(1L, POSITION, TYPE, null, 3));
+
+        // when - 미출제 질문이 2개뿐이라 다시 생성
+        List<String> secondDraw = texts(questionBank.getQuestions(1L, POSITION, TYPE, null, 3));
+
+        // then
+        assertThat(firstDraw).hasSize(3);
+        assertThat(secondDraw).hasSize(2).doesNotContainAnyElementsOf(firstDraw);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM interview_bank_deliveries WHERE user_id = 1", Long.class)).isEqualTo(5L);
+        assertThat(questionRepository.countPool(POSITION_KEY, TYPE)).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("난이도를 지정하면 해당 난이도 풀에서만 제공한다")
+    void filtersByDifficulty() throws Exception {
+        questionBank.getQuestions(1L, POSITION, TYPE, null, 5);
+        awaitTrue(() -> questionRepository.countPool(POSITION_KEY, TYPE) >= 15);
+
+        InterviewDto.GenerateQuestionsResponse response = questionBank.getQuestions(3L, POSITION, TYPE, "HARD", 3);
+
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.getData().getQuestions()).hasSize(3)
+                .allMatch(question -> question.getDifficulty().equals("hard"))
+                .allMatch(question -> question.getExpectedKeywords().contains("설계"));
+    }
+
+    private static List<String> texts(InterviewDto.GenerateQuestionsResponse response) {
+        return response.getData().getQuestions().stream().map(InterviewDto.Question::getQuestion).toList();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("condition not met within timeout");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package org.jbd.backend.auth.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.jbd.backend.auth.dto.OAuth2UserInfo;
+import org.jbd.backend.common.exception.BusinessException;
+import org.jbd.backend.common.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬에서 생성한 RSA 키와 JWKS 스텁 서버로 네트워크 없이 검증하는 테스트
+ */
+@DisplayName("GoogleIdTokenVerifier 테스트")
+class GoogleIdTokenVerifierTest {
+
+    private static final String CLIENT_ID = "test-client-id";
+    private static final String ISSUER = "https://accounts.google.com";
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    private final AtomicInteger fetchCount = new AtomicInteger();
+    private final Map<String, KeyPair> publishedKeys = new ConcurrentHashMap<>();
+    private volatile long responseDelayMillis;
+
+    private HttpServer server;
+    private GoogleIdTokenVerifier verifier;
+    private KeyPair key1;
+    private KeyPair key2;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        key1 = generator.generateKeyPair();
+        key2 = generator.generateKeyPair();
+        publishedKeys.put("key-1", key1);
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/certs", exchange -> {
+            fetchCount.incrementAndGet();
+            try {
+                Thread.sleep(responseDelayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = jwks().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Cache-Control", "public, max-age=600, must-revalidate, no-transform");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        verifier = new GoogleIdTokenVerifier(new ObjectMapper(), clock,
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/certs", CLIENT_ID,
+                3600, 60, 30_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("키를 한 번 받아온 뒤에는 네트워크 없이 검증한다")
+    void verifiesWithCachedKeys() {
+        // when
+        OAuth2UserInfo first = verifier.verify(token(key1, "key-1", CLIENT_ID, ISSUER, Duration.ofHours(1)));
+        OAuth2UserInfo second = verifier.verify(token(key1, "key-1", CLIENT_ID, "accounts.google.com", Duration.ofHours(1)));
+
+        // then
+        assertThat(first.getId()).isEqualTo("google-123");
+        assertThat(first.getEmail()).isEqualTo("user@gmail.com");
+        assertThat(first.getEmailVerified()).isTrue();
+        assertThat(second.getEmail()).isEqualTo("user@gmail.com");
+        assertThat(fetchCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Cache-Control max-age가 지나면 키를 다시 받아온다")
+    void refetchesAfterMaxAge() {
+        // given
+        verifier.verify(token(key1, "key-1", CLIENT_ID, ISSUER, Duration.ofHours(1)));
+
+        // when - 만료 임박(refresh-ahead) 전까지는 주기 작업도 요청하지 않음
+        clock.advance(Duration.ofSeconds(500));
+        verifier.refreshIfStale();
+        verifier.verify(token(key1, "key-1", CLIENT_ID, ISSUER, Duration.ofHours(1)));
+        assertThat(fetchCount).hasValue(1);
+
+        clock.advance(Duration.ofSeconds(101));
+        verifier.verify(token(key1, "key-1", CLIENT_ID, ISSUER, Duration.ofHours(1)));
+
+        // then
+        assertThat(fetchCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("주기 작업이 만료 전에 키를 미리 갱신한다")
+    void backgroundRefreshAhead() {
+        // given
+        verifier.refreshIfStale();
+        assertThat(fetchCount).hasValue(1);
+
+        // when
+        clock.advance(Duration.ofSeconds(545));
+        verifier.refreshIfStale();
+        verifier.verify(token(key1, "key-1", CLIENT_ID, ISSUER, Duration.ofHours(1)));
+
+        // then
+        assertThat(fetchCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("모르는 kid가 동시에 들어와도 키 조회는 한 번만 한다")
+    void refetchesOnceForUnknownKid() throws Exception {
+        // given
+        verifier.verify(token(key1, "key-1", CLIENT_ID, ISSUER, Duration.ofHours(1)));
+        publishedKeys.put("key-2", key2);
+        responseDelayMillis = 200;
+        clock.advance(Duration.ofSeconds(31));
+        String rotated = token(key2, "key-2", CLIENT_ID, ISSUER, Duration.ofHours(1));
+
+        // when
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<OAuth2UserInfo>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return verifier.verify(rotated);
+            }));
+        }
+        start.countDown();
+
+        // then
+        for (Future<OAuth2UserInfo> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS).getEmail()).isEqualTo("user@gmail.com");
+        }
+        executor.shutdown();
+        assertThat(fetchCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("잘못된 audience, 발급자, 만료, 미등록 키는 거부한다")
+    void rejectsInvalidTokens() {
+        assertThatThrownBy(() -> verifier.verify(token(key1, "key-1", "other-client", ISSUER, Duration.ofHours(1))))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_OAUTH2_TOKEN);
+        assertThatThrownBy(() -> verifier.verify(token(key1, "key-1", CLIENT_ID, "https://evil.example.com", Duration.ofHours(1))))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_OAUTH2_TOKEN);
+        assertThatThrownBy(() -> verifier.verify(token(key1, "key-1", CLIENT_ID, ISSUER, Duration.ofMinutes(-5))))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EXPIRED_OAUTH2_TOKEN);
+        // 서명 키와 kid가 맞지 않는 위조 토큰
+        assertThatThrownBy(() -> verifier.verify(token(key2, "key-1", CLIENT_ID, ISSUER, Duration.ofHours(1))))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_OAUTH2_TOKEN);
+        assertThatThrownBy(() -> verifier.verify(token(key2, "key-9", CLIENT_ID, ISSUER, Duration.ofHours(1))))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_OAUTH2_TOKEN);
+
+        // 최소 재조회 간격 안에서는 모르는 kid로 키 서버를 두드리지 않음
+        assertThat(fetchCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("키 서버 장애 시 기존 키로 계속 검증한다")
+    void keepsStaleKeysWhenServerIsDown() {
+        // given
+        verifier.verify(token(key1, "key-1", CLIENT_ID, ISSUER, Duration.ofHours(1)));
+        server.stop(0);
+
+        // when
+        clock.advance(Duration.ofSeconds(700));
+        OAuth2UserInfo userInfo = verifier.verify(token(key1, "key-1", CLIENT_ID, ISSUER, Duration.ofHours(1)));
+
+        // then
+        assertThat(userInfo.getEmail()).isEqualTo("user@gmail.com");
+    }
+
+    private String token(KeyPair keyPair, String kid, String audience, String issuer, Duration validFor) {
+        Instant now = clock.instant();
+        return Jwts.builder()
+                .setHeaderParam("kid", kid)
+                .setIssuer(issuer)
+                .setAudience(audience)
+                .setSubject("google-123")
+                .claim("email", "user@gmail.com")
+                .claim("email_verified", true)
+                .claim("name", "Test User")
+                .setIssuedAt(Date.from(now.minus(Duration.ofMinutes(10))))
+                .setExpiration(Date.from(now.plus(validFor)))
+                .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+    }
+
+    private String jwks() {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        StringJoiner keys = new StringJoiner(",", "{\"keys\":[", "]}");
+        publishedKeys.forEach((kid, keyPair) -> {
+            RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+            keys.add("{\"kty\":\"RSA\",\"alg\":\"RS256\",\"use\":\"sig\",\"kid\":\"" + kid + "\""
+                    + ",\"n\":\"" + encoder.encodeToString(publicKey.getModulus().toByteArray()) + "\""
+                    + ",\"e\":\"" + encoder.encodeToString(publicKey.getPublicExponent().toByteArray()) + "\"}");
+        });
+        return keys.toString();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        MutableClock(Instant start) {
+            this.instant = start;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.jbd.backend.auth.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.jbd.backend.auth.dto.AuthenticationResponse;
 import org.jbd.backend.auth.dto.OAuth2LoginRequest;
+import org.jbd.backend.auth.dto.OAuth2UserInfo;
 import org.jbd.backend.common.exception.BusinessException;
 import org.jbd.backend.common.exception.ErrorCode;
 import org.jbd.backend.user.domain.User;
@@ -14,8 +15,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.RestTemplate;
 
@@ -46,6 +45,9 @@ class OAuth2ServiceTest {
     @Mock
     private ObjectMapper objectMapper;
     
+    @Mock
+    private GoogleIdTokenVerifier idTokenVerifier;
+    
     @InjectMocks
     private OAuth2Service oauth2Service;
     
@@ -59,7 +61,7 @@ class OAuth2ServiceTest {
         
         OAuth2LoginRequest request = new OAuth2LoginRequest(idToken);
         
-        // Mock Google API response
+        // Mock locally verified ID token claims
         Map<String, Object> tokenInfo = new HashMap<>();
         tokenInfo.put("aud", clientId);
         tokenInfo.put("exp", String.valueOf(System.currentTimeMillis() / 1000 + 3600));
@@ -68,8 +70,7 @@ class OAuth2ServiceTest {
         tokenInfo.put("picture", "https://example.com/photo.jpg");
         tokenInfo.put("email_verified", true);
         
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(tokenInfo, HttpStatus.OK);
-        given(restTemplate.getForEntity(anyString(), eq(Map.class))).willReturn(responseEntity);
+        given(idTokenVerifier.verify(idToken)).willReturn(new OAuth2UserInfo(tokenInfo));
         
         given(userRepository.findByEmailAndIsDeletedFalse("newuser@gmail.com")).willReturn(Optional.empty());
         
@@ -101,7 +102,7 @@ class OAuth2ServiceTest {
         
         OAuth2LoginRequest request = new OAuth2LoginRequest(idToken);
         
-        // Mock Google API response
+        // Mock locally verified ID token claims
         Map<String, Object> tokenInfo = new HashMap<>();
         tokenInfo.put("aud", clientId);
         tokenInfo.put("exp", String.valueOf(System.currentTimeMillis() / 1000 + 3600));
@@ -110,8 +111,7 @@ class OAuth2ServiceTest {
         tokenInfo.put("picture", "https://example.com/newphoto.jpg");
         tokenInfo.put("email_verified", true);
         
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(tokenInfo, HttpStatus.OK);
-        given(restTemplate.getForEntity(anyString(), eq(Map.class))).willReturn(responseEntity);
+        given(idTokenVerifier.verify(idToken)).willReturn(new OAuth2UserInfo(tokenInfo));
         
         User existingUser = new User("existing@gmail.com", "password", "Old User", UserType.GENERAL);
         existingUser.setId(1L);
@@ -139,8 +139,7 @@ class OAuth2ServiceTest {
         String invalidToken = "invalid.token";
         OAuth2LoginRequest request = new OAuth2LoginRequest(invalidToken);
         
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(HttpStatus.BAD_REQUEST);
-        given(restTemplate.getForEntity(anyString(), eq(Map.class))).willReturn(responseEntity);
+        given(idTokenVerifier.verify(invalidToken)).willThrow(new BusinessException(ErrorCode.INVALID_OAUTH2_TOKEN));
         
         // when & then
         assertThatThrownBy(() -> oauth2Service.authenticateWithGoogle(request))
@@ -158,14 +157,13 @@ class OAuth2ServiceTest {
         
         OAuth2LoginRequest request = new OAuth2LoginRequest(idToken);
         
-        // Mock Google API response with wrong audience
+        // Mock locally verified ID token claims with wrong audience
         Map<String, Object> tokenInfo = new HashMap<>();
         tokenInfo.put("aud", "wrong-client-id");
         tokenInfo.put("exp", String.valueOf(System.currentTimeMillis() / 1000 + 3600));
         tokenInfo.put("email", "user@gmail.com");
         
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(tokenInfo, HttpStatus.OK);
-        given(restTemplate.getForEntity(anyString(), eq(Map.class))).willReturn(responseEntity);
+        given(idTokenVerifier.verify(idToken)).willThrow(new BusinessException(ErrorCode.INVALID_OAUTH2_TOKEN));
         
         // when & then
         assertThatThrownBy(() -> oauth2Service.authenticateWithGoogle(request))
@@ -183,14 +181,13 @@ class OAuth2ServiceTest {
         
         OAuth2LoginRequest request = new OAuth2LoginRequest(idToken);
         
-        // Mock Google API response with expired token
+        // Mock locally verified ID token claims with expired token
         Map<String, Object> tokenInfo = new HashMap<>();
         tokenInfo.put("aud", clientId);
         tokenInfo.put("exp", String.valueOf(System.currentTimeMillis() / 1000 - 3600)); // Expired 1 hour ago
         tokenInfo.put("email", "user@gmail.com");
         
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(tokenInfo, HttpStatus.OK);
-        given(restTemplate.getForEntity(anyString(), eq(Map.class))).willReturn(responseEntity);
+        given(idTokenVerifier.verify(idToken)).willThrow(new BusinessException(ErrorCode.EXPIRED_OAUTH2_TOKEN));
         
         // when & then
         assertThatThrownBy(() -> oauth2Service.authenticateWithGoogle(request))
@@ -208,14 +205,13 @@ class OAuth2ServiceTest {
         
         OAuth2LoginRequest request = new OAuth2LoginRequest(idToken);
         
-        // Mock Google API response without email
+        // Mock locally verified ID token claims without email
         Map<String, Object> tokenInfo = new HashMap<>();
         tokenInfo.put("aud", clientId);
         tokenInfo.put("exp", String.valueOf(System.currentTimeMillis() / 1000 + 3600));
         tokenInfo.put("name", "User Name");
         
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(tokenInfo, HttpStatus.OK);
-        given(restTemplate.getForEntity(anyString(), eq(Map.class))).willReturn(responseEntity);
+        given(idTokenVerifier.verify(idToken)).willReturn(new OAuth2UserInfo(tokenInfo));
         
         // when & then
         assertThatThrownBy(() -> oauth2Service.authenticateWithGoogle(request))
@@ -0,0 +1,160 @@
+package org.jbd.backend.common.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 H2 두 개를 주 DB/복제본으로 두고 라우팅을 검증합니다.
+ * 각 DB 의 node 테이블에 자기 이름을 넣어 두어 어느 쪽에서 조회했는지 확인합니다.
+ */
+@DisplayName("ReadWriteRoutingDataSource 테스트")
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "select seconds as Seconds_Behind_Source from replica_lag";
+
+    private DataSource primary;
+    private DataSource replica;
+    private MeterRegistry meterRegistry;
+    private ReplicaHealthMonitor replicaHealth;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primary = embedded("primary");
+        replica = embedded("replica");
+        new JdbcTemplate(replica).execute("create table replica_lag (seconds bigint)");
+        new JdbcTemplate(replica).update("insert into replica_lag values (0)");
+
+        meterRegistry = new SimpleMeterRegistry();
+        replicaHealth = new ReplicaHealthMonitor(replica, LAG_QUERY, "Seconds_Behind_Source", 5, meterRegistry);
+        routing(replica);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션과 트랜잭션 밖 조회는 주 DB를 사용한다")
+    void routesByTransactionReadOnlyFlag() {
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+        assertThat(readWrite.execute(status -> currentNode())).isEqualTo("primary");
+        assertThat(currentNode()).isEqualTo("primary");
+
+        assertThat(routedCount("replica", "read-only")).isEqualTo(1);
+        assertThat(routedCount("primary", "read-write")).isEqualTo(1);
+        assertThat(routedCount("primary", "no-transaction")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 요청에서 쓰기 이후의 읽기는 주 DB에 고정된다")
+    void pinsRequestToPrimaryAfterWrite() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("insert into node values ('written')"));
+
+        assertThat(readOnly.execute(status -> jdbcTemplate.queryForObject(
+                "select count(*) from node where name = 'written'", Integer.class))).isEqualTo(1);
+        assertThat(routedCount("primary", "pinned")).isEqualTo(1);
+
+        // 다음 요청은 다시 복제본을 사용
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 주 DB로 보내고 회복되면 다시 복제본을 사용한다")
+    void fallsBackWhileReplicaLags() {
+        new JdbcTemplate(replica).update("update replica_lag set seconds = 30");
+        replicaHealth.check();
+
+        assertThat(replicaHealth.isAvailable()).isFalse();
+        assertThat(meterRegistry.get("jbd.datasource.replica.lag").gauge().value()).isEqualTo(30);
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary");
+        assertThat(routedCount("primary", "replica-unavailable")).isEqualTo(1);
+
+        new JdbcTemplate(replica).update("update replica_lag set seconds = 1");
+        replicaHealth.check();
+
+        assertThat(replicaHealth.isAvailable()).isTrue();
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("복제가 중지되면 복제본을 사용하지 않는다")
+    void stopsUsingReplicaWhenReplicationStops() {
+        new JdbcTemplate(replica).update("update replica_lag set seconds = null");
+        replicaHealth.check();
+
+        assertThat(replicaHealth.isAvailable()).isFalse();
+        assertThat(meterRegistry.get("jbd.datasource.replica.available").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("복제본 커넥션을 얻지 못하면 주 DB로 넘어가고 복제본을 사용 불가로 표시한다")
+    void failsOverWhenReplicaIsDown() {
+        DataSource down = new DriverManagerDataSource("jdbc:h2:mem:missing-" + UUID.randomUUID() + ";IFEXISTS=TRUE", "sa", "");
+        meterRegistry = new SimpleMeterRegistry();
+        replicaHealth = new ReplicaHealthMonitor(down, LAG_QUERY, "Seconds_Behind_Source", 5, meterRegistry);
+        routing(down);
+
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary");
+        assertThat(replicaHealth.isAvailable()).isFalse();
+        assertThat(routedCount("primary", "replica-failover")).isEqualTo(1);
+
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary");
+        assertThat(routedCount("primary", "replica-unavailable")).isEqualTo(1);
+    }
+
+    private void routing(DataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replicaDataSource, replicaHealth, meterRegistry));
+        // 기본 커넥션 속성을 지정해 두지 않으면 프록시가 첫 사용 시 확인용 커넥션을 한 번 더 가져온다
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("select name from node where name <> 'written'", String.class);
+    }
+
+    private double routedCount(String target, String reason) {
+        return meterRegistry.get("jbd.datasource.routing").tag("target", target).tag("reason", reason).counter().count();
+    }
+
+    private static DataSource embedded(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table node (name varchar(20))");
+        jdbc.update("insert into node values (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,131 @@
+package org.jbd.backend.common.service;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.jbd.backend.auth.service.UserPrincipal;
+import org.jbd.backend.common.security.UserChangedEvent;
+import org.jbd.backend.common.security.UserSnapshotCache;
+import org.jbd.backend.job.domain.JobPosting;
+import org.jbd.backend.job.domain.enums.ExperienceLevel;
+import org.jbd.backend.job.domain.enums.JobType;
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PermissionService.class, UserSnapshotCache.class})
+@DisplayName("PermissionService 테스트")
+class PermissionServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PermissionService permissionService;
+
+    @Autowired
+    private UserSnapshotCache userSnapshotCache;
+
+    private User companyUser;
+    private User adminUser;
+    private User otherUser;
+    private JobPosting jobPosting;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        companyUser = entityManager.persist(new User("company@test.com", "password", UserType.COMPANY));
+        adminUser = entityManager.persist(new User("admin@test.com", "password", UserType.ADMIN));
+        otherUser = entityManager.persist(new User("other@test.com", "password", UserType.GENERAL));
+        jobPosting = entityManager.persist(new JobPosting(companyUser, "백엔드 개발자", "테스트기업",
+                "서울", JobType.FULL_TIME, ExperienceLevel.MID_LEVEL));
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("요청 주체의 권한 확인은 사용자를 다시 조회하지 않는다")
+    void currentPrincipalChecksIssueNoUserSelects() {
+        // given
+        authenticate(companyUser);
+        Long userId = companyUser.getId();
+
+        // when
+        boolean canEdit = permissionService.canEditJobPosting(userId, jobPosting);
+        boolean canManage = permissionService.canManageJobPosting(userId, jobPosting);
+        boolean canDelete = permissionService.canDeleteJobPosting(userId, jobPosting);
+        boolean isCompany = permissionService.isCompanyUser(userId);
+        boolean isAdmin = permissionService.isAdmin(userId);
+
+        // then
+        assertThat(canEdit).isTrue();
+        assertThat(canManage).isTrue();
+        assertThat(canDelete).isTrue();
+        assertThat(isCompany).isTrue();
+        assertThat(isAdmin).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 사용자 조회는 캐시되고 변경 이벤트 이후 다시 조회된다")
+    void otherUserLookupsAreCachedUntilInvalidated() {
+        // given
+        authenticate(otherUser);
+
+        // when / then
+        assertThat(permissionService.canEditJobPosting(otherUser.getId(), jobPosting)).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        assertThat(permissionService.isAdmin(adminUser.getId())).isTrue();
+        assertThat(permissionService.canManageJobPosting(adminUser.getId(), jobPosting)).isTrue();
+        assertThat(permissionService.canDeleteJobPosting(adminUser.getId(), jobPosting)).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        userSnapshotCache.onUserChanged(new UserChangedEvent(adminUser.getId()));
+        assertThat(permissionService.isAdmin(adminUser.getId())).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("비활성화된 계정은 작성자라도 권한이 없다")
+    void deactivatedPrincipalHasNoPermissions() {
+        // given
+        companyUser.deactivate();
+        authenticate(companyUser);
+
+        // when / then
+        assertThat(permissionService.canEditJobPosting(companyUser.getId(), jobPosting)).isFalse();
+        assertThat(permissionService.isCompanyUser(companyUser.getId())).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private void authenticate(User user) {
+        UserPrincipal principal = UserPrincipal.from(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
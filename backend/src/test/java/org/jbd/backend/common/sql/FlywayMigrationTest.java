@@ -0,0 +1,127 @@
+package org.jbd.backend.common.sql;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션과 엔티티 매핑 일치 검증
+ *
+ * 다른 테스트는 H2 에서 엔티티 매핑으로 스키마를 만들기 때문에 마이그레이션을 실행하지 않습니다.
+ * 여기서는 MySQL 컨테이너에 V1 부터 전체 마이그레이션을 적용한 뒤 ddl-auto=validate 로 컨텍스트를 띄우고,
+ * README 의 기존 DB 전환 경로(V1 스키마 위에서 baseline-on-migrate)도 같은 스키마에 도달하는지 확인합니다.
+ * Docker 를 사용할 수 없는 환경에서는 건너뜁니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Flyway 마이그레이션 검증 테스트")
+class FlywayMigrationTest {
+
+    private static final String FRESH_SCHEMA = "jbd";
+    private static final String UPGRADE_SCHEMA = "jbd_upgrade";
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName(FRESH_SCHEMA)
+            .withUsername("root")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.MySQLDialect");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+    }
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("빈 DB 에 전체 마이그레이션을 적용하면 엔티티 매핑 검증을 통과한다")
+    void freshInstallMatchesEntities() {
+        // given/when: 컨텍스트 기동 시 Flyway 적용 후 Hibernate validate 통과
+
+        // then
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().applied()).hasSameSizeAs(flyway.info().all());
+    }
+
+    @Test
+    @DisplayName("V1 스키마를 기준선으로 삼은 기존 DB 도 같은 스키마로 전환되고 기존 데이터가 보존된다")
+    void baselinedUpgradeReachesSameSchema() throws Exception {
+        // given: Flyway 도입 이전 스키마(V1)와 기존 데이터
+        jdbcTemplate.execute("DROP DATABASE IF EXISTS " + UPGRADE_SCHEMA);
+        jdbcTemplate.execute("CREATE DATABASE " + UPGRADE_SCHEMA + " CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci");
+        DriverManagerDataSource upgradeDataSource = new DriverManagerDataSource(
+                MYSQL.getJdbcUrl().replace("/" + FRESH_SCHEMA, "/" + UPGRADE_SCHEMA),
+                MYSQL.getUsername(), MYSQL.getPassword());
+        try (Connection connection = upgradeDataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/V1__baseline.sql"));
+        }
+        JdbcTemplate upgrade = new JdbcTemplate(upgradeDataSource);
+        upgrade.update("INSERT INTO users (user_id, email, user_type, is_active, email_verified, company_email_verified, " +
+                "created_at, is_deleted) VALUES (1, 'company@test.com', 'COMPANY', true, true, true, NOW(6), false)");
+        upgrade.update("INSERT INTO job_postings (job_id, company_user_id, title, company_name, location, job_type, " +
+                "experience_level, status, view_count, application_count, created_at, is_deleted) " +
+                "VALUES (10, 1, '백엔드 개발자', '테스트기업', '서울', 'FULL_TIME', 'MID_LEVEL', 'PUBLISHED', 0, 1, NOW(6), false)");
+        upgrade.update("INSERT INTO job_applications (application_id, user_id, job_id, status, applied_at, created_at, is_deleted) " +
+                "VALUES (100, 1, 10, 'SUBMITTED', NOW(6), NOW(6), false)");
+
+        // when
+        Flyway.configure()
+                .dataSource(upgradeDataSource)
+                .baselineOnMigrate(true)
+                .load()
+                .migrate();
+
+        // then
+        assertThat(upgrade.queryForObject(
+                "SELECT version FROM flyway_schema_history WHERE type = 'BASELINE'", String.class)).isEqualTo("1");
+        assertThat(schemaShape(UPGRADE_SCHEMA)).isEqualTo(schemaShape(FRESH_SCHEMA));
+        assertThat(upgrade.queryForObject(
+                "SELECT version FROM job_applications WHERE application_id = 100", Long.class)).isZero();
+        assertThat(upgrade.queryForObject(
+                "SELECT status_count FROM job_application_status_counts WHERE job_id = 10 AND status = 'SUBMITTED'",
+                Long.class)).isEqualTo(1L);
+    }
+
+    /** 컬럼 정의와 인덱스 구성 (Flyway 이력 테이블 제외) */
+    private List<String> schemaShape(String schema) {
+        List<String> shape = jdbcTemplate.queryForList(
+                "SELECT CONCAT_WS(' ', table_name, column_name, column_type, is_nullable) FROM information_schema.columns " +
+                "WHERE table_schema = ? AND table_name <> 'flyway_schema_history' ORDER BY table_name, column_name",
+                String.class, schema);
+        shape.addAll(jdbcTemplate.queryForList(
+                "SELECT CONCAT_WS(' ', table_name, index_name, seq_in_index, column_name) FROM information_schema.statistics " +
+                "WHERE table_schema = ? AND table_name <> 'flyway_schema_history' ORDER BY table_name, index_name, seq_in_index",
+                String.class, schema));
+        return shape;
+    }
+}
@@ -0,0 +1,160 @@
+package org.jbd.backend.common.sql;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jbd.backend.auth.config.JwtAuthenticationFilter;
+import org.jbd.backend.auth.service.JwtService;
+import org.jbd.backend.common.security.UserSnapshotCache;
+import org.jbd.backend.common.service.PermissionService;
+import org.jbd.backend.config.SqlStatementConfig;
+import org.jbd.backend.job.controller.JobPostingController;
+import org.jbd.backend.job.domain.JobPosting;
+import org.jbd.backend.job.domain.enums.ExperienceLevel;
+import org.jbd.backend.job.domain.enums.JobType;
+import org.jbd.backend.job.repository.JobApplicationRepository;
+import org.jbd.backend.job.repository.JobPostingRepository;
+import org.jbd.backend.job.service.JobApplicationCounterService;
+import org.jbd.backend.job.service.JobPostingImportService;
+import org.jbd.backend.job.service.JobPostingService;
+import org.jbd.backend.job.service.JobRecommendationService;
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.jbd.backend.user.repository.UserRepository;
+import org.jbd.backend.user.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 권한 확인 엔드포인트의 사용자 조회 SQL 예산
+ *
+ * JwtAuthenticationFilter → JobPostingController → PermissionService 경로를 실제 H2 조회로 검증합니다.
+ * 인증 필터가 사용자를 한 번 조회한 뒤에는 권한 확인이 사용자를 다시 조회하지 않아야 합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SqlStatementConfig.class, PermissionService.class, UserSnapshotCache.class})
+@DisplayName("채용공고 권한 확인 SQL 예산 테스트")
+class JobPostingPermissionSqlBudgetTest {
+
+    /** 인증 필터의 사용자 조회 한 번 */
+    private static final int AUTHENTICATION_USER_SELECTS = 1;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private PermissionService permissionService;
+
+    /** SqlStatementConfig 의 필터 등록용 (요청 집계는 아래 필터로 검증) */
+    @MockBean
+    private SqlStatementStats registeredStats;
+
+    private JwtService jwtService;
+    private MockMvc mockMvc;
+    private User companyUser;
+    private User otherCompanyUser;
+    private User adminUser;
+    private JobPosting jobPosting;
+
+    @BeforeEach
+    void setUp() {
+        companyUser = entityManager.persist(new User("company@test.com", "password", UserType.COMPANY));
+        otherCompanyUser = entityManager.persist(new User("other-company@test.com", "password", UserType.COMPANY));
+        adminUser = entityManager.persist(new User("admin@test.com", "password", UserType.ADMIN));
+        jobPosting = entityManager.persist(new JobPosting(companyUser, "백엔드 개발자", "테스트기업",
+                "서울", JobType.FULL_TIME, ExperienceLevel.MID_LEVEL));
+        entityManager.flush();
+        entityManager.clear();
+
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", "test-secret-key-for-jwt-should-be-at-least-256-bits-long-for-hs256-algorithm");
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 86400L);
+
+        JobPostingService jobPostingService = new JobPostingService(jobPostingRepository, jobApplicationRepository,
+                userRepository, mock(JobApplicationCounterService.class), mock(JobRecommendationService.class));
+        JobPostingController controller = new JobPostingController(jobPostingService,
+                mock(JobPostingImportService.class), mock(JobRecommendationService.class),
+                mock(UserService.class), jwtService, permissionService);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .addFilters(new SqlStatementFilter(new SqlStatementStats(new SimpleMeterRegistry()), 5),
+                        new JwtAuthenticationFilter(jwtService, userRepository))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("작성자의 마감 요청은 인증 외에 사용자를 다시 조회하지 않는다")
+    void ownerCloseIssuesNoExtraUserSelect() throws Exception {
+        MvcResult result = mockMvc.perform(post("/job-postings/{id}/close", jobPosting.getId())
+                        .header("Authorization", "Bearer " + jwtService.generateToken(companyUser)))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatementBudget.noRepeatedStatements(2))
+                .andReturn();
+
+        assertThat(userSelects(result)).isEqualTo(AUTHENTICATION_USER_SELECTS);
+    }
+
+    @Test
+    @DisplayName("관리자의 마감 요청은 인증 외에 사용자를 다시 조회하지 않는다")
+    void adminCloseIssuesNoExtraUserSelect() throws Exception {
+        MvcResult result = mockMvc.perform(post("/job-postings/{id}/close", jobPosting.getId())
+                        .header("Authorization", "Bearer " + jwtService.generateToken(adminUser)))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatementBudget.noRepeatedStatements(2))
+                .andReturn();
+
+        assertThat(userSelects(result)).isEqualTo(AUTHENTICATION_USER_SELECTS);
+    }
+
+    @Test
+    @DisplayName("권한이 없는 마감 요청도 인증 외에 사용자를 다시 조회하지 않는다")
+    void forbiddenCloseIssuesNoExtraUserSelect() throws Exception {
+        MvcResult result = mockMvc.perform(post("/job-postings/{id}/close", jobPosting.getId())
+                        .header("Authorization", "Bearer " + jwtService.generateToken(otherCompanyUser)))
+                .andExpect(status().isForbidden())
+                .andReturn();
+
+        assertThat(userSelects(result)).isEqualTo(AUTHENTICATION_USER_SELECTS);
+    }
+
+    private static int userSelects(MvcResult result) {
+        Object attribute = result.getRequest().getAttribute(SqlStatementRecorder.SCOPE_ATTRIBUTE);
+        assertThat(attribute).isInstanceOf(SqlStatementRecorder.Scope.class);
+        return ((SqlStatementRecorder.Scope) attribute).shapes().entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith("select") && entry.getKey().contains(" from users "))
+                .mapToInt(entry -> entry.getValue())
+                .sum();
+    }
+}
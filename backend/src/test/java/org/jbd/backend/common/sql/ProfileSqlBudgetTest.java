@@ -0,0 +1,133 @@
+package org.jbd.backend.common.sql;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jbd.backend.auth.service.JwtService;
+import org.jbd.backend.config.SqlStatementConfig;
+import org.jbd.backend.job.service.ApplicantRankingService;
+import org.jbd.backend.user.controller.ProfileController;
+import org.jbd.backend.user.domain.*;
+import org.jbd.backend.user.domain.enums.EducationLevel;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.jbd.backend.user.repository.*;
+import org.jbd.backend.user.service.ProfileService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 프로필 조회 엔드포인트의 SQL 문 예산
+ *
+ * SqlStatementFilter → SqlStatementStats → sqlstatements actuator 엔드포인트 경로를 실제 H2 조회로 검증합니다.
+ * 프로필 조회는 학력/기술/자격증/포트폴리오/경력 목록을 한 번씩만 읽어야 합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SqlStatementConfig.class)
+@DisplayName("프로필 조회 SQL 예산 테스트")
+class ProfileSqlBudgetTest {
+
+    private static final int PROFILE_SECTIONS = 5;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EducationRepository educationRepository;
+
+    @Autowired
+    private UserSkillRepository userSkillRepository;
+
+    @Autowired
+    private SkillMasterRepository skillMasterRepository;
+
+    @Autowired
+    private CertificationRepository certificationRepository;
+
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+
+    @Autowired
+    private CareerHistoryRepository careerHistoryRepository;
+
+    /** SqlStatementConfig 의 필터 등록용 (요청 집계는 아래 stats 로 검증) */
+    @MockBean
+    private SqlStatementStats registeredStats;
+
+    private SqlStatementStats stats;
+    private MockMvc mockMvc;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        User user = entityManager.persist(new User("profile@test.com", "password", UserType.GENERAL));
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(new Education(user, EducationLevel.BACHELOR, "대학교 " + i, "컴퓨터공학", 2020 + i));
+            entityManager.persist(new Certification(user, "자격증 " + i, "한국산업인력공단", LocalDate.of(2024, 1, 1 + i)));
+            entityManager.persist(new Portfolio(user, "포트폴리오 " + i, "설명 " + i));
+            entityManager.persist(new CareerHistory(user, "회사 " + i, "백엔드 개발자", LocalDate.of(2020 + i, 3, 1)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        JwtService jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", "test-secret-key-for-jwt-should-be-at-least-256-bits-long-for-hs256-algorithm");
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 86400L);
+        token = jwtService.generateToken(user);
+
+        ProfileService profileService = new ProfileService(userRepository, educationRepository, userSkillRepository,
+                skillMasterRepository, certificationRepository, portfolioRepository, careerHistoryRepository,
+                mock(ApplicantRankingService.class));
+        stats = new SqlStatementStats(new SimpleMeterRegistry());
+        mockMvc = MockMvcBuilders.standaloneSetup(new ProfileController(profileService, jwtService))
+                .addFilters(new SqlStatementFilter(stats, 5))
+                .build();
+    }
+
+    @Test
+    @DisplayName("프로필 조회는 섹션마다 한 번씩만 조회하고 엔드포인트 집계에 기록된다")
+    void getProfileStaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/profile").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatementBudget.atMost(PROFILE_SECTIONS))
+                .andExpect(SqlStatementBudget.noRepeatedStatements(2));
+
+        SqlStatementStats.EndpointSnapshot snapshot = new SqlStatementEndpoint(stats).endpoint("GET /profile");
+        assertThat(snapshot).isNotNull();
+        assertThat(snapshot.requests()).isEqualTo(1);
+        assertThat(snapshot.maxStatements()).isEqualTo(PROFILE_SECTIONS);
+        assertThat(snapshot.suspectRequests()).isZero();
+    }
+
+    @Test
+    @DisplayName("예산보다 많은 SQL 을 실행하면 요청 단위 검증이 실패한다")
+    void failsWhenRequestExceedsBudget() throws Exception {
+        var result = mockMvc.perform(get("/profile").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        assertThatThrownBy(() -> result.andExpect(SqlStatementBudget.atMost(PROFILE_SECTIONS - 1)))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("expected at most " + (PROFILE_SECTIONS - 1));
+    }
+}
@@ -0,0 +1,179 @@
+package org.jbd.backend.common.sql;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 빈도가 높은 리포지토리 쿼리의 실행 계획 검증
+ *
+ * 각 쿼리는 리포지토리 메서드가 생성하는 SQL 의 WHERE/ORDER BY 형태를 그대로 옮긴 것이며,
+ * H2(MySQL 모드) EXPLAIN 결과에 조건 없는 테이블/인덱스 전체 스캔이 있으면 실패합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("핫 쿼리 실행 계획 테스트")
+class QueryPlanTest {
+
+    private static final String INDEX_MIGRATION = "db/migration/V3__hot_query_indexes.sql";
+    private static final Pattern CREATE_INDEX = Pattern.compile("CREATE INDEX (\\w+) ON (\\w+)", Pattern.CASE_INSENSITIVE);
+    /** H2 EXPLAIN 의 테이블 접근 주석 (인덱스 이름 뒤에 조건이 없으면 전체 스캔) */
+    private static final Pattern TABLE_ACCESS = Pattern.compile("/\\* ([\\w.]+)(:[^*]*)? \\*/");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                Arguments.of("JobPostingRepository.findByFilters",
+                        "select j.job_id from job_postings j where j.status = 'PUBLISHED' and j.location like '%서울%' " +
+                        "order by j.created_at desc limit 20"),
+                Arguments.of("JobPostingRepository.countByStatus",
+                        "select count(j.job_id) from job_postings j where j.status = 'PUBLISHED'"),
+                Arguments.of("JobPostingRepository.findDeadlineApproachingJobPostings",
+                        "select j.job_id, u.email from job_postings j left join users u on u.user_id = j.company_user_id " +
+                        "where j.status = 'PUBLISHED' and j.deadline_date between DATE '2026-01-01' and DATE '2026-01-08' " +
+                        "order by j.deadline_date"),
+                Arguments.of("JobPostingRepository.findByStatusAndDeadlineDateBefore",
+                        "select j.job_id from job_postings j where j.status = 'PUBLISHED' and j.deadline_date < DATE '2026-01-01'"),
+                Arguments.of("JobPostingRepository.findByCompanyUserOrderByCreatedAtDesc",
+                        "select j.job_id from job_postings j where j.company_user_id = 1 order by j.created_at desc limit 5"),
+                Arguments.of("JobPostingRepository.countByCreatedAtAfter",
+                        "select count(j.job_id) from job_postings j where j.created_at > TIMESTAMP '2026-01-01 00:00:00'"),
+
+                Arguments.of("PostRepository.findSummaries",
+                        "select p.post_id, c.name, a.email from posts p " +
+                        "join categories c on c.category_id = p.category_id join users a on a.user_id = p.user_id " +
+                        "where p.is_deleted = false order by p.created_at desc, p.post_id desc limit 20"),
+                Arguments.of("PostRepository.findSummariesByCategoryId",
+                        "select p.post_id, c.name, a.email from posts p " +
+                        "join categories c on c.category_id = p.category_id join users a on a.user_id = p.user_id " +
+                        "where c.category_id = 1 and p.is_deleted = false order by p.created_at desc, p.post_id desc limit 20"),
+                Arguments.of("PostRepository.countByCategoryAndIsDeletedFalse",
+                        "select count(p.post_id) from posts p where p.category_id = 1 and p.is_deleted = false"),
+
+                Arguments.of("JobApplicationRepository.findByStatus",
+                        "select ja.application_id from job_applications ja where ja.status = 'SUBMITTED'"),
+                Arguments.of("JobApplicationRepository.countByStatus",
+                        "select count(ja.application_id) from job_applications ja where ja.status = 'SUBMITTED'"),
+                Arguments.of("JobApplicationRepository.findByUserWithDetails",
+                        "select ja.application_id, u.email, jp.title, cu.email from job_applications ja " +
+                        "left join users u on u.user_id = ja.user_id left join job_postings jp on jp.job_id = ja.job_id " +
+                        "left join users cu on cu.user_id = jp.company_user_id " +
+                        "where ja.user_id = 1 order by ja.created_at desc limit 10"),
+                Arguments.of("JobApplicationRepository.findByJobPostingAndStatus",
+                        "select ja.application_id from job_applications ja where ja.job_id = 1 and ja.status = 'SUBMITTED' limit 20"),
+                Arguments.of("JobApplicationRepository.countByJobPostingIdsGroupByStatus",
+                        "select ja.job_id, ja.status, count(ja.application_id) from job_applications ja " +
+                        "where ja.job_id in (1, 2, 3) group by ja.job_id, ja.status"),
+
+                Arguments.of("SupportTicketRepository.findByStatusOrderByCreatedAtDesc",
+                        "select t.ticket_id from support_tickets t where t.status = 'OPEN' order by t.created_at desc limit 10"),
+                Arguments.of("SupportTicketRepository.countByStatus",
+                        "select count(t.ticket_id) from support_tickets t where t.status = 'OPEN'"),
+                Arguments.of("SupportTicketRepository.findByUserOrderByCreatedAtDesc",
+                        "select t.ticket_id from support_tickets t where t.user_id = 1 order by t.created_at desc limit 10"),
+
+                Arguments.of("EmailHistoryRepository.findByUserIdOrderByCreatedAtDesc",
+                        "select e.id from email_history e where e.user_id = 1 order by e.created_at desc limit 20"),
+                Arguments.of("EmailHistoryRepository.findByUserIdAndCreatedAtBetween",
+                        "select e.id from email_history e where e.user_id = 1 " +
+                        "and e.created_at between TIMESTAMP '2026-01-01 00:00:00' and TIMESTAMP '2026-02-01 00:00:00' " +
+                        "order by e.created_at desc"),
+                Arguments.of("EmailHistoryRepository.findSummariesAfter",
+                        "select e.id, e.recipient_email, e.subject, e.status, e.was_translated, e.created_at " +
+                        "from email_history e where e.user_id = 1 and (e.created_at < TIMESTAMP '2026-01-01 00:00:00' " +
+                        "or (e.created_at = TIMESTAMP '2026-01-01 00:00:00' and e.id < 100)) " +
+                        "order by e.created_at desc, e.id desc limit 21"),
+                Arguments.of("EmailHistoryTermRepository.findMatchingIds",
+                        "select t.email_history_id from email_history_terms t " +
+                        "where t.user_id = 1 and t.term in ('면접', '일정') and t.email_history_id < 100 " +
+                        "group by t.email_history_id having count(t.term) = 2 order by t.email_history_id desc limit 21"),
+
+                Arguments.of("UserRepository.findByEmail",
+                        "select u.user_id from users u where u.email = 'user@test.com'"),
+                Arguments.of("UserRepository.findByOauthProviderAndOauthId",
+                        "select u.user_id from users u where u.oauth_provider = 'GOOGLE' and u.oauth_id = 'google-sub'"),
+                Arguments.of("UserRepository.countActiveUsersByType",
+                        "select count(u.user_id) from users u " +
+                        "where u.user_type = 'GENERAL' and u.is_deleted = false and u.is_active = true"),
+                Arguments.of("UserRepository.countAllNewUsersFromDate",
+                        "select count(u.user_id) from users u " +
+                        "where u.created_at >= TIMESTAMP '2026-01-01 00:00:00' and u.is_deleted = false")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    @DisplayName("핫 쿼리는 전체 스캔 없이 인덱스로 접근한다")
+    void hotQueriesUseIndexes(String repositoryMethod, String sql) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+
+        assertThat(fullScans(plan))
+                .as("%s 실행 계획에 전체 스캔이 있습니다%n%s", repositoryMethod, plan)
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("마이그레이션의 인덱스는 엔티티 매핑에도 선언되어 있다")
+    void migrationIndexesAreDeclaredOnEntities() throws Exception {
+        String migration = new ClassPathResource(INDEX_MIGRATION).getContentAsString(StandardCharsets.UTF_8);
+        Map<String, String> expected = new LinkedHashMap<>();
+        Matcher matcher = CREATE_INDEX.matcher(migration);
+        while (matcher.find()) {
+            expected.put(matcher.group(1).toLowerCase(Locale.ROOT), matcher.group(2).toLowerCase(Locale.ROOT));
+        }
+        assertThat(expected).isNotEmpty();
+
+        expected.forEach((index, table) ->
+                assertThat(indexNames(table)).as("%s.%s", table, index).contains(index));
+    }
+
+    private static List<String> fullScans(String plan) {
+        List<String> scans = new ArrayList<>();
+        Matcher matcher = TABLE_ACCESS.matcher(plan);
+        while (matcher.find()) {
+            String access = matcher.group(1);
+            if (access.toLowerCase(Locale.ROOT).endsWith(".tablescan") || matcher.group(2) == null) {
+                scans.add(access);
+            }
+        }
+        return scans;
+    }
+
+    private Set<String> indexNames(String table) {
+        return jdbcTemplate.execute((ConnectionCallback<Set<String>>) connection -> {
+            Set<String> names = new HashSet<>();
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet indexes = metaData.getIndexInfo(null, null, table, false, true)) {
+                while (indexes.next()) {
+                    String name = indexes.getString("INDEX_NAME");
+                    if (name != null) {
+                        names.add(name.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            return names;
+        });
+    }
+}
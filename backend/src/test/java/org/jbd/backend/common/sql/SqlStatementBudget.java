@@ -0,0 +1,87 @@
+package org.jbd.backend.common.sql;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * 테스트용 SQL 문 예산
+ *
+ * MockMvc 요청에는 ResultMatcher 로, 서비스/저장소 호출에는 블록으로 상한을 선언합니다.
+ * 예산을 넘으면 실행된 SQL shape 목록과 함께 실패합니다.
+ *
+ * <pre>
+ * mockMvc.perform(get("/api/posts"))
+ *         .andExpect(status().isOk())
+ *         .andExpect(SqlStatementBudget.atMost(3))
+ *         .andExpect(SqlStatementBudget.noRepeatedStatements(5));
+ *
+ * SqlStatementBudget.within(2, () -> postService.getPosts(pageable));
+ * </pre>
+ */
+public final class SqlStatementBudget {
+
+    private SqlStatementBudget() {
+    }
+
+    /**
+     * 요청 하나에서 실행된 SQL 문이 max 개 이하인지 검증
+     */
+    public static ResultMatcher atMost(int max) {
+        return result -> assertAtMost(max, scope(result.getRequest().getAttribute(SqlStatementRecorder.SCOPE_ATTRIBUTE)));
+    }
+
+    /**
+     * 같은 shape 의 SQL 이 threshold 번 이상 반복되지 않았는지 검증 (N+1)
+     */
+    public static ResultMatcher noRepeatedStatements(int threshold) {
+        return result -> assertNoRepeated(threshold, scope(result.getRequest().getAttribute(SqlStatementRecorder.SCOPE_ATTRIBUTE)));
+    }
+
+    /**
+     * 작업을 실행하고 SQL 문이 max 개 이하인지 검증
+     */
+    public static <T> T within(int max, Callable<T> work) throws Exception {
+        try (SqlStatementRecorder.Scope scope = SqlStatementRecorder.begin()) {
+            T result = work.call();
+            assertAtMost(max, scope);
+            return result;
+        }
+    }
+
+    /**
+     * 작업을 실행하고 기록 범위를 반환 (직접 검증할 때)
+     */
+    public static SqlStatementRecorder.Scope record(Runnable work) {
+        try (SqlStatementRecorder.Scope scope = SqlStatementRecorder.begin()) {
+            work.run();
+            return scope;
+        }
+    }
+
+    private static void assertAtMost(int max, SqlStatementRecorder.Scope scope) {
+        if (scope.statementCount() > max) {
+            throw new AssertionError("SQL statement budget exceeded: expected at most " + max
+                    + " but was " + scope.describe());
+        }
+    }
+
+    private static void assertNoRepeated(int threshold, SqlStatementRecorder.Scope scope) {
+        var repeated = scope.repeatedShapes(threshold);
+        if (!repeated.isEmpty()) {
+            StringBuilder message = new StringBuilder("Possible N+1: statements repeated " + threshold + "+ times");
+            for (Map.Entry<String, Integer> entry : repeated) {
+                message.append("\n  ").append(entry.getValue()).append(" x ").append(entry.getKey());
+            }
+            throw new AssertionError(message.toString());
+        }
+    }
+
+    private static SqlStatementRecorder.Scope scope(Object attribute) {
+        if (!(attribute instanceof SqlStatementRecorder.Scope scope)) {
+            throw new AssertionError("No SQL statement record on the request; is SqlStatementFilter registered?");
+        }
+        return scope;
+    }
+}
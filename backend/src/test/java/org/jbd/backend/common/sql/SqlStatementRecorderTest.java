@@ -0,0 +1,108 @@
+package org.jbd.backend.common.sql;
+
+import org.jbd.backend.community.domain.Category;
+import org.jbd.backend.community.domain.Post;
+import org.jbd.backend.community.repository.PostRepository;
+import org.jbd.backend.config.SqlStatementConfig;
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SqlStatementConfig.class)
+@DisplayName("SqlStatementRecorder 테스트")
+class SqlStatementRecorderTest {
+
+    private static final int POSTS = 6;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @MockBean
+    private SqlStatementStats stats;
+
+    @BeforeEach
+    void setUp() {
+        Category category = entityManager.persist(new Category("자유게시판", "자유롭게 이야기하는 공간"));
+        for (int i = 0; i < POSTS; i++) {
+            User author = entityManager.persist(new User("author" + i + "@test.com", "password", UserType.GENERAL));
+            entityManager.persist(new Post("제목 " + i, "내용 " + i, author, category));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("지연 로딩 반복을 같은 shape 으로 묶어 N+1 의심으로 찾는다")
+    void detectsRepeatedShapes() {
+        // when
+        SqlStatementRecorder.Scope scope = SqlStatementBudget.record(() ->
+                postRepository.findAll().forEach(post -> post.getAuthor().getEmail()));
+
+        // then - 게시글 1회 + 작성자 POSTS 회
+        assertThat(scope.statementCount()).isEqualTo(1 + POSTS);
+        List<Map.Entry<String, Integer>> repeated = scope.repeatedShapes(5);
+        assertThat(repeated).hasSize(1);
+        assertThat(repeated.get(0).getKey()).contains("from users");
+        assertThat(repeated.get(0).getValue()).isEqualTo(POSTS);
+        assertThat(SqlStatementRecorder.current()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("예산을 넘으면 실행된 SQL 목록과 함께 실패한다")
+    void failsWhenBudgetExceeded() throws Exception {
+        assertThat(SqlStatementBudget.within(1, () -> postRepository.findAll())).hasSize(POSTS);
+
+        entityManager.clear();
+        assertThatThrownBy(() -> SqlStatementBudget.within(3, () -> {
+            postRepository.findAll().forEach(post -> post.getAuthor().getEmail());
+            return null;
+        }))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("expected at most 3 but was " + (1 + POSTS) + " statements")
+                .hasMessageContaining(POSTS + " x select");
+    }
+
+    @Test
+    @DisplayName("중첩 범위의 SQL 은 바깥 범위에도 집계된다")
+    void nestedScopesAccumulate() {
+        try (SqlStatementRecorder.Scope outer = SqlStatementRecorder.begin()) {
+            postRepository.count();
+            SqlStatementRecorder.Scope inner = SqlStatementBudget.record(() -> postRepository.count());
+
+            assertThat(inner.statementCount()).isEqualTo(1);
+            assertThat(outer.statementCount()).isEqualTo(2);
+            assertThat(outer.shapes()).hasSize(1);
+            assertThat(SqlStatementRecorder.current()).containsSame(outer);
+        }
+    }
+
+    @Test
+    @DisplayName("리터럴과 IN 목록을 정규화한다")
+    void normalizesLiterals() {
+        assertThat(SqlStatementRecorder.normalize("SELECT u1_0.id FROM users u1_0\n WHERE u1_0.email = 'a@b.com' AND u1_0.id IN (?, ?, ?) LIMIT 10"))
+                .isEqualTo("select u1_0.id from users u1_0 where u1_0.email = ? and u1_0.id in (?) limit ?");
+        assertThat(SqlStatementRecorder.normalize("select * from posts where post_id in (3,4)"))
+                .isEqualTo("select * from posts where post_id in (?)");
+    }
+}
@@ -0,0 +1,126 @@
+package org.jbd.backend.community.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.jbd.backend.community.domain.Category;
+import org.jbd.backend.community.domain.Comment;
+import org.jbd.backend.community.domain.Post;
+import org.jbd.backend.community.dto.CommentDto;
+import org.jbd.backend.community.service.impl.CommentServiceImpl;
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(CommentServiceImpl.class)
+@DisplayName("댓글 스레드 조회 쿼리 테스트")
+class CommentThreadQueryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CommentServiceImpl commentService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private List<User> authors;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        category = entityManager.persist(new Category("Java", "Java 프로그래밍"));
+        authors = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            authors.add(entityManager.persist(new User("writer" + i + "@test.com", "password", UserType.GENERAL)));
+        }
+    }
+
+    @Test
+    @DisplayName("스레드 크기와 무관하게 최상위 ID, 스레드, 작성자 3개의 쿼리만 실행한다")
+    void statementCountIsIndependentOfThreadSize() {
+        Post small = createPostWithThreads(2, 2);
+        Post large = createPostWithThreads(10, 8);
+        entityManager.flush();
+        entityManager.clear();
+
+        long smallStatements = countStatements(small.getId());
+        long largeStatements = countStatements(large.getId());
+
+        assertThat(smallStatements).isLessThanOrEqualTo(3);
+        assertThat(largeStatements).isEqualTo(smallStatements);
+    }
+
+    @Test
+    @DisplayName("답글은 부모 댓글 아래로 중첩되고 최상위 댓글은 커서로 페이징된다")
+    void buildsNestedTreeWithRootCursor() {
+        Post post = entityManager.persist(new Post("게시글", "내용", authors.get(0), category));
+        Comment first = save(new Comment("첫 댓글", authors.get(0), post));
+        Comment reply = save(new Comment("답글", authors.get(1), post, first));
+        save(new Comment("답글의 답글", authors.get(2), post, reply));
+        Comment second = save(new Comment("두 번째 댓글", authors.get(3), post));
+        entityManager.flush();
+        entityManager.clear();
+
+        CommentDto.ThreadPage page = commentService.getCommentThread(post.getId(), null, 1);
+
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getComments()).hasSize(1);
+        CommentDto.Response root = page.getComments().get(0);
+        assertThat(root.getContent()).isEqualTo("첫 댓글");
+        assertThat(root.getAuthorName()).isEqualTo("writer0");
+        assertThat(root.getChildComments()).extracting(CommentDto.Response::getContent).containsExactly("답글");
+        assertThat(root.getChildComments().get(0).getChildComments())
+                .extracting(CommentDto.Response::getAuthorName).containsExactly("writer2");
+
+        CommentDto.ThreadPage next = commentService.getCommentThread(post.getId(), page.getNextCursor(), 1);
+
+        assertThat(next.isHasNext()).isFalse();
+        assertThat(next.getComments()).extracting(CommentDto.Response::getId).containsExactly(second.getId());
+    }
+
+    private long countStatements(Long postId) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        CommentDto.ThreadPage page = commentService.getCommentThread(postId, null, 20);
+
+        assertThat(page.getComments()).isNotEmpty();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Post createPostWithThreads(int roots, int repliesPerRoot) {
+        Post post = entityManager.persist(new Post("게시글", "내용", authors.get(0), category));
+        for (int r = 0; r < roots; r++) {
+            Comment parent = save(new Comment("댓글" + r, authors.get(r % authors.size()), post));
+            for (int i = 0; i < repliesPerRoot; i++) {
+                // 절반은 최상위 댓글에, 절반은 직전 답글에 달아 깊이를 만든다
+                Comment target = i % 2 == 0 ? parent : save(new Comment("중간" + i, authors.get(i % authors.size()), post, parent));
+                save(new Comment("답글" + i, authors.get((r + i) % authors.size()), post, target));
+            }
+        }
+        return post;
+    }
+
+    private Comment save(Comment comment) {
+        Comment saved = entityManager.persist(comment);
+        saved.assignThreadPosition();
+        return saved;
+    }
+}
@@ -0,0 +1,88 @@
+package org.jbd.backend.community.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.jbd.backend.community.domain.Category;
+import org.jbd.backend.community.domain.Post;
+import org.jbd.backend.community.dto.PostDto;
+import org.jbd.backend.community.dto.PostSummary;
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("게시글 목록 프로젝션 쿼리 테스트")
+class PostSummaryQueryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        category = entityManager.persist(new Category("Java", "Java 프로그래밍"));
+        for (int i = 0; i < 30; i++) {
+            User author = entityManager.persist(new User("author" + i + "@test.com", "password", UserType.GENERAL));
+            entityManager.persist(new Post("게시글" + i, "가".repeat(500), author, category));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("페이지 크기와 무관하게 목록 조회는 조회 + COUNT 2개의 쿼리만 실행한다")
+    void listPageUsesAtMostTwoStatements() {
+        for (int size : new int[]{5, 25}) {
+            Statistics statistics = statistics();
+
+            Page<PostSummary> page = postRepository.findSummariesByCategoryId(category.getId(), PageRequest.of(0, size));
+            PostDto.PageResponse response = PostDto.PageResponse.of(page);
+
+            assertThat(response.getPosts()).hasSize(size);
+            assertThat(response.getPosts().get(0).getCategoryName()).isEqualTo("Java");
+            assertThat(response.getPosts().get(0).getAuthorName()).startsWith("author");
+            assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("페이지 메타데이터는 전체 건수 기준으로 계산되고 본문은 발췌만 전달된다")
+    void reportsRealPageMetadataAndExcerpt() {
+        PostDto.PageResponse response = PostDto.PageResponse.of(
+                postRepository.findSummaries(PageRequest.of(1, 10)));
+
+        assertThat(response.getTotalElements()).isEqualTo(30);
+        assertThat(response.getTotalPages()).isEqualTo(3);
+        assertThat(response.isFirst()).isFalse();
+        assertThat(response.isLast()).isFalse();
+        assertThat(response.getPosts().get(0).getContent())
+                .hasSize(PostSummary.EXCERPT_LENGTH + 3)
+                .endsWith("...");
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
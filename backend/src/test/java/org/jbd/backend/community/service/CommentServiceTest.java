@@ -4,6 +4,7 @@ import org.jbd.backend.community.domain.Category;
 import org.jbd.backend.community.domain.Comment;
 import org.jbd.backend.community.domain.Post;
 import org.jbd.backend.community.dto.CommentDto;
+import org.jbd.backend.community.dto.CommentRow;
 import org.jbd.backend.community.repository.CommentRepository;
 import org.jbd.backend.community.repository.PostRepository;
 import org.jbd.backend.community.service.impl.CommentServiceImpl;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.List;
@@ -62,6 +64,7 @@ class CommentServiceTest {
         Category category = new Category("Java", "Java 프로그래밍");
         Post post = new Post("테스트 게시글", "테스트 내용", author, category);
         Comment savedComment = new Comment("테스트 댓글", author, post);
+        ReflectionTestUtils.setField(savedComment, "id", 10L);
 
         given(userRepository.findByEmail(authorEmail)).willReturn(Optional.of(author));
         given(postRepository.findById(1L)).willReturn(Optional.of(post));
@@ -92,6 +95,8 @@ class CommentServiceTest {
         Post post = new Post("테스트 게시글", "테스트 내용", author, category);
         Comment parentComment = new Comment("부모 댓글", author, post);
         Comment savedComment = new Comment("테스트 대댓글", author, post, parentComment);
+        ReflectionTestUtils.setField(parentComment, "id", 1L);
+        ReflectionTestUtils.setField(savedComment, "id", 11L);
 
         given(userRepository.findByEmail(authorEmail)).willReturn(Optional.of(author));
         given(postRepository.findById(1L)).willReturn(Optional.of(post));
@@ -104,6 +109,8 @@ class CommentServiceTest {
         // then
         assertThat(response.getContent()).isEqualTo("테스트 대댓글");
         assertThat(response.getParentCommentId()).isEqualTo(parentComment.getId());
+        assertThat(savedComment.getRootCommentId()).isEqualTo(1L);
+        assertThat(savedComment.getPath()).isEqualTo(Comment.pathSegment(1L) + "/" + Comment.pathSegment(11L));
         verify(commentRepository, times(1)).save(any(Comment.class));
     }
 
@@ -145,16 +152,12 @@ class CommentServiceTest {
     void 게시글별_댓글_목록을_조회한다() {
         // given
         Long postId = 1L;
-        User author = new User("test@example.com", "password", "테스트사용자", UserType.GENERAL);
-        Category category = new Category("Java", "Java 프로그래밍");
-        Post post = new Post("테스트 게시글", "테스트 내용", author, category);
-        
-        Comment comment1 = new Comment("댓글1", author, post);
-        Comment comment2 = new Comment("댓글2", author, post);
-        
-        given(postRepository.findById(postId)).willReturn(Optional.of(post));
-        given(commentRepository.findByPostOrderByCreatedAtAsc(post))
-                .willReturn(Arrays.asList(comment1, comment2));
+        CommentRow row1 = new CommentRow(1L, "댓글1", 7L, postId, null, 1L, 0L, null, null);
+        CommentRow row2 = new CommentRow(2L, "댓글2", 7L, postId, null, 2L, 0L, null, null);
+
+        given(commentRepository.findRowsByPostId(postId)).willReturn(Arrays.asList(row1, row2));
+        given(userRepository.findEmailsByIdIn(any()))
+                .willReturn(List.<Object[]>of(new Object[]{7L, "test@example.com"}));
 
         // when
         List<CommentDto.Response> responses = commentService.getCommentsByPost(postId);
@@ -163,7 +166,9 @@ class CommentServiceTest {
         assertThat(responses).hasSize(2);
         assertThat(responses.get(0).getContent()).isEqualTo("댓글1");
         assertThat(responses.get(1).getContent()).isEqualTo("댓글2");
-        verify(commentRepository, times(1)).findByPostOrderByCreatedAtAsc(post);
+        assertThat(responses.get(0).getAuthorName()).isEqualTo("test");
+        verify(commentRepository, times(1)).findRowsByPostId(postId);
+        verify(userRepository, times(1)).findEmailsByIdIn(any());
     }
 
     @Test
@@ -0,0 +1,180 @@
+package org.jbd.backend.community.service;
+
+import org.jbd.backend.community.domain.Category;
+import org.jbd.backend.community.domain.Post;
+import org.jbd.backend.community.dto.PostLikeDto;
+import org.jbd.backend.community.repository.CategoryRepository;
+import org.jbd.backend.community.repository.PostLikeRepository;
+import org.jbd.backend.community.repository.PostRepository;
+import org.jbd.backend.community.service.impl.PostLikeServiceImpl;
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.jbd.backend.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커밋 이후 카운터 반영을 검증하기 위해 테스트 트랜잭션 없이 실행하고 데이터는 직접 정리합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({PostLikeServiceImpl.class, PostLikeCounter.class, PostLikeRecentCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("게시글 좋아요 서비스 테스트")
+class PostLikeServiceTest {
+
+    @Autowired
+    private PostLikeService postLikeService;
+
+    @Autowired
+    private PostLikeCounter likeCounter;
+
+    @Autowired
+    private PostLikeRecentCache recentCache;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User author;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(new User("author@test.com", "password", UserType.GENERAL));
+        Category category = categoryRepository.save(new Category("Java", "Java 프로그래밍"));
+        post = postRepository.save(new Post("게시글", "내용", author, category));
+    }
+
+    @AfterEach
+    void tearDown() {
+        likeCounter.flush();
+        postLikeRepository.deleteAllInBatch();
+        postRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("좋아요와 취소가 번갈아 적용되고 플러시 후 like_count에 반영된다")
+    void togglesAndFlushesNetDelta() {
+        PostLikeDto.ToggleResponse liked = postLikeService.toggleLike(post.getId(), author.getId());
+
+        assertThat(liked.isLiked()).isTrue();
+        assertThat(liked.getLikeCount()).isEqualTo(1L);
+        assertThat(storedLikeCount()).isZero();
+
+        PostLikeDto.ToggleResponse unliked = postLikeService.toggleLike(post.getId(), author.getId());
+        PostLikeDto.ToggleResponse likedAgain = postLikeService.toggleLike(post.getId(), author.getId());
+
+        assertThat(unliked.isLiked()).isFalse();
+        assertThat(unliked.getLikeCount()).isZero();
+        assertThat(likedAgain.isLiked()).isTrue();
+        assertThat(likeCounter.flush()).isEqualTo(1);
+        assertThat(storedLikeCount()).isEqualTo(1L);
+        assertThat(postLikeRepository.countByPostId(post.getId())).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("캐시가 실제 상태와 다르면 유니크 키 결과에 따라 올바르게 토글된다")
+    void recoversFromStaleCache() {
+        recentCache.record(author.getId(), post.getId(), true);
+
+        PostLikeDto.ToggleResponse response = postLikeService.toggleLike(post.getId(), author.getId());
+
+        assertThat(response.isLiked()).isTrue();
+        assertThat(postLikeRepository.existsByPostIdAndUserId(post.getId(), author.getId())).isTrue();
+
+        recentCache.record(author.getId(), post.getId(), false);
+
+        response = postLikeService.toggleLike(post.getId(), author.getId());
+
+        assertThat(response.isLiked()).isFalse();
+        assertThat(postLikeRepository.existsByPostIdAndUserId(post.getId(), author.getId())).isFalse();
+        likeCounter.flush();
+        assertThat(storedLikeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시에 몰린 좋아요도 유실 없이 집계된다")
+    void concurrentLikesAreNotLost() throws Exception {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            users.add(userRepository.save(new User("fan" + i + "@test.com", "password", UserType.GENERAL)));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (User user : users) {
+                futures.add(executor.submit(() -> postLikeService.toggleLike(post.getId(), user.getId())));
+                // 중간 플러시가 버퍼와 경합해도 증감치가 유실되지 않아야 함
+                futures.add(executor.submit(likeCounter::flush));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        likeCounter.flush();
+        assertThat(storedLikeCount()).isEqualTo(40L);
+        assertThat(postLikeRepository.countByPostId(post.getId())).isEqualTo(40L);
+        assertThat(likeCounter.getPendingDelta(post.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("보정은 유실된 증감치를 post_likes 건수로 복구하되 아직 반영하지 않은 증감치는 남겨 둔다")
+    void reconcileRestoresLostDeltasFromPostLikes() {
+        // given - 비정상 종료로 버퍼의 +1 이 사라진 상태
+        User fan = userRepository.save(new User("fan@test.com", "password", UserType.GENERAL));
+        postLikeService.toggleLike(post.getId(), author.getId());
+        likeCounter.flush();
+        jdbcTemplate.update("INSERT INTO post_likes (post_id, user_id, created_at) VALUES (?, ?, CURRENT_TIMESTAMP)",
+                post.getId(), fan.getId());
+
+        // when & then
+        assertThat(likeCounter.reconcile()).isEqualTo(1);
+        assertThat(storedLikeCount()).isEqualTo(2L);
+        assertThat(likeCounter.reconcile()).isZero();
+
+        // 반영 전 증감치가 있으면 플러시 후 값이 post_likes 건수와 같아지도록 보정하지 않음
+        postLikeService.toggleLike(post.getId(), fan.getId());
+        assertThat(likeCounter.reconcile()).isZero();
+        likeCounter.flush();
+        assertThat(storedLikeCount()).isEqualTo(1L);
+    }
+
+    private Long storedLikeCount() {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM posts WHERE post_id = ?", Long.class, post.getId());
+    }
+}
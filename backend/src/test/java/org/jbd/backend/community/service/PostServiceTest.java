@@ -4,6 +4,7 @@ import org.jbd.backend.ai.client.AIServiceClient;
 import org.jbd.backend.community.domain.Category;
 import org.jbd.backend.community.domain.Post;
 import org.jbd.backend.community.dto.PostDto;
+import org.jbd.backend.community.dto.PostSummary;
 import org.jbd.backend.community.repository.CategoryRepository;
 import org.jbd.backend.community.repository.PostRepository;
 import org.jbd.backend.community.service.impl.PostServiceImpl;
@@ -17,9 +18,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -29,6 +33,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -142,18 +147,14 @@ class PostServiceTest {
         // given
         Long categoryId = 1L;
         Pageable pageable = PageRequest.of(0, 10);
-        
-        User author = new User("test@example.com", "password", "테스트사용자", UserType.GENERAL);
-        Category category = new Category("Java", "Java 프로그래밍");
-        
-        List<Post> posts = Arrays.asList(
-                new Post("제목1", "내용1", author, category),
-                new Post("제목2", "내용2", author, category)
+
+        List<PostSummary> posts = Arrays.asList(
+                summary(1L, "제목1", 0L),
+                summary(2L, "제목2", 0L)
         );
 
-        given(categoryRepository.findById(categoryId)).willReturn(Optional.of(category));
-        given(postRepository.findByCategoryOrderByCreatedAtDesc(eq(category), eq(pageable)))
-                .willReturn(posts);
+        given(postRepository.findSummariesByCategoryId(categoryId, pageable))
+                .willReturn(new PageImpl<>(posts, pageable, 12));
 
         // when
         PostDto.PageResponse response = postService.getPostsByCategory(categoryId, pageable);
@@ -161,7 +162,25 @@ class PostServiceTest {
         // then
         assertThat(response.getPosts()).hasSize(2);
         assertThat(response.getPosts().get(0).getTitle()).isEqualTo("제목1");
-        verify(postRepository, times(1)).findByCategoryOrderByCreatedAtDesc(category, pageable);
+        assertThat(response.getPosts().get(0).getCategoryName()).isEqualTo("Java");
+        assertThat(response.getTotalElements()).isEqualTo(12);
+        assertThat(response.getTotalPages()).isEqualTo(2);
+        assertThat(response.isLast()).isFalse();
+        verify(categoryRepository, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 카테고리의 게시글 조회시 예외가 발생한다")
+    void 존재하지_않는_카테고리_조회시_예외가_발생한다() {
+        // given
+        Long categoryId = 99L;
+        Pageable pageable = PageRequest.of(0, 10);
+        given(postRepository.findSummariesByCategoryId(categoryId, pageable)).willReturn(Page.empty(pageable));
+        given(categoryRepository.existsById(categoryId)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> postService.getPostsByCategory(categoryId, pageable))
+                .isInstanceOf(ResourceNotFoundException.class);
     }
 
     @Test
@@ -219,20 +238,12 @@ class PostServiceTest {
         int limit = 5;
         Pageable pageable = PageRequest.of(0, limit);
 
-        User author = new User("test@example.com", "password", "테스트사용자", UserType.GENERAL);
-        Category category = new Category("Java", "Java 프로그래밍");
-        
-        Post popularPost1 = new Post("인기글1", "인기내용1", author, category);
-        popularPost1.incrementViewCount();
-        popularPost1.incrementViewCount();
-        
-        Post popularPost2 = new Post("인기글2", "인기내용2", author, category);
-        popularPost2.incrementViewCount();
-
-        List<Post> popularPosts = Arrays.asList(popularPost1, popularPost2);
-
-        given(categoryRepository.findById(categoryId)).willReturn(Optional.of(category));
-        given(postRepository.findByCategoryOrderByViewCountDesc(category, pageable))
+        List<PostSummary> popularPosts = Arrays.asList(
+                summary(1L, "인기글1", 2L),
+                summary(2L, "인기글2", 1L)
+        );
+
+        given(postRepository.findPopularSummariesByCategoryId(categoryId, pageable))
                 .willReturn(popularPosts);
 
         // when
@@ -242,6 +253,12 @@ class PostServiceTest {
         assertThat(responses).hasSize(2);
         assertThat(responses.get(0).getViewCount()).isEqualTo(2L);
         assertThat(responses.get(1).getViewCount()).isEqualTo(1L);
-        verify(postRepository, times(1)).findByCategoryOrderByViewCountDesc(category, pageable);
+        verify(postRepository, times(1)).findPopularSummariesByCategoryId(categoryId, pageable);
+    }
+
+    private PostSummary summary(Long id, String title, Long viewCount) {
+        return new PostSummary(id, title, "내용", 1L, "Java", 10L, "test@example.com",
+                viewCount, 0L, false, false, null, null, null,
+                LocalDateTime.now(), LocalDateTime.now());
     }
-}
\ No newline at end of file
+}
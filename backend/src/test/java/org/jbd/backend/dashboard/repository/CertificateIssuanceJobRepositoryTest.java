@@ -0,0 +1,59 @@
+package org.jbd.backend.dashboard.repository;
+
+import org.jbd.backend.dashboard.domain.CertificateIssuanceJob;
+import org.jbd.backend.dashboard.domain.enums.IssuanceJobStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("증명서 발급 작업 Repository 테스트")
+class CertificateIssuanceJobRepositoryTest {
+
+    @Autowired
+    private CertificateIssuanceJobRepository issuanceJobRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("재시작 전에 등록되어 끝나지 않은 작업만 실패 처리한다")
+    void failsUnfinishedJobsCreatedBeforeStartup() {
+        // given
+        CertificateIssuanceJob queued = issuanceJobRepository.save(new CertificateIssuanceJob(1L, 10));
+        CertificateIssuanceJob running = issuanceJobRepository.save(new CertificateIssuanceJob(1L, 10));
+        CertificateIssuanceJob completed = issuanceJobRepository.save(new CertificateIssuanceJob(1L, 10));
+        issuanceJobRepository.markRunning(running.getId(), LocalDateTime.now());
+        issuanceJobRepository.finish(completed.getId(), IssuanceJobStatus.COMPLETED, LocalDateTime.now());
+        LocalDateTime bootedAt = LocalDateTime.now().plusSeconds(1);
+        CertificateIssuanceJob afterBoot = issuanceJobRepository.save(new CertificateIssuanceJob(1L, 10));
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE certificate_issuance_jobs SET created_at = ?1 WHERE id = ?2")
+                .setParameter(1, bootedAt.plusSeconds(1))
+                .setParameter(2, afterBoot.getId())
+                .executeUpdate();
+
+        // when
+        int failed = issuanceJobRepository.failUnfinishedCreatedBefore(bootedAt, LocalDateTime.now());
+        entityManager.clear();
+
+        // then
+        assertThat(failed).isEqualTo(2);
+        assertThat(issuanceJobRepository.findById(queued.getId()).orElseThrow().getStatus())
+                .isEqualTo(IssuanceJobStatus.FAILED);
+        assertThat(issuanceJobRepository.findById(running.getId()).orElseThrow().getFinishedAt()).isNotNull();
+        assertThat(issuanceJobRepository.findById(completed.getId()).orElseThrow().getStatus())
+                .isEqualTo(IssuanceJobStatus.COMPLETED);
+        assertThat(issuanceJobRepository.findById(afterBoot.getId()).orElseThrow().getStatus())
+                .isEqualTo(IssuanceJobStatus.QUEUED);
+    }
+}
@@ -0,0 +1,145 @@
+package org.jbd.backend.dashboard.service;
+
+import org.jbd.backend.dashboard.domain.CertificateRequest;
+import org.jbd.backend.dashboard.domain.CertificateType;
+import org.jbd.backend.dashboard.domain.enums.RequestStatus;
+import org.jbd.backend.dashboard.dto.CertificateRequestDto;
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.UserProfile;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.jbd.backend.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CertificateRequestService.class, CertificateRequestCounterService.class})
+@DisplayName("CertificateRequestService 대기열 테스트")
+class CertificateRequestServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CertificateRequestService certificateRequestService;
+
+    @Autowired
+    private CertificateRequestCounterService counterService;
+
+    @MockBean
+    private UserService userService;
+
+    private final List<CertificateRequest> requests = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User named = entityManager.persist(new User("named@test.com", "password", UserType.GENERAL));
+        entityManager.persist(new UserProfile(named, "길동", "홍"));
+        User plain = entityManager.persist(new User("plain@test.com", "password", UserType.GENERAL));
+
+        for (int i = 0; i < 5; i++) {
+            User owner = i % 2 == 0 ? named : plain;
+            CertificateRequest request = new CertificateRequest(owner, CertificateType.COMPLETION_CERTIFICATE, "용도" + i);
+            if (i == 4) {
+                request.approve("승인");
+            }
+            requests.add(entityManager.persist(request));
+        }
+        entityManager.flush();
+        counterService.reconcile();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("키셋 페이징은 중복/누락 없이 최신순으로 순회하고 건수는 카운터에서 조회한다")
+    void keysetPagingWalksAllRequests() {
+        List<Long> seen = new ArrayList<>();
+        CertificateRequestDto.CursorPageDto page = certificateRequestService.getRequestQueue(null, null, null, 2);
+        assertThat(page.getTotalCount()).isEqualTo(5);
+        int pages = 1;
+        page.getContent().forEach(dto -> seen.add(dto.getId()));
+        while (page.isHasNext()) {
+            page = certificateRequestService.getRequestQueue(null,
+                    page.getNextCursorCreatedAt(), page.getNextCursorId(), 2);
+            page.getContent().forEach(dto -> seen.add(dto.getId()));
+            pages++;
+        }
+
+        List<Long> expected = requests.stream().map(CertificateRequest::getId)
+                .sorted((a, b) -> Long.compare(b, a)).toList();
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("상태 필터와 프로필 이름 조인이 적용된다")
+    void filtersByStatusWithJoinedUserName() {
+        CertificateRequestDto.CursorPageDto page =
+                certificateRequestService.getRequestQueue(RequestStatus.PENDING, null, null, 10);
+
+        assertThat(page.getTotalCount()).isEqualTo(4);
+        assertThat(page.getContent()).hasSize(4)
+                .allMatch(dto -> dto.getStatus() == RequestStatus.PENDING);
+        assertThat(page.getContent()).extracting(CertificateRequestDto.ResponseDto::getUserName)
+                .containsOnly("홍길동", "plain");
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("단건 처리 응답도 목록과 같은 프로필 이름 규칙을 사용한다")
+    void processResponseUsesProfileName() {
+        CertificateRequestDto.ResponseDto processed = certificateRequestService.processRequest(
+                requests.get(0).getId(), new CertificateRequestDto.ProcessDto(true, "승인"));
+        CertificateRequestDto.ResponseDto plain = certificateRequestService.processRequest(
+                requests.get(1).getId(), new CertificateRequestDto.ProcessDto(false, "반려"));
+
+        assertThat(processed.getUserName()).isEqualTo("홍길동");
+        assertThat(processed.getStatus()).isEqualTo(RequestStatus.APPROVED);
+        assertThat(plain.getUserName()).isEqualTo("plain");
+    }
+
+    @Test
+    @DisplayName("claim은 이미 할당된 요청을 건너뛰고 오래된 대기 요청부터 할당한다")
+    void claimSkipsAlreadyClaimedRequests() {
+        List<CertificateRequestDto.ResponseDto> first = certificateRequestService.claimNextPending(100L, 2);
+        List<CertificateRequestDto.ResponseDto> second = certificateRequestService.claimNextPending(200L, 5);
+
+        assertThat(first).extracting(CertificateRequestDto.ResponseDto::getId)
+                .containsExactly(requests.get(0).getId(), requests.get(1).getId());
+        assertThat(second).extracting(CertificateRequestDto.ResponseDto::getId)
+                .containsExactly(requests.get(2).getId(), requests.get(3).getId());
+        assertThat(entityManager.find(CertificateRequest.class, requests.get(2).getId()).getClaimedBy())
+                .isEqualTo(200L);
+    }
+
+    @Test
+    @DisplayName("카운터 보정은 실제 요청 수와 다른 상태만 차이만큼 고친다")
+    void reconcileCorrectsOnlyDriftedStatuses() {
+        counterService.onStatusChanged(RequestStatus.PENDING, RequestStatus.REJECTED, 2);
+        entityManager.flush();
+        entityManager.clear();
+
+        counterService.reconcile();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(counterService.getCount(RequestStatus.PENDING)).isEqualTo(4);
+        assertThat(counterService.getCount(RequestStatus.APPROVED)).isEqualTo(1);
+        assertThat(counterService.getCount(RequestStatus.REJECTED)).isZero();
+        assertThat(counterService.getCount(null)).isEqualTo(5);
+    }
+}
@@ -0,0 +1,65 @@
+package org.jbd.backend.dashboard.service;
+
+import org.jbd.backend.dashboard.domain.CertificateType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("증명서 템플릿/문서 저장소 테스트")
+class CertificateTemplateTest {
+
+    @TempDir
+    Path storageDir;
+
+    @Test
+    @DisplayName("자리표시자를 값으로 치환하고 HTML을 이스케이프한다")
+    void rendersAndEscapesValues() {
+        CertificateTemplate template = CertificateTemplate.compile("<p>{{name}}님 ({{ email }})</p>{{missing}}");
+
+        String html = template.render(Map.of("name", "<홍길동>", "email", "a&b@test.com"));
+
+        assertThat(html).isEqualTo("<p>&lt;홍길동&gt;님 (a&amp;b@test.com)</p>");
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 자리표시자는 컴파일 시 거부한다")
+    void rejectsUnclosedPlaceholder() {
+        assertThatThrownBy(() -> CertificateTemplate.compile("<p>{{name</p>"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("모든 증명서 종류의 템플릿이 컴파일되어 있다")
+    void registryCompilesEveryType() {
+        CertificateTemplateRegistry registry = new CertificateTemplateRegistry();
+
+        for (CertificateType type : CertificateType.values()) {
+            String html = registry.get(type).render(Map.of("name", "홍길동"));
+            assertThat(html).contains(type.getDescription()).contains("홍길동").doesNotContain("{{");
+        }
+    }
+
+    @Test
+    @DisplayName("같은 내용은 같은 키로 한 번만 저장된다")
+    void storesContentAddressed() throws Exception {
+        CertificateDocumentStore store = new CertificateDocumentStore(storageDir.toString());
+        byte[] content = "<html>증명서</html>".getBytes(StandardCharsets.UTF_8);
+
+        String first = store.store(content);
+        String second = store.store(content);
+
+        assertThat(first).isEqualTo(second).hasSize(64);
+        assertThat(store.load(first).orElseThrow()).isEqualTo(content);
+        try (var files = Files.walk(storageDir)) {
+            assertThat(files.filter(Files::isRegularFile).count()).isEqualTo(1);
+        }
+    }
+}
@@ -1,11 +1,12 @@
 package org.jbd.backend.dashboard.service;
 
-import org.jbd.backend.dashboard.domain.CertificateRequest;
 import org.jbd.backend.dashboard.domain.CertificateType;
+import org.jbd.backend.dashboard.domain.enums.RequestStatus;
 import org.jbd.backend.dashboard.dto.AdminDashboardDto;
 import org.jbd.backend.dashboard.dto.CompanyUserDashboardDto;
 import org.jbd.backend.dashboard.dto.GeneralUserDashboardDto;
 import org.jbd.backend.dashboard.repository.CertificateRequestRepository;
+import org.jbd.backend.dashboard.repository.CertificateRequestView;
 import org.jbd.backend.dashboard.repository.SystemMetricsRepository;
 import org.jbd.backend.job.repository.JobApplicationRepository;
 import org.jbd.backend.job.repository.JobPostingRepository;
@@ -28,6 +29,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("대시보드 Service 테스트")
@@ -109,8 +111,8 @@ class DashboardServiceTest {
         given(jobApplicationRepository.findApplicationStatisticsByCompanyUser(companyUser)).willReturn(companyStats);
         
         // JobPosting 관련 통계 (빈 리스트로 설정)
-        given(jobPostingRepository.findByCompanyUserWithApplicationCountOrderByCreatedAtDesc(any(), any())).willReturn(Arrays.asList());
-        given(jobPostingRepository.findByCompanyUserWithApplicationCountOrderByViewCountDesc(any(), any())).willReturn(Arrays.asList());
+        given(jobPostingRepository.findByCompanyUserOrderByCreatedAtDesc(any(), any())).willReturn(Arrays.asList());
+        given(jobPostingRepository.findByCompanyUserOrderByViewCountDesc(any(), any())).willReturn(Arrays.asList());
 
         // when
         CompanyUserDashboardDto dashboard = dashboardService.getCompanyUserDashboard(userId);
@@ -146,8 +148,11 @@ class DashboardServiceTest {
         given(systemMetricsRepository.findTodayErrorCount()).willReturn(java.util.Optional.of(5L));
         
         // 증명서 요청 모의 데이터
-        CertificateRequest request = new CertificateRequest(generalUser, CertificateType.COMPLETION_CERTIFICATE, "취업용");
-        given(certificateRequestRepository.findRecentPendingRequests(any()))
+        CertificateRequestView request = mock(CertificateRequestView.class);
+        given(request.getUserEmail()).willReturn("general@test.com");
+        given(request.getCertificateType()).willReturn(CertificateType.COMPLETION_CERTIFICATE);
+        given(request.getStatus()).willReturn(RequestStatus.PENDING);
+        given(certificateRequestRepository.findOldestPendingViews(any()))
                 .willReturn(Arrays.asList(request));
 
         // when
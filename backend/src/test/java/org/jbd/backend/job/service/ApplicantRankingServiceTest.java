@@ -0,0 +1,126 @@
+package org.jbd.backend.job.service;
+
+import org.jbd.backend.job.domain.JobApplication;
+import org.jbd.backend.job.domain.JobPosting;
+import org.jbd.backend.job.domain.JobPostingSkill;
+import org.jbd.backend.job.domain.enums.ExperienceLevel;
+import org.jbd.backend.job.domain.enums.JobType;
+import org.jbd.backend.job.repository.JobApplicationRepository;
+import org.jbd.backend.user.domain.Education;
+import org.jbd.backend.user.domain.SkillMaster;
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.UserSkill;
+import org.jbd.backend.user.domain.enums.EducationLevel;
+import org.jbd.backend.user.domain.enums.SkillCategory;
+import org.jbd.backend.user.domain.enums.SkillLevel;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ApplicantRankingService.class)
+@DisplayName("ApplicantRankingService 테스트")
+class ApplicantRankingServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ApplicantRankingService rankingService;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    private JobPosting jobPosting;
+    private SkillMaster javaSkill;
+    private SkillMaster springSkill;
+
+    @BeforeEach
+    void setUp() {
+        User companyUser = entityManager.persist(new User("company@test.com", "password", UserType.COMPANY));
+        jobPosting = new JobPosting(companyUser, "백엔드 개발자", "테스트기업",
+                                   "서울", JobType.FULL_TIME, ExperienceLevel.MID_LEVEL);
+        jobPosting.publish(LocalDate.now().plusDays(30));
+        jobPosting = entityManager.persist(jobPosting);
+
+        javaSkill = entityManager.persist(new SkillMaster("Java", SkillCategory.PROGRAMMING_LANGUAGE));
+        springSkill = entityManager.persist(new SkillMaster("Spring Boot", SkillCategory.FRAMEWORK));
+        entityManager.persist(new JobPostingSkill(jobPosting.getId(), javaSkill.getId()));
+        entityManager.persist(new JobPostingSkill(jobPosting.getId(), springSkill.getId()));
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("지원 시 계산된 점수 순으로 상위 지원자를 조회한다")
+    void ranksApplicationsOnApply() {
+        // given
+        User strong = applicant("strong@test.com");
+        entityManager.persist(new UserSkill(strong, javaSkill, SkillLevel.EXPERT));
+        entityManager.persist(new UserSkill(strong, springSkill, SkillLevel.ADVANCED));
+        entityManager.persist(new Education(strong, EducationLevel.BACHELOR, "테스트대학교", "컴퓨터공학", 2020));
+        User weak = applicant("weak@test.com");
+        entityManager.persist(new UserSkill(weak, javaSkill, SkillLevel.BEGINNER));
+        User none = applicant("none@test.com");
+
+        // when
+        JobApplication weakApplication = apply(weak);
+        JobApplication strongApplication = apply(strong);
+        JobApplication noneApplication = apply(none);
+        entityManager.clear();
+
+        // then
+        List<JobApplication> top = jobApplicationRepository.findTopRankedByJobPostingId(
+                jobPosting.getId(), PageRequest.of(0, 2));
+        assertThat(top).extracting(JobApplication::getId)
+                .containsExactly(strongApplication.getId(), weakApplication.getId());
+        assertThat(entityManager.find(JobApplication.class, noneApplication.getId()).getRankingScore()).isZero();
+    }
+
+    @Test
+    @DisplayName("프로필 변경 후 사용자 재계산이 순위에 반영된다")
+    void rerankUserReflectsProfileChange() {
+        // given
+        User first = applicant("first@test.com");
+        entityManager.persist(new UserSkill(first, javaSkill, SkillLevel.INTERMEDIATE));
+        User second = applicant("second@test.com");
+        JobApplication firstApplication = apply(first);
+        JobApplication secondApplication = apply(second);
+
+        // when - 두 번째 지원자가 필요 기술을 모두 등록
+        entityManager.persist(new UserSkill(second, javaSkill, SkillLevel.EXPERT));
+        entityManager.persist(new UserSkill(second, springSkill, SkillLevel.EXPERT));
+        int reranked = rankingService.rerankUser(second.getId());
+        entityManager.clear();
+
+        // then
+        assertThat(reranked).isEqualTo(1);
+        assertThat(jobApplicationRepository.findTopRankedByJobPostingId(jobPosting.getId(), PageRequest.of(0, 10)))
+                .extracting(JobApplication::getId)
+                .containsExactly(secondApplication.getId(), firstApplication.getId());
+    }
+
+    private User applicant(String email) {
+        return entityManager.persist(new User(email, "password", UserType.GENERAL));
+    }
+
+    private JobApplication apply(User user) {
+        JobApplication application = entityManager.persistAndFlush(new JobApplication(user, jobPosting, "지원합니다"));
+        rankingService.rankApplication(application);
+        return application;
+    }
+}
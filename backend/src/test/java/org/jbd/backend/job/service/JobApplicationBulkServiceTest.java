@@ -0,0 +1,124 @@
+package org.jbd.backend.job.service;
+
+import jakarta.persistence.OptimisticLockException;
+import org.jbd.backend.job.domain.JobApplication;
+import org.jbd.backend.job.domain.JobPosting;
+import org.jbd.backend.job.domain.enums.ApplicationStatus;
+import org.jbd.backend.job.domain.enums.ExperienceLevel;
+import org.jbd.backend.job.domain.enums.JobType;
+import org.jbd.backend.job.dto.JobApplicationBulkStatusDto;
+import org.jbd.backend.job.dto.JobApplicationBulkStatusDto.ItemResult;
+import org.jbd.backend.job.dto.JobApplicationBulkStatusDto.Outcome;
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JobApplicationBulkService.class, JobApplicationCounterService.class})
+@DisplayName("JobApplicationBulkService 테스트")
+class JobApplicationBulkServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JobApplicationBulkService bulkService;
+
+    @Autowired
+    private JobApplicationCounterService counterService;
+
+    private User companyUser;
+    private JobPosting jobPosting;
+    private JobPosting otherCompanyPosting;
+
+    @BeforeEach
+    void setUp() {
+        companyUser = entityManager.persist(new User("company@test.com", "password", UserType.COMPANY));
+        User otherCompany = entityManager.persist(new User("other@test.com", "password", UserType.COMPANY));
+        jobPosting = entityManager.persist(publishedPosting(companyUser));
+        otherCompanyPosting = entityManager.persist(publishedPosting(otherCompany));
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("소유권과 전이 규칙을 검증하고 건별 결과를 반환한다")
+    void reportsPerItemOutcome() {
+        // given
+        JobApplication submitted = apply(jobPosting, "a@test.com");
+        JobApplication hired = apply(jobPosting, "b@test.com");
+        hired.passDocumentReview();
+        hired.passInterview();
+        hired.hire();
+        JobApplication foreign = apply(otherCompanyPosting, "c@test.com");
+        entityManager.flush();
+
+        // when
+        JobApplicationBulkStatusDto.Response response = bulkService.transitionStatus(companyUser.getId(),
+                List.of(submitted.getId(), hired.getId(), foreign.getId(), 999999L),
+                ApplicationStatus.REJECTED, "채용 인원 마감");
+
+        // then
+        Map<Long, ItemResult> results = response.getResults().stream()
+                .collect(Collectors.toMap(ItemResult::getApplicationId, Function.identity()));
+        assertThat(response.getRequestedCount()).isEqualTo(4);
+        assertThat(response.getUpdatedCount()).isEqualTo(1);
+        assertThat(results.get(submitted.getId()).getOutcome()).isEqualTo(Outcome.UPDATED);
+        assertThat(results.get(hired.getId()).getOutcome()).isEqualTo(Outcome.INVALID_TRANSITION);
+        assertThat(results.get(foreign.getId()).getOutcome()).isEqualTo(Outcome.FORBIDDEN);
+        assertThat(results.get(999999L).getOutcome()).isEqualTo(Outcome.NOT_FOUND);
+
+        entityManager.clear();
+        JobApplication rejected = entityManager.find(JobApplication.class, submitted.getId());
+        assertThat(rejected.getStatus()).isEqualTo(ApplicationStatus.REJECTED);
+        assertThat(rejected.getRejectionReason()).isEqualTo("채용 인원 마감");
+        assertThat(rejected.getVersion()).isEqualTo(1L);
+        assertThat(counterService.getStatusCounts(jobPosting.getId()).get(ApplicationStatus.REJECTED)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("일괄 변경 이후 이전 버전으로 저장하려는 단건 변경은 낙관적 락으로 실패한다")
+    void concurrentSingleUpdateIsRejected() {
+        // given - 단건 처리 요청이 지원서를 먼저 읽어둔 상황
+        JobApplication application = apply(jobPosting, "a@test.com");
+        entityManager.flush();
+
+        // when - 일괄 변경이 먼저 커밋됨
+        bulkService.transitionStatus(companyUser.getId(), List.of(application.getId()),
+                ApplicationStatus.DOCUMENT_PASSED, null);
+
+        // then
+        application.reject("단건 처리");
+        assertThatThrownBy(() -> entityManager.flush()).isInstanceOf(OptimisticLockException.class);
+    }
+
+    private JobApplication apply(JobPosting posting, String email) {
+        User applicant = entityManager.persist(new User(email, "password", UserType.GENERAL));
+        return entityManager.persist(new JobApplication(applicant, posting, "지원합니다"));
+    }
+
+    private JobPosting publishedPosting(User owner) {
+        JobPosting posting = new JobPosting(owner, "백엔드 개발자", "테스트기업",
+                "서울", JobType.FULL_TIME, ExperienceLevel.MID_LEVEL);
+        posting.publish(LocalDate.now().plusDays(30));
+        return posting;
+    }
+}
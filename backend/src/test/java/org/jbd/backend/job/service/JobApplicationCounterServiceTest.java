@@ -0,0 +1,108 @@
+package org.jbd.backend.job.service;
+
+import org.jbd.backend.job.domain.JobApplication;
+import org.jbd.backend.job.domain.JobPosting;
+import org.jbd.backend.job.domain.enums.ApplicationStatus;
+import org.jbd.backend.job.domain.enums.ExperienceLevel;
+import org.jbd.backend.job.domain.enums.JobType;
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JobApplicationCounterService.class)
+@DisplayName("JobApplicationCounterService 테스트")
+class JobApplicationCounterServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JobApplicationCounterService counterService;
+
+    private JobPosting jobPosting;
+
+    @BeforeEach
+    void setUp() {
+        User companyUser = entityManager.persist(new User("company@test.com", "password", UserType.COMPANY));
+        jobPosting = new JobPosting(companyUser, "백엔드 개발자", "테스트기업",
+                                   "서울", JobType.FULL_TIME, ExperienceLevel.MID_LEVEL);
+        jobPosting.publish(LocalDate.now().plusDays(30));
+        jobPosting = entityManager.persistAndFlush(jobPosting);
+    }
+
+    @Test
+    @DisplayName("지원과 상태 변경이 델타로 카운터에 반영된다")
+    void appliesDeltasOnApplyAndStatusChange() {
+        // when
+        counterService.onApplied(jobPosting.getId(), ApplicationStatus.SUBMITTED);
+        counterService.onApplied(jobPosting.getId(), ApplicationStatus.SUBMITTED);
+        counterService.onStatusChanged(jobPosting.getId(), ApplicationStatus.SUBMITTED, ApplicationStatus.REVIEWED);
+        entityManager.clear();
+
+        // then
+        assertThat(entityManager.find(JobPosting.class, jobPosting.getId()).getApplicationCount()).isEqualTo(2L);
+        Map<ApplicationStatus, Long> counts = counterService.getStatusCounts(jobPosting.getId());
+        assertThat(counts.get(ApplicationStatus.SUBMITTED)).isEqualTo(1L);
+        assertThat(counts.get(ApplicationStatus.REVIEWED)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("엔티티 수정 flush가 지원자 수 카운터를 덮어쓰지 않는다")
+    void entityFlushDoesNotOverwriteCounter() {
+        // given
+        counterService.onApplied(jobPosting.getId(), ApplicationStatus.SUBMITTED);
+
+        // when - 카운터 반영 이전에 로드된 엔티티를 수정 후 flush
+        jobPosting.incrementViewCount();
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(entityManager.find(JobPosting.class, jobPosting.getId()).getApplicationCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("보정 작업이 실제 지원서 기준으로 드리프트를 바로잡는다")
+    void reconcileFixesDrift() {
+        // given - 카운터를 거치지 않고 지원서를 직접 저장
+        for (int i = 0; i < 3; i++) {
+            User applicant = entityManager.persist(new User("applicant" + i + "@test.com", "password", UserType.GENERAL));
+            JobApplication application = new JobApplication(applicant, jobPosting, "지원합니다");
+            if (i == 0) {
+                application.reject("불합격");
+            }
+            entityManager.persist(application);
+        }
+        counterService.onApplied(jobPosting.getId(), ApplicationStatus.HIRED);
+        entityManager.flush();
+
+        // when
+        Long lastId = counterService.reconcileBatch(0L, 100);
+        entityManager.clear();
+
+        // then
+        assertThat(lastId).isEqualTo(jobPosting.getId());
+        assertThat(entityManager.find(JobPosting.class, jobPosting.getId()).getApplicationCount()).isEqualTo(3L);
+        Map<ApplicationStatus, Long> counts = counterService.getStatusCounts(jobPosting.getId());
+        assertThat(counts).containsOnlyKeys(ApplicationStatus.SUBMITTED, ApplicationStatus.REJECTED);
+        assertThat(counts.get(ApplicationStatus.SUBMITTED)).isEqualTo(2L);
+        assertThat(counts.get(ApplicationStatus.REJECTED)).isEqualTo(1L);
+        assertThat(counterService.reconcileBatch(lastId, 100)).isNull();
+    }
+}
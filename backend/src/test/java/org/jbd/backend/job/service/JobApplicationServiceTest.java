@@ -46,6 +46,12 @@ class JobApplicationServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private JobApplicationCounterService counterService;
+
+    @Mock
+    private ApplicantRankingService rankingService;
+
     @InjectMocks
     private JobApplicationService jobApplicationService;
 
@@ -99,6 +105,8 @@ class JobApplicationServiceTest {
         assertThat(created.getCoverLetter()).isEqualTo("지원합니다!");
         assertThat(created.getStatus()).isEqualTo(ApplicationStatus.SUBMITTED);
         verify(jobApplicationRepository).save(any(JobApplication.class));
+        verify(counterService).onApplied(jobPosting.getId(), ApplicationStatus.SUBMITTED);
+        verify(rankingService).rankApplication(any(JobApplication.class));
     }
 
     @Test
@@ -0,0 +1,189 @@
+package org.jbd.backend.job.service;
+
+import org.jbd.backend.common.exception.BusinessException;
+import org.jbd.backend.common.exception.ErrorCode;
+import org.jbd.backend.job.domain.JobPosting;
+import org.jbd.backend.job.domain.enums.JobStatus;
+import org.jbd.backend.job.domain.enums.JobType;
+import org.jbd.backend.job.dto.JobPostingImportDto;
+import org.jbd.backend.job.repository.JobPostingRepository;
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.jbd.backend.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 청크 단위 커밋과 실패 청크의 행 단위 재시도를 검증하기 위해 테스트 트랜잭션 없이 실행하고 데이터는 직접 정리합니다.
+ * 배치/청크 크기를 작게 두어 flush/clear 와 청크 경계를 함께 지나가게 합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JobPostingImportService.class)
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@TestPropertySource(properties = {
+        "app.job-posting.import.batch-size=2",
+        "app.job-posting.import.chunk-size=3",
+        "app.job-posting.import.max-reported-errors=2"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("JobPostingImportService 테스트")
+class JobPostingImportServiceTest {
+
+    private static final String CSV_HEADER = "title,companyName,location,jobType,experienceLevel,minSalary,description\n";
+
+    @Autowired
+    private JobPostingImportService importService;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User companyUser;
+
+    @BeforeEach
+    void setUp() {
+        companyUser = userRepository.save(new User("company@test.com", "password", UserType.COMPANY));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobPostingRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("CSV 를 읽어 유효한 행만 등록하고 실패한 행은 행 번호와 함께 보고한다")
+    void importsCsvAndReportsInvalidRows() {
+        // given - 따옴표 안의 쉼표/줄바꿈, 검증 실패, 값 변환 실패, 컬럼 수 불일치
+        String csv = "\uFEFF" + CSV_HEADER
+                + "백엔드 개발자 채용,테스트기업,서울,FULL_TIME,MID_LEVEL,4000,\"Spring, JPA\n운영 경험\"\n"
+                + "짧음,테스트기업,서울,FULL_TIME,MID_LEVEL,,\n"
+                + "프론트엔드 개발자,테스트기업,부산,UNKNOWN,MID_LEVEL,,\n"
+                + "데이터 엔지니어 채용,테스트기업,서울\n"
+                + "\n"
+                + "데브옵스 엔지니어,테스트기업,판교,CONTRACT,SENIOR,5000,\"\"\"따옴표\"\" 포함\"\r\n"
+                + "ML 엔지니어 채용,테스트기업,서울,FULL_TIME,JUNIOR,,\n"
+                + "QA 엔지니어 채용,테스트기업,서울,PART_TIME,ENTRY_LEVEL,,\n";
+
+        // when
+        JobPostingImportDto.Response response = importService.importJobPostings(
+                companyUser.getId(), JobPostingImportService.Format.CSV, stream(csv));
+
+        // then
+        assertThat(response.getTotalRows()).isEqualTo(7);
+        assertThat(response.getImportedCount()).isEqualTo(4);
+        assertThat(response.getFailedCount()).isEqualTo(3);
+        assertThat(response.isCompleted()).isTrue();
+        assertThat(response.isErrorsTruncated()).isTrue();
+        assertThat(response.getErrors()).extracting(JobPostingImportDto.RowError::getRow).containsExactly(2, 3);
+        assertThat(response.getErrors().get(0).getMessage()).startsWith("title: ");
+        assertThat(response.getErrors().get(1).getMessage()).startsWith("jobType: ");
+
+        List<JobPosting> saved = jobPostingRepository.findAll();
+        assertThat(saved).hasSize(4).allSatisfy(posting -> {
+            assertThat(posting.getStatus()).isEqualTo(JobStatus.DRAFT);
+            assertThat(posting.getCompanyUser().getId()).isEqualTo(companyUser.getId());
+        });
+        assertThat(saved).extracting(JobPosting::getDescription)
+                .contains("Spring, JPA\n운영 경험", "\"따옴표\" 포함");
+        assertThat(saved).extracting(JobPosting::getJobType).contains(JobType.CONTRACT);
+    }
+
+    @Test
+    @DisplayName("DB 오류가 난 청크는 행 단위로 다시 저장하여 해당 행만 실패로 보고한다")
+    void retriesFailedChunkRowByRow() {
+        // given - 전화번호 형식은 통과하지만 컬럼 길이(255)를 넘는 행
+        String tooLongPhone = "0".repeat(300);
+        String json = "["
+                + posting("백엔드 개발자 채용", null) + ","
+                + posting("프론트엔드 개발자 채용", tooLongPhone) + ","
+                + posting("데이터 엔지니어 채용", "02-123-4567") + ","
+                + posting("데브옵스 엔지니어 채용", null)
+                + "]";
+
+        // when
+        JobPostingImportDto.Response response = importService.importJobPostings(
+                companyUser.getId(), JobPostingImportService.Format.JSON, stream(json));
+
+        // then
+        assertThat(response.getImportedCount()).isEqualTo(3);
+        assertThat(response.getErrors()).extracting(JobPostingImportDto.RowError::getRow).containsExactly(2);
+        assertThat(jobPostingRepository.findAll()).extracting(JobPosting::getTitle)
+                .containsExactlyInAnyOrder("백엔드 개발자 채용", "데이터 엔지니어 채용", "데브옵스 엔지니어 채용");
+    }
+
+    @Test
+    @DisplayName("JSON 형식 오류를 만나면 중단하고 그 전까지의 행은 유지한다")
+    void abortsOnMalformedJsonKeepingEarlierRows() {
+        // given
+        String json = "[" + posting("백엔드 개발자 채용", null) + "," + posting("데이터 엔지니어 채용", null) + ", {\"title\": ";
+
+        // when
+        JobPostingImportDto.Response response = importService.importJobPostings(
+                companyUser.getId(), JobPostingImportService.Format.JSON, stream(json));
+
+        // then
+        assertThat(response.isCompleted()).isFalse();
+        assertThat(response.getAbortReason()).startsWith("3번째 행");
+        assertThat(response.getImportedCount()).isEqualTo(2);
+        assertThat(jobPostingRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("기업 사용자가 아니면 등록할 수 없다")
+    void rejectsNonCompanyOwner() {
+        // given
+        User general = userRepository.save(new User("general@test.com", "password", UserType.GENERAL));
+
+        // when & then
+        assertThatThrownBy(() -> importService.importJobPostings(
+                general.getId(), JobPostingImportService.Format.CSV, stream(CSV_HEADER)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.COMPANY_ACCESS_DENIED);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 CSV 컬럼은 등록 전에 거부한다")
+    void rejectsUnknownCsvColumn() {
+        assertThatThrownBy(() -> importService.importJobPostings(
+                companyUser.getId(), JobPostingImportService.Format.CSV, stream("title,salary\n")))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("salary");
+        assertThat(jobPostingRepository.count()).isZero();
+    }
+
+    private static String posting(String title, String contactPhone) {
+        return "{\"title\":\"" + title + "\",\"companyName\":\"테스트기업\",\"location\":\"서울\","
+                + "\"jobType\":\"FULL_TIME\",\"experienceLevel\":\"MID_LEVEL\""
+                + (contactPhone != null ? ",\"contactPhone\":\"" + contactPhone + "\"" : "")
+                + "}";
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -4,6 +4,7 @@ import org.jbd.backend.job.domain.JobPosting;
 import org.jbd.backend.job.domain.enums.ExperienceLevel;
 import org.jbd.backend.job.domain.enums.JobStatus;
 import org.jbd.backend.job.domain.enums.JobType;
+import org.jbd.backend.job.dto.JobPostingUpdateDto;
 import org.jbd.backend.job.repository.JobPostingRepository;
 import org.jbd.backend.user.domain.User;
 import org.jbd.backend.user.domain.enums.UserType;
@@ -42,6 +43,9 @@ class JobPostingServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private JobRecommendationService recommendationService;
+
     @InjectMocks
     private JobPostingService jobPostingService;
 
@@ -116,6 +120,7 @@ class JobPostingServiceTest {
         assertThat(published.getStatus()).isEqualTo(JobStatus.PUBLISHED);
         assertThat(published.getDeadlineDate()).isEqualTo(deadlineDate);
         verify(jobPostingRepository).save(jobPosting);
+        verify(recommendationService).syncJobPosting(jobPosting);
     }
 
     @Test
@@ -297,6 +302,23 @@ class JobPostingServiceTest {
         assertThat(updated.getTitle()).isEqualTo("시니어 백엔드 개발자");
         assertThat(updated.getDescription()).isEqualTo("새로운 설명");
         verify(jobPostingRepository).save(jobPosting);
+        verify(recommendationService).syncJobPosting(jobPosting);
+    }
+
+    @Test
+    @DisplayName("기술 목록을 바꾸지 않는 수정도 추천 색인에 반영한다")
+    void syncsRecommendationIndexOnEveryUpdate() {
+        // Given
+        jobPosting.publish(LocalDate.now().plusDays(30));
+        given(jobPostingRepository.findById(1L)).willReturn(Optional.of(jobPosting));
+        given(jobPostingRepository.save(any(JobPosting.class))).willReturn(jobPosting);
+        JobPostingUpdateDto dto = JobPostingUpdateDto.builder().title("시니어 백엔드 개발자").build();
+
+        // When
+        jobPostingService.updateJobPosting(1L, dto);
+
+        // Then
+        verify(recommendationService).syncJobPosting(jobPosting);
     }
 
     @Test
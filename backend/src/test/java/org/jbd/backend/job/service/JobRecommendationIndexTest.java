@@ -0,0 +1,75 @@
+package org.jbd.backend.job.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("채용공고 추천 역색인 테스트")
+class JobRecommendationIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+    private final JobRecommendationIndex index = new JobRecommendationIndex(14);
+
+    @Test
+    @DisplayName("희소한 기술과 높은 숙련도가 겹칠수록 상위에 오르고 최신 공고가 우선한다")
+    void ranksByWeightedOverlapAndRecency() {
+        // 기술 1(Java)은 흔하고 기술 2(Kotlin)는 희소
+        index.put(1L, entry(List.of(1L), NOW.minusDays(1)));
+        index.put(2L, entry(List.of(1L, 2L), NOW.minusDays(1)));
+        index.put(3L, entry(List.of(1L), NOW.minusDays(60)));
+        index.put(4L, entry(List.of(1L), NOW.minusDays(2)));
+        index.put(5L, entry(List.of(3L), NOW));
+
+        List<Long> ranked = index.topK(Map.of(1L, 1.0, 2L, 2.5), 3, NOW);
+
+        assertThat(ranked).containsExactly(2L, 1L, 4L);
+    }
+
+    @Test
+    @DisplayName("마감/삭제/기한 만료 공고는 추천에서 제외되고 수정 시 기술 목록이 교체된다")
+    void appliesIncrementalUpdates() {
+        index.put(1L, entry(List.of(1L), NOW));
+        index.put(2L, entry(List.of(1L), NOW));
+        index.put(3L, new JobRecommendationIndex.Entry(List.of(1L), NOW, NOW.toLocalDate().minusDays(1)));
+
+        index.remove(1L);
+        index.put(2L, entry(List.of(2L), NOW));
+
+        assertThat(index.topK(Map.of(1L, 1.0), 10, NOW)).isEmpty();
+        assertThat(index.topK(Map.of(2L, 1.0), 10, NOW)).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(2);
+
+        // 해제된 슬롯 재사용
+        index.put(4L, entry(List.of(1L, 2L), NOW));
+        assertThat(index.topK(Map.of(1L, 1.0, 2L, 1.0), 10, NOW)).containsExactly(4L, 2L);
+    }
+
+    @Test
+    @DisplayName("재구성 중 증분 반영된 공고는 재구성 결과보다 우선한다")
+    void keepsIncrementalChangesMadeDuringRebuild() {
+        index.put(1L, entry(List.of(1L), NOW));
+
+        index.rebuild(() -> {
+            // 로딩 도중 다른 요청이 공고 1을 마감하고 공고 2를 발행
+            Map<Long, JobRecommendationIndex.Entry> loaded = new HashMap<>();
+            loaded.put(1L, entry(List.of(1L), NOW));
+            index.remove(1L);
+            index.put(2L, entry(List.of(1L), NOW));
+            loaded.put(3L, entry(List.of(1L), NOW));
+            return loaded;
+        });
+
+        assertThat(index.contains(1L)).isFalse();
+        assertThat(index.topK(Map.of(1L, 1.0), 10, NOW)).containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    private static JobRecommendationIndex.Entry entry(List<Long> skillIds, LocalDateTime publishedAt) {
+        return new JobRecommendationIndex.Entry(skillIds, publishedAt, (LocalDate) null);
+    }
+}
@@ -0,0 +1,152 @@
+package org.jbd.backend.job.service;
+
+import org.jbd.backend.job.domain.JobPosting;
+import org.jbd.backend.job.domain.JobPostingSkill;
+import org.jbd.backend.job.domain.enums.ExperienceLevel;
+import org.jbd.backend.job.domain.enums.JobType;
+import org.jbd.backend.job.repository.JobPostingRepository;
+import org.jbd.backend.job.repository.JobPostingSkillRepository;
+import org.jbd.backend.user.domain.SkillMaster;
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.UserSkill;
+import org.jbd.backend.user.domain.enums.SkillCategory;
+import org.jbd.backend.user.domain.enums.SkillLevel;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.jbd.backend.user.repository.SkillMasterRepository;
+import org.jbd.backend.user.repository.UserSkillRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobRecommendationService 테스트")
+class JobRecommendationServiceTest {
+
+    @Mock
+    private JobPostingRepository jobPostingRepository;
+
+    @Mock
+    private JobPostingSkillRepository jobPostingSkillRepository;
+
+    @Mock
+    private SkillMasterRepository skillMasterRepository;
+
+    @Mock
+    private UserSkillRepository userSkillRepository;
+
+    @Mock
+    private ApplicantRankingService rankingService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private JobRecommendationIndex index;
+    private JobRecommendationService recommendationService;
+    private SkillMaster javaSkill;
+    private SkillMaster springBootSkill;
+    private SkillMaster cicdSkill;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobRecommendationIndex(14);
+        recommendationService = new JobRecommendationService(jobPostingRepository, jobPostingSkillRepository,
+                skillMasterRepository, userSkillRepository, index, rankingService, transactionManager, 300_000, 50, 500);
+
+        javaSkill = skill(1L, "Java", SkillCategory.PROGRAMMING_LANGUAGE);
+        springBootSkill = skill(2L, "Spring Boot", SkillCategory.FRAMEWORK);
+        cicdSkill = skill(3L, "CI/CD", SkillCategory.DEVOPS);
+    }
+
+    @Test
+    @DisplayName("자유 텍스트 필요 기술을 대소문자/구분자와 무관하게 기술 ID로 정규화한다")
+    void normalizesFreeTextSkills() {
+        given(skillMasterRepository.findAll()).willReturn(List.of(javaSkill, springBootSkill, cicdSkill));
+
+        assertThat(recommendationService.normalizeSkills("JAVA, spring  boot / CI/CD"))
+                .containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(recommendationService.normalizeSkills("Java Spring Boot 경험자 우대\nci/cd"))
+                .containsExactly(1L, 2L, 3L);
+        assertThat(recommendationService.normalizeSkills("Python")).isEmpty();
+        assertThat(recommendationService.normalizeSkills(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("발행된 공고의 기술 매핑을 저장하고 색인에 반영한다")
+    void syncsPublishedPostingIntoIndex() {
+        given(skillMasterRepository.findAll()).willReturn(List.of(javaSkill, springBootSkill, cicdSkill));
+        JobPosting posting = posting(10L, "Java, Spring Boot");
+        posting.publish(LocalDate.now().plusDays(30));
+        given(jobPostingSkillRepository.findSkillIdsByJobPostingId(10L)).willReturn(List.of(1L));
+
+        recommendationService.syncJobPosting(posting);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<JobPostingSkill>> saved = ArgumentCaptor.forClass(List.class);
+        verify(jobPostingSkillRepository).deleteByJobPostingId(10L);
+        verify(jobPostingSkillRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(JobPostingSkill::getSkillId).containsExactly(1L, 2L);
+        assertThat(index.contains(10L)).isTrue();
+        verify(rankingService).rerankJobPosting(10L);
+    }
+
+    @Test
+    @DisplayName("사용자 보유 기술로 추천하고 마감된 공고는 제외한다")
+    void recommendsPublishedPostingsInScoreOrder() {
+        JobPosting javaOnly = posting(10L, "Java");
+        javaOnly.publish(LocalDate.now().plusDays(30));
+        JobPosting javaAndSpring = posting(11L, "Java, Spring Boot");
+        javaAndSpring.publish(LocalDate.now().plusDays(30));
+        JobPosting closed = posting(12L, "Java");
+        closed.publish(LocalDate.now().plusDays(30));
+        index.put(10L, new JobRecommendationIndex.Entry(List.of(1L), javaOnly.getPublishedAt(), null));
+        index.put(11L, new JobRecommendationIndex.Entry(List.of(1L, 2L), javaAndSpring.getPublishedAt(), null));
+        index.put(12L, new JobRecommendationIndex.Entry(List.of(1L), closed.getPublishedAt(), null));
+        closed.close();
+
+        User user = new User("user@test.com", "password", UserType.GENERAL);
+        given(userSkillRepository.findByUserId(1L)).willReturn(List.of(
+                new UserSkill(user, javaSkill, SkillLevel.INTERMEDIATE),
+                new UserSkill(user, springBootSkill, SkillLevel.EXPERT)));
+        given(jobPostingRepository.findAllWithCompanyUserByIdIn(anyCollection()))
+                .willReturn(List.of(javaOnly, javaAndSpring, closed));
+
+        List<JobPosting> recommended = recommendationService.recommend(1L, 10);
+
+        assertThat(recommended).extracting(JobPosting::getId).containsExactly(11L, 10L);
+    }
+
+    private static SkillMaster skill(Long id, String name, SkillCategory category) {
+        SkillMaster skill = new SkillMaster(name, category);
+        skill.setId(id);
+        return skill;
+    }
+
+    private static JobPosting posting(Long id, String requiredSkills) {
+        User company = new User("company@test.com", "password", UserType.GENERAL);
+        JobPosting posting = new JobPosting(company, "백엔드 개발자", "테스트기업", "서울",
+                JobType.FULL_TIME, ExperienceLevel.MID_LEVEL);
+        posting.updateContent("설명", null, requiredSkills, null);
+        try {
+            Field idField = JobPosting.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(posting, id);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+        return posting;
+    }
+}
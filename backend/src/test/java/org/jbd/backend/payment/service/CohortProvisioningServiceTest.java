@@ -0,0 +1,218 @@
+package org.jbd.backend.payment.service;
+
+import jakarta.validation.Validation;
+import org.jbd.backend.common.exception.BusinessException;
+import org.jbd.backend.common.exception.ErrorCode;
+import org.jbd.backend.payment.domain.CohortProvisioningJob;
+import org.jbd.backend.payment.domain.Subscription;
+import org.jbd.backend.payment.domain.enums.PlanType;
+import org.jbd.backend.payment.domain.enums.ProvisioningJobStatus;
+import org.jbd.backend.payment.domain.enums.SubscriptionStatus;
+import org.jbd.backend.payment.dto.CohortProvisioningDto;
+import org.jbd.backend.payment.repository.CohortProvisioningJobRepository;
+import org.jbd.backend.payment.repository.SubscriptionRepository;
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.UserProfile;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.jbd.backend.user.repository.UserProfileRepository;
+import org.jbd.backend.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.*;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 작업은 코디네이터 스레드에서 청크마다 커밋되므로 테스트 트랜잭션 없이 실행하고 데이터는 직접 정리합니다.
+ * 청크 크기를 작게 두어 중복 확인/배치 INSERT 가 여러 청크에 걸쳐 실행되게 합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("CohortProvisioningService 테스트")
+class CohortProvisioningServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 9, 0);
+    private static final String COUPON = "soldesk2024";
+
+    @Autowired
+    private CohortProvisioningJobRepository provisioningJobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserProfileRepository userProfileRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+    private CohortProvisioningService service;
+
+    @BeforeEach
+    void setUp() {
+        PaymentService paymentService = mock(PaymentService.class);
+        when(paymentService.checkAcademyEligibility(any())).thenCallRealMethod();
+
+        Clock clock = Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        service = new CohortProvisioningService(provisioningJobRepository, userRepository, paymentService,
+                passwordEncoder, Validation.buildDefaultValidatorFactory().getValidator(), jdbcTemplate,
+                transactionManager, clock, 2, 2, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+        jdbcTemplate.update("DELETE FROM subscriptions");
+        jdbcTemplate.update("DELETE FROM user_profiles");
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("DELETE FROM cohort_provisioning_jobs");
+    }
+
+    @Test
+    @DisplayName("명단의 계정/프로필/무료 학원 구독을 만들고 이미 가입된 이메일은 건너뛴다")
+    void provisionsAccountsAndSkipsRegisteredEmails() throws InterruptedException {
+        // given
+        userRepository.save(new User("existing@test.com", "hash", UserType.GENERAL));
+        List<CohortProvisioningDto.MemberDto> members = List.of(
+                member("student1@test.com", "수강생1"),
+                member("existing@test.com", "기존회원"),
+                member("not-an-email", "형식오류"),
+                member("student2@test.com", "수강생2"),
+                member("STUDENT1@test.com", "중복"),
+                member("student3@test.com", "수강생3"));
+
+        // when
+        CohortProvisioningDto.StartJobResponseDto started = service.startJob(1L, COUPON, members);
+        CohortProvisioningDto.JobResponseDto job = awaitFinished(started.getJob().getJobId());
+
+        // then
+        assertThat(started.getRejectedMembers()).extracting(CohortProvisioningDto.RejectedMemberDto::getRow)
+                .containsExactly(3, 5);
+        assertThat(job.getStatus()).isEqualTo(ProvisioningJobStatus.COMPLETED);
+        assertThat(job.getTotalCount()).isEqualTo(4);
+        assertThat(job.getCreatedCount()).isEqualTo(3);
+        assertThat(job.getSkippedCount()).isEqualTo(1);
+        assertThat(job.getFailedCount()).isZero();
+        assertThat(job.getProgressPercent()).isEqualTo(100.0);
+
+        User student = userRepository.findByEmail("student2@test.com").orElseThrow();
+        assertThat(student.getUserType()).isEqualTo(UserType.GENERAL);
+        assertThat(student.isActive()).isTrue();
+        assertThat(passwordEncoder.matches("password123!", student.getPasswordHash())).isTrue();
+
+        assertThat(userProfileRepository.findAll()).extracting(UserProfile::getFirstName)
+                .containsExactlyInAnyOrder("수강생1", "수강생2", "수강생3");
+
+        List<Subscription> subscriptions = subscriptionRepository.findAll();
+        assertThat(subscriptions).hasSize(3).allSatisfy(subscription -> {
+            assertThat(subscription.getPlanType()).isEqualTo(PlanType.FREE_ACADEMY);
+            assertThat(subscription.getStatus()).isEqualTo(SubscriptionStatus.ACTIVE);
+            assertThat(subscription.getAcademyName()).isEqualTo("솔데스크 학원");
+            assertThat(subscription.getEndDate()).isEqualTo(NOW.plusMonths(3));
+        });
+    }
+
+    @Test
+    @DisplayName("DB 오류가 난 청크는 계정 단위로 다시 저장하여 해당 계정만 실패로 집계한다")
+    void retriesFailedChunkOneByOne() throws InterruptedException {
+        // given - 이름이 컬럼 길이(255)를 넘는 수강생
+        List<CohortProvisioningDto.MemberDto> members = List.of(
+                member("student1@test.com", "수강생1"),
+                member("student2@test.com", "이".repeat(300)),
+                member("student3@test.com", "수강생3"));
+
+        // when
+        CohortProvisioningDto.JobResponseDto job = awaitFinished(
+                service.startJob(1L, COUPON, members).getJob().getJobId());
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(ProvisioningJobStatus.COMPLETED);
+        assertThat(job.getCreatedCount()).isEqualTo(2);
+        assertThat(job.getFailedCount()).isEqualTo(1);
+        assertThat(userRepository.findByEmail("student2@test.com")).isEmpty();
+        assertThat(subscriptionRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 쿠폰 코드나 한도를 넘는 명단은 작업을 등록하지 않는다")
+    void rejectsInvalidCouponAndOversizedRoster() {
+        List<CohortProvisioningDto.MemberDto> oversized = IntStream.range(0, 11)
+                .mapToObj(i -> member("student" + i + "@test.com", "수강생" + i))
+                .toList();
+
+        assertThatThrownBy(() -> service.startJob(1L, "unknown", List.of(member("a@test.com", "수강생"))))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_REQUEST);
+        assertThatThrownBy(() -> service.startJob(1L, COUPON, oversized))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("10");
+        assertThat(provisioningJobRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("시작 전에 등록되어 끝나지 않은 작업은 시작 시 실패로 정리한다")
+    void failsOrphanedJobsOnStartup() {
+        // given - 이전 실행에서 등록된 작업과 이번 실행에서 등록된 작업
+        CohortProvisioningJob orphaned = provisioningJobRepository.save(new CohortProvisioningJob(1L, "솔데스크 학원", 3));
+        CohortProvisioningJob current = provisioningJobRepository.save(new CohortProvisioningJob(1L, "솔데스크 학원", 3));
+        jdbcTemplate.update("UPDATE cohort_provisioning_jobs SET created_at = ? WHERE id = ?",
+                Timestamp.valueOf(NOW.minusHours(1)), orphaned.getId());
+        jdbcTemplate.update("UPDATE cohort_provisioning_jobs SET created_at = ? WHERE id = ?",
+                Timestamp.valueOf(NOW.plusSeconds(1)), current.getId());
+
+        // when
+        service.failOrphanedJobs();
+
+        // then
+        CohortProvisioningDto.JobResponseDto failed = service.getJob(orphaned.getId());
+        assertThat(failed.getStatus()).isEqualTo(ProvisioningJobStatus.FAILED);
+        assertThat(failed.getFinishedAt()).isEqualTo(NOW);
+        assertThat(service.getJob(current.getId()).getStatus()).isEqualTo(ProvisioningJobStatus.QUEUED);
+    }
+
+    private CohortProvisioningDto.JobResponseDto awaitFinished(Long jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        CohortProvisioningDto.JobResponseDto job = service.getJob(jobId);
+        while (job.getFinishedAt() == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            job = service.getJob(jobId);
+        }
+        return job;
+    }
+
+    private static CohortProvisioningDto.MemberDto member(String email, String name) {
+        return CohortProvisioningDto.MemberDto.builder()
+                .email(email)
+                .name(name)
+                .password("password123!")
+                .build();
+    }
+}
@@ -0,0 +1,105 @@
+package org.jbd.backend.payment.service;
+
+import org.jbd.backend.payment.domain.Subscription;
+import org.jbd.backend.payment.domain.enums.PlanType;
+import org.jbd.backend.payment.domain.enums.SubscriptionStatus;
+import org.jbd.backend.payment.repository.SubscriptionRepository;
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SubscriptionEntitlementCache 테스트")
+class SubscriptionEntitlementCacheTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Mock
+    private SubscriptionRepository subscriptionRepository;
+
+    private final SubscriptionExpiryProcessorTest.MutableClock clock = new SubscriptionExpiryProcessorTest.MutableClock(START);
+
+    private SubscriptionEntitlementCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SubscriptionEntitlementCache(subscriptionRepository, clock, 300, 2);
+    }
+
+    @Test
+    @DisplayName("권한 확인은 캐시에서 응답하고 구독 변경 이벤트로 무효화된다")
+    void servesFromCacheUntilInvalidated() {
+        // given
+        given(subscriptionRepository.findTopByUserIdAndStatusOrderByCreatedAtDesc(1L, SubscriptionStatus.ACTIVE))
+                .willReturn(Optional.empty(), Optional.of(subscription(START.plusMonths(1))));
+
+        // when / then - 구독이 없다는 결과도 캐시
+        assertThat(cache.get(1L)).isEmpty();
+        assertThat(cache.get(1L)).isEmpty();
+
+        cache.onSubscriptionChanged(new SubscriptionChangedEvent(1L, 10L, SubscriptionStatus.ACTIVE));
+        assertThat(cache.get(1L)).map(SubscriptionEntitlement::planType).contains(PlanType.PAID_MONTHLY);
+        assertThat(cache.get(1L)).isPresent();
+
+        verify(subscriptionRepository, times(2))
+                .findTopByUserIdAndStatusOrderByCreatedAtDesc(1L, SubscriptionStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("만료일이 지나면 만료 처리 전이라도 권한이 없다")
+    void treatsLapsedEntitlementAsInactive() {
+        // given
+        given(subscriptionRepository.findTopByUserIdAndStatusOrderByCreatedAtDesc(1L, SubscriptionStatus.ACTIVE))
+                .willReturn(Optional.of(subscription(START.plusMinutes(2))));
+
+        // when / then
+        assertThat(cache.get(1L)).isPresent();
+        clock.advance(Duration.ofMinutes(3));
+        assertThat(cache.get(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("항목 수 한도를 넘으면 가장 오래 조회되지 않은 사용자부터 제거한다")
+    void evictsLeastRecentlyUsedBeyondMaxEntries() {
+        // given
+        given(subscriptionRepository.findTopByUserIdAndStatusOrderByCreatedAtDesc(anyLong(), eq(SubscriptionStatus.ACTIVE)))
+                .willReturn(Optional.empty());
+
+        // when - 한도 2: 1, 2 적재 후 1을 다시 조회하고 3을 적재하면 2가 제거됨
+        cache.get(1L);
+        cache.get(2L);
+        cache.get(1L);
+        cache.get(3L);
+        cache.get(1L);
+        cache.get(2L);
+
+        // then
+        verify(subscriptionRepository, times(1))
+                .findTopByUserIdAndStatusOrderByCreatedAtDesc(1L, SubscriptionStatus.ACTIVE);
+        verify(subscriptionRepository, times(2))
+                .findTopByUserIdAndStatusOrderByCreatedAtDesc(2L, SubscriptionStatus.ACTIVE);
+    }
+
+    private static Subscription subscription(LocalDateTime endDate) {
+        Subscription subscription = new Subscription(new User("user@test.com", "password", UserType.GENERAL),
+                PlanType.PAID_MONTHLY, START, endDate);
+        subscription.setId(10L);
+        return subscription;
+    }
+}
@@ -0,0 +1,158 @@
+package org.jbd.backend.payment.service;
+
+import org.jbd.backend.payment.domain.Subscription;
+import org.jbd.backend.payment.domain.enums.PlanType;
+import org.jbd.backend.payment.domain.enums.SubscriptionStatus;
+import org.jbd.backend.payment.repository.SubscriptionRepository;
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("SubscriptionExpiryProcessor 테스트")
+class SubscriptionExpiryProcessorTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final MutableClock clock = new MutableClock(START);
+    private final List<SubscriptionChangedEvent> events = new ArrayList<>();
+
+    private SubscriptionExpiryProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        processor = newProcessor();
+    }
+
+    @Test
+    @DisplayName("시계를 앞당기면 만료일이 지난 구독만 키셋 배치로 한 번씩 만료된다")
+    void expiresDueSubscriptionsAsClockAdvances() {
+        // given - 배치 크기(2)보다 많은 구독이 같은 만료일을 공유
+        List<Subscription> monthly = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            monthly.add(subscription("monthly" + i + "@test.com", START.plusMonths(1)));
+        }
+        Subscription academy = subscription("academy@test.com", START.plusMonths(3));
+        Subscription cancelled = subscription("cancelled@test.com", START.plusMonths(1));
+        cancelled.cancel();
+        entityManager.flush();
+
+        // when / then
+        assertThat(processor.expireDueSubscriptions()).isZero();
+
+        clock.advance(Duration.ofDays(32));
+        assertThat(processor.expireDueSubscriptions()).isEqualTo(5);
+        assertThat(processor.expireDueSubscriptions()).isZero();
+
+        clock.advance(Duration.ofDays(90));
+        assertThat(processor.expireDueSubscriptions()).isEqualTo(1);
+
+        entityManager.clear();
+        assertThat(statusOf(academy)).isEqualTo(SubscriptionStatus.EXPIRED);
+        assertThat(statusOf(cancelled)).isEqualTo(SubscriptionStatus.CANCELLED);
+        monthly.forEach(subscription -> assertThat(statusOf(subscription)).isEqualTo(SubscriptionStatus.EXPIRED));
+        assertThat(events).extracting(SubscriptionChangedEvent::subscriptionId).doesNotHaveDuplicates().hasSize(6);
+    }
+
+    @Test
+    @DisplayName("실행이 겹쳐도 같은 구독을 두 번 처리하지 않는다")
+    void overlappingRunsNeverDoubleProcess() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            subscription("user" + i + "@test.com", START.plusDays(10));
+        }
+        entityManager.flush();
+        clock.advance(Duration.ofDays(11));
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        // when - 첫 번째 실행이 대상을 조회한 뒤, 다른 인스턴스의 실행이 먼저 끝남
+        SubscriptionExpiryProcessor other = newProcessor();
+        List<SubscriptionExpiryProcessor.Due> firstRunBatch = processor.findDue(now, null);
+        int expiredByOther = other.expireDueSubscriptions();
+        int expiredByFirst = processor.expire(firstRunBatch, now);
+
+        // then
+        assertThat(firstRunBatch).hasSize(2);
+        assertThat(expiredByOther).isEqualTo(3);
+        assertThat(expiredByFirst).isZero();
+        Map<Long, Long> processed = events.stream()
+                .collect(Collectors.groupingBy(SubscriptionChangedEvent::subscriptionId, Collectors.counting()));
+        assertThat(processed).hasSize(3).allSatisfy((id, count) -> assertThat(count).isEqualTo(1L));
+    }
+
+    private SubscriptionExpiryProcessor newProcessor() {
+        return new SubscriptionExpiryProcessor(subscriptionRepository, jdbcTemplate, transactionManager,
+                event -> events.add((SubscriptionChangedEvent) event), clock, 2);
+    }
+
+    private Subscription subscription(String email, LocalDateTime endDate) {
+        User user = entityManager.persist(new User(email, "password", UserType.GENERAL));
+        return entityManager.persist(new Subscription(user, PlanType.PAID_MONTHLY, START, endDate));
+    }
+
+    private SubscriptionStatus statusOf(Subscription subscription) {
+        return subscriptionRepository.findById(subscription.getId()).map(Subscription::getStatus).orElseThrow();
+    }
+
+    /**
+     * 테스트에서 시간을 앞당길 수 있는 시계
+     */
+    static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(LocalDateTime start) {
+            this.instant = start.atZone(ZoneId.systemDefault()).toInstant();
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
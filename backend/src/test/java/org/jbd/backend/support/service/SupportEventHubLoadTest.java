@@ -0,0 +1,213 @@
+package org.jbd.backend.support.service;
+
+import org.jbd.backend.support.dto.SupportDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 수천 개의 동시 구독에서 팬아웃이 메모리를 일정하게 유지하고 느린 구독자만 끊는지 검증합니다.
+ * 허브는 저장소에 의존하지 않으므로 이벤트 전달 중 DB 조회가 발생할 수 없습니다.
+ */
+@DisplayName("지원 티켓 SSE 허브 부하 테스트")
+class SupportEventHubLoadTest {
+
+    private static final int FAST_SUBSCRIBERS = 3_000;
+    private static final int DISPATCH_THREADS = 8;
+    /** 전송이 멈춘 구독자 (디스패처 스레드를 모두 붙잡을 만큼 많아도 빠른 구독자 전송은 계속되어야 함) */
+    private static final int STALLED_SUBSCRIBERS = DISPATCH_THREADS * 2;
+    private static final int TICKETS = 300;
+    private static final int BURSTS = 10;
+    private static final int EVENTS_PER_BURST = 20;
+    private static final int QUEUE_CAPACITY = 64;
+    private static final long WRITE_TIMEOUT_MS = 200;
+    private static final int MAX_EXTRA_DISPATCH_THREADS = STALLED_SUBSCRIBERS;
+
+    private final CountDownLatch releaseStalled = new CountDownLatch(1);
+    private SupportEventHub hub;
+
+    @BeforeEach
+    void setUp() {
+        hub = new SupportEventHub(DISPATCH_THREADS, QUEUE_CAPACITY, 10_000, 60_000, WRITE_TIMEOUT_MS,
+                MAX_EXTRA_DISPATCH_THREADS, 2, 1024);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseStalled.countDown();
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("빠른 구독자는 모든 이벤트를 받고 전송이 멈춘 구독자는 끊기며 힙 사용량은 증가하지 않는다")
+    void fanOutKeepsHeapFlatAndDropsSlowConsumers() throws Exception {
+        List<CountingSink> fastSinks = new ArrayList<>();
+        List<SupportEventHub.Subscriber> fastSubscribers = new ArrayList<>();
+        for (int i = 0; i < FAST_SUBSCRIBERS; i++) {
+            CountingSink sink = new CountingSink();
+            fastSinks.add(sink);
+            fastSubscribers.add(hub.subscribe(SupportEventHub.ticketTopic((long) (i % TICKETS)), sink));
+        }
+        List<SupportEventHub.Subscriber> stalledSubscribers = new ArrayList<>();
+        for (int i = 0; i < STALLED_SUBSCRIBERS; i++) {
+            stalledSubscribers.add(hub.subscribe(SupportEventHub.ticketTopic((long) i), new StalledSink(releaseStalled)));
+        }
+
+        long heapAfterWarmup = 0;
+        for (int burst = 0; burst < BURSTS; burst++) {
+            for (int e = 0; e < EVENTS_PER_BURST; e++) {
+                long messageId = (long) burst * EVENTS_PER_BURST + e;
+                for (long ticket = 0; ticket < TICKETS; ticket++) {
+                    hub.publish(SupportEventHub.ticketTopic(ticket), SupportDto.StreamEvent.builder()
+                            .type("message").ticketId(ticket).messageId(messageId).build());
+                }
+            }
+            int expected = (burst + 1) * EVENTS_PER_BURST;
+            awaitTrue(() -> fastSinks.stream().allMatch(sink -> sink.received.get() == expected));
+            if (burst == 1) {
+                heapAfterWarmup = usedHeapAfterGc();
+            }
+        }
+        long heapAtEnd = usedHeapAfterGc();
+
+        assertThat(fastSubscribers).noneMatch(SupportEventHub.Subscriber::isClosed);
+        assertThat(fastSinks).allMatch(sink -> sink.received.get() == BURSTS * EVENTS_PER_BURST);
+        assertThat(stalledSubscribers).allMatch(SupportEventHub.Subscriber::isClosed);
+        assertThat(hub.getDroppedCount()).isEqualTo(STALLED_SUBSCRIBERS);
+        assertThat(hub.getSubscriberCount()).isEqualTo(FAST_SUBSCRIBERS);
+        assertThat(fastSubscribers).allMatch(subscriber -> subscriber.getQueuedCount() <= QUEUE_CAPACITY);
+        assertThat(heapAtEnd - heapAfterWarmup).isLessThan(32L * 1024 * 1024);
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 구독자는 정리되고 한도를 넘는 구독은 거절된다")
+    void cleansUpFailedSinksAndEnforcesLimit() throws Exception {
+        SupportEventHub limitedHub = new SupportEventHub(2, QUEUE_CAPACITY, 2, 60_000, WRITE_TIMEOUT_MS,
+                2, 1, 16);
+        try {
+            AtomicBoolean closed = new AtomicBoolean();
+            SupportEventHub.Subscriber failing = limitedHub.subscribe("ticket:1", new SupportEventHub.EventSink() {
+                @Override
+                public void send(SupportDto.StreamEvent event) throws IOException {
+                    throw new IOException("broken pipe");
+                }
+
+                @Override
+                public void close() {
+                    closed.set(true);
+                }
+            });
+            limitedHub.subscribe("ticket:1", new CountingSink());
+
+            assertThatThrownBy(() -> limitedHub.subscribe("ticket:2", new CountingSink()))
+                    .isInstanceOf(IllegalStateException.class);
+
+            limitedHub.publish("ticket:1", SupportDto.StreamEvent.builder().type("message").build());
+            awaitTrue(closed::get);
+
+            assertThat(failing.isClosed()).isTrue();
+            assertThat(limitedHub.getSubscriberCount()).isEqualTo(1);
+        } finally {
+            limitedHub.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("멈춘 전송을 보충하는 디스패처 스레드는 상한을 넘지 않고, 전송이 풀리면 원래 크기로 돌아온다")
+    void capsExtraDispatcherThreads() throws Exception {
+        SupportEventHub cappedHub = new SupportEventHub(2, QUEUE_CAPACITY, 100, 60_000, WRITE_TIMEOUT_MS,
+                1, 1, 16);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            for (long ticket = 0; ticket < 4; ticket++) {
+                cappedHub.subscribe(SupportEventHub.ticketTopic(ticket), new StalledSink(release));
+                cappedHub.publish(SupportEventHub.ticketTopic(ticket),
+                        SupportDto.StreamEvent.builder().type("message").ticketId(ticket).build());
+            }
+
+            // 기본 2개 + 보충 1개 스레드만 멈춘 전송을 붙잡고, 네 번째 전송은 대기열에 남음
+            awaitTrue(() -> cappedHub.getDroppedCount() == 3);
+            Thread.sleep(WRITE_TIMEOUT_MS * 3);
+            assertThat(cappedHub.getDroppedCount()).isEqualTo(3);
+            assertThat(cappedHub.getDispatcherThreadLimit()).isEqualTo(3);
+
+            release.countDown();
+            awaitTrue(() -> cappedHub.getDispatcherThreadLimit() == 2 && cappedHub.getSubscriberCount() == 0);
+        } finally {
+            release.countDown();
+            cappedHub.shutdown();
+        }
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("condition not met within timeout");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static final class CountingSink implements SupportEventHub.EventSink {
+
+        private final AtomicInteger received = new AtomicInteger();
+
+        @Override
+        public void send(SupportDto.StreamEvent event) {
+            received.incrementAndGet();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * 네트워크 쓰기가 멈춘 클라이언트: 출력을 닫아도 전송이 반환되지 않음 (컨테이너 쓰기 타임아웃 전의 SseEmitter 와 같음)
+     */
+    private static final class StalledSink implements SupportEventHub.EventSink {
+
+        private final CountDownLatch release;
+
+        private StalledSink(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SupportDto.StreamEvent event) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IOException("connection closed");
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
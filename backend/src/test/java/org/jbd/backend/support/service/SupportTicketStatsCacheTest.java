@@ -0,0 +1,150 @@
+package org.jbd.backend.support.service;
+
+import org.jbd.backend.auth.service.JwtService;
+import org.jbd.backend.support.domain.SupportTicket;
+import org.jbd.backend.support.domain.TicketPriority;
+import org.jbd.backend.support.domain.TicketStatus;
+import org.jbd.backend.support.dto.SupportDto;
+import org.jbd.backend.support.repository.SupportMessageRepository;
+import org.jbd.backend.support.repository.SupportTicketRepository;
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.jbd.backend.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 무작위 티켓 전이 후에도 증분 갱신된 스냅샷이 새로 집계한 결과와 같은지 검증합니다.
+ * 커밋 이후 반영을 확인하기 위해 테스트 트랜잭션 없이 실행하고 데이터는 직접 정리합니다.
+ */
+@DataJpaTest(properties = "app.support.stats-ttl-seconds=3600")
+@ActiveProfiles("test")
+@Import({SupportService.class, SupportTicketStatsCache.class, SupportEventHub.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("지원 티켓 통계 스냅샷 테스트")
+class SupportTicketStatsCacheTest {
+
+    private static final String[] TARGET_STATUSES = {"OPEN", "IN_PROGRESS", "RESOLVED", "CLOSED"};
+
+    @Autowired
+    private SupportService supportService;
+
+    @Autowired
+    private SupportTicketStatsCache statsCache;
+
+    @Autowired
+    private SupportTicketRepository ticketRepository;
+
+    @Autowired
+    private SupportMessageRepository messageRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private JwtService jwtService;
+
+    private List<User> users;
+    private User admin;
+
+    @BeforeEach
+    void setUp() {
+        users = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            users.add(userRepository.save(new User("member" + i + "@test.com", "password", UserType.GENERAL)));
+        }
+        admin = userRepository.save(new User("admin@test.com", "password", UserType.ADMIN));
+
+        given(jwtService.extractUserId(anyString())).willAnswer(invocation -> Long.valueOf(invocation.<String>getArgument(0)));
+        given(jwtService.extractUserType(anyString())).willAnswer(invocation ->
+                admin.getId().equals(Long.valueOf(invocation.<String>getArgument(0))) ? "ADMIN" : "GENERAL");
+    }
+
+    @AfterEach
+    void tearDown() {
+        messageRepository.deleteAllInBatch();
+        ticketRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @ParameterizedTest(name = "seed={0}")
+    @ValueSource(longs = {1L, 7L, 42L})
+    @DisplayName("무작위 생성/답변/상태 전이/평가 후 스냅샷은 새 집계와 일치한다")
+    void snapshotMatchesFreshAggregateAfterRandomTransitions(long seed) {
+        Random random = new Random(seed);
+        Map<Long, User> owners = new HashMap<>();
+
+        // 스냅샷을 먼저 적재하여 이후에는 증분 갱신만으로 유지되는지 확인
+        statsCache.getGlobalStats();
+        users.forEach(user -> statsCache.getUserStats(user.getId()));
+
+        for (int step = 0; step < 150; step++) {
+            if (owners.isEmpty() || random.nextInt(5) == 0) {
+                User owner = users.get(random.nextInt(users.size()));
+                TicketPriority priority = TicketPriority.values()[random.nextInt(TicketPriority.values().length)];
+                SupportDto.TicketResponse created = supportService.createTicket(SupportDto.CreateTicketRequest.builder()
+                        .subject("문의 " + step).description("내용").category("general").priority(priority.name())
+                        .build(), bearer(owner));
+                owners.put(created.getId(), owner);
+            } else {
+                List<Long> ticketIds = new ArrayList<>(owners.keySet());
+                Long ticketId = ticketIds.get(random.nextInt(ticketIds.size()));
+                User owner = owners.get(ticketId);
+                switch (random.nextInt(5)) {
+                    case 0 -> supportService.updateTicketStatus(ticketId,
+                            TARGET_STATUSES[random.nextInt(TARGET_STATUSES.length)], bearer(admin));
+                    case 1 -> supportService.closeTicket(ticketId, bearer(random.nextBoolean() ? owner : admin));
+                    case 2 -> supportService.reopenTicket(ticketId, bearer(owner));
+                    case 3 -> {
+                        SupportTicket ticket = ticketRepository.findById(ticketId).orElseThrow();
+                        if (ticket.isResolved() || ticket.isClosed()) {
+                            supportService.submitSatisfactionRating(ticketId, 1 + random.nextInt(5), "평가", bearer(owner));
+                        }
+                    }
+                    default -> supportService.sendMessage(ticketId, SupportDto.SendMessageRequest.builder()
+                            .message("답변 " + step).build(), bearer(random.nextBoolean() ? owner : admin));
+                }
+            }
+
+            assertThat(statsCache.getGlobalStats())
+                    .as("global after step %d", step)
+                    .isEqualTo(SupportTicketStatsCache.Snapshot.of(ticketRepository.aggregateStats()));
+            for (User user : users) {
+                assertThat(statsCache.getUserStats(user.getId()))
+                        .as("user %d after step %d", user.getId(), step)
+                        .isEqualTo(SupportTicketStatsCache.Snapshot.of(ticketRepository.aggregateStatsByUserId(user.getId())));
+            }
+        }
+
+        SupportDto.TicketStats adminStats = supportService.getTicketStats(bearer(admin));
+        assertThat(adminStats.getTotalTickets()).isEqualTo(owners.size());
+        assertThat(adminStats.getOpenTickets() + adminStats.getInProgressTickets()
+                + adminStats.getResolvedTickets() + adminStats.getClosedTickets()).isEqualTo(owners.size());
+        assertThat(adminStats.getOpenTickets())
+                .isEqualTo(ticketRepository.countByStatus(TicketStatus.OPEN));
+    }
+
+    private String bearer(User user) {
+        return "Bearer " + user.getId();
+    }
+}
@@ -0,0 +1,245 @@
+package org.jbd.backend.webmail.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jbd.backend.common.exception.BusinessException;
+import org.jbd.backend.common.exception.ErrorCode;
+import org.jbd.backend.webmail.domain.EmailHistory;
+import org.jbd.backend.webmail.dto.EmailHistoryDto;
+import org.jbd.backend.webmail.repository.EmailHistoryArchiveRepository;
+import org.jbd.backend.webmail.repository.EmailHistoryRepository;
+import org.jbd.backend.webmail.repository.EmailHistoryTermRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 보관 작업은 배치마다 자체 트랜잭션으로 커밋되므로 테스트 트랜잭션 없이 실행하고 데이터는 직접 정리합니다.
+ * 생성 시각은 감사(auditing)로 채워지므로 정렬/보관 기준이 되는 created_at 은 JDBC 로 고정합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("EmailHistoryService 테스트")
+class EmailHistoryServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 9, 0);
+    private static final Long USER_ID = 1L;
+    private static final Long OTHER_USER_ID = 2L;
+
+    @Autowired
+    private EmailHistoryRepository emailHistoryRepository;
+
+    @Autowired
+    private EmailHistoryTermRepository termRepository;
+
+    @Autowired
+    private EmailHistoryArchiveRepository archiveRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private EmailHistorySearchIndex searchIndex;
+    private EmailHistoryArchiver archiver;
+    private EmailHistoryService service;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        searchIndex = new EmailHistorySearchIndex(termRepository, jdbcTemplate, 2000);
+        searchIndex.markBackfilled();
+        archiver = new EmailHistoryArchiver(emailHistoryRepository, searchIndex, jdbcTemplate, transactionManager,
+                new ObjectMapper().findAndRegisterModules(), clock, 30, 2);
+        service = new EmailHistoryService(emailHistoryRepository, archiveRepository, searchIndex, archiver);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM email_history_terms");
+        jdbcTemplate.update("DELETE FROM email_history_archive");
+        jdbcTemplate.update("DELETE FROM email_history");
+    }
+
+    @Test
+    @DisplayName("목록은 (createdAt, id) 키셋으로 최신순 페이지를 누락/중복 없이 이어서 반환한다")
+    void pagesHistoryByKeyset() {
+        // given - 같은 시각에 보낸 이력 2건 포함
+        Long first = send(USER_ID, "첫 번째", "본문", false, NOW.minusDays(3));
+        Long second = send(USER_ID, "두 번째", "본문", true, NOW.minusDays(2));
+        Long third = send(USER_ID, "세 번째", "본문", false, NOW.minusDays(2));
+        Long fourth = send(USER_ID, "네 번째", "본문", true, NOW.minusDays(1));
+        Long fifth = send(USER_ID, "다섯 번째", "본문", false, NOW.minusHours(1));
+        send(OTHER_USER_ID, "다른 사용자", "본문", false, NOW.minusHours(2));
+
+        // when
+        List<Long> ids = new ArrayList<>();
+        EmailHistoryDto.CursorPageDto page = service.getHistory(USER_ID, false, null, null, 2);
+        int pages = 1;
+        page.getContent().forEach(summary -> ids.add(summary.getId()));
+        while (page.isHasNext()) {
+            page = service.getHistory(USER_ID, false, page.getNextCursorCreatedAt(), page.getNextCursorId(), 2);
+            page.getContent().forEach(summary -> ids.add(summary.getId()));
+            pages++;
+        }
+
+        // then
+        assertThat(pages).isEqualTo(3);
+        assertThat(ids).containsExactly(fifth, fourth, third, second, first);
+        assertThat(service.getHistory(USER_ID, true, null, null, 10).getContent())
+                .extracting(EmailHistoryDto.SummaryDto::getId)
+                .containsExactly(fourth, second);
+    }
+
+    @Test
+    @DisplayName("검색은 모든 검색어(한글은 조사가 붙어도)를 포함하는 본인 이력만 최신순으로 반환한다")
+    void searchesSubjectAndContent() {
+        // given
+        Long interview = send(USER_ID, "면접 일정 안내", "<p>Interview schedule for <b>Backend</b> role</p>",
+                false, NOW.minusDays(2));
+        Long document = send(USER_ID, "서류 합격 안내", "서류전형에 합격하셨습니다", false, NOW.minusDays(1));
+        send(OTHER_USER_ID, "면접 일정 안내", "Interview", false, NOW.minusDays(1));
+
+        // when & then
+        assertThat(ids(service.search(USER_ID, "면접", null, 10))).containsExactly(interview);
+        assertThat(ids(service.search(USER_ID, "안내", null, 10))).containsExactly(document, interview);
+        assertThat(ids(service.search(USER_ID, "합격을", null, 10))).isEmpty();
+        assertThat(ids(service.search(USER_ID, "서류전형 합격", null, 10))).containsExactly(document);
+        assertThat(ids(service.search(USER_ID, "INTERVIEW backend", null, 10))).containsExactly(interview);
+        assertThat(ids(service.search(USER_ID, "interview frontend", null, 10))).isEmpty();
+
+        EmailHistoryDto.CursorPageDto firstPage = service.search(USER_ID, "안내", null, 1);
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(ids(service.search(USER_ID, "안내", firstPage.getNextCursorId(), 1))).containsExactly(interview);
+
+        assertThatThrownBy(() -> service.search(USER_ID, " <br> ", null, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("색인 도입 이전 이력은 백필 전에는 직접 검색으로 찾고, 백필이 끝나면 색인으로 찾는다")
+    void backfillsLegacyHistoryAndFallsBackUntilDone() {
+        // given - 색인 없이 저장된 이력 (배치 크기 2보다 많음)
+        EmailHistorySearchIndex legacyIndex = new EmailHistorySearchIndex(termRepository, jdbcTemplate, 2000);
+        EmailHistoryService legacyService = new EmailHistoryService(emailHistoryRepository, archiveRepository,
+                legacyIndex, archiver);
+        Long first = sendWithoutIndex(USER_ID, "면접 일정 안내", "<p>Interview schedule</p>");
+        Long second = sendWithoutIndex(USER_ID, "서류 합격 안내", "서류전형에 합격하셨습니다");
+        Long third = sendWithoutIndex(USER_ID, "면접 결과 안내", "최종 합격");
+        sendWithoutIndex(OTHER_USER_ID, "면접 일정 안내", "Interview");
+
+        // when & then - 백필 전: 색인이 비어 있어도 결과가 같음
+        assertThat(termRepository.count()).isZero();
+        assertThat(ids(legacyService.search(USER_ID, "면접 안내", null, 10))).containsExactly(third, first);
+        assertThat(ids(legacyService.search(USER_ID, "interview", null, 10))).containsExactly(first);
+        assertThat(ids(legacyService.search(USER_ID, "안내", third, 10))).containsExactly(second, first);
+
+        // when - 백필
+        new EmailHistorySearchBackfill(emailHistoryRepository, legacyIndex, transactionManager, 2).backfill();
+
+        // then
+        assertThat(legacyIndex.isBackfilled()).isTrue();
+        assertThat(termRepository.count()).isPositive();
+        assertThat(ids(legacyService.search(USER_ID, "면접 안내", null, 10))).containsExactly(third, first);
+        assertThat(ids(legacyService.search(USER_ID, "합격", null, 10))).containsExactly(third, second);
+    }
+
+    @Test
+    @DisplayName("백필이 읽은 뒤 삭제된 이력은 색인하지 않아 고아 검색어가 남지 않는다")
+    void skipsIndexingHistoryDeletedAfterRead() {
+        // given - 백필이 읽어 둔 이력을 보관 작업이 먼저 삭제
+        Long id = sendWithoutIndex(USER_ID, "면접 일정 안내", "Interview schedule");
+        EmailHistory read = emailHistoryRepository.findById(id).orElseThrow();
+        jdbcTemplate.update("DELETE FROM email_history WHERE id = ?", id);
+
+        // when
+        searchIndex.index(read);
+
+        // then
+        assertThat(termRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 이력은 보관 테이블로 옮겨 검색에서 빠지고 상세 조회로는 복원된다")
+    void archivesExpiredHistory() {
+        // given - 배치 크기(2)보다 많은 보관 대상
+        Long oldest = send(USER_ID, "지원서 제출", "오래된 지원서 본문", true, NOW.minusDays(90));
+        Long older = send(USER_ID, "지원서 수정", "수정한 지원서", false, NOW.minusDays(60));
+        Long old = send(OTHER_USER_ID, "지원서 문의", "문의 본문", false, NOW.minusDays(31));
+        Long recent = send(USER_ID, "지원서 확인", "최근 본문", false, NOW.minusDays(5));
+
+        // when
+        int archived = archiver.archiveExpired();
+
+        // then
+        assertThat(archived).isEqualTo(3);
+        assertThat(archiver.archiveExpired()).isZero();
+        assertThat(emailHistoryRepository.findAll()).extracting(EmailHistory::getId).containsExactly(recent);
+        assertThat(archiveRepository.count()).isEqualTo(3);
+        assertThat(ids(service.search(USER_ID, "지원서", null, 10))).containsExactly(recent);
+        assertThat(ids(service.getHistory(USER_ID, false, null, null, 10))).containsExactly(recent);
+
+        EmailHistoryDto.DetailDto detail = service.getDetail(USER_ID, oldest);
+        assertThat(detail.isArchived()).isTrue();
+        assertThat(detail.getSubject()).isEqualTo("지원서 제출");
+        assertThat(detail.getContent()).isEqualTo("오래된 지원서 본문");
+        assertThat(detail.isWasTranslated()).isTrue();
+        assertThat(detail.getCreatedAt()).isEqualTo(NOW.minusDays(90));
+        assertThat(service.getDetail(USER_ID, older).isArchived()).isTrue();
+        assertThat(service.getDetail(USER_ID, recent).isArchived()).isFalse();
+
+        assertThatThrownBy(() -> service.getDetail(USER_ID, old))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.NOT_FOUND);
+    }
+
+    private Long send(Long userId, String subject, String content, boolean translated, LocalDateTime createdAt) {
+        EmailHistory history = emailHistoryRepository.save(EmailHistory.builder()
+                .senderEmail("sender@test.com")
+                .recipientEmail("hr@company.com")
+                .subject(subject)
+                .content(content)
+                .wasTranslated(translated)
+                .userId(userId)
+                .build());
+        searchIndex.index(history);
+        jdbcTemplate.update("UPDATE email_history SET created_at = ? WHERE id = ?",
+                Timestamp.valueOf(createdAt), history.getId());
+        return history.getId();
+    }
+
+    private Long sendWithoutIndex(Long userId, String subject, String content) {
+        return emailHistoryRepository.save(EmailHistory.builder()
+                .senderEmail("sender@test.com")
+                .recipientEmail("hr@company.com")
+                .subject(subject)
+                .content(content)
+                .userId(userId)
+                .build()).getId();
+    }
+
+    private static List<Long> ids(EmailHistoryDto.CursorPageDto page) {
+        return page.getContent().stream().map(EmailHistoryDto.SummaryDto::getId).toList();
+    }
+}
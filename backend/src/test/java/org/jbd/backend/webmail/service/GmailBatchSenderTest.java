@@ -0,0 +1,336 @@
+package org.jbd.backend.webmail.service;
+
+import com.google.api.services.gmail.model.Message;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.client.InMemoryOAuth2AuthorizedClientService;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.InMemoryClientRegistrationRepository;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2RefreshToken;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Gmail 발송(send)/배치(batch)/토큰 갱신 엔드포인트를 흉내 내는 로컬 스텁 서버로 클라이언트 풀과 발송 대기열을 검증합니다.
+ */
+@DisplayName("Gmail 클라이언트 풀/배치 발송 테스트")
+class GmailBatchSenderTest {
+
+    private GmailStub stub;
+    private ClientRegistration registration;
+    private InMemoryOAuth2AuthorizedClientService authorizedClients;
+    private GmailClientPool pool;
+    private GmailBatchSender sender;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new GmailStub();
+        registration = ClientRegistration.withRegistrationId(GmailClientPool.REGISTRATION_ID)
+                .clientId("client-id")
+                .clientSecret("client-secret")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("{baseUrl}/login/oauth2/code/{registrationId}")
+                .authorizationUri(stub.url() + "auth")
+                .tokenUri(stub.url() + "token")
+                .build();
+        InMemoryClientRegistrationRepository registrations = new InMemoryClientRegistrationRepository(registration);
+        authorizedClients = new InMemoryOAuth2AuthorizedClientService(registrations);
+        pool = new GmailClientPool(registrations, authorizedClients, Clock.systemDefaultZone(), stub.url(),
+                120, 5000, 5000, 100);
+        sender = new GmailBatchSender(50, 20, 4, 10000, 3, 20, 200, 10000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sender.shutdown();
+        stub.stop();
+    }
+
+    @Test
+    @DisplayName("사용자별 클라이언트를 재사용하고 만료가 가까운 토큰은 발송 전에 갱신한다")
+    void reusesPooledClientAndRefreshesTokenAheadOfExpiry() throws IOException {
+        // given - 30초 뒤 만료되는 토큰 (갱신 여유 120초)
+        link("user@test.com", "stale-token", Duration.ofSeconds(30));
+
+        // when
+        GmailClientPool.PooledGmail first = pool.acquire("user@test.com").orElseThrow();
+        GmailClientPool.PooledGmail second = pool.acquire("user@test.com").orElseThrow();
+        Message sent = sender.send(first, raw("hello"));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(stub.tokenRefreshes).hasValue(1);
+        assertThat(authorizedClients.loadAuthorizedClient(GmailClientPool.REGISTRATION_ID, "user@test.com")
+                .getAccessToken().getTokenValue()).isEqualTo("refreshed-token");
+        assertThat(sent.getId()).isEqualTo("id-hello");
+        assertThat(stub.authorizations).containsExactly("Bearer refreshed-token");
+        assertThat(pool.acquire("unknown@test.com")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대기열의 발송을 사용자별 배치 요청으로 묶고, 실패한 메시지만 재시도하거나 실패 처리한다")
+    void batchesQueuedSendsPerUserAndRetriesPerMessage() {
+        // given
+        GmailClientPool.PooledGmail alice = linked("alice@test.com");
+        GmailClientPool.PooledGmail bob = linked("bob@test.com");
+        stub.throttleOnce.addAll(List.of("msg-3", "msg-10"));
+        stub.rejected.add("msg-7");
+
+        // when
+        List<CompletableFuture<Message>> results = IntStream.range(0, 30)
+                .mapToObj(i -> sender.submit(i % 2 == 0 ? alice : bob, raw("msg-" + i)))
+                .toList();
+
+        // then
+        for (int i = 0; i < results.size(); i++) {
+            CompletableFuture<Message> result = results.get(i);
+            if (i == 7) {
+                assertThatThrownBy(result::join).hasCauseInstanceOf(IOException.class).hasMessageContaining("400");
+            } else {
+                assertThat(result.join().getId()).isEqualTo("id-msg-" + i);
+            }
+        }
+        assertThat(stub.attempts("msg-3")).isEqualTo(2);
+        assertThat(stub.attempts("msg-10")).isEqualTo(2);
+        assertThat(stub.attempts("msg-7")).isEqualTo(1);
+        assertThat(stub.batchRequests.get()).isPositive();
+        assertThat(stub.httpRequests.get()).isLessThan(30);
+        assertThat(stub.authorizations)
+                .containsExactlyInAnyOrder("Bearer token-alice@test.com", "Bearer token-bob@test.com");
+    }
+
+    @Test
+    @DisplayName("단건 발송은 대기열을 거치지 않고 바로 보내며, 사용량 제한 응답은 백오프 후 재시도한다")
+    void sendsSingleMessageDirectlyAndRetriesThrottle() throws IOException {
+        // given
+        GmailClientPool.PooledGmail alice = linked("alice@test.com");
+        stub.throttleOnce.add("direct");
+
+        // when
+        Message sent = sender.send(alice, raw("direct"));
+
+        // then
+        assertThat(sent.getId()).isEqualTo("id-direct");
+        assertThat(stub.attempts("direct")).isEqualTo(2);
+        assertThat(stub.batchRequests.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 발송됐을 수 있는 5xx 응답은 재시도하지 않는다")
+    void doesNotRetryServerErrors() {
+        // given
+        GmailClientPool.PooledGmail alice = linked("alice@test.com");
+        stub.serverErrorOnce.add("maybe-sent");
+
+        // when & then
+        assertThatThrownBy(() -> sender.send(alice, raw("maybe-sent")))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("503");
+        assertThat(stub.attempts("maybe-sent")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 다시 보낼 수 없으면 재시도를 예약하지 않고 바로 실패를 알린다")
+    void failsInsteadOfRetryingPastSendTimeout() {
+        // given - 첫 재시도 대기(500ms)가 발송 대기 시간(200ms)보다 김
+        GmailClientPool.PooledGmail alice = linked("alice@test.com");
+        stub.throttleOnce.add("late");
+        GmailBatchSender tight = new GmailBatchSender(50, 10, 1, 100, 5, 500, 1000, 200);
+
+        try {
+            // when & then
+            assertThatThrownBy(() -> tight.send(alice, raw("late")))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("429");
+            assertThat(stub.attempts("late")).isEqualTo(1);
+        } finally {
+            tight.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간은 지수적으로 늘고 상한을 넘지 않으며, Retry-After 가 더 길면 따른다")
+    void retryDelayGrowsExponentiallyAndHonorsRetryAfter() {
+        GmailBatchSender backoff = new GmailBatchSender(50, 10, 1, 100, 5, 100, 1000, 1000);
+        try {
+            assertThat(backoff.retryDelayMillis(1, -1)).isBetween(100L, 125L);
+            assertThat(backoff.retryDelayMillis(3, -1)).isBetween(400L, 500L);
+            assertThat(backoff.retryDelayMillis(6, -1)).isEqualTo(1000L);
+            assertThat(backoff.retryDelayMillis(1, 3)).isEqualTo(3000L);
+        } finally {
+            backoff.shutdown();
+        }
+    }
+
+    private GmailClientPool.PooledGmail linked(String userEmail) {
+        link(userEmail, "token-" + userEmail, Duration.ofHours(1));
+        return pool.acquire(userEmail).orElseThrow();
+    }
+
+    private void link(String userEmail, String accessToken, Duration expiresIn) {
+        Instant now = Instant.now();
+        authorizedClients.saveAuthorizedClient(new OAuth2AuthorizedClient(registration, userEmail,
+                        new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, accessToken, now, now.plus(expiresIn)),
+                        new OAuth2RefreshToken("refresh-" + userEmail, now)),
+                new UsernamePasswordAuthenticationToken(userEmail, null));
+    }
+
+    private static Message raw(String raw) {
+        return new Message().setRaw(raw);
+    }
+
+    /**
+     * Gmail API 스텁 (raw 값으로 메시지를 구분)
+     * - POST /gmail/v1/users/me/messages/send: 단건 발송
+     * - POST /batch/gmail/v1: multipart/mixed 배치, 파트마다 application/http 응답
+     * - POST /token: 리프레시 토큰 갱신
+     */
+    private static final class GmailStub {
+
+        private static final Pattern RAW = Pattern.compile("\"raw\"\\s*:\\s*\"([^\"]*)\"");
+        private static final Pattern AUTHORIZATION = Pattern.compile("(?im)^authorization:\\s*(\\S.*?)\\s*$");
+        private static final String RESPONSE_BOUNDARY = "batch_stub";
+
+        private final HttpServer server;
+        private final ExecutorService executor = Executors.newFixedThreadPool(8);
+        private final AtomicInteger httpRequests = new AtomicInteger();
+        private final AtomicInteger batchRequests = new AtomicInteger();
+        private final AtomicInteger tokenRefreshes = new AtomicInteger();
+        private final Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+        private final Set<String> authorizations = ConcurrentHashMap.newKeySet();
+        private final Set<String> throttleOnce = ConcurrentHashMap.newKeySet();
+        private final Set<String> rejected = ConcurrentHashMap.newKeySet();
+        private final Set<String> serverErrorOnce = ConcurrentHashMap.newKeySet();
+
+        private GmailStub() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/", this::handle);
+            server.setExecutor(executor);
+            server.start();
+        }
+
+        private String url() {
+            return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+        }
+
+        private int attempts(String raw) {
+            AtomicInteger count = attempts.get(raw);
+            return count != null ? count.get() : 0;
+        }
+
+        private void stop() {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            httpRequests.incrementAndGet();
+            String path = exchange.getRequestURI().getPath();
+            String body = new String(exchange.getRequestBody().readAllBytes(), ISO_8859_1);
+
+            if (path.equals("/token")) {
+                tokenRefreshes.incrementAndGet();
+                respond(exchange, 200, "application/json;charset=UTF-8",
+                        "{\"access_token\":\"refreshed-token\",\"token_type\":\"Bearer\",\"expires_in\":3600}");
+            } else if (path.equals("/batch/gmail/v1")) {
+                batchRequests.incrementAndGet();
+                respond(exchange, 200, "multipart/mixed; boundary=" + RESPONSE_BOUNDARY,
+                        batch(body, exchange.getRequestHeaders().getFirst("Content-Type")));
+            } else if (path.endsWith("/messages/send")) {
+                authorizations.add(exchange.getRequestHeaders().getFirst("Authorization"));
+                Matcher raw = RAW.matcher(body);
+                Reply reply = raw.find() ? reply(raw.group(1)) : new Reply(400, "Bad Request", error(400, "invalid", "raw"));
+                respond(exchange, reply.status(), "application/json; charset=UTF-8", reply.json());
+            } else {
+                respond(exchange, 404, "application/json; charset=UTF-8", error(404, "notFound", path));
+            }
+        }
+
+        private String batch(String body, String contentType) {
+            String boundary = contentType.substring(contentType.indexOf("boundary=") + "boundary=".length())
+                    .replace("\"", "");
+            StringBuilder response = new StringBuilder();
+            int contentId = 0;
+            for (String part : body.split(Pattern.quote("--" + boundary))) {
+                Matcher raw = RAW.matcher(part);
+                if (!raw.find()) {
+                    continue;
+                }
+                Matcher authorization = AUTHORIZATION.matcher(part);
+                if (authorization.find()) {
+                    authorizations.add(authorization.group(1));
+                }
+                Reply reply = reply(raw.group(1));
+                response.append("--").append(RESPONSE_BOUNDARY).append("\r\n")
+                        .append("Content-Type: application/http\r\n")
+                        .append("Content-ID: <response-").append(++contentId).append(">\r\n\r\n")
+                        .append("HTTP/1.1 ").append(reply.status()).append(' ').append(reply.reason()).append("\r\n")
+                        .append("Content-Type: application/json; charset=UTF-8\r\n\r\n")
+                        .append(reply.json()).append("\r\n");
+            }
+            return response.append("--").append(RESPONSE_BOUNDARY).append("--\r\n").toString();
+        }
+
+        private Reply reply(String raw) {
+            int attempt = attempts.computeIfAbsent(raw, key -> new AtomicInteger()).incrementAndGet();
+            if (rejected.contains(raw)) {
+                return new Reply(400, "Bad Request", error(400, "invalidArgument", "Invalid To header"));
+            }
+            if (throttleOnce.contains(raw) && attempt == 1) {
+                return new Reply(429, "Too Many Requests", error(429, "rateLimitExceeded", "Rate Limit Exceeded"));
+            }
+            if (serverErrorOnce.contains(raw) && attempt == 1) {
+                return new Reply(503, "Service Unavailable", error(503, "backendError", "Backend Error"));
+            }
+            return new Reply(200, "OK",
+                    "{\"id\":\"id-" + raw + "\",\"threadId\":\"thread-" + raw + "\",\"labelIds\":[\"SENT\"]}");
+        }
+
+        private static String error(int code, String reason, String message) {
+            return "{\"error\":{\"code\":" + code + ",\"message\":\"" + message + "\",\"errors\":[{\"reason\":\""
+                    + reason + "\",\"message\":\"" + message + "\",\"domain\":\"global\"}]}}";
+        }
+
+        private static void respond(HttpExchange exchange, int status, String contentType, String body)
+                throws IOException {
+            byte[] bytes = body.getBytes(UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", contentType);
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(bytes);
+            }
+        }
+
+        private record Reply(int status, String reason, String json) {
+        }
+    }
+}
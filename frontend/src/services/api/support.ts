@@ -86,6 +86,7 @@ export const supportAPI = {
     }),
 
   // 통계 및 분석
+  // 관리자는 전체 티켓 통계, 일반 사용자는 본인 티켓 통계를 받음
   getTicketStats: () =>
     api.get<TicketStats>('/api/support/stats'),
 